@@ -0,0 +1,89 @@
+/**
+ * Copyright (C) 2018-2020 Expedia, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.expediagroup.streamplatform.streamregistry.benchmarks;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.expediagroup.streamplatform.streamregistry.avro.AvroKey;
+import com.expediagroup.streamplatform.streamregistry.avro.AvroKeyType;
+import com.expediagroup.streamplatform.streamregistry.core.events.NotificationEventUtils;
+import com.expediagroup.streamplatform.streamregistry.model.Stream;
+
+/**
+ * Per event cost of calling a custom key/value parser configured by class and method name. The parser returns
+ * a prebuilt record so that only the dispatch is measured: {@code reflective} is the {@code Method.invoke}
+ * the parser properties used to make for every event, {@code bound} is
+ * {@link NotificationEventUtils#loadToAvroStaticMethod} and {@code direct} is a plain static call.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CustomParserBenchmark {
+  private static final AvroKey KEY = AvroKey.newBuilder()
+      .setId("stream")
+      .setType(AvroKeyType.STREAM)
+      .build();
+
+  private Stream stream;
+  private Method method;
+  private Function<Stream, AvroKey> bound;
+
+  public static AvroKey toAvroKey(Stream stream) {
+    return KEY;
+  }
+
+  @Setup
+  public void setup() throws ReflectiveOperationException {
+    stream = Fixtures.streams(1).get(0);
+    method = CustomParserBenchmark.class.getDeclaredMethod("toAvroKey", Stream.class);
+    bound = NotificationEventUtils.loadToAvroStaticMethod(CustomParserBenchmark.class.getName(), "toAvroKey", Stream.class);
+  }
+
+  @Benchmark
+  public Object direct() {
+    return toAvroKey(stream);
+  }
+
+  @Benchmark
+  public Object reflective() {
+    try {
+      return method.invoke(null, stream);
+    } catch (Exception e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  @Benchmark
+  public Object bound() {
+    return bound.apply(stream);
+  }
+}
@@ -0,0 +1,109 @@
+/**
+ * Copyright (C) 2018-2020 Expedia, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.expediagroup.streamplatform.streamregistry.benchmarks;
+
+import static com.expediagroup.streamplatform.streamregistry.graphql.filters.FilterUtility.matches;
+import static com.expediagroup.streamplatform.streamregistry.graphql.filters.FilterUtility.matchesSpecification;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.expediagroup.streamplatform.streamregistry.graphql.model.queries.SpecificationQuery;
+import com.expediagroup.streamplatform.streamregistry.graphql.model.queries.TagQuery;
+import com.expediagroup.streamplatform.streamregistry.model.Stream;
+
+/**
+ * In-memory {@code byQuery} filtering: the key regex and the specification/tag matching done by
+ * {@code FilterUtility} and {@code TagMatchUtility}, over {@code size} streams.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FilterBenchmark {
+
+  @Param({"1000", "10000"})
+  private int size;
+
+  /** Literal values, prefix wildcards and general regular expressions take different paths. */
+  @Param({"literal", "prefix", "regex"})
+  private String pattern;
+
+  private List<Stream> streams;
+  private String domainRegex;
+  private SpecificationQuery specificationQuery;
+
+  @Setup
+  public void setup() {
+    streams = Fixtures.streams(size);
+    switch (pattern) {
+      case "literal":
+        domainRegex = "domain-7";
+        specificationQuery = specificationQuery("default", "owner", "team-7");
+        break;
+      case "prefix":
+        domainRegex = "domain-1.*";
+        specificationQuery = specificationQuery("def.*", "owner", "team-1.*");
+        break;
+      default:
+        domainRegex = "domain-[0-9]+7";
+        specificationQuery = specificationQuery("d[aeiou]fault", "own(er)?", "team-[1-3]7");
+    }
+  }
+
+  @Benchmark
+  public int matchKey() {
+    int matched = 0;
+    for (Stream stream : streams) {
+      if (matches(stream.getKey().getDomain(), domainRegex)) {
+        matched++;
+      }
+    }
+    return matched;
+  }
+
+  @Benchmark
+  public int matchSpecificationAndTags() {
+    int matched = 0;
+    for (Stream stream : streams) {
+      if (matchesSpecification(stream.getSpecification(), specificationQuery)) {
+        matched++;
+      }
+    }
+    return matched;
+  }
+
+  private static SpecificationQuery specificationQuery(String typeRegex, String tagName, String tagValue) {
+    return SpecificationQuery.builder()
+        .typeRegex(typeRegex)
+        .tags(List.of(TagQuery.builder().nameRegex(tagName).valueRegex(tagValue).build()))
+        .build();
+  }
+}
@@ -0,0 +1,104 @@
+/**
+ * Copyright (C) 2018-2020 Expedia, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.expediagroup.streamplatform.streamregistry.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import com.expediagroup.streamplatform.streamregistry.model.Schema;
+import com.expediagroup.streamplatform.streamregistry.model.Specification;
+import com.expediagroup.streamplatform.streamregistry.model.Status;
+import com.expediagroup.streamplatform.streamregistry.model.Stream;
+import com.expediagroup.streamplatform.streamregistry.model.Tag;
+import com.expediagroup.streamplatform.streamregistry.model.keys.SchemaKey;
+import com.expediagroup.streamplatform.streamregistry.model.keys.StreamKey;
+
+/**
+ * Deterministic datasets shared by the benchmarks so that results are comparable between releases.
+ */
+final class Fixtures {
+  static final int DOMAINS = 20;
+  static final int OWNERS = 50;
+
+  private static final ObjectMapper mapper = new ObjectMapper();
+
+  private Fixtures() {}
+
+  static List<Stream> streams(int size) {
+    var streams = new ArrayList<Stream>(size);
+    for (int i = 0; i < size; i++) {
+      streams.add(stream(i));
+    }
+    return streams;
+  }
+
+  static List<Schema> schemas(int size) {
+    var schemas = new ArrayList<Schema>(size);
+    for (int i = 0; i < size; i++) {
+      schemas.add(new Schema(schemaKey(i), specification(i, "default"), status(), null));
+    }
+    return schemas;
+  }
+
+  static Stream stream(int i) {
+    return new Stream(
+        new StreamKey(domain(i), "stream-" + i, 1),
+        schemaKey(i),
+        specification(i, "default"),
+        status(),
+        null);
+  }
+
+  static Specification specification(int i, String type) {
+    var tags = new ArrayList<Tag>();
+    tags.add(new Tag("owner", "team-" + (i % OWNERS)));
+    tags.add(new Tag("tier", String.valueOf(i % 3)));
+    tags.add(new Tag("pii", String.valueOf(i % 7 == 0)));
+    return new Specification("description of entity " + i, tags, type, configuration(i, 4));
+  }
+
+  static Status status() {
+    var node = mapper.createObjectNode();
+    node.putObject("agentStatus").put("state", "OK");
+    return new Status(node);
+  }
+
+  /**
+   * A configuration document with {@code fields} top level properties, half of them nested.
+   */
+  static ObjectNode configuration(int i, int fields) {
+    var node = mapper.createObjectNode();
+    for (int f = 0; f < fields; f++) {
+      if (f % 2 == 0) {
+        node.put("property" + f, "value-" + i + "-" + f);
+      } else {
+        node.putObject("nested" + f).put("partitions", i % 12 + 1).put("replicationFactor", 3);
+      }
+    }
+    return node;
+  }
+
+  static String domain(int i) {
+    return "domain-" + (i % DOMAINS);
+  }
+
+  private static SchemaKey schemaKey(int i) {
+    return new SchemaKey(domain(i), "schema-" + i);
+  }
+}
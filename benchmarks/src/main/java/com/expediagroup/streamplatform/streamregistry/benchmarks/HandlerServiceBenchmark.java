@@ -0,0 +1,92 @@
+/**
+ * Copyright (C) 2018-2020 Expedia, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.expediagroup.streamplatform.streamregistry.benchmarks;
+
+import static com.expediagroup.streamplatform.streamregistry.core.handlers.IdentityHandler.DEFAULT;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.expediagroup.streamplatform.streamregistry.core.handlers.HandlerService;
+import com.expediagroup.streamplatform.streamregistry.core.handlers.IdentityHandler;
+import com.expediagroup.streamplatform.streamregistry.handler.Handler;
+import com.expediagroup.streamplatform.streamregistry.model.Consumer;
+import com.expediagroup.streamplatform.streamregistry.model.ConsumerBinding;
+import com.expediagroup.streamplatform.streamregistry.model.Domain;
+import com.expediagroup.streamplatform.streamregistry.model.Infrastructure;
+import com.expediagroup.streamplatform.streamregistry.model.Producer;
+import com.expediagroup.streamplatform.streamregistry.model.ProducerBinding;
+import com.expediagroup.streamplatform.streamregistry.model.Schema;
+import com.expediagroup.streamplatform.streamregistry.model.Stream;
+import com.expediagroup.streamplatform.streamregistry.model.StreamBinding;
+import com.expediagroup.streamplatform.streamregistry.model.Zone;
+
+/**
+ * Handler lookup and dispatch on insert with the identity handlers registered for every entity,
+ * isolating the cost of {@code HandlerService} itself.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class HandlerServiceBenchmark {
+
+  @Param({"1000", "10000"})
+  private int size;
+
+  private HandlerService handlerService;
+  private List<Stream> streams;
+
+  @Setup
+  public void setup() {
+    List<Handler<?>> handlers = new ArrayList<>();
+    handlers.add(new IdentityHandler<>(DEFAULT, Domain.class));
+    handlers.add(new IdentityHandler<>(DEFAULT, Schema.class));
+    handlers.add(new IdentityHandler<>(DEFAULT, Stream.class));
+    handlers.add(new IdentityHandler<>(DEFAULT, Producer.class));
+    handlers.add(new IdentityHandler<>(DEFAULT, Consumer.class));
+    handlers.add(new IdentityHandler<>(DEFAULT, Zone.class));
+    handlers.add(new IdentityHandler<>(DEFAULT, Infrastructure.class));
+    handlers.add(new IdentityHandler<>(DEFAULT, StreamBinding.class));
+    handlers.add(new IdentityHandler<>(DEFAULT, ProducerBinding.class));
+    handlers.add(new IdentityHandler<>(DEFAULT, ConsumerBinding.class));
+    handlerService = new HandlerService(handlers);
+    streams = Fixtures.streams(size);
+  }
+
+  @Benchmark
+  public void handleInsert(Blackhole blackhole) {
+    for (Stream stream : streams) {
+      blackhole.consume(handlerService.handleInsert(stream));
+    }
+  }
+}
@@ -0,0 +1,85 @@
+/**
+ * Copyright (C) 2018-2020 Expedia, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.expediagroup.streamplatform.streamregistry.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.expediagroup.streamplatform.streamregistry.model.Stream;
+import com.expediagroup.streamplatform.streamregistry.repository.postgres.data.DataToModel;
+import com.expediagroup.streamplatform.streamregistry.repository.postgres.data.ModelToData;
+import com.expediagroup.streamplatform.streamregistry.repository.postgres.data.StreamData;
+
+/**
+ * Conversion between the JPA data entities and the model done on every repository read and write.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MappingBenchmark {
+
+  @Param({"1000", "10000"})
+  private int size;
+
+  private final DataToModel dataToModel = new DataToModel();
+  private final ModelToData modelToData = new ModelToData();
+
+  private List<Stream> models;
+  private List<StreamData> data;
+
+  @Setup
+  public void setup() {
+    models = Fixtures.streams(size);
+    data = new ArrayList<>(size);
+    for (Stream model : models) {
+      data.add(modelToData.convertToData(model));
+    }
+  }
+
+  @Benchmark
+  public List<Stream> toModel() {
+    var out = new ArrayList<Stream>(size);
+    for (StreamData row : data) {
+      out.add(dataToModel.convertToModel(row));
+    }
+    return out;
+  }
+
+  @Benchmark
+  public List<StreamData> toData() {
+    var out = new ArrayList<StreamData>(size);
+    for (Stream model : models) {
+      out.add(modelToData.convertToData(model));
+    }
+    return out;
+  }
+}
@@ -0,0 +1,74 @@
+/**
+ * Copyright (C) 2018-2020 Expedia, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.expediagroup.streamplatform.streamregistry.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.expediagroup.streamplatform.streamregistry.core.events.NotificationEventUtils;
+import com.expediagroup.streamplatform.streamregistry.model.Schema;
+import com.expediagroup.streamplatform.streamregistry.model.Stream;
+
+/**
+ * Building the Avro value records published for every schema and stream notification.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class NotificationEventBenchmark {
+
+  @Param({"1000", "10000"})
+  private int size;
+
+  private List<Stream> streams;
+  private List<Schema> schemas;
+
+  @Setup
+  public void setup() {
+    streams = Fixtures.streams(size);
+    schemas = Fixtures.schemas(size);
+  }
+
+  @Benchmark
+  public void streamValueRecord(Blackhole blackhole) {
+    for (Stream stream : streams) {
+      blackhole.consume(NotificationEventUtils.toAvroValueRecord(stream));
+    }
+  }
+
+  @Benchmark
+  public void schemaValueRecord(Blackhole blackhole) {
+    for (Schema schema : schemas) {
+      blackhole.consume(NotificationEventUtils.toAvroValueRecord(schema));
+    }
+  }
+}
@@ -0,0 +1,69 @@
+/**
+ * Copyright (C) 2018-2020 Expedia, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.expediagroup.streamplatform.streamregistry.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.expediagroup.streamplatform.streamregistry.repository.postgres.data.ObjectNodeMapper;
+
+/**
+ * JSON (de)serialisation of configuration and status documents by {@code ObjectNodeMapper}, for
+ * documents with {@code fields} top level properties.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ObjectNodeMapperBenchmark {
+
+  @Param({"4", "64"})
+  private int fields;
+
+  private ObjectNode node;
+  private String json;
+
+  @Setup
+  public void setup() {
+    node = Fixtures.configuration(1, fields);
+    json = ObjectNodeMapper.serialise(node);
+  }
+
+  @Benchmark
+  public String serialise() {
+    return ObjectNodeMapper.serialise(node);
+  }
+
+  @Benchmark
+  public ObjectNode deserialise() {
+    return ObjectNodeMapper.deserialise(json);
+  }
+}
@@ -0,0 +1,66 @@
+/**
+ * Copyright (C) 2018-2020 Expedia, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.expediagroup.streamplatform.streamregistry.core.events;
+
+import static java.util.stream.Collectors.toList;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+import lombok.Builder;
+import lombok.NonNull;
+
+import com.expediagroup.streamplatform.streamregistry.repository.outbox.EventBroadcast;
+
+/**
+ * Publishes events with the {@link EventBroadcast}, in the transaction that wrote the entity, before handing them to
+ * the delegate, so that the subscriptions of every instance see them once the transaction commits.
+ */
+public class BroadcastingNotificationEventEmitter<T> implements NotificationEventEmitter<T> {
+  private final NotificationEventEmitter<T> delegate;
+  private final EventBroadcast broadcast;
+  private final NotificationOutboxCodec codec;
+
+  @Builder
+  private BroadcastingNotificationEventEmitter(@NonNull NotificationEventEmitter<T> delegate, @NonNull EventBroadcast broadcast) {
+    this.delegate = delegate;
+    this.broadcast = broadcast;
+    this.codec = new NotificationOutboxCodec();
+  }
+
+  @Override
+  public Optional<T> emitEventOnProcessedEntity(EventType eventType, T entity) {
+    if (entity != null) {
+      broadcast.publish(List.of(codec.encode(eventType, entity)));
+    }
+    return delegate.emitEventOnProcessedEntity(eventType, entity);
+  }
+
+  @Override
+  public void emitEventsOnProcessedEntities(EventType eventType, List<T> entities) {
+    broadcast.publish(entities.stream()
+        .filter(Objects::nonNull)
+        .map(entity -> codec.encode(eventType, entity))
+        .collect(toList()));
+    delegate.emitEventsOnProcessedEntities(eventType, entities);
+  }
+
+  @Override
+  public void onFailedEmitting(Throwable ex, NotificationEvent<T> event) {
+    delegate.onFailedEmitting(ex, event);
+  }
+}
@@ -15,6 +15,7 @@
  */
 package com.expediagroup.streamplatform.streamregistry.core.events;
 
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
@@ -23,6 +24,8 @@ import lombok.Builder;
 import lombok.extern.slf4j.Slf4j;
 
 import org.springframework.context.event.ApplicationEventMulticaster;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import com.expediagroup.streamplatform.streamregistry.model.Consumer;
 import com.expediagroup.streamplatform.streamregistry.model.ConsumerBinding;
@@ -35,9 +38,13 @@ import com.expediagroup.streamplatform.streamregistry.model.Stream;
 import com.expediagroup.streamplatform.streamregistry.model.StreamBinding;
 import com.expediagroup.streamplatform.streamregistry.model.Zone;
 
+/**
+ * Multicasts the events of a transaction once it commits, so listeners never see a write that is rolled back or not
+ * yet visible to readers. Outside a transaction events are multicast immediately.
+ */
 @Slf4j
 public class DefaultNotificationEventEmitter<T> implements NotificationEventEmitter<T> {
-  private static Set<Class<?>> SUPPORTED_ENTITY_CLASSES = Set.of(
+  static final Set<Class<?>> SUPPORTED_ENTITY_CLASSES = Set.of(
       ConsumerBinding.class,
       Consumer.class,
       Domain.class,
@@ -74,7 +81,30 @@ public class DefaultNotificationEventEmitter<T> implements NotificationEventEmit
   @Override
   public Optional<T> emitEventOnProcessedEntity(EventType eventType, T entity) {
     log.info("Emitting {} type event for {} entity {}", eventType, classType, entity);
-    return emitEvent(applicationEventMulticaster::multicastEvent, eventType, entity);
+    return emitEvent(this::multicastAfterCommit, eventType, entity);
+  }
+
+  @Override
+  public void emitEventsOnProcessedEntities(EventType eventType, List<T> entities) {
+    log.info("Emitting {} type events for {} {} entities", eventType, entities.size(), classType);
+    emitEvents(this::multicastAfterCommit, eventType, entities);
+  }
+
+  private void multicastAfterCommit(NotificationEvent<T> event) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      applicationEventMulticaster.multicastEvent(event);
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCommit() {
+        try {
+          applicationEventMulticaster.multicastEvent(event);
+        } catch (Exception ex) {
+          onFailedEmitting(ex, event);
+        }
+      }
+    });
   }
 
   @Override
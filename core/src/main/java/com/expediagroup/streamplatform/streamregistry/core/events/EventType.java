@@ -18,5 +18,6 @@ package com.expediagroup.streamplatform.streamregistry.core.events;
 public enum EventType {
   CREATE,
   UPDATE,
+  STATUS_UPDATE,
   DELETE
 }
\ No newline at end of file
@@ -15,12 +15,17 @@
  */
 package com.expediagroup.streamplatform.streamregistry.core.events;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.event.ApplicationEventMulticaster;
 import org.springframework.context.event.SimpleApplicationEventMulticaster;
-import org.springframework.core.task.SimpleAsyncTaskExecutor;
 
+import com.expediagroup.streamplatform.streamregistry.core.events.NotificationEventDispatcher.RejectionPolicy;
 import com.expediagroup.streamplatform.streamregistry.model.Consumer;
 import com.expediagroup.streamplatform.streamregistry.model.ConsumerBinding;
 import com.expediagroup.streamplatform.streamregistry.model.Domain;
@@ -31,14 +36,49 @@ import com.expediagroup.streamplatform.streamregistry.model.Schema;
 import com.expediagroup.streamplatform.streamregistry.model.Stream;
 import com.expediagroup.streamplatform.streamregistry.model.StreamBinding;
 import com.expediagroup.streamplatform.streamregistry.model.Zone;
+import com.expediagroup.streamplatform.streamregistry.repository.outbox.EventBroadcast;
+import com.expediagroup.streamplatform.streamregistry.repository.outbox.OutboxRepository;
 
 @Configuration
 public class NotificationEventBusConfig {
+  public static final String DISPATCHER_POOL_SIZE_PROPERTY = "notification.events.dispatcher.pool-size";
+  public static final String DISPATCHER_QUEUE_CAPACITY_PROPERTY = "notification.events.dispatcher.queue-capacity";
+  public static final String DISPATCHER_REJECTION_POLICY_PROPERTY = "notification.events.dispatcher.rejection-policy";
+  public static final String DISPATCHER_SHUTDOWN_TIMEOUT_MS_PROPERTY = "notification.events.dispatcher.shutdown-timeout-ms";
+
+  private final boolean outboxEnabled;
+  private final ObjectProvider<OutboxRepository> outboxRepository;
+  private final ObjectProvider<EventBroadcast> eventBroadcast;
+
+  public NotificationEventBusConfig(
+      @Value("${" + NotificationOutboxConfig.OUTBOX_ENABLED_PROPERTY + ":false}") boolean outboxEnabled,
+      ObjectProvider<OutboxRepository> outboxRepository,
+      ObjectProvider<EventBroadcast> eventBroadcast) {
+    this.outboxEnabled = outboxEnabled;
+    this.outboxRepository = outboxRepository;
+    this.eventBroadcast = eventBroadcast;
+  }
+
+  @Bean
+  public NotificationEventDispatcher notificationEventDispatcher(
+      @Value("${" + DISPATCHER_POOL_SIZE_PROPERTY + ":4}") int poolSize,
+      @Value("${" + DISPATCHER_QUEUE_CAPACITY_PROPERTY + ":10000}") int queueCapacity,
+      @Value("${" + DISPATCHER_REJECTION_POLICY_PROPERTY + ":CALLER_RUNS}") RejectionPolicy rejectionPolicy,
+      @Value("${" + DISPATCHER_SHUTDOWN_TIMEOUT_MS_PROPERTY + ":10000}") long shutdownTimeoutMillis,
+      ObjectProvider<MeterRegistry> meterRegistry) {
+    return NotificationEventDispatcher.builder()
+        .poolSize(poolSize)
+        .queueCapacity(queueCapacity)
+        .rejectionPolicy(rejectionPolicy)
+        .shutdownTimeoutMillis(shutdownTimeoutMillis)
+        .registry(meterRegistry.getIfAvailable(() -> Metrics.globalRegistry))
+        .build();
+  }
 
   @Bean(name = "applicationEventMulticaster")
-  public ApplicationEventMulticaster simpleApplicationEventMulticaster() {
+  public ApplicationEventMulticaster simpleApplicationEventMulticaster(NotificationEventDispatcher notificationEventDispatcher) {
     SimpleApplicationEventMulticaster eventMulticaster = new SimpleApplicationEventMulticaster();
-    eventMulticaster.setTaskExecutor(new SimpleAsyncTaskExecutor());
+    eventMulticaster.setTaskExecutor(notificationEventDispatcher);
 
     return eventMulticaster;
   }
@@ -46,81 +86,71 @@ public class NotificationEventBusConfig {
 
   @Bean(name = "consumerBindingServiceEventEmitter")
   public NotificationEventEmitter<ConsumerBinding> consumerBindingServiceEventEmitter(ApplicationEventMulticaster applicationEventMulticaster) {
-    return DefaultNotificationEventEmitter.<ConsumerBinding>builder()
-        .classType(ConsumerBinding.class)
-        .applicationEventMulticaster(applicationEventMulticaster)
-        .build();
+    return emitter(ConsumerBinding.class, applicationEventMulticaster);
   }
 
   @Bean(name = "consumerServiceEventEmitter")
   public NotificationEventEmitter<Consumer> consumerServiceEventEmitter(ApplicationEventMulticaster applicationEventMulticaster) {
-    return DefaultNotificationEventEmitter.<Consumer>builder()
-        .classType(Consumer.class)
-        .applicationEventMulticaster(applicationEventMulticaster)
-        .build();
+    return emitter(Consumer.class, applicationEventMulticaster);
   }
 
   @Bean(name = "domainServiceEventEmitter")
   public NotificationEventEmitter<Domain> domainServiceEventEmitter(ApplicationEventMulticaster applicationEventMulticaster) {
-    return DefaultNotificationEventEmitter.<Domain>builder()
-        .classType(Domain.class)
-        .applicationEventMulticaster(applicationEventMulticaster)
-        .build();
+    return emitter(Domain.class, applicationEventMulticaster);
   }
 
   @Bean(name = "infrastructureServiceEventEmitter")
   public NotificationEventEmitter<Infrastructure> infrastructureServiceEventEmitter(ApplicationEventMulticaster applicationEventMulticaster) {
-    return DefaultNotificationEventEmitter.<Infrastructure>builder()
-        .classType(Infrastructure.class)
-        .applicationEventMulticaster(applicationEventMulticaster)
-        .build();
+    return emitter(Infrastructure.class, applicationEventMulticaster);
   }
 
   @Bean(name = "producerBindingServiceEventEmitter")
   public NotificationEventEmitter<ProducerBinding> producerBindingServiceEventEmitter(ApplicationEventMulticaster applicationEventMulticaster) {
-    return DefaultNotificationEventEmitter.<ProducerBinding>builder()
-        .classType(ProducerBinding.class)
-        .applicationEventMulticaster(applicationEventMulticaster)
-        .build();
+    return emitter(ProducerBinding.class, applicationEventMulticaster);
   }
 
   @Bean(name = "producerServiceEventEmitter")
   public NotificationEventEmitter<Producer> producerServiceEventEmitter(ApplicationEventMulticaster applicationEventMulticaster) {
-    return DefaultNotificationEventEmitter.<Producer>builder()
-        .classType(Producer.class)
-        .applicationEventMulticaster(applicationEventMulticaster)
-        .build();
+    return emitter(Producer.class, applicationEventMulticaster);
   }
 
   @Bean(name = "schemaServiceEventEmitter")
   public NotificationEventEmitter<Schema> schemaServiceEventEmitter(ApplicationEventMulticaster applicationEventMulticaster) {
-    return DefaultNotificationEventEmitter.<Schema>builder()
-        .classType(Schema.class)
-        .applicationEventMulticaster(applicationEventMulticaster)
-        .build();
+    return emitter(Schema.class, applicationEventMulticaster);
   }
 
   @Bean(name = "streamBindingServiceEventEmitter")
   public NotificationEventEmitter<StreamBinding> streamBindingServiceEventEmitter(ApplicationEventMulticaster applicationEventMulticaster) {
-    return DefaultNotificationEventEmitter.<StreamBinding>builder()
-        .classType(StreamBinding.class)
-        .applicationEventMulticaster(applicationEventMulticaster)
-        .build();
+    return emitter(StreamBinding.class, applicationEventMulticaster);
   }
 
   @Bean(name = "streamServiceEventEmitter")
   public NotificationEventEmitter<Stream> streamServiceEventEmitter(ApplicationEventMulticaster applicationEventMulticaster) {
-    return DefaultNotificationEventEmitter.<Stream>builder()
-        .classType(Stream.class)
-        .applicationEventMulticaster(applicationEventMulticaster)
-        .build();
+    return emitter(Stream.class, applicationEventMulticaster);
   }
 
   @Bean(name = "zoneServiceEventEmitter")
   public NotificationEventEmitter<Zone> zoneServiceEventEmitter(ApplicationEventMulticaster applicationEventMulticaster) {
-    return DefaultNotificationEventEmitter.<Zone>builder()
-        .classType(Zone.class)
-        .applicationEventMulticaster(applicationEventMulticaster)
+    return emitter(Zone.class, applicationEventMulticaster);
+  }
+
+  private <T> NotificationEventEmitter<T> emitter(Class<T> classType, ApplicationEventMulticaster applicationEventMulticaster) {
+    NotificationEventEmitter<T> emitter = outboxEnabled
+        ? OutboxNotificationEventEmitter.<T>builder()
+            .classType(classType)
+            .outboxRepository(outboxRepository.getObject())
+            .build()
+        : DefaultNotificationEventEmitter.<T>builder()
+            .classType(classType)
+            .applicationEventMulticaster(applicationEventMulticaster)
+            .build();
+    EventBroadcast broadcast = eventBroadcast.getIfAvailable();
+    if (broadcast == null) {
+      return emitter;
+    }
+    return BroadcastingNotificationEventEmitter.<T>builder()
+        .delegate(emitter)
+        .broadcast(broadcast)
         .build();
   }
-}
\ No newline at end of file
+}
@@ -0,0 +1,53 @@
+/**
+ * Copyright (C) 2018-2020 Expedia, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.expediagroup.streamplatform.streamregistry.core.events;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Future;
+
+/**
+ * Lets the outbox relay wait for the events it publishes to be delivered. While the relay publishes an event,
+ * listeners run on the relay thread and handlers that deliver asynchronously {@link #register(Future) register}
+ * the pending delivery. Outside the relay, registering does nothing.
+ */
+public final class NotificationEventDeliveries {
+  private static final ThreadLocal<List<Future<?>>> PENDING = new ThreadLocal<>();
+
+  private NotificationEventDeliveries() {}
+
+  public static void register(Future<?> delivery) {
+    List<Future<?>> pending = PENDING.get();
+    if (pending != null) {
+      pending.add(delivery);
+    }
+  }
+
+  static boolean isTracking() {
+    return PENDING.get() != null;
+  }
+
+  static List<Future<?>> track(Runnable publish) {
+    List<Future<?>> pending = new ArrayList<>();
+    PENDING.set(pending);
+    try {
+      publish.run();
+      return pending;
+    } finally {
+      PENDING.remove();
+    }
+  }
+}
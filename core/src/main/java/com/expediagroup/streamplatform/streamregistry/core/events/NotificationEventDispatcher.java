@@ -0,0 +1,156 @@
+/**
+ * Copyright (C) 2018-2020 Expedia, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.expediagroup.streamplatform.streamregistry.core.events;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+
+import lombok.Builder;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+import com.google.common.base.Preconditions;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.core.task.TaskExecutor;
+
+/**
+ * Runs notification event listeners on a fixed pool of workers draining a bounded queue, so that a burst of
+ * mutations cannot create an unbounded number of threads or pending tasks. What happens when the queue is full
+ * is decided by the {@link RejectionPolicy}.
+ *
+ * <p>Publishes {@code notification_events_dispatcher_queue_size} (gauge),
+ * {@code notification_events_dispatcher_dropped} (counter) and {@code notification_events_dispatcher_latency}
+ * (timer, from submission until the listener returns).
+ */
+@Slf4j
+public class NotificationEventDispatcher implements TaskExecutor, DisposableBean {
+  public enum RejectionPolicy {
+    /** Discard the new event. */
+    DROP,
+    /** Discard the oldest queued event to make room for the new one. */
+    DROP_OLDEST,
+    /** Run the event on the publishing thread, slowing the publisher down to the rate of the workers. */
+    CALLER_RUNS,
+    /** Block the publishing thread until there is room in the queue. */
+    BLOCK
+  }
+
+  private final ThreadPoolExecutor executor;
+  private final RejectionPolicy rejectionPolicy;
+  private final long shutdownTimeoutMillis;
+  private final Counter dropped;
+  private final Timer latency;
+
+  @Builder
+  private NotificationEventDispatcher(int poolSize, int queueCapacity, @NonNull RejectionPolicy rejectionPolicy, long shutdownTimeoutMillis, @NonNull MeterRegistry registry) {
+    Preconditions.checkArgument(poolSize > 0, "poolSize must be greater than zero");
+    Preconditions.checkArgument(queueCapacity > 0, "queueCapacity must be greater than zero");
+
+    this.rejectionPolicy = rejectionPolicy;
+    this.shutdownTimeoutMillis = shutdownTimeoutMillis;
+
+    BlockingQueue<Runnable> queue = new ArrayBlockingQueue<>(queueCapacity);
+    this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, MILLISECONDS, queue,
+        new ThreadFactoryBuilder().setNameFormat("notification-events-%d").build(),
+        rejectionHandler());
+
+    Tags tags = Tags.of("rejection_policy", rejectionPolicy.name());
+    Gauge.builder("notification_events_dispatcher_queue_size", queue, BlockingQueue::size).tags(tags).register(registry);
+    this.dropped = registry.counter("notification_events_dispatcher_dropped", tags);
+    this.latency = registry.timer("notification_events_dispatcher_latency", tags);
+  }
+
+  @Override
+  public void execute(Runnable task) {
+    if (NotificationEventDeliveries.isTracking()) {
+      // The outbox relay waits for the listeners on its own thread to learn whether delivery succeeded
+      task.run();
+      return;
+    }
+    long submitted = System.nanoTime();
+    executor.execute(() -> {
+      try {
+        task.run();
+      } catch (Exception e) {
+        log.error("Notification event listener failed", e);
+      } finally {
+        latency.record(System.nanoTime() - submitted, NANOSECONDS);
+      }
+    });
+  }
+
+  @Override
+  public void destroy() throws InterruptedException {
+    executor.shutdown();
+    if (!executor.awaitTermination(shutdownTimeoutMillis, MILLISECONDS)) {
+      List<Runnable> pending = executor.shutdownNow();
+      dropped.increment(pending.size());
+      log.warn("Dropped {} notification events still queued after {}ms on shutdown", pending.size(), shutdownTimeoutMillis);
+    }
+  }
+
+  private RejectedExecutionHandler rejectionHandler() {
+    return (task, executor) -> {
+      if (executor.isShutdown()) {
+        drop();
+        return;
+      }
+      switch (rejectionPolicy) {
+        case DROP:
+          drop();
+          break;
+        case DROP_OLDEST:
+          if (executor.getQueue().poll() != null) {
+            drop();
+          }
+          executor.execute(task);
+          break;
+        case CALLER_RUNS:
+          task.run();
+          break;
+        case BLOCK:
+          try {
+            executor.getQueue().put(task);
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            drop();
+          }
+          break;
+        default:
+          throw new IllegalStateException("Unknown rejection policy " + rejectionPolicy);
+      }
+    };
+  }
+
+  private void drop() {
+    dropped.increment();
+    log.debug("Notification event dropped, dispatcher queue is full");
+  }
+}
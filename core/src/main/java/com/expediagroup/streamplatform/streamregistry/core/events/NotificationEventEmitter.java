@@ -15,22 +15,29 @@
  */
 package com.expediagroup.streamplatform.streamregistry.core.events;
 
+import java.util.List;
 import java.util.Optional;
-import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
-import java.util.function.Function;
 
 import lombok.NonNull;
 
 public interface NotificationEventEmitter<T> {
   Optional<T> emitEventOnProcessedEntity(EventType type, T entity);
 
+  default void emitEventsOnProcessedEntities(EventType type, List<T> entities) {
+    entities.forEach(entity -> emitEventOnProcessedEntity(type, entity));
+  }
+
   void onFailedEmitting(Throwable ex, NotificationEvent<T> event);
 
   default Optional<T> emitEvent(@NonNull Consumer<NotificationEvent<T>> emitter, @NonNull EventType type, T entity) {
     return emitEvent(emitter, null, type, entity);
   }
 
+  /**
+   * Hands the event to {@code emitter} on the calling thread. The emitter is expected to return quickly: the
+   * application event multicaster only queues the listener invocations on the {@link NotificationEventDispatcher}.
+   */
   default Optional<T> emitEvent(@NonNull Consumer<NotificationEvent<T>> emitter, String sourceEventPrefix, @NonNull EventType type, T entity) {
     if (entity != null) {
       String prefix = sourceEventPrefix != null ? sourceEventPrefix : getSourceEventPrefix(entity);
@@ -41,18 +48,26 @@ public interface NotificationEventEmitter<T> {
           .entity(entity)
           .build();
 
-      Function<Throwable, Void> onException = ex -> {
+      try {
+        emitter.accept(event);
+      } catch (Exception ex) {
         onFailedEmitting(ex, event);
-        return null;
-      };
-
-      CompletableFuture.runAsync(() -> emitter.accept(event))
-          .exceptionally(onException);
+      }
     }
 
     return Optional.ofNullable(entity);
   }
 
+  /**
+   * Emits one event per entity. A failure to emit one event does not prevent the others from being
+   * emitted.
+   */
+  default void emitEvents(@NonNull Consumer<NotificationEvent<T>> emitter, @NonNull EventType type, @NonNull List<T> entities) {
+    for (T entity : entities) {
+      emitEvent(emitter, type, entity);
+    }
+  }
+
   default String getSourceEventPrefix(T entity) {
     return entity.getClass().getSimpleName().toLowerCase() + "-";
   }
@@ -0,0 +1,72 @@
+/**
+ * Copyright (C) 2018-2020 Expedia, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.expediagroup.streamplatform.streamregistry.core.events;
+
+import static java.util.function.Function.identity;
+import static java.util.stream.Collectors.toMap;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Instant;
+import java.util.Map;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import com.expediagroup.streamplatform.streamregistry.repository.outbox.OutboxEvent;
+
+/**
+ * Converts notification events to and from their outbox form, with the entity serialised as JSON.
+ */
+public class NotificationOutboxCodec {
+  private static final Map<String, Class<?>> ENTITY_TYPES = DefaultNotificationEventEmitter.SUPPORTED_ENTITY_CLASSES.stream()
+      .collect(toMap(Class::getSimpleName, identity()));
+
+  // Derived key getters such as ProducerKey.getStreamKey() are serialised but cannot be read back
+  private final ObjectMapper mapper = new ObjectMapper()
+      .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+
+  public OutboxEvent encode(EventType eventType, Object entity) {
+    try {
+      return OutboxEvent.builder()
+          .entityType(entity.getClass().getSimpleName())
+          .eventType(eventType.name())
+          .payload(mapper.writeValueAsString(entity))
+          .createdAt(Instant.now())
+          .build();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  public NotificationEvent<?> decode(OutboxEvent event) {
+    Class<?> entityType = ENTITY_TYPES.get(event.getEntityType());
+    if (entityType == null) {
+      throw new IllegalArgumentException("Unsupported entity type " + event.getEntityType());
+    }
+    EventType eventType = EventType.valueOf(event.getEventType());
+    try {
+      Object entity = mapper.readValue(event.getPayload(), entityType);
+      return NotificationEvent.builder()
+          .source(event.getEntityType().toLowerCase() + "-" + eventType.toString().toLowerCase())
+          .eventType(eventType)
+          .entity(entity)
+          .build();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+}
@@ -0,0 +1,69 @@
+/**
+ * Copyright (C) 2018-2020 Expedia, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.expediagroup.streamplatform.streamregistry.core.events;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Condition;
+import org.springframework.context.annotation.ConditionContext;
+import org.springframework.context.annotation.Conditional;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.ApplicationEventMulticaster;
+import org.springframework.core.type.AnnotatedTypeMetadata;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.expediagroup.streamplatform.streamregistry.repository.outbox.OutboxRepository;
+
+/**
+ * With {@value #OUTBOX_ENABLED_PROPERTY} set, services record notification events in the outbox and this relay
+ * delivers them, instead of multicasting them as they happen.
+ */
+@Configuration
+@Conditional(NotificationOutboxConfig.OutboxEnabled.class)
+public class NotificationOutboxConfig {
+  public static final String OUTBOX_ENABLED_PROPERTY = "notification.events.outbox.enabled";
+  public static final String OUTBOX_BATCH_SIZE_PROPERTY = "notification.events.outbox.batch-size";
+  public static final String OUTBOX_POLL_INTERVAL_MS_PROPERTY = "notification.events.outbox.poll-interval-ms";
+  public static final String OUTBOX_DELIVERY_TIMEOUT_MS_PROPERTY = "notification.events.outbox.delivery-timeout-ms";
+  public static final String OUTBOX_LEASE_MS_PROPERTY = "notification.events.outbox.lease-ms";
+
+  @Bean
+  public NotificationOutboxRelay notificationOutboxRelay(
+      OutboxRepository outboxRepository,
+      ApplicationEventMulticaster applicationEventMulticaster,
+      PlatformTransactionManager transactionManager,
+      @Value("${" + OUTBOX_BATCH_SIZE_PROPERTY + ":500}") int batchSize,
+      @Value("${" + OUTBOX_POLL_INTERVAL_MS_PROPERTY + ":500}") long pollIntervalMillis,
+      @Value("${" + OUTBOX_DELIVERY_TIMEOUT_MS_PROPERTY + ":30000}") long deliveryTimeoutMillis,
+      @Value("${" + OUTBOX_LEASE_MS_PROPERTY + ":60000}") long leaseMillis) {
+    return NotificationOutboxRelay.builder()
+        .outboxRepository(outboxRepository)
+        .applicationEventMulticaster(applicationEventMulticaster)
+        .transactionManager(transactionManager)
+        .batchSize(batchSize)
+        .pollIntervalMillis(pollIntervalMillis)
+        .deliveryTimeoutMillis(deliveryTimeoutMillis)
+        .leaseMillis(leaseMillis)
+        .build();
+  }
+
+  static class OutboxEnabled implements Condition {
+    @Override
+    public boolean matches(ConditionContext context, AnnotatedTypeMetadata metadata) {
+      return context.getEnvironment().getProperty(OUTBOX_ENABLED_PROPERTY, Boolean.class, false);
+    }
+  }
+}
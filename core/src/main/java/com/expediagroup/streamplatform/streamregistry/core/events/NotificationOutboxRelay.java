@@ -0,0 +1,166 @@
+/**
+ * Copyright (C) 2018-2020 Expedia, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.expediagroup.streamplatform.streamregistry.core.events;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+
+import lombok.Builder;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+import com.google.common.base.Preconditions;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.context.event.ApplicationEventMulticaster;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.expediagroup.streamplatform.streamregistry.repository.outbox.OutboxEvent;
+import com.expediagroup.streamplatform.streamregistry.repository.outbox.OutboxRepository;
+
+/**
+ * Delivers the events recorded by {@link OutboxNotificationEventEmitter} to the notification listeners in the
+ * order of {@link OutboxRepository#claimPending(String, int, long)}, and removes them from the outbox once every
+ * handler has acknowledged them. An event that fails is retried on the next poll together with everything recorded
+ * after it, so delivery is at least once and in order. Only one relay at a time drains the outbox.
+ *
+ * <p>Each batch is claimed in one short transaction and removed in another, and nothing is held open while the
+ * relay waits for deliveries. It stops waiting when the claim lapses, leaving the rest of the batch to be retried.
+ */
+@Slf4j
+public class NotificationOutboxRelay implements InitializingBean, DisposableBean {
+  private final OutboxRepository outboxRepository;
+  private final ApplicationEventMulticaster applicationEventMulticaster;
+  private final TransactionTemplate transactionTemplate;
+  private final NotificationOutboxCodec codec = new NotificationOutboxCodec();
+  private final String owner = UUID.randomUUID().toString();
+  private final int batchSize;
+  private final long pollIntervalMillis;
+  private final long deliveryTimeoutMillis;
+  private final long leaseMillis;
+  private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(
+      new ThreadFactoryBuilder().setNameFormat("notification-outbox-relay").setDaemon(true).build());
+
+  @Builder
+  private NotificationOutboxRelay(
+      @NonNull OutboxRepository outboxRepository,
+      @NonNull ApplicationEventMulticaster applicationEventMulticaster,
+      @NonNull PlatformTransactionManager transactionManager,
+      int batchSize,
+      long pollIntervalMillis,
+      long deliveryTimeoutMillis,
+      long leaseMillis) {
+    Preconditions.checkArgument(batchSize > 0, "batchSize must be greater than zero");
+    Preconditions.checkArgument(pollIntervalMillis > 0, "pollIntervalMillis must be greater than zero");
+    Preconditions.checkArgument(leaseMillis > pollIntervalMillis, "leaseMillis must be greater than pollIntervalMillis");
+    this.outboxRepository = outboxRepository;
+    this.applicationEventMulticaster = applicationEventMulticaster;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.batchSize = batchSize;
+    this.pollIntervalMillis = pollIntervalMillis;
+    this.deliveryTimeoutMillis = deliveryTimeoutMillis;
+    this.leaseMillis = leaseMillis;
+  }
+
+  @Override
+  public void afterPropertiesSet() {
+    scheduler.scheduleWithFixedDelay(this::drain, pollIntervalMillis, pollIntervalMillis, MILLISECONDS);
+  }
+
+  @Override
+  public void destroy() {
+    scheduler.shutdownNow();
+  }
+
+  void drain() {
+    try {
+      while (relay() == batchSize) {
+        log.debug("Outbox batch relayed, checking for more");
+      }
+    } catch (Exception e) {
+      log.error("Error relaying the notification outbox", e);
+    }
+  }
+
+  /**
+   * Relays one batch and returns the number of events removed from the outbox.
+   */
+  int relay() {
+    // taken before the claim, so this never outlasts the lease the database records
+    long leaseEnd = System.nanoTime() + MILLISECONDS.toNanos(leaseMillis);
+    List<OutboxEvent> pending = transactionTemplate.execute(status -> outboxRepository.claimPending(owner, batchSize, leaseMillis));
+    if (pending == null || pending.isEmpty()) {
+      return 0;
+    }
+    List<Long> done = new ArrayList<>();
+    List<List<Future<?>>> deliveries = new ArrayList<>();
+    for (OutboxEvent event : pending) {
+      NotificationEvent<?> notificationEvent;
+      try {
+        notificationEvent = codec.decode(event);
+      } catch (RuntimeException e) {
+        log.error("Discarding outbox event {} that can not be decoded", event, e);
+        deliveries.add(List.of());
+        continue;
+      }
+      try {
+        deliveries.add(NotificationEventDeliveries.track(() -> applicationEventMulticaster.multicastEvent(notificationEvent)));
+      } catch (RuntimeException e) {
+        log.warn("Error publishing outbox event {}, it will be retried", event, e);
+        break;
+      }
+    }
+    for (int i = 0; i < deliveries.size(); i++) {
+      if (!delivered(pending.get(i), deliveries.get(i), leaseEnd)) {
+        break;
+      }
+      done.add(pending.get(i).getId());
+    }
+    if (!done.isEmpty()) {
+      transactionTemplate.execute(status -> {
+        outboxRepository.delete(done);
+        return null;
+      });
+    }
+    return done.size();
+  }
+
+  private boolean delivered(OutboxEvent event, List<Future<?>> deliveries, long leaseEnd) {
+    for (Future<?> delivery : deliveries) {
+      long remaining = Math.min(MILLISECONDS.toNanos(deliveryTimeoutMillis), leaseEnd - System.nanoTime());
+      try {
+        delivery.get(remaining, NANOSECONDS);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return false;
+      } catch (Exception e) {
+        log.warn("Outbox event {} was not delivered, it will be retried", event, e);
+        return false;
+      }
+    }
+    return true;
+  }
+}
@@ -0,0 +1,69 @@
+/**
+ * Copyright (C) 2018-2020 Expedia, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.expediagroup.streamplatform.streamregistry.core.events;
+
+import static java.util.stream.Collectors.toList;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+import lombok.Builder;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+import com.expediagroup.streamplatform.streamregistry.repository.outbox.OutboxRepository;
+
+/**
+ * Records events in the outbox, in the transaction that wrote the entity, for {@link NotificationOutboxRelay}
+ * to deliver once it commits.
+ */
+@Slf4j
+public class OutboxNotificationEventEmitter<T> implements NotificationEventEmitter<T> {
+  private final Class<T> classType;
+  private final OutboxRepository outboxRepository;
+  private final NotificationOutboxCodec codec;
+
+  @Builder
+  private OutboxNotificationEventEmitter(@NonNull Class<T> classType, @NonNull OutboxRepository outboxRepository) {
+    this.classType = classType;
+    this.outboxRepository = outboxRepository;
+    this.codec = new NotificationOutboxCodec();
+  }
+
+  @Override
+  public Optional<T> emitEventOnProcessedEntity(EventType eventType, T entity) {
+    if (entity != null) {
+      log.info("Recording {} type event for {} entity {}", eventType, classType, entity);
+      outboxRepository.append(List.of(codec.encode(eventType, entity)));
+    }
+    return Optional.ofNullable(entity);
+  }
+
+  @Override
+  public void emitEventsOnProcessedEntities(EventType eventType, List<T> entities) {
+    log.info("Recording {} type events for {} {} entities", eventType, entities.size(), classType);
+    outboxRepository.append(entities.stream()
+        .filter(Objects::nonNull)
+        .map(entity -> codec.encode(eventType, entity))
+        .collect(toList()));
+  }
+
+  @Override
+  public void onFailedEmitting(Throwable ex, NotificationEvent<T> event) {
+    log.error("There was an error recording an event {}", event, ex);
+  }
+}
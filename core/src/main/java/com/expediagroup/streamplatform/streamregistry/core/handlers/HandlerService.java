@@ -48,9 +48,9 @@ import com.expediagroup.streamplatform.streamregistry.model.Zone;
 @Component
 @Slf4j
 public class HandlerService {
-  private final Map<Key, Handler> handlers;
+  private final Map<Key, Handler<?>> handlers;
 
-  public HandlerService(List<Handler> handlers) {
+  public HandlerService(List<Handler<?>> handlers) {
     validateHandlers(handlers);
     this.handlers = handlers
         .stream()
@@ -61,7 +61,7 @@ public class HandlerService {
         ));
   }
 
-  private static void validateHandlers(List<Handler> handlers) {
+  private static void validateHandlers(List<Handler<?>> handlers) {
     Set<Class> handlerTargets = handlers.stream().map(Handler::target).collect(toSet());
     check(handlerTargets, Domain.class);
     check(handlerTargets, Schema.class);
@@ -0,0 +1,463 @@
+/**
+ * Copyright (C) 2018-2020 Expedia, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.expediagroup.streamplatform.streamregistry.core.readmodel;
+
+import static java.util.Comparator.comparingInt;
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toSet;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+import java.util.regex.Pattern;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.Singular;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.expediagroup.streamplatform.streamregistry.model.Specified;
+import com.expediagroup.streamplatform.streamregistry.model.Tag;
+import com.expediagroup.streamplatform.streamregistry.model.Versioned;
+import com.expediagroup.streamplatform.streamregistry.repository.Repository;
+import com.expediagroup.streamplatform.streamregistry.repository.query.Criterion;
+import com.expediagroup.streamplatform.streamregistry.repository.query.QuerySpec;
+import com.expediagroup.streamplatform.streamregistry.repository.query.Regexes;
+import com.expediagroup.streamplatform.streamregistry.repository.query.TagCriterion;
+
+/**
+ * In-memory copy of every entity of one type, read through to the {@link Repository} until it has been loaded.
+ *
+ * <p>Entities are ordered by their key components, numbers numerically and text by code point, as the repository
+ * orders pages, so a query that fixes the leading components is a prefix scan.
+ * The remaining key components and the tags are indexed by value. Candidates found that way are checked against the
+ * query's fallback predicate, or against its criteria when it has none. Queries on {@link QuerySpec#REVISION} or on
+ * properties other than the key components are left to the repository.
+ *
+ * <p>Stored entities are copies and every entity handed out is a copy, so callers can't change the index. Writes are
+ * applied when their transaction commits and an entity is never replaced by an older version of itself.
+ *
+ * <p>Read-write transactions always read through to the repository: the index may lag behind writes made on other
+ * instances, and a read-modify-write based on it would start from a stale version.
+ */
+public class EntityIndex<K, E extends Specified & Versioned> {
+  // Sorts after every key component value, to bound prefix scans
+  private static final Object LAST = new Object();
+  private static final Comparator<List<Object>> KEY_ORDER = EntityIndex::compareKeys;
+
+  @Getter
+  private final String name;
+  @Getter
+  private final Class<E> type;
+  private final Repository<E, K> repository;
+  private final Function<E, K> key;
+  private final List<String> componentNames;
+  private final List<Function<K, Object>> components;
+  private final UnaryOperator<E> copy;
+
+  private final ConcurrentNavigableMap<List<Object>, E> entities = new ConcurrentSkipListMap<>(KEY_ORDER);
+  private final Map<String, Map<String, Set<List<Object>>>> componentIndexes = new ConcurrentHashMap<>();
+  private final Map<String, Map<String, Set<List<Object>>>> tagIndex = new ConcurrentHashMap<>();
+  private final Object writeLock = new Object();
+  private volatile boolean enabled;
+  @Getter
+  private volatile boolean ready;
+  private long highWaterMark;
+
+  @Builder
+  private EntityIndex(
+      @NonNull String name,
+      @NonNull Class<E> type,
+      @NonNull Repository<E, K> repository,
+      @NonNull Function<E, K> key,
+      @Singular Map<String, Function<K, Object>> keyComponents,
+      @NonNull UnaryOperator<E> copy) {
+    this.name = name;
+    this.type = type;
+    this.repository = repository;
+    this.key = key;
+    this.componentNames = new ArrayList<>(keyComponents.keySet());
+    this.components = new ArrayList<>(keyComponents.values());
+    this.copy = copy;
+  }
+
+  /**
+   * Starts recording writes and loads every entity from the repository. The index serves reads once this returns.
+   */
+  public void load() {
+    enabled = true;
+    long mark = repository.highWaterMark();
+    putAll(copies(repository.findAll()));
+    highWaterMark = mark;
+    ready = true;
+  }
+
+  /**
+   * Picks up the entities written since the last load or refresh, including those written by other instances.
+   */
+  public void refresh() {
+    long mark = repository.highWaterMark();
+    putAll(copies(repository.findAll(QuerySpec.<E>builder().changedSince(highWaterMark).build())));
+    highWaterMark = mark;
+  }
+
+  public int size() {
+    return entities.size();
+  }
+
+  /**
+   * Records a saved entity, once the current transaction commits.
+   */
+  public E putOnCommit(E entity) {
+    if (enabled && entity != null) {
+      onCommit(List.of(copy.apply(entity)));
+    }
+    return entity;
+  }
+
+  public List<E> putOnCommit(List<E> entities) {
+    if (enabled) {
+      onCommit(copies(entities));
+    }
+    return entities;
+  }
+
+  public Optional<E> findById(K id) {
+    if (!serving()) {
+      return repository.findById(id);
+    }
+    return Optional.ofNullable(entities.get(path(id, components.size()))).map(copy);
+  }
+
+  public List<E> findAllById(Collection<K> ids) {
+    if (!serving()) {
+      return repository.findAllById(ids);
+    }
+    return ids.stream()
+        .map(id -> entities.get(path(id, components.size())))
+        .filter(Objects::nonNull)
+        .map(copy)
+        .collect(toList());
+  }
+
+  public boolean existsById(K id) {
+    return serving() ? entities.containsKey(path(id, components.size())) : repository.existsById(id);
+  }
+
+  public Set<K> findExistingIds(Collection<K> ids) {
+    if (!serving()) {
+      return repository.findExistingIds(ids);
+    }
+    return ids.stream().filter(id -> entities.containsKey(path(id, components.size()))).collect(toSet());
+  }
+
+  public List<E> findAll(Predicate<E> filter) {
+    if (!serving()) {
+      return repository.findAll().stream().filter(filter).collect(toList());
+    }
+    return entities.values().stream().filter(filter).map(copy).collect(toList());
+  }
+
+  public List<E> findAll(QuerySpec<E> query) {
+    if (!serving() || !answerable(query)) {
+      return repository.findAll(query);
+    }
+    Predicate<E> filter = query.getFallback() == null ? matcher(query) : query.getFallback();
+    return candidates(query).stream().filter(filter).map(copy).collect(toList());
+  }
+
+  private List<E> copies(List<E> entities) {
+    return entities.stream().filter(Objects::nonNull).map(copy).collect(toList());
+  }
+
+  /**
+   * Collects the writes of the current transaction and applies them after it commits. Until then the transaction
+   * reads through to the repository, so it sees its own writes.
+   */
+  @SuppressWarnings("unchecked")
+  private void onCommit(List<E> copies) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      putAll(copies);
+      return;
+    }
+    var pending = (List<E>) TransactionSynchronizationManager.getResource(this);
+    if (pending == null) {
+      List<E> written = new ArrayList<>();
+      TransactionSynchronizationManager.bindResource(this, written);
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCommit() {
+          putAll(written);
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+          TransactionSynchronizationManager.unbindResourceIfPossible(EntityIndex.this);
+        }
+      });
+      pending = written;
+    }
+    pending.addAll(copies);
+  }
+
+  private boolean serving() {
+    return ready && !TransactionSynchronizationManager.hasResource(this) && !inReadWriteTransaction();
+  }
+
+  private static boolean inReadWriteTransaction() {
+    return TransactionSynchronizationManager.isActualTransactionActive()
+        && !TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+  }
+
+  private void putAll(Iterable<E> stored) {
+    synchronized (writeLock) {
+      for (E entity : stored) {
+        put(entity);
+      }
+    }
+  }
+
+  /**
+   * Indexes the new entity before it becomes visible and only then drops the index entries of the entity it
+   * replaces, so concurrent readers always find one of the two.
+   */
+  private void put(E entity) {
+    K id = key.apply(entity);
+    List<Object> path = path(id, components.size());
+    E previous = entities.get(path);
+    if (previous != null && olderThan(entity, previous)) {
+      return;
+    }
+    for (int i = 1; i < components.size(); i++) {
+      componentIndexes.computeIfAbsent(componentNames.get(i), n -> new ConcurrentHashMap<>())
+          .computeIfAbsent(String.valueOf(components.get(i).apply(id)), v -> ConcurrentHashMap.newKeySet())
+          .add(path);
+    }
+    Set<Tag> tags = new HashSet<>(entity.getSpecification() == null ? List.of() : entity.getSpecification().getTags());
+    for (Tag tag : tags) {
+      if (tag.getName() == null) {
+        continue;
+      }
+      tagIndex.computeIfAbsent(tag.getName(), n -> new ConcurrentHashMap<>())
+          .computeIfAbsent(String.valueOf(tag.getValue()), v -> ConcurrentHashMap.newKeySet())
+          .add(path);
+    }
+    entities.put(path, entity);
+    if (previous != null && previous.getSpecification() != null) {
+      for (Tag tag : previous.getSpecification().getTags()) {
+        if (tag.getName() != null && tags.stream().noneMatch(t -> sameTag(t, tag))) {
+          Optional.ofNullable(tagIndex.get(tag.getName()))
+              .map(values -> values.get(String.valueOf(tag.getValue())))
+              .ifPresent(paths -> paths.remove(path));
+        }
+      }
+    }
+  }
+
+  private static boolean olderThan(Versioned entity, Versioned existing) {
+    return entity.getVersion() != null && existing.getVersion() != null && entity.getVersion() < existing.getVersion();
+  }
+
+  private static boolean sameTag(Tag a, Tag b) {
+    return Objects.equals(a.getName(), b.getName()) && Objects.equals(a.getValue(), b.getValue());
+  }
+
+  private List<Object> path(K id, int depth) {
+    var path = new ArrayList<>(depth);
+    for (int i = 0; i < depth; i++) {
+      path.add(components.get(i).apply(id));
+    }
+    return path;
+  }
+
+  /**
+   * Compares key component by component, a key sorting before the keys it is a prefix of.
+   */
+  private static int compareKeys(List<Object> a, List<Object> b) {
+    for (int i = 0; i < Math.min(a.size(), b.size()); i++) {
+      int result = compareComponents(a.get(i), b.get(i));
+      if (result != 0) {
+        return result;
+      }
+    }
+    return Integer.compare(a.size(), b.size());
+  }
+
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  private static int compareComponents(Object a, Object b) {
+    if (a == b) {
+      return 0;
+    }
+    if (a == LAST || b == null) {
+      return 1;
+    }
+    if (b == LAST || a == null) {
+      return -1;
+    }
+    if (a instanceof Number && b instanceof Number) {
+      return Long.compare(((Number) a).longValue(), ((Number) b).longValue());
+    }
+    if (a.getClass() == b.getClass() && a instanceof Comparable) {
+      return ((Comparable) a).compareTo(b);
+    }
+    // Components of one position have one type, this only keeps the order total
+    return a.getClass().getName().compareTo(b.getClass().getName());
+  }
+
+  private boolean answerable(QuerySpec<E> query) {
+    for (Criterion criterion : query.getCriteria()) {
+      if (QuerySpec.REVISION.equals(criterion.getProperty())) {
+        return false;
+      }
+      if (query.getFallback() == null && !(componentNames.contains(criterion.getProperty())
+          && (criterion.getOperator() == Criterion.Operator.EQUALS || criterion.getOperator() == Criterion.Operator.MATCHES))) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * The entities that can match the query: a prefix scan when its leading key components have exact values, the
+   * smallest value index entry among the other exact key components and tags, or else everything, in key order.
+   */
+  private Collection<E> candidates(QuerySpec<E> query) {
+    Map<String, Object> exact = new HashMap<>();
+    for (Criterion criterion : query.getCriteria()) {
+      exactValue(criterion).ifPresent(value -> exact.put(criterion.getProperty(), value));
+    }
+
+    var prefix = new ArrayList<>();
+    while (prefix.size() < componentNames.size() && exact.containsKey(componentNames.get(prefix.size()))) {
+      var value = typed(prefix.size(), exact.get(componentNames.get(prefix.size())));
+      if (value.isEmpty()) {
+        break;
+      }
+      prefix.add(value.get());
+    }
+    if (prefix.size() == componentNames.size()) {
+      return Optional.ofNullable(entities.get(prefix)).map(List::of).orElse(List.of());
+    }
+    if (!prefix.isEmpty()) {
+      var end = new ArrayList<>(prefix);
+      end.add(LAST);
+      return entities.subMap(prefix, end).values();
+    }
+
+    List<Set<List<Object>>> indexed = new ArrayList<>();
+    exact.forEach((property, value) -> Optional.ofNullable(componentIndexes.get(property))
+        .ifPresent(values -> indexed.add(values.getOrDefault(String.valueOf(value), Set.of()))));
+    for (TagCriterion tag : query.getTags()) {
+      tagPaths(tag).ifPresent(indexed::add);
+    }
+    return indexed.stream()
+        .min(comparingInt(Set::size))
+        .<Collection<E>>map(paths -> paths.stream().sorted(KEY_ORDER).map(entities::get).filter(Objects::nonNull).collect(toList()))
+        .orElseGet(entities::values);
+  }
+
+  private Optional<Object> exactValue(Criterion criterion) {
+    if (!componentNames.contains(criterion.getProperty())) {
+      return Optional.empty();
+    }
+    switch (criterion.getOperator()) {
+      case EQUALS:
+        return Optional.ofNullable(criterion.getValue());
+      case MATCHES:
+        return Optional.<Object>of(criterion.getValue()).filter(regex -> Regexes.isLiteral((String) regex));
+      default:
+        return Optional.empty();
+    }
+  }
+
+  /**
+   * The value converted to the type of the stored key components at {@code position}, since a literal regex is text
+   * whatever the component's type, or empty when it can't be.
+   */
+  private Optional<Object> typed(int position, Object value) {
+    var first = entities.firstEntry();
+    Object stored = first == null ? null : first.getKey().get(position);
+    if (stored == null || stored.getClass().isInstance(value)) {
+      return Optional.of(value);
+    }
+    try {
+      if (stored instanceof Integer) {
+        return Optional.of(Integer.valueOf(String.valueOf(value)));
+      }
+      if (stored instanceof Long) {
+        return Optional.of(Long.valueOf(String.valueOf(value)));
+      }
+    } catch (NumberFormatException e) {
+      return Optional.empty();
+    }
+    return stored instanceof String ? Optional.of(String.valueOf(value)) : Optional.empty();
+  }
+
+  private Optional<Set<List<Object>>> tagPaths(TagCriterion tag) {
+    if (tag.getNameRegex() == null || !Regexes.isLiteral(tag.getNameRegex())) {
+      return Optional.empty();
+    }
+    Map<String, Set<List<Object>>> values = tagIndex.getOrDefault(tag.getNameRegex(), Map.of());
+    if (tag.getValueRegex() != null && Regexes.isLiteral(tag.getValueRegex())) {
+      return Optional.of(values.getOrDefault(tag.getValueRegex(), Set.of()));
+    }
+    return Optional.of(values.values().stream().flatMap(Set::stream).collect(toSet()));
+  }
+
+  /**
+   * Evaluates the criteria of a query without a fallback, which {@link #answerable} limits to key components.
+   */
+  private Predicate<E> matcher(QuerySpec<E> query) {
+    Predicate<E> matcher = entity -> true;
+    for (Criterion criterion : query.getCriteria()) {
+      var component = components.get(componentNames.indexOf(criterion.getProperty()));
+      if (criterion.getOperator() == Criterion.Operator.EQUALS) {
+        var expected = String.valueOf(criterion.getValue());
+        matcher = matcher.and(entity -> expected.equals(String.valueOf(component.apply(key.apply(entity)))));
+      } else {
+        var pattern = Pattern.compile((String) criterion.getValue());
+        matcher = matcher.and(entity -> matches(pattern, component.apply(key.apply(entity))));
+      }
+    }
+    for (TagCriterion tag : query.getTags()) {
+      var name = tag.getNameRegex() == null ? null : Pattern.compile(tag.getNameRegex());
+      var value = tag.getValueRegex() == null ? null : Pattern.compile(tag.getValueRegex());
+      matcher = matcher.and(entity -> entity.getSpecification() != null && entity.getSpecification().getTags().stream()
+          .anyMatch(t -> (name == null || matches(name, t.getName())) && (value == null || matches(value, t.getValue()))));
+    }
+    return matcher;
+  }
+
+  private static boolean matches(Pattern pattern, Object value) {
+    return value != null && pattern.matcher(value.toString()).matches();
+  }
+}
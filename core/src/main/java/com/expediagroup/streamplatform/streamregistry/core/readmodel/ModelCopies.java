@@ -0,0 +1,156 @@
+/**
+ * Copyright (C) 2018-2020 Expedia, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.expediagroup.streamplatform.streamregistry.core.readmodel;
+
+import static java.util.stream.Collectors.toList;
+
+import com.expediagroup.streamplatform.streamregistry.model.Consumer;
+import com.expediagroup.streamplatform.streamregistry.model.ConsumerBinding;
+import com.expediagroup.streamplatform.streamregistry.model.Domain;
+import com.expediagroup.streamplatform.streamregistry.model.Infrastructure;
+import com.expediagroup.streamplatform.streamregistry.model.Producer;
+import com.expediagroup.streamplatform.streamregistry.model.ProducerBinding;
+import com.expediagroup.streamplatform.streamregistry.model.Schema;
+import com.expediagroup.streamplatform.streamregistry.model.Specification;
+import com.expediagroup.streamplatform.streamregistry.model.Status;
+import com.expediagroup.streamplatform.streamregistry.model.Stream;
+import com.expediagroup.streamplatform.streamregistry.model.StreamBinding;
+import com.expediagroup.streamplatform.streamregistry.model.Tag;
+import com.expediagroup.streamplatform.streamregistry.model.Zone;
+import com.expediagroup.streamplatform.streamregistry.model.keys.ConsumerBindingKey;
+import com.expediagroup.streamplatform.streamregistry.model.keys.ConsumerKey;
+import com.expediagroup.streamplatform.streamregistry.model.keys.DomainKey;
+import com.expediagroup.streamplatform.streamregistry.model.keys.InfrastructureKey;
+import com.expediagroup.streamplatform.streamregistry.model.keys.ProducerBindingKey;
+import com.expediagroup.streamplatform.streamregistry.model.keys.ProducerKey;
+import com.expediagroup.streamplatform.streamregistry.model.keys.SchemaKey;
+import com.expediagroup.streamplatform.streamregistry.model.keys.StreamBindingKey;
+import com.expediagroup.streamplatform.streamregistry.model.keys.StreamKey;
+import com.expediagroup.streamplatform.streamregistry.model.keys.ZoneKey;
+
+/**
+ * Deep copies of the mutable model, so the entities held by an {@link EntityIndex} are never shared.
+ */
+final class ModelCopies {
+  private ModelCopies() {}
+
+  static Domain copy(Domain domain) {
+    return new Domain(copy(domain.getKey()), copy(domain.getSpecification()), copy(domain.getStatus()), domain.getVersion());
+  }
+
+  static Schema copy(Schema schema) {
+    return new Schema(copy(schema.getKey()), copy(schema.getSpecification()), copy(schema.getStatus()), schema.getVersion());
+  }
+
+  static Stream copy(Stream stream) {
+    return new Stream(copy(stream.getKey()), copy(stream.getSchemaKey()), copy(stream.getSpecification()),
+        copy(stream.getStatus()), stream.getVersion());
+  }
+
+  static Zone copy(Zone zone) {
+    return new Zone(copy(zone.getKey()), copy(zone.getSpecification()), copy(zone.getStatus()), zone.getVersion());
+  }
+
+  static Infrastructure copy(Infrastructure infrastructure) {
+    return new Infrastructure(copy(infrastructure.getKey()), copy(infrastructure.getSpecification()),
+        copy(infrastructure.getStatus()), infrastructure.getVersion());
+  }
+
+  static Producer copy(Producer producer) {
+    return new Producer(copy(producer.getKey()), copy(producer.getSpecification()), copy(producer.getStatus()),
+        producer.getVersion());
+  }
+
+  static Consumer copy(Consumer consumer) {
+    return new Consumer(copy(consumer.getKey()), copy(consumer.getSpecification()), copy(consumer.getStatus()),
+        consumer.getVersion());
+  }
+
+  static StreamBinding copy(StreamBinding streamBinding) {
+    return new StreamBinding(copy(streamBinding.getKey()), copy(streamBinding.getSpecification()),
+        copy(streamBinding.getStatus()), streamBinding.getVersion());
+  }
+
+  static ProducerBinding copy(ProducerBinding producerBinding) {
+    return new ProducerBinding(copy(producerBinding.getKey()), copy(producerBinding.getSpecification()),
+        copy(producerBinding.getStatus()), producerBinding.getVersion());
+  }
+
+  static ConsumerBinding copy(ConsumerBinding consumerBinding) {
+    return new ConsumerBinding(copy(consumerBinding.getKey()), copy(consumerBinding.getSpecification()),
+        copy(consumerBinding.getStatus()), consumerBinding.getVersion());
+  }
+
+  static Specification copy(Specification specification) {
+    if (specification == null) {
+      return null;
+    }
+    return new Specification(
+        specification.getDescription(),
+        specification.getTags().stream().map(tag -> new Tag(tag.getId(), tag.getName(), tag.getValue())).collect(toList()),
+        specification.getType(),
+        specification.getConfiguration() == null ? null : specification.getConfiguration().deepCopy());
+  }
+
+  static Status copy(Status status) {
+    return status == null ? null : new Status(status.getObjectNode().deepCopy());
+  }
+
+  static DomainKey copy(DomainKey key) {
+    return key == null ? null : new DomainKey(key.getName());
+  }
+
+  static SchemaKey copy(SchemaKey key) {
+    return key == null ? null : new SchemaKey(key.getDomain(), key.getName());
+  }
+
+  static StreamKey copy(StreamKey key) {
+    return key == null ? null : new StreamKey(key.getDomain(), key.getName(), key.getVersion());
+  }
+
+  static ZoneKey copy(ZoneKey key) {
+    return key == null ? null : new ZoneKey(key.getName());
+  }
+
+  static InfrastructureKey copy(InfrastructureKey key) {
+    return key == null ? null : new InfrastructureKey(key.getZone(), key.getName());
+  }
+
+  static ProducerKey copy(ProducerKey key) {
+    return key == null ? null : new ProducerKey(key.getStreamDomain(), key.getStreamName(), key.getStreamVersion(),
+        key.getZone(), key.getName());
+  }
+
+  static ConsumerKey copy(ConsumerKey key) {
+    return key == null ? null : new ConsumerKey(key.getStreamDomain(), key.getStreamName(), key.getStreamVersion(),
+        key.getZone(), key.getName());
+  }
+
+  static StreamBindingKey copy(StreamBindingKey key) {
+    return key == null ? null : new StreamBindingKey(key.getStreamDomain(), key.getStreamName(), key.getStreamVersion(),
+        key.getInfrastructureZone(), key.getInfrastructureName());
+  }
+
+  static ProducerBindingKey copy(ProducerBindingKey key) {
+    return key == null ? null : new ProducerBindingKey(key.getStreamDomain(), key.getStreamName(), key.getStreamVersion(),
+        key.getInfrastructureZone(), key.getInfrastructureName(), key.getProducerName());
+  }
+
+  static ConsumerBindingKey copy(ConsumerBindingKey key) {
+    return key == null ? null : new ConsumerBindingKey(key.getStreamDomain(), key.getStreamName(), key.getStreamVersion(),
+        key.getInfrastructureZone(), key.getInfrastructureName(), key.getConsumerName());
+  }
+}
@@ -0,0 +1,229 @@
+/**
+ * Copyright (C) 2018-2020 Expedia, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.expediagroup.streamplatform.streamregistry.core.readmodel;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Condition;
+import org.springframework.context.annotation.ConditionContext;
+import org.springframework.context.annotation.Conditional;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.type.AnnotatedTypeMetadata;
+
+import com.expediagroup.streamplatform.streamregistry.model.Consumer;
+import com.expediagroup.streamplatform.streamregistry.model.ConsumerBinding;
+import com.expediagroup.streamplatform.streamregistry.model.Domain;
+import com.expediagroup.streamplatform.streamregistry.model.Infrastructure;
+import com.expediagroup.streamplatform.streamregistry.model.Producer;
+import com.expediagroup.streamplatform.streamregistry.model.ProducerBinding;
+import com.expediagroup.streamplatform.streamregistry.model.Schema;
+import com.expediagroup.streamplatform.streamregistry.model.Stream;
+import com.expediagroup.streamplatform.streamregistry.model.StreamBinding;
+import com.expediagroup.streamplatform.streamregistry.model.Zone;
+import com.expediagroup.streamplatform.streamregistry.model.keys.ConsumerBindingKey;
+import com.expediagroup.streamplatform.streamregistry.model.keys.ConsumerKey;
+import com.expediagroup.streamplatform.streamregistry.model.keys.DomainKey;
+import com.expediagroup.streamplatform.streamregistry.model.keys.InfrastructureKey;
+import com.expediagroup.streamplatform.streamregistry.model.keys.ProducerBindingKey;
+import com.expediagroup.streamplatform.streamregistry.model.keys.ProducerKey;
+import com.expediagroup.streamplatform.streamregistry.model.keys.SchemaKey;
+import com.expediagroup.streamplatform.streamregistry.model.keys.StreamBindingKey;
+import com.expediagroup.streamplatform.streamregistry.model.keys.StreamKey;
+import com.expediagroup.streamplatform.streamregistry.model.keys.ZoneKey;
+import com.expediagroup.streamplatform.streamregistry.repository.ConsumerBindingRepository;
+import com.expediagroup.streamplatform.streamregistry.repository.ConsumerRepository;
+import com.expediagroup.streamplatform.streamregistry.repository.DomainRepository;
+import com.expediagroup.streamplatform.streamregistry.repository.InfrastructureRepository;
+import com.expediagroup.streamplatform.streamregistry.repository.ProducerBindingRepository;
+import com.expediagroup.streamplatform.streamregistry.repository.ProducerRepository;
+import com.expediagroup.streamplatform.streamregistry.repository.SchemaRepository;
+import com.expediagroup.streamplatform.streamregistry.repository.StreamBindingRepository;
+import com.expediagroup.streamplatform.streamregistry.repository.StreamRepository;
+import com.expediagroup.streamplatform.streamregistry.repository.ZoneRepository;
+
+/**
+ * One {@link EntityIndex} per entity type, keyed by the components of its key from the outermost in. The indexes only
+ * read through to the repositories unless {@value #READ_MODEL_ENABLED_PROPERTY} is set, in which case the loader fills
+ * them on startup and keeps them current with the writes of other instances.
+ */
+@Configuration
+public class ReadModelConfig {
+  public static final String READ_MODEL_ENABLED_PROPERTY = "registry.read-model.enabled";
+  public static final String READ_MODEL_REFRESH_INTERVAL_MS_PROPERTY = "registry.read-model.refresh-interval-ms";
+
+  @Bean
+  public EntityIndex<DomainKey, Domain> domainIndex(DomainRepository domainRepository) {
+    return EntityIndex.<DomainKey, Domain>builder()
+        .name("domain")
+        .type(Domain.class)
+        .repository(domainRepository)
+        .key(Domain::getKey)
+        .keyComponent("key.name", DomainKey::getName)
+        .copy(ModelCopies::copy)
+        .build();
+  }
+
+  @Bean
+  public EntityIndex<SchemaKey, Schema> schemaIndex(SchemaRepository schemaRepository) {
+    return EntityIndex.<SchemaKey, Schema>builder()
+        .name("schema")
+        .type(Schema.class)
+        .repository(schemaRepository)
+        .key(Schema::getKey)
+        .keyComponent("key.domain", SchemaKey::getDomain)
+        .keyComponent("key.name", SchemaKey::getName)
+        .copy(ModelCopies::copy)
+        .build();
+  }
+
+  @Bean
+  public EntityIndex<StreamKey, Stream> streamIndex(StreamRepository streamRepository) {
+    return EntityIndex.<StreamKey, Stream>builder()
+        .name("stream")
+        .type(Stream.class)
+        .repository(streamRepository)
+        .key(Stream::getKey)
+        .keyComponent("key.domain", StreamKey::getDomain)
+        .keyComponent("key.name", StreamKey::getName)
+        .keyComponent("key.version", StreamKey::getVersion)
+        .copy(ModelCopies::copy)
+        .build();
+  }
+
+  @Bean
+  public EntityIndex<ZoneKey, Zone> zoneIndex(ZoneRepository zoneRepository) {
+    return EntityIndex.<ZoneKey, Zone>builder()
+        .name("zone")
+        .type(Zone.class)
+        .repository(zoneRepository)
+        .key(Zone::getKey)
+        .keyComponent("key.name", ZoneKey::getName)
+        .copy(ModelCopies::copy)
+        .build();
+  }
+
+  @Bean
+  public EntityIndex<InfrastructureKey, Infrastructure> infrastructureIndex(InfrastructureRepository infrastructureRepository) {
+    return EntityIndex.<InfrastructureKey, Infrastructure>builder()
+        .name("infrastructure")
+        .type(Infrastructure.class)
+        .repository(infrastructureRepository)
+        .key(Infrastructure::getKey)
+        .keyComponent("key.zone", InfrastructureKey::getZone)
+        .keyComponent("key.name", InfrastructureKey::getName)
+        .copy(ModelCopies::copy)
+        .build();
+  }
+
+  @Bean
+  public EntityIndex<ProducerKey, Producer> producerIndex(ProducerRepository producerRepository) {
+    return EntityIndex.<ProducerKey, Producer>builder()
+        .name("producer")
+        .type(Producer.class)
+        .repository(producerRepository)
+        .key(Producer::getKey)
+        .keyComponent("key.streamDomain", ProducerKey::getStreamDomain)
+        .keyComponent("key.streamName", ProducerKey::getStreamName)
+        .keyComponent("key.streamVersion", ProducerKey::getStreamVersion)
+        .keyComponent("key.zone", ProducerKey::getZone)
+        .keyComponent("key.name", ProducerKey::getName)
+        .copy(ModelCopies::copy)
+        .build();
+  }
+
+  @Bean
+  public EntityIndex<ConsumerKey, Consumer> consumerIndex(ConsumerRepository consumerRepository) {
+    return EntityIndex.<ConsumerKey, Consumer>builder()
+        .name("consumer")
+        .type(Consumer.class)
+        .repository(consumerRepository)
+        .key(Consumer::getKey)
+        .keyComponent("key.streamDomain", ConsumerKey::getStreamDomain)
+        .keyComponent("key.streamName", ConsumerKey::getStreamName)
+        .keyComponent("key.streamVersion", ConsumerKey::getStreamVersion)
+        .keyComponent("key.zone", ConsumerKey::getZone)
+        .keyComponent("key.name", ConsumerKey::getName)
+        .copy(ModelCopies::copy)
+        .build();
+  }
+
+  @Bean
+  public EntityIndex<StreamBindingKey, StreamBinding> streamBindingIndex(StreamBindingRepository streamBindingRepository) {
+    return EntityIndex.<StreamBindingKey, StreamBinding>builder()
+        .name("streamBinding")
+        .type(StreamBinding.class)
+        .repository(streamBindingRepository)
+        .key(StreamBinding::getKey)
+        .keyComponent("key.streamDomain", StreamBindingKey::getStreamDomain)
+        .keyComponent("key.streamName", StreamBindingKey::getStreamName)
+        .keyComponent("key.streamVersion", StreamBindingKey::getStreamVersion)
+        .keyComponent("key.infrastructureZone", StreamBindingKey::getInfrastructureZone)
+        .keyComponent("key.infrastructureName", StreamBindingKey::getInfrastructureName)
+        .copy(ModelCopies::copy)
+        .build();
+  }
+
+  @Bean
+  public EntityIndex<ProducerBindingKey, ProducerBinding> producerBindingIndex(ProducerBindingRepository producerBindingRepository) {
+    return EntityIndex.<ProducerBindingKey, ProducerBinding>builder()
+        .name("producerBinding")
+        .type(ProducerBinding.class)
+        .repository(producerBindingRepository)
+        .key(ProducerBinding::getKey)
+        .keyComponent("key.streamDomain", ProducerBindingKey::getStreamDomain)
+        .keyComponent("key.streamName", ProducerBindingKey::getStreamName)
+        .keyComponent("key.streamVersion", ProducerBindingKey::getStreamVersion)
+        .keyComponent("key.infrastructureZone", ProducerBindingKey::getInfrastructureZone)
+        .keyComponent("key.infrastructureName", ProducerBindingKey::getInfrastructureName)
+        .keyComponent("key.producerName", ProducerBindingKey::getProducerName)
+        .copy(ModelCopies::copy)
+        .build();
+  }
+
+  @Bean
+  public EntityIndex<ConsumerBindingKey, ConsumerBinding> consumerBindingIndex(ConsumerBindingRepository consumerBindingRepository) {
+    return EntityIndex.<ConsumerBindingKey, ConsumerBinding>builder()
+        .name("consumerBinding")
+        .type(ConsumerBinding.class)
+        .repository(consumerBindingRepository)
+        .key(ConsumerBinding::getKey)
+        .keyComponent("key.streamDomain", ConsumerBindingKey::getStreamDomain)
+        .keyComponent("key.streamName", ConsumerBindingKey::getStreamName)
+        .keyComponent("key.streamVersion", ConsumerBindingKey::getStreamVersion)
+        .keyComponent("key.infrastructureZone", ConsumerBindingKey::getInfrastructureZone)
+        .keyComponent("key.infrastructureName", ConsumerBindingKey::getInfrastructureName)
+        .keyComponent("key.consumerName", ConsumerBindingKey::getConsumerName)
+        .copy(ModelCopies::copy)
+        .build();
+  }
+
+  @Bean
+  @Conditional(ReadModelEnabled.class)
+  public ReadModelLoader readModelLoader(
+      List<EntityIndex<?, ?>> indexes,
+      @Value("${" + READ_MODEL_REFRESH_INTERVAL_MS_PROPERTY + ":5000}") long refreshIntervalMillis) {
+    return new ReadModelLoader(indexes, refreshIntervalMillis);
+  }
+
+  static class ReadModelEnabled implements Condition {
+    @Override
+    public boolean matches(ConditionContext context, AnnotatedTypeMetadata metadata) {
+      return context.getEnvironment().getProperty(READ_MODEL_ENABLED_PROPERTY, Boolean.class, false);
+    }
+  }
+}
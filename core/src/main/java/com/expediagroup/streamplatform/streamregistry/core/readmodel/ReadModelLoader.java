@@ -0,0 +1,88 @@
+/**
+ * Copyright (C) 2018-2020 Expedia, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.expediagroup.streamplatform.streamregistry.core.readmodel;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+
+import lombok.extern.slf4j.Slf4j;
+
+import com.google.common.base.Preconditions;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+
+import com.expediagroup.streamplatform.streamregistry.repository.EntityInvalidationListener;
+
+/**
+ * Loads every {@link EntityIndex} in the background on startup, retrying until it succeeds, and then refreshes them
+ * with the entities written since, so writes made through other instances show up within one refresh interval.
+ * Writes made through this instance are applied as they commit, and an
+ * invalidation from another instance refreshes the index of its type straight away.
+ */
+@Slf4j
+public class ReadModelLoader implements InitializingBean, DisposableBean, EntityInvalidationListener {
+  private final List<EntityIndex<?, ?>> indexes;
+  private final long refreshIntervalMillis;
+  private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(
+      new ThreadFactoryBuilder().setNameFormat("read-model-loader").setDaemon(true).build());
+
+  ReadModelLoader(List<EntityIndex<?, ?>> indexes, long refreshIntervalMillis) {
+    Preconditions.checkArgument(refreshIntervalMillis > 0, "refreshIntervalMillis must be greater than zero");
+    this.indexes = indexes;
+    this.refreshIntervalMillis = refreshIntervalMillis;
+  }
+
+  @Override
+  public void afterPropertiesSet() {
+    scheduler.scheduleWithFixedDelay(this::poll, 0, refreshIntervalMillis, MILLISECONDS);
+  }
+
+  @Override
+  public void destroy() {
+    scheduler.shutdownNow();
+  }
+
+  @Override
+  public void invalidated(Class<?> entityType) {
+    for (EntityIndex<?, ?> index : indexes) {
+      if (index.getType() == entityType && index.isReady()) {
+        scheduler.execute(() -> poll(index));
+      }
+    }
+  }
+
+  void poll() {
+    indexes.forEach(this::poll);
+  }
+
+  private void poll(EntityIndex<?, ?> index) {
+    try {
+      if (index.isReady()) {
+        index.refresh();
+      } else {
+        index.load();
+        log.info("Loaded {} {} entities into the read model", index.size(), index.getName());
+      }
+    } catch (Exception e) {
+      log.error("Error refreshing the {} read model", index.getName(), e);
+    }
+  }
+}
@@ -0,0 +1,46 @@
+/**
+ * Copyright (C) 2018-2020 Expedia, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.expediagroup.streamplatform.streamregistry.core.services;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Value;
+
+import com.expediagroup.streamplatform.streamregistry.core.events.EventType;
+
+/**
+ * The outcome of writing one entity of a batch: the saved entity and whether it was created or
+ * updated, or the reason it was rejected.
+ */
+@Value
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class BatchResult<T> {
+  T entity;
+  EventType eventType;
+  String error;
+
+  public static <T> BatchResult<T> success(T entity, EventType eventType) {
+    return new BatchResult<>(entity, eventType, null);
+  }
+
+  public static <T> BatchResult<T> failure(String error) {
+    return new BatchResult<>(null, null, error);
+  }
+
+  public boolean isSuccess() {
+    return error == null;
+  }
+}
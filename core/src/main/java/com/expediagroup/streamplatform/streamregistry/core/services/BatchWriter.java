@@ -0,0 +1,129 @@
+/**
+ * Copyright (C) 2018-2020 Expedia, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.expediagroup.streamplatform.streamregistry.core.services;
+
+import static com.expediagroup.streamplatform.streamregistry.core.events.EventType.CREATE;
+import static com.expediagroup.streamplatform.streamregistry.core.events.EventType.UPDATE;
+import static java.util.function.Function.identity;
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toMap;
+import static java.util.stream.Collectors.toSet;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import lombok.Builder;
+import lombok.NonNull;
+
+import com.expediagroup.streamplatform.streamregistry.core.events.EventType;
+import com.expediagroup.streamplatform.streamregistry.core.events.NotificationEventEmitter;
+import com.expediagroup.streamplatform.streamregistry.core.validators.ValidationException;
+
+/**
+ * Writes a batch of entities of one type with a single lookup of the existing entities, a single
+ * {@code saveAll} and one batch of notification events per event type.
+ *
+ * <p>Entities that fail validation or handling are reported in their {@link BatchResult} and left
+ * out of the save; the rest of the batch is still written. Results are in the order of the input.
+ */
+@Builder
+class BatchWriter<K, T> {
+  @NonNull
+  private final Function<T, K> key;
+  @NonNull
+  private final Function<Collection<K>, List<T>> readAll;
+  @NonNull
+  private final Consumer<T> prepareInsert;
+  @NonNull
+  private final BiConsumer<T, T> prepareUpdate;
+  @NonNull
+  private final Function<List<T>, List<T>> saveAll;
+  @NonNull
+  private final NotificationEventEmitter<T> emitter;
+
+  List<BatchResult<T>> createAll(List<T> entities) {
+    return write(entities, false);
+  }
+
+  List<BatchResult<T>> upsertAll(List<T> entities) {
+    return write(entities, true);
+  }
+
+  @SuppressWarnings("unchecked")
+  private List<BatchResult<T>> write(List<T> entities, boolean upsert) {
+    var existing = readAll.apply(entities.stream().map(key).collect(toSet()))
+        .stream()
+        .collect(toMap(key, identity()));
+
+    BatchResult<T>[] results = new BatchResult[entities.size()];
+    var seen = new HashSet<K>();
+    var pending = new ArrayList<T>();
+    var pendingIndexes = new ArrayList<Integer>();
+    var pendingTypes = new ArrayList<EventType>();
+
+    for (int i = 0; i < entities.size(); i++) {
+      T entity = entities.get(i);
+      try {
+        pendingTypes.add(prepare(entity, existing.get(key.apply(entity)), seen, upsert));
+        pending.add(entity);
+        pendingIndexes.add(i);
+      } catch (ValidationException e) {
+        results[i] = BatchResult.failure(e.getMessage());
+      }
+    }
+
+    if (!pending.isEmpty()) {
+      var saved = saveAll.apply(pending);
+      for (int i = 0; i < saved.size(); i++) {
+        results[pendingIndexes.get(i)] = BatchResult.success(saved.get(i), pendingTypes.get(i));
+      }
+      emit(CREATE, results);
+      emit(UPDATE, results);
+    }
+    return Arrays.asList(results);
+  }
+
+  private EventType prepare(T entity, T existing, Collection<K> seen, boolean upsert) {
+    if (!seen.add(key.apply(entity))) {
+      throw new ValidationException("Can't write " + key.apply(entity) + " more than once in the same batch");
+    }
+    if (existing == null) {
+      prepareInsert.accept(entity);
+      return CREATE;
+    }
+    if (!upsert) {
+      throw new ValidationException("Can't create " + key.apply(entity) + " because it already exists");
+    }
+    prepareUpdate.accept(entity, existing);
+    return UPDATE;
+  }
+
+  private void emit(EventType eventType, BatchResult<T>[] results) {
+    var entities = Arrays.stream(results)
+        .filter(result -> result != null && result.getEventType() == eventType)
+        .map(BatchResult::getEntity)
+        .collect(toList());
+    if (!entities.isEmpty()) {
+      emitter.emitEventsOnProcessedEntities(eventType, entities);
+    }
+  }
+}
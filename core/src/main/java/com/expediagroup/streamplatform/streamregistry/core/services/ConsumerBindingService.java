@@ -16,26 +16,35 @@
 package com.expediagroup.streamplatform.streamregistry.core.services;
 
 import static com.expediagroup.streamplatform.streamregistry.core.events.EventType.CREATE;
+import static com.expediagroup.streamplatform.streamregistry.core.events.EventType.STATUS_UPDATE;
 import static com.expediagroup.streamplatform.streamregistry.core.events.EventType.UPDATE;
-import static java.util.stream.Collectors.toList;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import lombok.RequiredArgsConstructor;
 
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.expediagroup.streamplatform.streamregistry.core.events.EventType;
 import com.expediagroup.streamplatform.streamregistry.core.events.NotificationEventEmitter;
 import com.expediagroup.streamplatform.streamregistry.core.handlers.HandlerService;
+import com.expediagroup.streamplatform.streamregistry.core.readmodel.EntityIndex;
 import com.expediagroup.streamplatform.streamregistry.core.validators.ConsumerBindingValidator;
 import com.expediagroup.streamplatform.streamregistry.core.validators.ValidationException;
+import com.expediagroup.streamplatform.streamregistry.core.validators.Validator;
 import com.expediagroup.streamplatform.streamregistry.model.ConsumerBinding;
+import com.expediagroup.streamplatform.streamregistry.model.Status;
 import com.expediagroup.streamplatform.streamregistry.model.keys.ConsumerBindingKey;
 import com.expediagroup.streamplatform.streamregistry.model.keys.ConsumerKey;
 import com.expediagroup.streamplatform.streamregistry.repository.ConsumerBindingRepository;
+import com.expediagroup.streamplatform.streamregistry.repository.query.Page;
+import com.expediagroup.streamplatform.streamregistry.repository.query.PageRequest;
+import com.expediagroup.streamplatform.streamregistry.repository.query.QuerySpec;
 
 @Component
 @RequiredArgsConstructor
@@ -44,53 +53,149 @@ public class ConsumerBindingService {
   private final HandlerService handlerService;
   private final ConsumerBindingValidator consumerBindingValidator;
   private final ConsumerBindingRepository consumerBindingRepository;
+  private final EntityIndex<ConsumerBindingKey, ConsumerBinding> consumerBindingIndex;
   private final NotificationEventEmitter<ConsumerBinding> consumerBindingServiceEventEmitter;
 
+  @Transactional
   public Optional<ConsumerBinding> create(ConsumerBinding consumerBinding) throws ValidationException {
     if (read(consumerBinding.getKey()).isPresent()) {
       throw new ValidationException("Can't create because it already exists");
     }
-    consumerBindingValidator.validateForCreate(consumerBinding);
-    consumerBinding.setSpecification(handlerService.handleInsert(consumerBinding));
-    return save(consumerBinding, CREATE);
+    return insert(consumerBinding);
   }
 
+  @Transactional
   public Optional<ConsumerBinding> update(ConsumerBinding consumerBinding) throws ValidationException {
     var existing = read(consumerBinding.getKey());
     if (!existing.isPresent()) {
       throw new ValidationException("Can't update " + consumerBinding.getKey() + " because it doesn't exist");
     }
-    consumerBindingValidator.validateForUpdate(consumerBinding, existing.get());
-    consumerBinding.setSpecification(handlerService.handleUpdate(consumerBinding, existing.get()));
+    return update(consumerBinding, existing.get());
+  }
+
+  /**
+   * Replaces only the status, skipping validation, the handlers and the specification write, and emits a
+   * {@link EventType#STATUS_UPDATE} event.
+   */
+  @Transactional
+  public Optional<ConsumerBinding> updateStatus(ConsumerBindingKey key, Status status, Long expectedVersion) throws ValidationException {
+    var existing = read(key);
+    if (!existing.isPresent()) {
+      throw new ValidationException("Can't update " + key + " because it doesn't exist");
+    }
+    ExpectedVersion.check(expectedVersion, existing.get());
+    var consumerBinding = consumerBindingRepository.saveStatus(key, status, expectedVersion).map(consumerBindingIndex::putOnCommit);
+    consumerBinding.ifPresent(updated -> consumerBindingServiceEventEmitter.emitEventOnProcessedEntity(STATUS_UPDATE, updated));
+    return consumerBinding;
+  }
+
+  @Transactional
+  public Optional<ConsumerBinding> upsert(ConsumerBinding consumerBinding) throws ValidationException {
+    var existing = read(consumerBinding.getKey());
+    return existing.isPresent() ? update(consumerBinding, existing.get()) : insert(consumerBinding);
+  }
+
+  @Transactional
+  public List<BatchResult<ConsumerBinding>> createAll(List<ConsumerBinding> consumerBindings) {
+    return batchWriter(consumerBindingValidator.forBatch(consumerBindings)).createAll(consumerBindings);
+  }
+
+  @Transactional
+  public List<BatchResult<ConsumerBinding>> upsertAll(List<ConsumerBinding> consumerBindings) {
+    return batchWriter(consumerBindingValidator.forBatch(consumerBindings)).upsertAll(consumerBindings);
+  }
+
+  private Optional<ConsumerBinding> insert(ConsumerBinding consumerBinding) {
+    prepareInsert(consumerBinding, consumerBindingValidator);
+    return save(consumerBinding, CREATE);
+  }
+
+  private Optional<ConsumerBinding> update(ConsumerBinding consumerBinding, ConsumerBinding existing) {
+    prepareUpdate(consumerBinding, existing, consumerBindingValidator);
     return save(consumerBinding, UPDATE);
   }
 
+  private void prepareInsert(ConsumerBinding consumerBinding, Validator<ConsumerBinding> validator) {
+    validator.validateForCreate(consumerBinding);
+    consumerBinding.setSpecification(handlerService.handleInsert(consumerBinding));
+  }
+
+  private void prepareUpdate(ConsumerBinding consumerBinding, ConsumerBinding existing, Validator<ConsumerBinding> validator) {
+    ExpectedVersion.check(consumerBinding, existing);
+    if (consumerBinding.getStatus() == null) {
+      consumerBinding.setStatus(existing.getStatus());
+    }
+    validator.validateForUpdate(consumerBinding, existing);
+    consumerBinding.setSpecification(handlerService.handleUpdate(consumerBinding, existing));
+  }
+
+  private BatchWriter<ConsumerBindingKey, ConsumerBinding> batchWriter(Validator<ConsumerBinding> validator) {
+    return BatchWriter.<ConsumerBindingKey, ConsumerBinding>builder()
+        .key(ConsumerBinding::getKey)
+        .readAll(this::readAll)
+        .prepareInsert(consumerBinding -> prepareInsert(consumerBinding, validator))
+        .prepareUpdate((consumerBinding, existing) -> prepareUpdate(consumerBinding, existing, validator))
+        .saveAll(entities -> consumerBindingIndex.putOnCommit(consumerBindingRepository.saveAll(entities)))
+        .emitter(consumerBindingServiceEventEmitter)
+        .build();
+  }
+
   private Optional<ConsumerBinding> save(ConsumerBinding consumerBinding, EventType eventType) {
-    consumerBinding = consumerBindingRepository.save(consumerBinding);
+    consumerBinding = consumerBindingIndex.putOnCommit(consumerBindingRepository.save(consumerBinding));
     consumerBindingServiceEventEmitter.emitEventOnProcessedEntity(eventType, consumerBinding);
     return Optional.ofNullable(consumerBinding);
   }
 
-  public Optional<ConsumerBinding> upsert(ConsumerBinding consumerBinding) throws ValidationException {
-    return !read(consumerBinding.getKey()).isPresent() ? create(consumerBinding) : update(consumerBinding);
+  @Transactional(readOnly = true)
+  public Optional<ConsumerBinding> read(ConsumerBindingKey key) {
+    return consumerBindingIndex.findById(key);
   }
 
-  public Optional<ConsumerBinding> read(ConsumerBindingKey key) {
-    return consumerBindingRepository.findById(key);
+  @Transactional(readOnly = true)
+  public List<ConsumerBinding> readAll(Collection<ConsumerBindingKey> keys) {
+    return consumerBindingIndex.findAllById(keys);
   }
 
+  @Transactional(readOnly = true)
   public List<ConsumerBinding> findAll(Predicate<ConsumerBinding> filter) {
-    return consumerBindingRepository.findAll().stream().filter(filter).collect(toList());
+    return consumerBindingIndex.findAll(filter);
+  }
+
+  @Transactional(readOnly = true)
+  public List<ConsumerBinding> findAll(QuerySpec<ConsumerBinding> query) {
+    return consumerBindingIndex.findAll(query);
+  }
+
+  @Transactional(readOnly = true)
+  public Page<ConsumerBinding> findAll(QuerySpec<ConsumerBinding> query, PageRequest page) {
+    return consumerBindingRepository.findAll(query, page);
+  }
+
+  @Transactional(readOnly = true)
+  public long count(QuerySpec<ConsumerBinding> query) {
+    return consumerBindingRepository.count(query);
+  }
+
+  @Transactional(readOnly = true)
+  public long highWaterMark() {
+    return consumerBindingRepository.highWaterMark();
   }
 
   public void delete(ConsumerBinding consumerBinding) {
     throw new UnsupportedOperationException();
   }
 
+  @Transactional(readOnly = true)
   public boolean exists(ConsumerBindingKey key) {
-    return read(key).isPresent();
+    return consumerBindingIndex.existsById(key);
+  }
+
+  @Transactional(readOnly = true)
+  public Set<ConsumerBindingKey> existing(Collection<ConsumerBindingKey> keys) {
+    return consumerBindingIndex.findExistingIds(keys);
   }
 
+  @Transactional(readOnly = true)
   public Optional<ConsumerBinding> find(ConsumerKey key) {
     var example = new ConsumerBinding(new ConsumerBindingKey(
         key.getStreamDomain(),
@@ -99,7 +204,7 @@ public class ConsumerBindingService {
         key.getZone(),
         null,
         key.getName()
-    ), null, null);
+    ), null, null, null);
     return consumerBindingRepository.findAll(example).stream().findFirst();
   }
 }
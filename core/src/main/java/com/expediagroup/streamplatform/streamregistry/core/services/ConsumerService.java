@@ -16,25 +16,34 @@
 package com.expediagroup.streamplatform.streamregistry.core.services;
 
 import static com.expediagroup.streamplatform.streamregistry.core.events.EventType.CREATE;
+import static com.expediagroup.streamplatform.streamregistry.core.events.EventType.STATUS_UPDATE;
 import static com.expediagroup.streamplatform.streamregistry.core.events.EventType.UPDATE;
-import static java.util.stream.Collectors.toList;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import lombok.RequiredArgsConstructor;
 
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.expediagroup.streamplatform.streamregistry.core.events.EventType;
 import com.expediagroup.streamplatform.streamregistry.core.events.NotificationEventEmitter;
 import com.expediagroup.streamplatform.streamregistry.core.handlers.HandlerService;
+import com.expediagroup.streamplatform.streamregistry.core.readmodel.EntityIndex;
 import com.expediagroup.streamplatform.streamregistry.core.validators.ConsumerValidator;
 import com.expediagroup.streamplatform.streamregistry.core.validators.ValidationException;
+import com.expediagroup.streamplatform.streamregistry.core.validators.Validator;
 import com.expediagroup.streamplatform.streamregistry.model.Consumer;
+import com.expediagroup.streamplatform.streamregistry.model.Status;
 import com.expediagroup.streamplatform.streamregistry.model.keys.ConsumerKey;
 import com.expediagroup.streamplatform.streamregistry.repository.ConsumerRepository;
+import com.expediagroup.streamplatform.streamregistry.repository.query.Page;
+import com.expediagroup.streamplatform.streamregistry.repository.query.PageRequest;
+import com.expediagroup.streamplatform.streamregistry.repository.query.QuerySpec;
 
 @Component
 @RequiredArgsConstructor
@@ -42,50 +51,145 @@ public class ConsumerService {
   private final HandlerService handlerService;
   private final ConsumerValidator consumerValidator;
   private final ConsumerRepository consumerRepository;
+  private final EntityIndex<ConsumerKey, Consumer> consumerIndex;
   private final NotificationEventEmitter<Consumer> consumerServiceEventEmitter;
 
+  @Transactional
   public Optional<Consumer> create(Consumer consumer) throws ValidationException {
     if (read(consumer.getKey()).isPresent()) {
       throw new ValidationException("Can't create because it already exists");
     }
-    consumerValidator.validateForCreate(consumer);
-    consumer.setSpecification(handlerService.handleInsert(consumer));
-    return save(consumer, CREATE);
+    return insert(consumer);
   }
 
+  @Transactional
   public Optional<Consumer> update(Consumer consumer) throws ValidationException {
     var existing = read(consumer.getKey());
     if (!existing.isPresent()) {
       throw new ValidationException("Can't update " + consumer.getKey().getName() + " because it doesn't exist");
     }
-    consumerValidator.validateForUpdate(consumer, existing.get());
-    consumer.setSpecification(handlerService.handleUpdate(consumer, existing.get()));
+    return update(consumer, existing.get());
+  }
+
+  /**
+   * Replaces only the status, skipping validation, the handlers and the specification write, and emits a
+   * {@link EventType#STATUS_UPDATE} event.
+   */
+  @Transactional
+  public Optional<Consumer> updateStatus(ConsumerKey key, Status status, Long expectedVersion) throws ValidationException {
+    var existing = read(key);
+    if (!existing.isPresent()) {
+      throw new ValidationException("Can't update " + key + " because it doesn't exist");
+    }
+    ExpectedVersion.check(expectedVersion, existing.get());
+    var consumer = consumerRepository.saveStatus(key, status, expectedVersion).map(consumerIndex::putOnCommit);
+    consumer.ifPresent(updated -> consumerServiceEventEmitter.emitEventOnProcessedEntity(STATUS_UPDATE, updated));
+    return consumer;
+  }
+
+  @Transactional
+  public Optional<Consumer> upsert(Consumer consumer) throws ValidationException {
+    var existing = read(consumer.getKey());
+    return existing.isPresent() ? update(consumer, existing.get()) : insert(consumer);
+  }
+
+  @Transactional
+  public List<BatchResult<Consumer>> createAll(List<Consumer> consumers) {
+    return batchWriter(consumerValidator.forBatch(consumers)).createAll(consumers);
+  }
+
+  @Transactional
+  public List<BatchResult<Consumer>> upsertAll(List<Consumer> consumers) {
+    return batchWriter(consumerValidator.forBatch(consumers)).upsertAll(consumers);
+  }
+
+  private Optional<Consumer> insert(Consumer consumer) {
+    prepareInsert(consumer, consumerValidator);
+    return save(consumer, CREATE);
+  }
+
+  private Optional<Consumer> update(Consumer consumer, Consumer existing) {
+    prepareUpdate(consumer, existing, consumerValidator);
     return save(consumer, UPDATE);
   }
 
+  private void prepareInsert(Consumer consumer, Validator<Consumer> validator) {
+    validator.validateForCreate(consumer);
+    consumer.setSpecification(handlerService.handleInsert(consumer));
+  }
+
+  private void prepareUpdate(Consumer consumer, Consumer existing, Validator<Consumer> validator) {
+    ExpectedVersion.check(consumer, existing);
+    if (consumer.getStatus() == null) {
+      consumer.setStatus(existing.getStatus());
+    }
+    validator.validateForUpdate(consumer, existing);
+    consumer.setSpecification(handlerService.handleUpdate(consumer, existing));
+  }
+
+  private BatchWriter<ConsumerKey, Consumer> batchWriter(Validator<Consumer> validator) {
+    return BatchWriter.<ConsumerKey, Consumer>builder()
+        .key(Consumer::getKey)
+        .readAll(this::readAll)
+        .prepareInsert(consumer -> prepareInsert(consumer, validator))
+        .prepareUpdate((consumer, existing) -> prepareUpdate(consumer, existing, validator))
+        .saveAll(entities -> consumerIndex.putOnCommit(consumerRepository.saveAll(entities)))
+        .emitter(consumerServiceEventEmitter)
+        .build();
+  }
+
   private Optional<Consumer> save(Consumer consumer, EventType eventType) {
-    consumer = consumerRepository.save(consumer);
+    consumer = consumerIndex.putOnCommit(consumerRepository.save(consumer));
     consumerServiceEventEmitter.emitEventOnProcessedEntity(eventType, consumer);
     return Optional.ofNullable(consumer);
   }
 
-  public Optional<Consumer> upsert(Consumer consumer) throws ValidationException {
-    return !read(consumer.getKey()).isPresent() ? create(consumer) : update(consumer);
+  @Transactional(readOnly = true)
+  public Optional<Consumer> read(ConsumerKey key) {
+    return consumerIndex.findById(key);
   }
 
-  public Optional<Consumer> read(ConsumerKey key) {
-    return consumerRepository.findById(key);
+  @Transactional(readOnly = true)
+  public List<Consumer> readAll(Collection<ConsumerKey> keys) {
+    return consumerIndex.findAllById(keys);
   }
 
+  @Transactional(readOnly = true)
   public List<Consumer> findAll(Predicate<Consumer> filter) {
-    return consumerRepository.findAll().stream().filter(filter).collect(toList());
+    return consumerIndex.findAll(filter);
+  }
+
+  @Transactional(readOnly = true)
+  public List<Consumer> findAll(QuerySpec<Consumer> query) {
+    return consumerIndex.findAll(query);
+  }
+
+  @Transactional(readOnly = true)
+  public Page<Consumer> findAll(QuerySpec<Consumer> query, PageRequest page) {
+    return consumerRepository.findAll(query, page);
+  }
+
+  @Transactional(readOnly = true)
+  public long count(QuerySpec<Consumer> query) {
+    return consumerRepository.count(query);
+  }
+
+  @Transactional(readOnly = true)
+  public long highWaterMark() {
+    return consumerRepository.highWaterMark();
   }
 
   public void delete(Consumer consumer) {
     throw new UnsupportedOperationException();
   }
 
+  @Transactional(readOnly = true)
   public boolean exists(ConsumerKey key) {
-    return read(key).isPresent();
+    return consumerIndex.existsById(key);
+  }
+
+  @Transactional(readOnly = true)
+  public Set<ConsumerKey> existing(Collection<ConsumerKey> keys) {
+    return consumerIndex.findExistingIds(keys);
   }
 }
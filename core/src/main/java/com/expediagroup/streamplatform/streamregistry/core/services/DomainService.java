@@ -16,25 +16,34 @@
 package com.expediagroup.streamplatform.streamregistry.core.services;
 
 import static com.expediagroup.streamplatform.streamregistry.core.events.EventType.CREATE;
+import static com.expediagroup.streamplatform.streamregistry.core.events.EventType.STATUS_UPDATE;
 import static com.expediagroup.streamplatform.streamregistry.core.events.EventType.UPDATE;
-import static java.util.stream.Collectors.toList;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import lombok.RequiredArgsConstructor;
 
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.expediagroup.streamplatform.streamregistry.core.events.EventType;
 import com.expediagroup.streamplatform.streamregistry.core.events.NotificationEventEmitter;
 import com.expediagroup.streamplatform.streamregistry.core.handlers.HandlerService;
+import com.expediagroup.streamplatform.streamregistry.core.readmodel.EntityIndex;
 import com.expediagroup.streamplatform.streamregistry.core.validators.DomainValidator;
 import com.expediagroup.streamplatform.streamregistry.core.validators.ValidationException;
+import com.expediagroup.streamplatform.streamregistry.core.validators.Validator;
 import com.expediagroup.streamplatform.streamregistry.model.Domain;
+import com.expediagroup.streamplatform.streamregistry.model.Status;
 import com.expediagroup.streamplatform.streamregistry.model.keys.DomainKey;
 import com.expediagroup.streamplatform.streamregistry.repository.DomainRepository;
+import com.expediagroup.streamplatform.streamregistry.repository.query.Page;
+import com.expediagroup.streamplatform.streamregistry.repository.query.PageRequest;
+import com.expediagroup.streamplatform.streamregistry.repository.query.QuerySpec;
 
 @Component
 @RequiredArgsConstructor
@@ -42,50 +51,145 @@ public class DomainService {
   private final HandlerService handlerService;
   private final DomainValidator domainValidator;
   private final DomainRepository domainRepository;
+  private final EntityIndex<DomainKey, Domain> domainIndex;
   private final NotificationEventEmitter<Domain> domainServiceEventEmitter;
 
+  @Transactional
   public Optional<Domain> create(Domain domain) throws ValidationException {
     if (read(domain.getKey()).isPresent()) {
       throw new ValidationException("Can't create because it already exists");
     }
-    domainValidator.validateForCreate(domain);
-    domain.setSpecification(handlerService.handleInsert(domain));
-    return save(domain, CREATE);
+    return insert(domain);
   }
 
+  @Transactional
   public Optional<Domain> update(Domain domain) throws ValidationException {
     var existing = read(domain.getKey());
     if (!existing.isPresent()) {
       throw new ValidationException("Can't update " + domain.getKey().getName() + " because it doesn't exist");
     }
-    domainValidator.validateForUpdate(domain, existing.get());
-    domain.setSpecification(handlerService.handleUpdate(domain, existing.get()));
+    return update(domain, existing.get());
+  }
+
+  /**
+   * Replaces only the status, skipping validation, the handlers and the specification write, and emits a
+   * {@link EventType#STATUS_UPDATE} event.
+   */
+  @Transactional
+  public Optional<Domain> updateStatus(DomainKey key, Status status, Long expectedVersion) throws ValidationException {
+    var existing = read(key);
+    if (!existing.isPresent()) {
+      throw new ValidationException("Can't update " + key + " because it doesn't exist");
+    }
+    ExpectedVersion.check(expectedVersion, existing.get());
+    var domain = domainRepository.saveStatus(key, status, expectedVersion).map(domainIndex::putOnCommit);
+    domain.ifPresent(updated -> domainServiceEventEmitter.emitEventOnProcessedEntity(STATUS_UPDATE, updated));
+    return domain;
+  }
+
+  @Transactional
+  public Optional<Domain> upsert(Domain domain) throws ValidationException {
+    var existing = read(domain.getKey());
+    return existing.isPresent() ? update(domain, existing.get()) : insert(domain);
+  }
+
+  @Transactional
+  public List<BatchResult<Domain>> createAll(List<Domain> domains) {
+    return batchWriter(domainValidator.forBatch(domains)).createAll(domains);
+  }
+
+  @Transactional
+  public List<BatchResult<Domain>> upsertAll(List<Domain> domains) {
+    return batchWriter(domainValidator.forBatch(domains)).upsertAll(domains);
+  }
+
+  private Optional<Domain> insert(Domain domain) {
+    prepareInsert(domain, domainValidator);
+    return save(domain, CREATE);
+  }
+
+  private Optional<Domain> update(Domain domain, Domain existing) {
+    prepareUpdate(domain, existing, domainValidator);
     return save(domain, UPDATE);
   }
 
+  private void prepareInsert(Domain domain, Validator<Domain> validator) {
+    validator.validateForCreate(domain);
+    domain.setSpecification(handlerService.handleInsert(domain));
+  }
+
+  private void prepareUpdate(Domain domain, Domain existing, Validator<Domain> validator) {
+    ExpectedVersion.check(domain, existing);
+    if (domain.getStatus() == null) {
+      domain.setStatus(existing.getStatus());
+    }
+    validator.validateForUpdate(domain, existing);
+    domain.setSpecification(handlerService.handleUpdate(domain, existing));
+  }
+
+  private BatchWriter<DomainKey, Domain> batchWriter(Validator<Domain> validator) {
+    return BatchWriter.<DomainKey, Domain>builder()
+        .key(Domain::getKey)
+        .readAll(this::readAll)
+        .prepareInsert(domain -> prepareInsert(domain, validator))
+        .prepareUpdate((domain, existing) -> prepareUpdate(domain, existing, validator))
+        .saveAll(entities -> domainIndex.putOnCommit(domainRepository.saveAll(entities)))
+        .emitter(domainServiceEventEmitter)
+        .build();
+  }
+
   private Optional<Domain> save(Domain domain, EventType eventType) {
-    domain = domainRepository.save(domain);
+    domain = domainIndex.putOnCommit(domainRepository.save(domain));
     domainServiceEventEmitter.emitEventOnProcessedEntity(eventType, domain);
     return Optional.ofNullable(domain);
   }
 
-  public Optional<Domain> upsert(Domain domain) throws ValidationException {
-    return !read(domain.getKey()).isPresent() ? create(domain) : update(domain);
+  @Transactional(readOnly = true)
+  public Optional<Domain> read(DomainKey key) {
+    return domainIndex.findById(key);
   }
 
-  public Optional<Domain> read(DomainKey key) {
-    return domainRepository.findById(key);
+  @Transactional(readOnly = true)
+  public List<Domain> readAll(Collection<DomainKey> keys) {
+    return domainIndex.findAllById(keys);
   }
 
+  @Transactional(readOnly = true)
   public List<Domain> findAll(Predicate<Domain> filter) {
-    return domainRepository.findAll().stream().filter(filter).collect(toList());
+    return domainIndex.findAll(filter);
+  }
+
+  @Transactional(readOnly = true)
+  public List<Domain> findAll(QuerySpec<Domain> query) {
+    return domainIndex.findAll(query);
+  }
+
+  @Transactional(readOnly = true)
+  public Page<Domain> findAll(QuerySpec<Domain> query, PageRequest page) {
+    return domainRepository.findAll(query, page);
+  }
+
+  @Transactional(readOnly = true)
+  public long count(QuerySpec<Domain> query) {
+    return domainRepository.count(query);
+  }
+
+  @Transactional(readOnly = true)
+  public long highWaterMark() {
+    return domainRepository.highWaterMark();
   }
 
   public void delete(Domain domain) {
     throw new UnsupportedOperationException();
   }
 
+  @Transactional(readOnly = true)
   public boolean exists(DomainKey key) {
-    return read(key).isPresent();
+    return domainIndex.existsById(key);
+  }
+
+  @Transactional(readOnly = true)
+  public Set<DomainKey> existing(Collection<DomainKey> keys) {
+    return domainIndex.findExistingIds(keys);
   }
 }
@@ -0,0 +1,42 @@
+/**
+ * Copyright (C) 2018-2020 Expedia, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.expediagroup.streamplatform.streamregistry.core.services;
+
+import com.expediagroup.streamplatform.streamregistry.core.validators.ValidationException;
+import com.expediagroup.streamplatform.streamregistry.model.Entity;
+
+/**
+ * Optimistic concurrency for updates. An entity without a version takes the stored one, so the write still fails if
+ * another writer commits in between; an entity with a version must match the stored one.
+ */
+final class ExpectedVersion {
+  private ExpectedVersion() {}
+
+  static void check(Entity<?> entity, Entity<?> existing) {
+    if (entity.getVersion() == null) {
+      entity.setVersion(existing.getVersion());
+    } else {
+      check(entity.getVersion(), existing);
+    }
+  }
+
+  static void check(Long expectedVersion, Entity<?> existing) {
+    if (expectedVersion != null && !expectedVersion.equals(existing.getVersion())) {
+      throw new ValidationException("Can't update " + existing.getKey() + " because it has been modified (expected version "
+          + expectedVersion + ", found " + existing.getVersion() + ")");
+    }
+  }
+}
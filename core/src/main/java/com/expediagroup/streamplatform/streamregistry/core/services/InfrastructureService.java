@@ -16,25 +16,34 @@
 package com.expediagroup.streamplatform.streamregistry.core.services;
 
 import static com.expediagroup.streamplatform.streamregistry.core.events.EventType.CREATE;
+import static com.expediagroup.streamplatform.streamregistry.core.events.EventType.STATUS_UPDATE;
 import static com.expediagroup.streamplatform.streamregistry.core.events.EventType.UPDATE;
-import static java.util.stream.Collectors.toList;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import lombok.RequiredArgsConstructor;
 
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.expediagroup.streamplatform.streamregistry.core.events.EventType;
 import com.expediagroup.streamplatform.streamregistry.core.events.NotificationEventEmitter;
 import com.expediagroup.streamplatform.streamregistry.core.handlers.HandlerService;
+import com.expediagroup.streamplatform.streamregistry.core.readmodel.EntityIndex;
 import com.expediagroup.streamplatform.streamregistry.core.validators.InfrastructureValidator;
 import com.expediagroup.streamplatform.streamregistry.core.validators.ValidationException;
+import com.expediagroup.streamplatform.streamregistry.core.validators.Validator;
 import com.expediagroup.streamplatform.streamregistry.model.Infrastructure;
+import com.expediagroup.streamplatform.streamregistry.model.Status;
 import com.expediagroup.streamplatform.streamregistry.model.keys.InfrastructureKey;
 import com.expediagroup.streamplatform.streamregistry.repository.InfrastructureRepository;
+import com.expediagroup.streamplatform.streamregistry.repository.query.Page;
+import com.expediagroup.streamplatform.streamregistry.repository.query.PageRequest;
+import com.expediagroup.streamplatform.streamregistry.repository.query.QuerySpec;
 
 @Component
 @RequiredArgsConstructor
@@ -42,50 +51,145 @@ public class InfrastructureService {
   private final HandlerService handlerService;
   private final InfrastructureValidator infrastructureValidator;
   private final InfrastructureRepository infrastructureRepository;
+  private final EntityIndex<InfrastructureKey, Infrastructure> infrastructureIndex;
   private final NotificationEventEmitter<Infrastructure> infrastructureServiceEventEmitter;
 
+  @Transactional
   public Optional<Infrastructure> create(Infrastructure infrastructure) throws ValidationException {
     if (read(infrastructure.getKey()).isPresent()) {
       throw new ValidationException("Can't create because it already exists");
     }
-    infrastructureValidator.validateForCreate(infrastructure);
-    infrastructure.setSpecification(handlerService.handleInsert(infrastructure));
-    return save(infrastructure, CREATE);
+    return insert(infrastructure);
   }
 
+  @Transactional
   public Optional<Infrastructure> update(Infrastructure infrastructure) throws ValidationException {
     var existing = read(infrastructure.getKey());
     if (!existing.isPresent()) {
       throw new ValidationException("Can't update " + infrastructure.getKey().getName() + " because it doesn't exist");
     }
-    infrastructureValidator.validateForUpdate(infrastructure, existing.get());
-    infrastructure.setSpecification(handlerService.handleUpdate(infrastructure, existing.get()));
+    return update(infrastructure, existing.get());
+  }
+
+  /**
+   * Replaces only the status, skipping validation, the handlers and the specification write, and emits a
+   * {@link EventType#STATUS_UPDATE} event.
+   */
+  @Transactional
+  public Optional<Infrastructure> updateStatus(InfrastructureKey key, Status status, Long expectedVersion) throws ValidationException {
+    var existing = read(key);
+    if (!existing.isPresent()) {
+      throw new ValidationException("Can't update " + key + " because it doesn't exist");
+    }
+    ExpectedVersion.check(expectedVersion, existing.get());
+    var infrastructure = infrastructureRepository.saveStatus(key, status, expectedVersion).map(infrastructureIndex::putOnCommit);
+    infrastructure.ifPresent(updated -> infrastructureServiceEventEmitter.emitEventOnProcessedEntity(STATUS_UPDATE, updated));
+    return infrastructure;
+  }
+
+  @Transactional
+  public Optional<Infrastructure> upsert(Infrastructure infrastructure) throws ValidationException {
+    var existing = read(infrastructure.getKey());
+    return existing.isPresent() ? update(infrastructure, existing.get()) : insert(infrastructure);
+  }
+
+  @Transactional
+  public List<BatchResult<Infrastructure>> createAll(List<Infrastructure> infrastructures) {
+    return batchWriter(infrastructureValidator.forBatch(infrastructures)).createAll(infrastructures);
+  }
+
+  @Transactional
+  public List<BatchResult<Infrastructure>> upsertAll(List<Infrastructure> infrastructures) {
+    return batchWriter(infrastructureValidator.forBatch(infrastructures)).upsertAll(infrastructures);
+  }
+
+  private Optional<Infrastructure> insert(Infrastructure infrastructure) {
+    prepareInsert(infrastructure, infrastructureValidator);
+    return save(infrastructure, CREATE);
+  }
+
+  private Optional<Infrastructure> update(Infrastructure infrastructure, Infrastructure existing) {
+    prepareUpdate(infrastructure, existing, infrastructureValidator);
     return save(infrastructure, UPDATE);
   }
 
+  private void prepareInsert(Infrastructure infrastructure, Validator<Infrastructure> validator) {
+    validator.validateForCreate(infrastructure);
+    infrastructure.setSpecification(handlerService.handleInsert(infrastructure));
+  }
+
+  private void prepareUpdate(Infrastructure infrastructure, Infrastructure existing, Validator<Infrastructure> validator) {
+    ExpectedVersion.check(infrastructure, existing);
+    if (infrastructure.getStatus() == null) {
+      infrastructure.setStatus(existing.getStatus());
+    }
+    validator.validateForUpdate(infrastructure, existing);
+    infrastructure.setSpecification(handlerService.handleUpdate(infrastructure, existing));
+  }
+
+  private BatchWriter<InfrastructureKey, Infrastructure> batchWriter(Validator<Infrastructure> validator) {
+    return BatchWriter.<InfrastructureKey, Infrastructure>builder()
+        .key(Infrastructure::getKey)
+        .readAll(this::readAll)
+        .prepareInsert(infrastructure -> prepareInsert(infrastructure, validator))
+        .prepareUpdate((infrastructure, existing) -> prepareUpdate(infrastructure, existing, validator))
+        .saveAll(entities -> infrastructureIndex.putOnCommit(infrastructureRepository.saveAll(entities)))
+        .emitter(infrastructureServiceEventEmitter)
+        .build();
+  }
+
   private Optional<Infrastructure> save(Infrastructure infrastructure, EventType eventType) {
-    infrastructure = infrastructureRepository.save(infrastructure);
+    infrastructure = infrastructureIndex.putOnCommit(infrastructureRepository.save(infrastructure));
     infrastructureServiceEventEmitter.emitEventOnProcessedEntity(eventType, infrastructure);
     return Optional.ofNullable(infrastructure);
   }
 
-  public Optional<Infrastructure> upsert(Infrastructure infrastructure) throws ValidationException {
-    return !read(infrastructure.getKey()).isPresent() ? create(infrastructure) : update(infrastructure);
+  @Transactional(readOnly = true)
+  public Optional<Infrastructure> read(InfrastructureKey key) {
+    return infrastructureIndex.findById(key);
   }
 
-  public Optional<Infrastructure> read(InfrastructureKey key) {
-    return infrastructureRepository.findById(key);
+  @Transactional(readOnly = true)
+  public List<Infrastructure> readAll(Collection<InfrastructureKey> keys) {
+    return infrastructureIndex.findAllById(keys);
   }
 
+  @Transactional(readOnly = true)
   public List<Infrastructure> findAll(Predicate<Infrastructure> filter) {
-    return infrastructureRepository.findAll().stream().filter(filter).collect(toList());
+    return infrastructureIndex.findAll(filter);
+  }
+
+  @Transactional(readOnly = true)
+  public List<Infrastructure> findAll(QuerySpec<Infrastructure> query) {
+    return infrastructureIndex.findAll(query);
+  }
+
+  @Transactional(readOnly = true)
+  public Page<Infrastructure> findAll(QuerySpec<Infrastructure> query, PageRequest page) {
+    return infrastructureRepository.findAll(query, page);
+  }
+
+  @Transactional(readOnly = true)
+  public long count(QuerySpec<Infrastructure> query) {
+    return infrastructureRepository.count(query);
+  }
+
+  @Transactional(readOnly = true)
+  public long highWaterMark() {
+    return infrastructureRepository.highWaterMark();
   }
 
   public void delete(Infrastructure infrastructure) {
     throw new UnsupportedOperationException();
   }
 
+  @Transactional(readOnly = true)
   public boolean exists(InfrastructureKey key) {
-    return read(key).isPresent();
+    return infrastructureIndex.existsById(key);
+  }
+
+  @Transactional(readOnly = true)
+  public Set<InfrastructureKey> existing(Collection<InfrastructureKey> keys) {
+    return infrastructureIndex.findExistingIds(keys);
   }
 }
@@ -16,26 +16,35 @@
 package com.expediagroup.streamplatform.streamregistry.core.services;
 
 import static com.expediagroup.streamplatform.streamregistry.core.events.EventType.CREATE;
+import static com.expediagroup.streamplatform.streamregistry.core.events.EventType.STATUS_UPDATE;
 import static com.expediagroup.streamplatform.streamregistry.core.events.EventType.UPDATE;
-import static java.util.stream.Collectors.toList;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import lombok.RequiredArgsConstructor;
 
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.expediagroup.streamplatform.streamregistry.core.events.EventType;
 import com.expediagroup.streamplatform.streamregistry.core.events.NotificationEventEmitter;
 import com.expediagroup.streamplatform.streamregistry.core.handlers.HandlerService;
+import com.expediagroup.streamplatform.streamregistry.core.readmodel.EntityIndex;
 import com.expediagroup.streamplatform.streamregistry.core.validators.ProducerBindingValidator;
 import com.expediagroup.streamplatform.streamregistry.core.validators.ValidationException;
+import com.expediagroup.streamplatform.streamregistry.core.validators.Validator;
 import com.expediagroup.streamplatform.streamregistry.model.ProducerBinding;
+import com.expediagroup.streamplatform.streamregistry.model.Status;
 import com.expediagroup.streamplatform.streamregistry.model.keys.ProducerBindingKey;
 import com.expediagroup.streamplatform.streamregistry.model.keys.ProducerKey;
 import com.expediagroup.streamplatform.streamregistry.repository.ProducerBindingRepository;
+import com.expediagroup.streamplatform.streamregistry.repository.query.Page;
+import com.expediagroup.streamplatform.streamregistry.repository.query.PageRequest;
+import com.expediagroup.streamplatform.streamregistry.repository.query.QuerySpec;
 
 @Component
 @RequiredArgsConstructor
@@ -43,53 +52,149 @@ public class ProducerBindingService {
   private final HandlerService handlerService;
   private final ProducerBindingValidator producerBindingValidator;
   private final ProducerBindingRepository producerBindingRepository;
+  private final EntityIndex<ProducerBindingKey, ProducerBinding> producerBindingIndex;
   private final NotificationEventEmitter<ProducerBinding> producerBindingServiceEventEmitter;
 
+  @Transactional
   public Optional<ProducerBinding> create(ProducerBinding producerBinding) throws ValidationException {
     if (read(producerBinding.getKey()).isPresent()) {
       throw new ValidationException("Can't create because it already exists");
     }
-    producerBindingValidator.validateForCreate(producerBinding);
-    producerBinding.setSpecification(handlerService.handleInsert(producerBinding));
-    return save(producerBinding, CREATE);
+    return insert(producerBinding);
   }
 
+  @Transactional
   public Optional<ProducerBinding> update(ProducerBinding producerBinding) throws ValidationException {
     var existing = read(producerBinding.getKey());
     if (!existing.isPresent()) {
       throw new ValidationException("Can't update " + producerBinding.getKey() + " because it doesn't exist");
     }
-    producerBindingValidator.validateForUpdate(producerBinding, existing.get());
-    producerBinding.setSpecification(handlerService.handleUpdate(producerBinding, existing.get()));
+    return update(producerBinding, existing.get());
+  }
+
+  /**
+   * Replaces only the status, skipping validation, the handlers and the specification write, and emits a
+   * {@link EventType#STATUS_UPDATE} event.
+   */
+  @Transactional
+  public Optional<ProducerBinding> updateStatus(ProducerBindingKey key, Status status, Long expectedVersion) throws ValidationException {
+    var existing = read(key);
+    if (!existing.isPresent()) {
+      throw new ValidationException("Can't update " + key + " because it doesn't exist");
+    }
+    ExpectedVersion.check(expectedVersion, existing.get());
+    var producerBinding = producerBindingRepository.saveStatus(key, status, expectedVersion).map(producerBindingIndex::putOnCommit);
+    producerBinding.ifPresent(updated -> producerBindingServiceEventEmitter.emitEventOnProcessedEntity(STATUS_UPDATE, updated));
+    return producerBinding;
+  }
+
+  @Transactional
+  public Optional<ProducerBinding> upsert(ProducerBinding producerBinding) throws ValidationException {
+    var existing = read(producerBinding.getKey());
+    return existing.isPresent() ? update(producerBinding, existing.get()) : insert(producerBinding);
+  }
+
+  @Transactional
+  public List<BatchResult<ProducerBinding>> createAll(List<ProducerBinding> producerBindings) {
+    return batchWriter(producerBindingValidator.forBatch(producerBindings)).createAll(producerBindings);
+  }
+
+  @Transactional
+  public List<BatchResult<ProducerBinding>> upsertAll(List<ProducerBinding> producerBindings) {
+    return batchWriter(producerBindingValidator.forBatch(producerBindings)).upsertAll(producerBindings);
+  }
+
+  private Optional<ProducerBinding> insert(ProducerBinding producerBinding) {
+    prepareInsert(producerBinding, producerBindingValidator);
+    return save(producerBinding, CREATE);
+  }
+
+  private Optional<ProducerBinding> update(ProducerBinding producerBinding, ProducerBinding existing) {
+    prepareUpdate(producerBinding, existing, producerBindingValidator);
     return save(producerBinding, UPDATE);
   }
 
+  private void prepareInsert(ProducerBinding producerBinding, Validator<ProducerBinding> validator) {
+    validator.validateForCreate(producerBinding);
+    producerBinding.setSpecification(handlerService.handleInsert(producerBinding));
+  }
+
+  private void prepareUpdate(ProducerBinding producerBinding, ProducerBinding existing, Validator<ProducerBinding> validator) {
+    ExpectedVersion.check(producerBinding, existing);
+    if (producerBinding.getStatus() == null) {
+      producerBinding.setStatus(existing.getStatus());
+    }
+    validator.validateForUpdate(producerBinding, existing);
+    producerBinding.setSpecification(handlerService.handleUpdate(producerBinding, existing));
+  }
+
+  private BatchWriter<ProducerBindingKey, ProducerBinding> batchWriter(Validator<ProducerBinding> validator) {
+    return BatchWriter.<ProducerBindingKey, ProducerBinding>builder()
+        .key(ProducerBinding::getKey)
+        .readAll(this::readAll)
+        .prepareInsert(producerBinding -> prepareInsert(producerBinding, validator))
+        .prepareUpdate((producerBinding, existing) -> prepareUpdate(producerBinding, existing, validator))
+        .saveAll(entities -> producerBindingIndex.putOnCommit(producerBindingRepository.saveAll(entities)))
+        .emitter(producerBindingServiceEventEmitter)
+        .build();
+  }
+
   private Optional<ProducerBinding> save(ProducerBinding producerBinding, EventType eventType) {
-    producerBinding = producerBindingRepository.save(producerBinding);
+    producerBinding = producerBindingIndex.putOnCommit(producerBindingRepository.save(producerBinding));
     producerBindingServiceEventEmitter.emitEventOnProcessedEntity(eventType, producerBinding);
     return Optional.ofNullable(producerBinding);
   }
 
-  public Optional<ProducerBinding> upsert(ProducerBinding producerBinding) throws ValidationException {
-    return !read(producerBinding.getKey()).isPresent() ? create(producerBinding) : update(producerBinding);
+  @Transactional(readOnly = true)
+  public Optional<ProducerBinding> read(ProducerBindingKey key) {
+    return producerBindingIndex.findById(key);
   }
 
-  public Optional<ProducerBinding> read(ProducerBindingKey key) {
-    return producerBindingRepository.findById(key);
+  @Transactional(readOnly = true)
+  public List<ProducerBinding> readAll(Collection<ProducerBindingKey> keys) {
+    return producerBindingIndex.findAllById(keys);
   }
 
+  @Transactional(readOnly = true)
   public List<ProducerBinding> findAll(Predicate<ProducerBinding> filter) {
-    return producerBindingRepository.findAll().stream().filter(filter).collect(toList());
+    return producerBindingIndex.findAll(filter);
+  }
+
+  @Transactional(readOnly = true)
+  public List<ProducerBinding> findAll(QuerySpec<ProducerBinding> query) {
+    return producerBindingIndex.findAll(query);
+  }
+
+  @Transactional(readOnly = true)
+  public Page<ProducerBinding> findAll(QuerySpec<ProducerBinding> query, PageRequest page) {
+    return producerBindingRepository.findAll(query, page);
+  }
+
+  @Transactional(readOnly = true)
+  public long count(QuerySpec<ProducerBinding> query) {
+    return producerBindingRepository.count(query);
+  }
+
+  @Transactional(readOnly = true)
+  public long highWaterMark() {
+    return producerBindingRepository.highWaterMark();
   }
 
   public void delete(ProducerBinding producerBinding) {
     throw new UnsupportedOperationException();
   }
 
+  @Transactional(readOnly = true)
   public boolean exists(ProducerBindingKey key) {
-    return read(key).isPresent();
+    return producerBindingIndex.existsById(key);
+  }
+
+  @Transactional(readOnly = true)
+  public Set<ProducerBindingKey> existing(Collection<ProducerBindingKey> keys) {
+    return producerBindingIndex.findExistingIds(keys);
   }
 
+  @Transactional(readOnly = true)
   public Optional<ProducerBinding> find(ProducerKey key) {
     var example = new ProducerBinding(new ProducerBindingKey(
         key.getStreamDomain(),
@@ -98,7 +203,7 @@ public class ProducerBindingService {
         key.getZone(),
         null,
         key.getName()
-    ), null, null);
+    ), null, null, null);
     return producerBindingRepository.findAll(example).stream().findFirst();
   }
 }
@@ -16,25 +16,34 @@
 package com.expediagroup.streamplatform.streamregistry.core.services;
 
 import static com.expediagroup.streamplatform.streamregistry.core.events.EventType.CREATE;
+import static com.expediagroup.streamplatform.streamregistry.core.events.EventType.STATUS_UPDATE;
 import static com.expediagroup.streamplatform.streamregistry.core.events.EventType.UPDATE;
-import static java.util.stream.Collectors.toList;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import lombok.RequiredArgsConstructor;
 
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.expediagroup.streamplatform.streamregistry.core.events.EventType;
 import com.expediagroup.streamplatform.streamregistry.core.events.NotificationEventEmitter;
 import com.expediagroup.streamplatform.streamregistry.core.handlers.HandlerService;
+import com.expediagroup.streamplatform.streamregistry.core.readmodel.EntityIndex;
 import com.expediagroup.streamplatform.streamregistry.core.validators.ProducerValidator;
 import com.expediagroup.streamplatform.streamregistry.core.validators.ValidationException;
+import com.expediagroup.streamplatform.streamregistry.core.validators.Validator;
 import com.expediagroup.streamplatform.streamregistry.model.Producer;
+import com.expediagroup.streamplatform.streamregistry.model.Status;
 import com.expediagroup.streamplatform.streamregistry.model.keys.ProducerKey;
 import com.expediagroup.streamplatform.streamregistry.repository.ProducerRepository;
+import com.expediagroup.streamplatform.streamregistry.repository.query.Page;
+import com.expediagroup.streamplatform.streamregistry.repository.query.PageRequest;
+import com.expediagroup.streamplatform.streamregistry.repository.query.QuerySpec;
 
 @Component
 @RequiredArgsConstructor
@@ -42,50 +51,145 @@ public class ProducerService {
   private final HandlerService handlerService;
   private final ProducerValidator producerValidator;
   private final ProducerRepository producerRepository;
+  private final EntityIndex<ProducerKey, Producer> producerIndex;
   private final NotificationEventEmitter<Producer> producerServiceEventEmitter;
 
+  @Transactional
   public Optional<Producer> create(Producer producer) throws ValidationException {
     if (read(producer.getKey()).isPresent()) {
       throw new ValidationException("Can't create because it already exists");
     }
-    producerValidator.validateForCreate(producer);
-    producer.setSpecification(handlerService.handleInsert(producer));
-    return save(producer, CREATE);
+    return insert(producer);
   }
 
+  @Transactional
   public Optional<Producer> update(Producer producer) throws ValidationException {
     var existing = read(producer.getKey());
     if (!existing.isPresent()) {
       throw new ValidationException("Can't update " + producer.getKey().getName() + " because it doesn't exist");
     }
-    producerValidator.validateForUpdate(producer, existing.get());
-    producer.setSpecification(handlerService.handleUpdate(producer, existing.get()));
+    return update(producer, existing.get());
+  }
+
+  /**
+   * Replaces only the status, skipping validation, the handlers and the specification write, and emits a
+   * {@link EventType#STATUS_UPDATE} event.
+   */
+  @Transactional
+  public Optional<Producer> updateStatus(ProducerKey key, Status status, Long expectedVersion) throws ValidationException {
+    var existing = read(key);
+    if (!existing.isPresent()) {
+      throw new ValidationException("Can't update " + key + " because it doesn't exist");
+    }
+    ExpectedVersion.check(expectedVersion, existing.get());
+    var producer = producerRepository.saveStatus(key, status, expectedVersion).map(producerIndex::putOnCommit);
+    producer.ifPresent(updated -> producerServiceEventEmitter.emitEventOnProcessedEntity(STATUS_UPDATE, updated));
+    return producer;
+  }
+
+  @Transactional
+  public Optional<Producer> upsert(Producer producer) throws ValidationException {
+    var existing = read(producer.getKey());
+    return existing.isPresent() ? update(producer, existing.get()) : insert(producer);
+  }
+
+  @Transactional
+  public List<BatchResult<Producer>> createAll(List<Producer> producers) {
+    return batchWriter(producerValidator.forBatch(producers)).createAll(producers);
+  }
+
+  @Transactional
+  public List<BatchResult<Producer>> upsertAll(List<Producer> producers) {
+    return batchWriter(producerValidator.forBatch(producers)).upsertAll(producers);
+  }
+
+  private Optional<Producer> insert(Producer producer) {
+    prepareInsert(producer, producerValidator);
+    return save(producer, CREATE);
+  }
+
+  private Optional<Producer> update(Producer producer, Producer existing) {
+    prepareUpdate(producer, existing, producerValidator);
     return save(producer, UPDATE);
   }
 
+  private void prepareInsert(Producer producer, Validator<Producer> validator) {
+    validator.validateForCreate(producer);
+    producer.setSpecification(handlerService.handleInsert(producer));
+  }
+
+  private void prepareUpdate(Producer producer, Producer existing, Validator<Producer> validator) {
+    ExpectedVersion.check(producer, existing);
+    if (producer.getStatus() == null) {
+      producer.setStatus(existing.getStatus());
+    }
+    validator.validateForUpdate(producer, existing);
+    producer.setSpecification(handlerService.handleUpdate(producer, existing));
+  }
+
+  private BatchWriter<ProducerKey, Producer> batchWriter(Validator<Producer> validator) {
+    return BatchWriter.<ProducerKey, Producer>builder()
+        .key(Producer::getKey)
+        .readAll(this::readAll)
+        .prepareInsert(producer -> prepareInsert(producer, validator))
+        .prepareUpdate((producer, existing) -> prepareUpdate(producer, existing, validator))
+        .saveAll(entities -> producerIndex.putOnCommit(producerRepository.saveAll(entities)))
+        .emitter(producerServiceEventEmitter)
+        .build();
+  }
+
   private Optional<Producer> save(Producer producer, EventType eventType) {
-    producer = producerRepository.save(producer);
+    producer = producerIndex.putOnCommit(producerRepository.save(producer));
     producerServiceEventEmitter.emitEventOnProcessedEntity(eventType, producer);
     return Optional.ofNullable(producer);
   }
 
-  public Optional<Producer> upsert(Producer producer) throws ValidationException {
-    return !read(producer.getKey()).isPresent() ? create(producer) : update(producer);
+  @Transactional(readOnly = true)
+  public Optional<Producer> read(ProducerKey key) {
+    return producerIndex.findById(key);
   }
 
-  public Optional<Producer> read(ProducerKey key) {
-    return producerRepository.findById(key);
+  @Transactional(readOnly = true)
+  public List<Producer> readAll(Collection<ProducerKey> keys) {
+    return producerIndex.findAllById(keys);
   }
 
+  @Transactional(readOnly = true)
   public List<Producer> findAll(Predicate<Producer> filter) {
-    return producerRepository.findAll().stream().filter(filter).collect(toList());
+    return producerIndex.findAll(filter);
+  }
+
+  @Transactional(readOnly = true)
+  public List<Producer> findAll(QuerySpec<Producer> query) {
+    return producerIndex.findAll(query);
+  }
+
+  @Transactional(readOnly = true)
+  public Page<Producer> findAll(QuerySpec<Producer> query, PageRequest page) {
+    return producerRepository.findAll(query, page);
+  }
+
+  @Transactional(readOnly = true)
+  public long count(QuerySpec<Producer> query) {
+    return producerRepository.count(query);
+  }
+
+  @Transactional(readOnly = true)
+  public long highWaterMark() {
+    return producerRepository.highWaterMark();
   }
 
   public void delete(Producer producer) {
     throw new UnsupportedOperationException();
   }
 
+  @Transactional(readOnly = true)
   public boolean exists(ProducerKey key) {
-    return read(key).isPresent();
+    return producerIndex.existsById(key);
+  }
+
+  @Transactional(readOnly = true)
+  public Set<ProducerKey> existing(Collection<ProducerKey> keys) {
+    return producerIndex.findExistingIds(keys);
   }
 }
@@ -16,25 +16,34 @@
 package com.expediagroup.streamplatform.streamregistry.core.services;
 
 import static com.expediagroup.streamplatform.streamregistry.core.events.EventType.CREATE;
+import static com.expediagroup.streamplatform.streamregistry.core.events.EventType.STATUS_UPDATE;
 import static com.expediagroup.streamplatform.streamregistry.core.events.EventType.UPDATE;
-import static java.util.stream.Collectors.toList;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import lombok.RequiredArgsConstructor;
 
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.expediagroup.streamplatform.streamregistry.core.events.EventType;
 import com.expediagroup.streamplatform.streamregistry.core.events.NotificationEventEmitter;
 import com.expediagroup.streamplatform.streamregistry.core.handlers.HandlerService;
+import com.expediagroup.streamplatform.streamregistry.core.readmodel.EntityIndex;
 import com.expediagroup.streamplatform.streamregistry.core.validators.SchemaValidator;
 import com.expediagroup.streamplatform.streamregistry.core.validators.ValidationException;
+import com.expediagroup.streamplatform.streamregistry.core.validators.Validator;
 import com.expediagroup.streamplatform.streamregistry.model.Schema;
+import com.expediagroup.streamplatform.streamregistry.model.Status;
 import com.expediagroup.streamplatform.streamregistry.model.keys.SchemaKey;
 import com.expediagroup.streamplatform.streamregistry.repository.SchemaRepository;
+import com.expediagroup.streamplatform.streamregistry.repository.query.Page;
+import com.expediagroup.streamplatform.streamregistry.repository.query.PageRequest;
+import com.expediagroup.streamplatform.streamregistry.repository.query.QuerySpec;
 
 @Component
 @RequiredArgsConstructor
@@ -42,50 +51,145 @@ public class SchemaService {
   private final HandlerService handlerService;
   private final SchemaValidator schemaValidator;
   private final SchemaRepository schemaRepository;
+  private final EntityIndex<SchemaKey, Schema> schemaIndex;
   private final NotificationEventEmitter<Schema> schemaServiceEventEmitter;
 
+  @Transactional
   public Optional<Schema> create(Schema schema) throws ValidationException {
     if (read(schema.getKey()).isPresent()) {
       throw new ValidationException("Can't create because it already exists");
     }
-    schemaValidator.validateForCreate(schema);
-    schema.setSpecification(handlerService.handleInsert(schema));
-    return save(schema, CREATE);
+    return insert(schema);
   }
 
+  @Transactional
   public Optional<Schema> update(Schema schema) throws ValidationException {
     var existing = read(schema.getKey());
     if (!existing.isPresent()) {
       throw new ValidationException("Can't update " + schema.getKey().getName() + " because it doesn't exist");
     }
-    schemaValidator.validateForUpdate(schema, existing.get());
-    schema.setSpecification(handlerService.handleUpdate(schema, existing.get()));
+    return update(schema, existing.get());
+  }
+
+  /**
+   * Replaces only the status, skipping validation, the handlers and the specification write, and emits a
+   * {@link EventType#STATUS_UPDATE} event.
+   */
+  @Transactional
+  public Optional<Schema> updateStatus(SchemaKey key, Status status, Long expectedVersion) throws ValidationException {
+    var existing = read(key);
+    if (!existing.isPresent()) {
+      throw new ValidationException("Can't update " + key + " because it doesn't exist");
+    }
+    ExpectedVersion.check(expectedVersion, existing.get());
+    var schema = schemaRepository.saveStatus(key, status, expectedVersion).map(schemaIndex::putOnCommit);
+    schema.ifPresent(updated -> schemaServiceEventEmitter.emitEventOnProcessedEntity(STATUS_UPDATE, updated));
+    return schema;
+  }
+
+  @Transactional
+  public Optional<Schema> upsert(Schema schema) throws ValidationException {
+    var existing = read(schema.getKey());
+    return existing.isPresent() ? update(schema, existing.get()) : insert(schema);
+  }
+
+  @Transactional
+  public List<BatchResult<Schema>> createAll(List<Schema> schemas) {
+    return batchWriter(schemaValidator.forBatch(schemas)).createAll(schemas);
+  }
+
+  @Transactional
+  public List<BatchResult<Schema>> upsertAll(List<Schema> schemas) {
+    return batchWriter(schemaValidator.forBatch(schemas)).upsertAll(schemas);
+  }
+
+  private Optional<Schema> insert(Schema schema) {
+    prepareInsert(schema, schemaValidator);
+    return save(schema, CREATE);
+  }
+
+  private Optional<Schema> update(Schema schema, Schema existing) {
+    prepareUpdate(schema, existing, schemaValidator);
     return save(schema, UPDATE);
   }
 
+  private void prepareInsert(Schema schema, Validator<Schema> validator) {
+    validator.validateForCreate(schema);
+    schema.setSpecification(handlerService.handleInsert(schema));
+  }
+
+  private void prepareUpdate(Schema schema, Schema existing, Validator<Schema> validator) {
+    ExpectedVersion.check(schema, existing);
+    if (schema.getStatus() == null) {
+      schema.setStatus(existing.getStatus());
+    }
+    validator.validateForUpdate(schema, existing);
+    schema.setSpecification(handlerService.handleUpdate(schema, existing));
+  }
+
+  private BatchWriter<SchemaKey, Schema> batchWriter(Validator<Schema> validator) {
+    return BatchWriter.<SchemaKey, Schema>builder()
+        .key(Schema::getKey)
+        .readAll(this::readAll)
+        .prepareInsert(schema -> prepareInsert(schema, validator))
+        .prepareUpdate((schema, existing) -> prepareUpdate(schema, existing, validator))
+        .saveAll(entities -> schemaIndex.putOnCommit(schemaRepository.saveAll(entities)))
+        .emitter(schemaServiceEventEmitter)
+        .build();
+  }
+
   private Optional<Schema> save(Schema schema, EventType eventType) {
-    schema = schemaRepository.save(schema);
+    schema = schemaIndex.putOnCommit(schemaRepository.save(schema));
     schemaServiceEventEmitter.emitEventOnProcessedEntity(eventType, schema);
     return Optional.ofNullable(schema);
   }
 
-  public Optional<Schema> upsert(Schema schema) throws ValidationException {
-    return !read(schema.getKey()).isPresent() ? create(schema) : update(schema);
+  @Transactional(readOnly = true)
+  public Optional<Schema> read(SchemaKey key) {
+    return schemaIndex.findById(key);
   }
 
-  public Optional<Schema> read(SchemaKey key) {
-    return schemaRepository.findById(key);
+  @Transactional(readOnly = true)
+  public List<Schema> readAll(Collection<SchemaKey> keys) {
+    return schemaIndex.findAllById(keys);
   }
 
+  @Transactional(readOnly = true)
   public List<Schema> findAll(Predicate<Schema> filter) {
-    return schemaRepository.findAll().stream().filter(filter).collect(toList());
+    return schemaIndex.findAll(filter);
+  }
+
+  @Transactional(readOnly = true)
+  public List<Schema> findAll(QuerySpec<Schema> query) {
+    return schemaIndex.findAll(query);
+  }
+
+  @Transactional(readOnly = true)
+  public Page<Schema> findAll(QuerySpec<Schema> query, PageRequest page) {
+    return schemaRepository.findAll(query, page);
+  }
+
+  @Transactional(readOnly = true)
+  public long count(QuerySpec<Schema> query) {
+    return schemaRepository.count(query);
+  }
+
+  @Transactional(readOnly = true)
+  public long highWaterMark() {
+    return schemaRepository.highWaterMark();
   }
 
   public void delete(Schema schema) {
     throw new UnsupportedOperationException();
   }
 
+  @Transactional(readOnly = true)
   public boolean exists(SchemaKey key) {
-    return read(key).isPresent();
+    return schemaIndex.existsById(key);
+  }
+
+  @Transactional(readOnly = true)
+  public Set<SchemaKey> existing(Collection<SchemaKey> keys) {
+    return schemaIndex.findExistingIds(keys);
   }
 }
@@ -16,25 +16,34 @@
 package com.expediagroup.streamplatform.streamregistry.core.services;
 
 import static com.expediagroup.streamplatform.streamregistry.core.events.EventType.CREATE;
+import static com.expediagroup.streamplatform.streamregistry.core.events.EventType.STATUS_UPDATE;
 import static com.expediagroup.streamplatform.streamregistry.core.events.EventType.UPDATE;
-import static java.util.stream.Collectors.toList;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import lombok.RequiredArgsConstructor;
 
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.expediagroup.streamplatform.streamregistry.core.events.EventType;
 import com.expediagroup.streamplatform.streamregistry.core.events.NotificationEventEmitter;
 import com.expediagroup.streamplatform.streamregistry.core.handlers.HandlerService;
+import com.expediagroup.streamplatform.streamregistry.core.readmodel.EntityIndex;
 import com.expediagroup.streamplatform.streamregistry.core.validators.StreamBindingValidator;
 import com.expediagroup.streamplatform.streamregistry.core.validators.ValidationException;
+import com.expediagroup.streamplatform.streamregistry.core.validators.Validator;
+import com.expediagroup.streamplatform.streamregistry.model.Status;
 import com.expediagroup.streamplatform.streamregistry.model.StreamBinding;
 import com.expediagroup.streamplatform.streamregistry.model.keys.StreamBindingKey;
 import com.expediagroup.streamplatform.streamregistry.repository.StreamBindingRepository;
+import com.expediagroup.streamplatform.streamregistry.repository.query.Page;
+import com.expediagroup.streamplatform.streamregistry.repository.query.PageRequest;
+import com.expediagroup.streamplatform.streamregistry.repository.query.QuerySpec;
 
 @Component
 @RequiredArgsConstructor
@@ -42,50 +51,145 @@ public class StreamBindingService {
   private final HandlerService handlerService;
   private final StreamBindingValidator streamBindingValidator;
   private final StreamBindingRepository streamBindingRepository;
+  private final EntityIndex<StreamBindingKey, StreamBinding> streamBindingIndex;
   private final NotificationEventEmitter<StreamBinding> streamBindingServiceEventEmitter;
 
+  @Transactional
   public Optional<StreamBinding> create(StreamBinding streamBinding) throws ValidationException {
     if (read(streamBinding.getKey()).isPresent()) {
       throw new ValidationException("Can't create because it already exists");
     }
-    streamBindingValidator.validateForCreate(streamBinding);
-    streamBinding.setSpecification(handlerService.handleInsert(streamBinding));
-    return save(streamBinding, CREATE);
+    return insert(streamBinding);
   }
 
+  @Transactional
   public Optional<StreamBinding> update(StreamBinding streamBinding) throws ValidationException {
     var existing = read(streamBinding.getKey());
     if (!existing.isPresent()) {
       throw new ValidationException("Can't update " + streamBinding.getKey() + " because it doesn't exist");
     }
-    streamBindingValidator.validateForUpdate(streamBinding, existing.get());
-    streamBinding.setSpecification(handlerService.handleUpdate(streamBinding, existing.get()));
+    return update(streamBinding, existing.get());
+  }
+
+  /**
+   * Replaces only the status, skipping validation, the handlers and the specification write, and emits a
+   * {@link EventType#STATUS_UPDATE} event.
+   */
+  @Transactional
+  public Optional<StreamBinding> updateStatus(StreamBindingKey key, Status status, Long expectedVersion) throws ValidationException {
+    var existing = read(key);
+    if (!existing.isPresent()) {
+      throw new ValidationException("Can't update " + key + " because it doesn't exist");
+    }
+    ExpectedVersion.check(expectedVersion, existing.get());
+    var streamBinding = streamBindingRepository.saveStatus(key, status, expectedVersion).map(streamBindingIndex::putOnCommit);
+    streamBinding.ifPresent(updated -> streamBindingServiceEventEmitter.emitEventOnProcessedEntity(STATUS_UPDATE, updated));
+    return streamBinding;
+  }
+
+  @Transactional
+  public Optional<StreamBinding> upsert(StreamBinding streamBinding) throws ValidationException {
+    var existing = read(streamBinding.getKey());
+    return existing.isPresent() ? update(streamBinding, existing.get()) : insert(streamBinding);
+  }
+
+  @Transactional
+  public List<BatchResult<StreamBinding>> createAll(List<StreamBinding> streamBindings) {
+    return batchWriter(streamBindingValidator.forBatch(streamBindings)).createAll(streamBindings);
+  }
+
+  @Transactional
+  public List<BatchResult<StreamBinding>> upsertAll(List<StreamBinding> streamBindings) {
+    return batchWriter(streamBindingValidator.forBatch(streamBindings)).upsertAll(streamBindings);
+  }
+
+  private Optional<StreamBinding> insert(StreamBinding streamBinding) {
+    prepareInsert(streamBinding, streamBindingValidator);
+    return save(streamBinding, CREATE);
+  }
+
+  private Optional<StreamBinding> update(StreamBinding streamBinding, StreamBinding existing) {
+    prepareUpdate(streamBinding, existing, streamBindingValidator);
     return save(streamBinding, UPDATE);
   }
 
+  private void prepareInsert(StreamBinding streamBinding, Validator<StreamBinding> validator) {
+    validator.validateForCreate(streamBinding);
+    streamBinding.setSpecification(handlerService.handleInsert(streamBinding));
+  }
+
+  private void prepareUpdate(StreamBinding streamBinding, StreamBinding existing, Validator<StreamBinding> validator) {
+    ExpectedVersion.check(streamBinding, existing);
+    if (streamBinding.getStatus() == null) {
+      streamBinding.setStatus(existing.getStatus());
+    }
+    validator.validateForUpdate(streamBinding, existing);
+    streamBinding.setSpecification(handlerService.handleUpdate(streamBinding, existing));
+  }
+
+  private BatchWriter<StreamBindingKey, StreamBinding> batchWriter(Validator<StreamBinding> validator) {
+    return BatchWriter.<StreamBindingKey, StreamBinding>builder()
+        .key(StreamBinding::getKey)
+        .readAll(this::readAll)
+        .prepareInsert(streamBinding -> prepareInsert(streamBinding, validator))
+        .prepareUpdate((streamBinding, existing) -> prepareUpdate(streamBinding, existing, validator))
+        .saveAll(entities -> streamBindingIndex.putOnCommit(streamBindingRepository.saveAll(entities)))
+        .emitter(streamBindingServiceEventEmitter)
+        .build();
+  }
+
   private Optional<StreamBinding> save(StreamBinding streamBinding, EventType eventType) {
-    streamBinding = streamBindingRepository.save(streamBinding);
+    streamBinding = streamBindingIndex.putOnCommit(streamBindingRepository.save(streamBinding));
     streamBindingServiceEventEmitter.emitEventOnProcessedEntity(eventType, streamBinding);
     return Optional.ofNullable(streamBinding);
   }
 
-  public Optional<StreamBinding> upsert(StreamBinding streamBinding) throws ValidationException {
-    return !read(streamBinding.getKey()).isPresent() ? create(streamBinding) : update(streamBinding);
+  @Transactional(readOnly = true)
+  public Optional<StreamBinding> read(StreamBindingKey key) {
+    return streamBindingIndex.findById(key);
   }
 
-  public Optional<StreamBinding> read(StreamBindingKey key) {
-    return streamBindingRepository.findById(key);
+  @Transactional(readOnly = true)
+  public List<StreamBinding> readAll(Collection<StreamBindingKey> keys) {
+    return streamBindingIndex.findAllById(keys);
   }
 
+  @Transactional(readOnly = true)
   public List<StreamBinding> findAll(Predicate<StreamBinding> filter) {
-    return streamBindingRepository.findAll().stream().filter(filter).collect(toList());
+    return streamBindingIndex.findAll(filter);
+  }
+
+  @Transactional(readOnly = true)
+  public List<StreamBinding> findAll(QuerySpec<StreamBinding> query) {
+    return streamBindingIndex.findAll(query);
+  }
+
+  @Transactional(readOnly = true)
+  public Page<StreamBinding> findAll(QuerySpec<StreamBinding> query, PageRequest page) {
+    return streamBindingRepository.findAll(query, page);
+  }
+
+  @Transactional(readOnly = true)
+  public long count(QuerySpec<StreamBinding> query) {
+    return streamBindingRepository.count(query);
+  }
+
+  @Transactional(readOnly = true)
+  public long highWaterMark() {
+    return streamBindingRepository.highWaterMark();
   }
 
   public void delete(StreamBinding streamBinding) {
     throw new UnsupportedOperationException();
   }
 
+  @Transactional(readOnly = true)
   public boolean exists(StreamBindingKey key) {
-    return read(key).isPresent();
+    return streamBindingIndex.existsById(key);
+  }
+
+  @Transactional(readOnly = true)
+  public Set<StreamBindingKey> existing(Collection<StreamBindingKey> keys) {
+    return streamBindingIndex.findExistingIds(keys);
   }
 }
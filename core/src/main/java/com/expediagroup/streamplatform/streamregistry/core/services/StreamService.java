@@ -16,25 +16,34 @@
 package com.expediagroup.streamplatform.streamregistry.core.services;
 
 import static com.expediagroup.streamplatform.streamregistry.core.events.EventType.CREATE;
+import static com.expediagroup.streamplatform.streamregistry.core.events.EventType.STATUS_UPDATE;
 import static com.expediagroup.streamplatform.streamregistry.core.events.EventType.UPDATE;
-import static java.util.stream.Collectors.toList;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import lombok.RequiredArgsConstructor;
 
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.expediagroup.streamplatform.streamregistry.core.events.EventType;
 import com.expediagroup.streamplatform.streamregistry.core.events.NotificationEventEmitter;
 import com.expediagroup.streamplatform.streamregistry.core.handlers.HandlerService;
+import com.expediagroup.streamplatform.streamregistry.core.readmodel.EntityIndex;
 import com.expediagroup.streamplatform.streamregistry.core.validators.StreamValidator;
 import com.expediagroup.streamplatform.streamregistry.core.validators.ValidationException;
+import com.expediagroup.streamplatform.streamregistry.core.validators.Validator;
+import com.expediagroup.streamplatform.streamregistry.model.Status;
 import com.expediagroup.streamplatform.streamregistry.model.Stream;
 import com.expediagroup.streamplatform.streamregistry.model.keys.StreamKey;
 import com.expediagroup.streamplatform.streamregistry.repository.StreamRepository;
+import com.expediagroup.streamplatform.streamregistry.repository.query.Page;
+import com.expediagroup.streamplatform.streamregistry.repository.query.PageRequest;
+import com.expediagroup.streamplatform.streamregistry.repository.query.QuerySpec;
 
 @Component
 @RequiredArgsConstructor
@@ -42,51 +51,146 @@ public class StreamService {
   private final HandlerService handlerService;
   private final StreamValidator streamValidator;
   private final StreamRepository streamRepository;
+  private final EntityIndex<StreamKey, Stream> streamIndex;
   private final NotificationEventEmitter<Stream> streamServiceEventEmitter;
 
+  @Transactional
   public Optional<Stream> create(Stream stream) throws ValidationException {
     if (read(stream.getKey()).isPresent()) {
       throw new ValidationException("Can't create because it already exists");
     }
-    streamValidator.validateForCreate(stream);
-    stream.setSpecification(handlerService.handleInsert(stream));
-    return save(stream, CREATE);
+    return insert(stream);
   }
 
+  @Transactional
   public Optional<Stream> update(Stream stream) throws ValidationException {
     var existing = read(stream.getKey());
     if (!existing.isPresent()) {
       throw new ValidationException("Can't update " + stream.getKey() + " because it doesn't exist");
     }
-    stream.setSchemaKey(existing.get().getSchemaKey());
-    streamValidator.validateForUpdate(stream, existing.get());
-    stream.setSpecification(handlerService.handleUpdate(stream, existing.get()));
+    return update(stream, existing.get());
+  }
+
+  /**
+   * Replaces only the status, skipping validation, the handlers and the specification write, and emits a
+   * {@link EventType#STATUS_UPDATE} event.
+   */
+  @Transactional
+  public Optional<Stream> updateStatus(StreamKey key, Status status, Long expectedVersion) throws ValidationException {
+    var existing = read(key);
+    if (!existing.isPresent()) {
+      throw new ValidationException("Can't update " + key + " because it doesn't exist");
+    }
+    ExpectedVersion.check(expectedVersion, existing.get());
+    var stream = streamRepository.saveStatus(key, status, expectedVersion).map(streamIndex::putOnCommit);
+    stream.ifPresent(updated -> streamServiceEventEmitter.emitEventOnProcessedEntity(STATUS_UPDATE, updated));
+    return stream;
+  }
+
+  @Transactional
+  public Optional<Stream> upsert(Stream stream) throws ValidationException {
+    var existing = read(stream.getKey());
+    return existing.isPresent() ? update(stream, existing.get()) : insert(stream);
+  }
+
+  @Transactional
+  public List<BatchResult<Stream>> createAll(List<Stream> streams) {
+    return batchWriter(streamValidator.forBatch(streams)).createAll(streams);
+  }
+
+  @Transactional
+  public List<BatchResult<Stream>> upsertAll(List<Stream> streams) {
+    return batchWriter(streamValidator.forBatch(streams)).upsertAll(streams);
+  }
+
+  private Optional<Stream> insert(Stream stream) {
+    prepareInsert(stream, streamValidator);
+    return save(stream, CREATE);
+  }
+
+  private Optional<Stream> update(Stream stream, Stream existing) {
+    prepareUpdate(stream, existing, streamValidator);
     return save(stream, UPDATE);
   }
 
+  private void prepareInsert(Stream stream, Validator<Stream> validator) {
+    validator.validateForCreate(stream);
+    stream.setSpecification(handlerService.handleInsert(stream));
+  }
+
+  private void prepareUpdate(Stream stream, Stream existing, Validator<Stream> validator) {
+    ExpectedVersion.check(stream, existing);
+    if (stream.getStatus() == null) {
+      stream.setStatus(existing.getStatus());
+    }
+    stream.setSchemaKey(existing.getSchemaKey());
+    validator.validateForUpdate(stream, existing);
+    stream.setSpecification(handlerService.handleUpdate(stream, existing));
+  }
+
+  private BatchWriter<StreamKey, Stream> batchWriter(Validator<Stream> validator) {
+    return BatchWriter.<StreamKey, Stream>builder()
+        .key(Stream::getKey)
+        .readAll(this::readAll)
+        .prepareInsert(stream -> prepareInsert(stream, validator))
+        .prepareUpdate((stream, existing) -> prepareUpdate(stream, existing, validator))
+        .saveAll(entities -> streamIndex.putOnCommit(streamRepository.saveAll(entities)))
+        .emitter(streamServiceEventEmitter)
+        .build();
+  }
+
   private Optional<Stream> save(Stream stream, EventType eventType) {
-    stream = streamRepository.save(stream);
+    stream = streamIndex.putOnCommit(streamRepository.save(stream));
     streamServiceEventEmitter.emitEventOnProcessedEntity(eventType, stream);
     return Optional.ofNullable(stream);
   }
 
-  public Optional<Stream> upsert(Stream stream) throws ValidationException {
-    return !read(stream.getKey()).isPresent() ? create(stream) : update(stream);
+  @Transactional(readOnly = true)
+  public Optional<Stream> read(StreamKey key) {
+    return streamIndex.findById(key);
   }
 
-  public Optional<Stream> read(StreamKey key) {
-    return streamRepository.findById(key);
+  @Transactional(readOnly = true)
+  public List<Stream> readAll(Collection<StreamKey> keys) {
+    return streamIndex.findAllById(keys);
   }
 
+  @Transactional(readOnly = true)
   public List<Stream> findAll(Predicate<Stream> filter) {
-    return streamRepository.findAll().stream().filter(filter).collect(toList());
+    return streamIndex.findAll(filter);
+  }
+
+  @Transactional(readOnly = true)
+  public List<Stream> findAll(QuerySpec<Stream> query) {
+    return streamIndex.findAll(query);
+  }
+
+  @Transactional(readOnly = true)
+  public Page<Stream> findAll(QuerySpec<Stream> query, PageRequest page) {
+    return streamRepository.findAll(query, page);
+  }
+
+  @Transactional(readOnly = true)
+  public long count(QuerySpec<Stream> query) {
+    return streamRepository.count(query);
+  }
+
+  @Transactional(readOnly = true)
+  public long highWaterMark() {
+    return streamRepository.highWaterMark();
   }
 
   public void delete(Stream stream) {
     throw new UnsupportedOperationException();
   }
 
+  @Transactional(readOnly = true)
   public boolean exists(StreamKey key) {
-    return read(key).isPresent();
+    return streamIndex.existsById(key);
+  }
+
+  @Transactional(readOnly = true)
+  public Set<StreamKey> existing(Collection<StreamKey> keys) {
+    return streamIndex.findExistingIds(keys);
   }
 }
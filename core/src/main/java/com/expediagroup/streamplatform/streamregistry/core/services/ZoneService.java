@@ -16,25 +16,34 @@
 package com.expediagroup.streamplatform.streamregistry.core.services;
 
 import static com.expediagroup.streamplatform.streamregistry.core.events.EventType.CREATE;
+import static com.expediagroup.streamplatform.streamregistry.core.events.EventType.STATUS_UPDATE;
 import static com.expediagroup.streamplatform.streamregistry.core.events.EventType.UPDATE;
-import static java.util.stream.Collectors.toList;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import lombok.RequiredArgsConstructor;
 
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.expediagroup.streamplatform.streamregistry.core.events.EventType;
 import com.expediagroup.streamplatform.streamregistry.core.events.NotificationEventEmitter;
 import com.expediagroup.streamplatform.streamregistry.core.handlers.HandlerService;
+import com.expediagroup.streamplatform.streamregistry.core.readmodel.EntityIndex;
 import com.expediagroup.streamplatform.streamregistry.core.validators.ValidationException;
+import com.expediagroup.streamplatform.streamregistry.core.validators.Validator;
 import com.expediagroup.streamplatform.streamregistry.core.validators.ZoneValidator;
+import com.expediagroup.streamplatform.streamregistry.model.Status;
 import com.expediagroup.streamplatform.streamregistry.model.Zone;
 import com.expediagroup.streamplatform.streamregistry.model.keys.ZoneKey;
 import com.expediagroup.streamplatform.streamregistry.repository.ZoneRepository;
+import com.expediagroup.streamplatform.streamregistry.repository.query.Page;
+import com.expediagroup.streamplatform.streamregistry.repository.query.PageRequest;
+import com.expediagroup.streamplatform.streamregistry.repository.query.QuerySpec;
 
 @Component
 @RequiredArgsConstructor
@@ -42,50 +51,145 @@ public class ZoneService {
   private final HandlerService handlerService;
   private final ZoneValidator zoneValidator;
   private final ZoneRepository zoneRepository;
+  private final EntityIndex<ZoneKey, Zone> zoneIndex;
   private final NotificationEventEmitter<Zone> zoneServiceEventEmitter;
 
+  @Transactional
   public Optional<Zone> create(Zone zone) throws ValidationException {
     if (read(zone.getKey()).isPresent()) {
       throw new ValidationException("Can't create because it already exists");
     }
-    zoneValidator.validateForCreate(zone);
-    zone.setSpecification(handlerService.handleInsert(zone));
-    return save(zone, CREATE);
+    return insert(zone);
   }
 
+  @Transactional
   public Optional<Zone> update(Zone zone) throws ValidationException {
     var existing = read(zone.getKey());
     if (!existing.isPresent()) {
       throw new ValidationException("Can't update " + zone.getKey().getName() + " because it doesn't exist");
     }
-    zoneValidator.validateForUpdate(zone, existing.get());
-    zone.setSpecification(handlerService.handleUpdate(zone, existing.get()));
+    return update(zone, existing.get());
+  }
+
+  /**
+   * Replaces only the status, skipping validation, the handlers and the specification write, and emits a
+   * {@link EventType#STATUS_UPDATE} event.
+   */
+  @Transactional
+  public Optional<Zone> updateStatus(ZoneKey key, Status status, Long expectedVersion) throws ValidationException {
+    var existing = read(key);
+    if (!existing.isPresent()) {
+      throw new ValidationException("Can't update " + key + " because it doesn't exist");
+    }
+    ExpectedVersion.check(expectedVersion, existing.get());
+    var zone = zoneRepository.saveStatus(key, status, expectedVersion).map(zoneIndex::putOnCommit);
+    zone.ifPresent(updated -> zoneServiceEventEmitter.emitEventOnProcessedEntity(STATUS_UPDATE, updated));
+    return zone;
+  }
+
+  @Transactional
+  public Optional<Zone> upsert(Zone zone) throws ValidationException {
+    var existing = read(zone.getKey());
+    return existing.isPresent() ? update(zone, existing.get()) : insert(zone);
+  }
+
+  @Transactional
+  public List<BatchResult<Zone>> createAll(List<Zone> zones) {
+    return batchWriter(zoneValidator.forBatch(zones)).createAll(zones);
+  }
+
+  @Transactional
+  public List<BatchResult<Zone>> upsertAll(List<Zone> zones) {
+    return batchWriter(zoneValidator.forBatch(zones)).upsertAll(zones);
+  }
+
+  private Optional<Zone> insert(Zone zone) {
+    prepareInsert(zone, zoneValidator);
+    return save(zone, CREATE);
+  }
+
+  private Optional<Zone> update(Zone zone, Zone existing) {
+    prepareUpdate(zone, existing, zoneValidator);
     return save(zone, UPDATE);
   }
 
+  private void prepareInsert(Zone zone, Validator<Zone> validator) {
+    validator.validateForCreate(zone);
+    zone.setSpecification(handlerService.handleInsert(zone));
+  }
+
+  private void prepareUpdate(Zone zone, Zone existing, Validator<Zone> validator) {
+    ExpectedVersion.check(zone, existing);
+    if (zone.getStatus() == null) {
+      zone.setStatus(existing.getStatus());
+    }
+    validator.validateForUpdate(zone, existing);
+    zone.setSpecification(handlerService.handleUpdate(zone, existing));
+  }
+
+  private BatchWriter<ZoneKey, Zone> batchWriter(Validator<Zone> validator) {
+    return BatchWriter.<ZoneKey, Zone>builder()
+        .key(Zone::getKey)
+        .readAll(this::readAll)
+        .prepareInsert(zone -> prepareInsert(zone, validator))
+        .prepareUpdate((zone, existing) -> prepareUpdate(zone, existing, validator))
+        .saveAll(entities -> zoneIndex.putOnCommit(zoneRepository.saveAll(entities)))
+        .emitter(zoneServiceEventEmitter)
+        .build();
+  }
+
   private Optional<Zone> save(Zone zone, EventType eventType) {
-    zone = zoneRepository.save(zone);
+    zone = zoneIndex.putOnCommit(zoneRepository.save(zone));
     zoneServiceEventEmitter.emitEventOnProcessedEntity(eventType, zone);
     return Optional.ofNullable(zone);
   }
 
-  public Optional<Zone> upsert(Zone zone) throws ValidationException {
-    return !read(zone.getKey()).isPresent() ? create(zone) : update(zone);
+  @Transactional(readOnly = true)
+  public Optional<Zone> read(ZoneKey key) {
+    return zoneIndex.findById(key);
   }
 
-  public Optional<Zone> read(ZoneKey key) {
-    return zoneRepository.findById(key);
+  @Transactional(readOnly = true)
+  public List<Zone> readAll(Collection<ZoneKey> keys) {
+    return zoneIndex.findAllById(keys);
   }
 
+  @Transactional(readOnly = true)
   public List<Zone> findAll(Predicate<Zone> filter) {
-    return zoneRepository.findAll().stream().filter(filter).collect(toList());
+    return zoneIndex.findAll(filter);
+  }
+
+  @Transactional(readOnly = true)
+  public List<Zone> findAll(QuerySpec<Zone> query) {
+    return zoneIndex.findAll(query);
+  }
+
+  @Transactional(readOnly = true)
+  public Page<Zone> findAll(QuerySpec<Zone> query, PageRequest page) {
+    return zoneRepository.findAll(query, page);
+  }
+
+  @Transactional(readOnly = true)
+  public long count(QuerySpec<Zone> query) {
+    return zoneRepository.count(query);
+  }
+
+  @Transactional(readOnly = true)
+  public long highWaterMark() {
+    return zoneRepository.highWaterMark();
   }
 
   public void delete(Zone zone) {
     throw new UnsupportedOperationException();
   }
 
+  @Transactional(readOnly = true)
   public boolean exists(ZoneKey key) {
-    return read(key).isPresent();
+    return zoneIndex.existsById(key);
+  }
+
+  @Transactional(readOnly = true)
+  public Set<ZoneKey> existing(Collection<ZoneKey> keys) {
+    return zoneIndex.findExistingIds(keys);
   }
 }
@@ -15,6 +15,9 @@
  */
 package com.expediagroup.streamplatform.streamregistry.core.validators;
 
+import java.util.List;
+import java.util.function.Predicate;
+
 import lombok.RequiredArgsConstructor;
 
 import org.springframework.stereotype.Component;
@@ -22,6 +25,8 @@ import org.springframework.stereotype.Component;
 import com.expediagroup.streamplatform.streamregistry.core.services.ConsumerService;
 import com.expediagroup.streamplatform.streamregistry.core.services.StreamBindingService;
 import com.expediagroup.streamplatform.streamregistry.model.ConsumerBinding;
+import com.expediagroup.streamplatform.streamregistry.model.keys.ConsumerKey;
+import com.expediagroup.streamplatform.streamregistry.model.keys.StreamBindingKey;
 
 @Component
 @RequiredArgsConstructor
@@ -42,12 +47,35 @@ public class ConsumerBindingValidator implements Validator<ConsumerBinding> {
     specificationValidator.validateForUpdate(consumerbinding.getSpecification(), existing.getSpecification());
   }
 
-  private void validateForCreateAndUpdate(ConsumerBinding consumerbinding) {
-    if (!consumerService.exists(consumerbinding.getKey().getConsumerKey())) {
+  private void validateForCreateAndUpdate(ConsumerBinding consumerbinding) throws ValidationException {
+    validateForCreateAndUpdate(consumerbinding, consumerService::exists, streamBindingService::exists);
+  }
+
+  @Override
+  public Validator<ConsumerBinding> forBatch(List<ConsumerBinding> consumerbindings) {
+    ExistingKeys<ConsumerKey> consumers = ExistingKeys.of(consumerbindings, consumerbinding -> consumerbinding.getKey().getConsumerKey(), consumerService::existing, consumerService::exists);
+    ExistingKeys<StreamBindingKey> streamBindings = ExistingKeys.of(consumerbindings, consumerbinding -> consumerbinding.getKey().getStreamBindingKey(), streamBindingService::existing, streamBindingService::exists);
+    return new Validator<>() {
+      @Override
+      public void validateForCreate(ConsumerBinding consumerbinding) throws ValidationException {
+        validateForCreateAndUpdate(consumerbinding, consumers, streamBindings);
+        specificationValidator.validateForCreate(consumerbinding.getSpecification());
+      }
+
+      @Override
+      public void validateForUpdate(ConsumerBinding consumerbinding, ConsumerBinding existing) throws ValidationException {
+        validateForCreateAndUpdate(consumerbinding, consumers, streamBindings);
+        specificationValidator.validateForUpdate(consumerbinding.getSpecification(), existing.getSpecification());
+      }
+    };
+  }
+
+  private static void validateForCreateAndUpdate(ConsumerBinding consumerbinding, Predicate<ConsumerKey> consumerExists, Predicate<StreamBindingKey> streamBindingExists) throws ValidationException {
+    if (!consumerExists.test(consumerbinding.getKey().getConsumerKey())) {
       throw new ValidationException("Consumer does not exist");
     }
-    if (!streamBindingService.exists(consumerbinding.getKey().getStreamBindingKey())) {
+    if (!streamBindingExists.test(consumerbinding.getKey().getStreamBindingKey())) {
       throw new ValidationException("StreamBinding does not exist");
     }
   }
-}
\ No newline at end of file
+}
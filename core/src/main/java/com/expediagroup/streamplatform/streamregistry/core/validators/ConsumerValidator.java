@@ -15,6 +15,9 @@
  */
 package com.expediagroup.streamplatform.streamregistry.core.validators;
 
+import java.util.List;
+import java.util.function.Predicate;
+
 import lombok.RequiredArgsConstructor;
 
 import org.springframework.stereotype.Component;
@@ -22,6 +25,8 @@ import org.springframework.stereotype.Component;
 import com.expediagroup.streamplatform.streamregistry.core.services.StreamService;
 import com.expediagroup.streamplatform.streamregistry.core.services.ZoneService;
 import com.expediagroup.streamplatform.streamregistry.model.Consumer;
+import com.expediagroup.streamplatform.streamregistry.model.keys.StreamKey;
+import com.expediagroup.streamplatform.streamregistry.model.keys.ZoneKey;
 
 @Component
 @RequiredArgsConstructor
@@ -43,12 +48,34 @@ public class ConsumerValidator implements Validator<Consumer> {
   }
 
   public void validateForCreateAndUpdate(Consumer consumer) throws ValidationException {
-    if (!streamService.exists(consumer.getKey().getStreamKey())) {
+    validateForCreateAndUpdate(consumer, streamService::exists, zoneService::exists);
+  }
+
+  @Override
+  public Validator<Consumer> forBatch(List<Consumer> consumers) {
+    ExistingKeys<StreamKey> streams = ExistingKeys.of(consumers, consumer -> consumer.getKey().getStreamKey(), streamService::existing, streamService::exists);
+    ExistingKeys<ZoneKey> zones = ExistingKeys.of(consumers, consumer -> consumer.getKey().getZoneKey(), zoneService::existing, zoneService::exists);
+    return new Validator<>() {
+      @Override
+      public void validateForCreate(Consumer consumer) throws ValidationException {
+        validateForCreateAndUpdate(consumer, streams, zones);
+        specificationValidator.validateForCreate(consumer.getSpecification());
+      }
+
+      @Override
+      public void validateForUpdate(Consumer consumer, Consumer existing) throws ValidationException {
+        validateForCreateAndUpdate(consumer, streams, zones);
+        specificationValidator.validateForUpdate(consumer.getSpecification(), existing.getSpecification());
+      }
+    };
+  }
+
+  private static void validateForCreateAndUpdate(Consumer consumer, Predicate<StreamKey> streamExists, Predicate<ZoneKey> zoneExists) throws ValidationException {
+    if (!streamExists.test(consumer.getKey().getStreamKey())) {
       throw new ValidationException("Stream does not exist");
     }
-    if (!zoneService.exists(consumer.getKey().getZoneKey())) {
+    if (!zoneExists.test(consumer.getKey().getZoneKey())) {
       throw new ValidationException("Zone does not exist");
     }
   }
-
-}
\ No newline at end of file
+}
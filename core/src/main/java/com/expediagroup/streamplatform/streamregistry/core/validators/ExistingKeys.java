@@ -0,0 +1,49 @@
+/**
+ * Copyright (C) 2018-2020 Expedia, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.expediagroup.streamplatform.streamregistry.core.validators;
+
+import static java.util.stream.Collectors.toSet;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Existence of the keys referenced by a batch of entities, looked up with a single query. Keys that were not
+ * referenced when the batch was prepared fall back to a lookup of their own.
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+class ExistingKeys<K> implements Predicate<K> {
+  private final Set<K> requested;
+  private final Set<K> existing;
+  private final Predicate<K> exists;
+
+  static <T, K> ExistingKeys<K> of(List<T> entities, Function<T, K> key, Function<Collection<K>, Set<K>> existing, Predicate<K> exists) {
+    Set<K> requested = entities.stream().map(key).filter(Objects::nonNull).collect(toSet());
+    return new ExistingKeys<>(requested, requested.isEmpty() ? Set.of() : existing.apply(requested), exists);
+  }
+
+  @Override
+  public boolean test(K key) {
+    return requested.contains(key) ? existing.contains(key) : exists.test(key);
+  }
+}
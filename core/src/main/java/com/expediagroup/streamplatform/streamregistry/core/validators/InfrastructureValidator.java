@@ -15,12 +15,16 @@
  */
 package com.expediagroup.streamplatform.streamregistry.core.validators;
 
+import java.util.List;
+import java.util.function.Predicate;
+
 import lombok.RequiredArgsConstructor;
 
 import org.springframework.stereotype.Component;
 
 import com.expediagroup.streamplatform.streamregistry.core.services.ZoneService;
 import com.expediagroup.streamplatform.streamregistry.model.Infrastructure;
+import com.expediagroup.streamplatform.streamregistry.model.keys.ZoneKey;
 
 @Component
 @RequiredArgsConstructor
@@ -41,9 +45,30 @@ public class InfrastructureValidator implements Validator<Infrastructure> {
   }
 
   public void validateForCreateAndUpdate(Infrastructure infrastructure) throws ValidationException {
-    if (!zoneService.exists(infrastructure.getKey().getZoneKey())) {
+    validateForCreateAndUpdate(infrastructure, zoneService::exists);
+  }
+
+  @Override
+  public Validator<Infrastructure> forBatch(List<Infrastructure> infrastructures) {
+    ExistingKeys<ZoneKey> zones = ExistingKeys.of(infrastructures, infrastructure -> infrastructure.getKey().getZoneKey(), zoneService::existing, zoneService::exists);
+    return new Validator<>() {
+      @Override
+      public void validateForCreate(Infrastructure infrastructure) throws ValidationException {
+        validateForCreateAndUpdate(infrastructure, zones);
+        specificationValidator.validateForCreate(infrastructure.getSpecification());
+      }
+
+      @Override
+      public void validateForUpdate(Infrastructure infrastructure, Infrastructure existing) throws ValidationException {
+        validateForCreateAndUpdate(infrastructure, zones);
+        specificationValidator.validateForUpdate(infrastructure.getSpecification(), existing.getSpecification());
+      }
+    };
+  }
+
+  private static void validateForCreateAndUpdate(Infrastructure infrastructure, Predicate<ZoneKey> zoneExists) throws ValidationException {
+    if (!zoneExists.test(infrastructure.getKey().getZoneKey())) {
       throw new ValidationException("Zone does not exist");
     }
   }
-
-}
\ No newline at end of file
+}
@@ -15,12 +15,16 @@
  */
 package com.expediagroup.streamplatform.streamregistry.core.validators;
 
+import java.util.List;
+import java.util.function.Predicate;
+
 import lombok.RequiredArgsConstructor;
 
 import org.springframework.stereotype.Component;
 
 import com.expediagroup.streamplatform.streamregistry.core.services.ProducerService;
 import com.expediagroup.streamplatform.streamregistry.model.ProducerBinding;
+import com.expediagroup.streamplatform.streamregistry.model.keys.ProducerKey;
 
 @Component
 @RequiredArgsConstructor
@@ -41,8 +45,30 @@ public class ProducerBindingValidator implements Validator<ProducerBinding> {
   }
 
   public void validateForCreateAndUpdate(ProducerBinding producerbinding) throws ValidationException {
-    if (!producerService.exists(producerbinding.getKey().getProducerKey())) {
+    validateForCreateAndUpdate(producerbinding, producerService::exists);
+  }
+
+  @Override
+  public Validator<ProducerBinding> forBatch(List<ProducerBinding> producerbindings) {
+    ExistingKeys<ProducerKey> producers = ExistingKeys.of(producerbindings, producerbinding -> producerbinding.getKey().getProducerKey(), producerService::existing, producerService::exists);
+    return new Validator<>() {
+      @Override
+      public void validateForCreate(ProducerBinding producerbinding) throws ValidationException {
+        validateForCreateAndUpdate(producerbinding, producers);
+        specificationValidator.validateForCreate(producerbinding.getSpecification());
+      }
+
+      @Override
+      public void validateForUpdate(ProducerBinding producerbinding, ProducerBinding existing) throws ValidationException {
+        validateForCreateAndUpdate(producerbinding, producers);
+        specificationValidator.validateForUpdate(producerbinding.getSpecification(), existing.getSpecification());
+      }
+    };
+  }
+
+  private static void validateForCreateAndUpdate(ProducerBinding producerbinding, Predicate<ProducerKey> producerExists) throws ValidationException {
+    if (!producerExists.test(producerbinding.getKey().getProducerKey())) {
       throw new ValidationException("Producer does not exist");
     }
   }
-}
\ No newline at end of file
+}
@@ -15,6 +15,9 @@
  */
 package com.expediagroup.streamplatform.streamregistry.core.validators;
 
+import java.util.List;
+import java.util.function.Predicate;
+
 import lombok.RequiredArgsConstructor;
 
 import org.springframework.stereotype.Component;
@@ -22,6 +25,8 @@ import org.springframework.stereotype.Component;
 import com.expediagroup.streamplatform.streamregistry.core.services.StreamService;
 import com.expediagroup.streamplatform.streamregistry.core.services.ZoneService;
 import com.expediagroup.streamplatform.streamregistry.model.Producer;
+import com.expediagroup.streamplatform.streamregistry.model.keys.StreamKey;
+import com.expediagroup.streamplatform.streamregistry.model.keys.ZoneKey;
 
 @Component
 @RequiredArgsConstructor
@@ -43,12 +48,34 @@ public class ProducerValidator implements Validator<Producer> {
   }
 
   public void validateForCreateAndUpdate(Producer producer) throws ValidationException {
-    if (!streamService.exists(producer.getKey().getStreamKey())) {
+    validateForCreateAndUpdate(producer, streamService::exists, zoneService::exists);
+  }
+
+  @Override
+  public Validator<Producer> forBatch(List<Producer> producers) {
+    ExistingKeys<StreamKey> streams = ExistingKeys.of(producers, producer -> producer.getKey().getStreamKey(), streamService::existing, streamService::exists);
+    ExistingKeys<ZoneKey> zones = ExistingKeys.of(producers, producer -> producer.getKey().getZoneKey(), zoneService::existing, zoneService::exists);
+    return new Validator<>() {
+      @Override
+      public void validateForCreate(Producer producer) throws ValidationException {
+        validateForCreateAndUpdate(producer, streams, zones);
+        specificationValidator.validateForCreate(producer.getSpecification());
+      }
+
+      @Override
+      public void validateForUpdate(Producer producer, Producer existing) throws ValidationException {
+        validateForCreateAndUpdate(producer, streams, zones);
+        specificationValidator.validateForUpdate(producer.getSpecification(), existing.getSpecification());
+      }
+    };
+  }
+
+  private static void validateForCreateAndUpdate(Producer producer, Predicate<StreamKey> streamExists, Predicate<ZoneKey> zoneExists) throws ValidationException {
+    if (!streamExists.test(producer.getKey().getStreamKey())) {
       throw new ValidationException("Stream does not exist");
     }
-    if (!zoneService.exists(producer.getKey().getZoneKey())) {
+    if (!zoneExists.test(producer.getKey().getZoneKey())) {
       throw new ValidationException("Zone does not exist");
     }
   }
-
-}
\ No newline at end of file
+}
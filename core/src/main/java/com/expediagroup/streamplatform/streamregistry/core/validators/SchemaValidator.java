@@ -15,12 +15,16 @@
  */
 package com.expediagroup.streamplatform.streamregistry.core.validators;
 
+import java.util.List;
+import java.util.function.Predicate;
+
 import lombok.RequiredArgsConstructor;
 
 import org.springframework.stereotype.Component;
 
 import com.expediagroup.streamplatform.streamregistry.core.services.DomainService;
 import com.expediagroup.streamplatform.streamregistry.model.Schema;
+import com.expediagroup.streamplatform.streamregistry.model.keys.DomainKey;
 
 @Component
 @RequiredArgsConstructor
@@ -41,8 +45,30 @@ public class SchemaValidator implements Validator<Schema> {
   }
 
   public void validateForCreateAndUpdate(Schema schema) throws ValidationException {
-    if (!domainService.exists(schema.getKey().getDomainKey())) {
+    validateForCreateAndUpdate(schema, domainService::exists);
+  }
+
+  @Override
+  public Validator<Schema> forBatch(List<Schema> schemas) {
+    ExistingKeys<DomainKey> domains = ExistingKeys.of(schemas, schema -> schema.getKey().getDomainKey(), domainService::existing, domainService::exists);
+    return new Validator<>() {
+      @Override
+      public void validateForCreate(Schema schema) throws ValidationException {
+        validateForCreateAndUpdate(schema, domains);
+        specificationValidator.validateForCreate(schema.getSpecification());
+      }
+
+      @Override
+      public void validateForUpdate(Schema schema, Schema existing) throws ValidationException {
+        validateForCreateAndUpdate(schema, domains);
+        specificationValidator.validateForUpdate(schema.getSpecification(), existing.getSpecification());
+      }
+    };
+  }
+
+  private static void validateForCreateAndUpdate(Schema schema, Predicate<DomainKey> domainExists) throws ValidationException {
+    if (!domainExists.test(schema.getKey().getDomainKey())) {
       throw new ValidationException("Domain does not exist");
     }
   }
-}
\ No newline at end of file
+}
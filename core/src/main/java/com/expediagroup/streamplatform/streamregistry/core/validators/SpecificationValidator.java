@@ -18,11 +18,13 @@ package com.expediagroup.streamplatform.streamregistry.core.validators;
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
 
+import java.util.HashSet;
 import java.util.Objects;
 
 import org.springframework.stereotype.Component;
 
 import com.expediagroup.streamplatform.streamregistry.model.Specification;
+import com.expediagroup.streamplatform.streamregistry.model.Tag;
 
 
 @Component
@@ -43,5 +45,19 @@ public class SpecificationValidator implements Validator<Specification> {
   private void validateForCreateAndUpdate(Specification specification) {
     checkNotNull(specification.getConfiguration(), "Configuration must not be null.");
     checkNotNull(specification.getType(), "Type must not be null.");
+    validateTags(specification);
+  }
+
+  // Tags are stored by name, so a null or repeated name could not be stored as given.
+  private void validateTags(Specification specification) throws ValidationException {
+    var names = new HashSet<String>();
+    for (Tag tag : specification.getTags()) {
+      if (tag == null || tag.getName() == null) {
+        throw new ValidationException("Tag name must not be null.");
+      }
+      if (!names.add(tag.getName())) {
+        throw new ValidationException("Tag name '" + tag.getName() + "' must not be repeated.");
+      }
+    }
   }
 }
\ No newline at end of file
@@ -15,6 +15,9 @@
  */
 package com.expediagroup.streamplatform.streamregistry.core.validators;
 
+import java.util.List;
+import java.util.function.Predicate;
+
 import lombok.RequiredArgsConstructor;
 
 import org.springframework.stereotype.Component;
@@ -22,6 +25,8 @@ import org.springframework.stereotype.Component;
 import com.expediagroup.streamplatform.streamregistry.core.services.InfrastructureService;
 import com.expediagroup.streamplatform.streamregistry.core.services.StreamService;
 import com.expediagroup.streamplatform.streamregistry.model.StreamBinding;
+import com.expediagroup.streamplatform.streamregistry.model.keys.InfrastructureKey;
+import com.expediagroup.streamplatform.streamregistry.model.keys.StreamKey;
 
 @Component
 @RequiredArgsConstructor
@@ -43,12 +48,34 @@ public class StreamBindingValidator implements Validator<StreamBinding> {
   }
 
   private void validateForCreateAndUpdate(StreamBinding streambinding) throws ValidationException {
-    if (!streamService.exists(streambinding.getKey().getStreamKey())) {
+    validateForCreateAndUpdate(streambinding, streamService::exists, infrastructureService::exists);
+  }
+
+  @Override
+  public Validator<StreamBinding> forBatch(List<StreamBinding> streambindings) {
+    ExistingKeys<StreamKey> streams = ExistingKeys.of(streambindings, streambinding -> streambinding.getKey().getStreamKey(), streamService::existing, streamService::exists);
+    ExistingKeys<InfrastructureKey> infrastructures = ExistingKeys.of(streambindings, streambinding -> streambinding.getKey().getInfrastructureKey(), infrastructureService::existing, infrastructureService::exists);
+    return new Validator<>() {
+      @Override
+      public void validateForCreate(StreamBinding streambinding) throws ValidationException {
+        validateForCreateAndUpdate(streambinding, streams, infrastructures);
+        specificationValidator.validateForCreate(streambinding.getSpecification());
+      }
+
+      @Override
+      public void validateForUpdate(StreamBinding streambinding, StreamBinding existing) throws ValidationException {
+        validateForCreateAndUpdate(streambinding, streams, infrastructures);
+        specificationValidator.validateForUpdate(streambinding.getSpecification(), existing.getSpecification());
+      }
+    };
+  }
+
+  private static void validateForCreateAndUpdate(StreamBinding streambinding, Predicate<StreamKey> streamExists, Predicate<InfrastructureKey> infrastructureExists) throws ValidationException {
+    if (!streamExists.test(streambinding.getKey().getStreamKey())) {
       throw new ValidationException("Stream does not exist");
     }
-    if (!infrastructureService.exists(streambinding.getKey().getInfrastructureKey())) {
+    if (!infrastructureExists.test(streambinding.getKey().getInfrastructureKey())) {
       throw new ValidationException("Infrastructure does not exist");
     }
   }
-
 }
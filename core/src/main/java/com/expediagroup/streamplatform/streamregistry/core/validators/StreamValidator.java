@@ -15,6 +15,9 @@
  */
 package com.expediagroup.streamplatform.streamregistry.core.validators;
 
+import java.util.List;
+import java.util.function.Predicate;
+
 import lombok.RequiredArgsConstructor;
 
 import org.springframework.stereotype.Component;
@@ -22,6 +25,8 @@ import org.springframework.stereotype.Component;
 import com.expediagroup.streamplatform.streamregistry.core.services.DomainService;
 import com.expediagroup.streamplatform.streamregistry.core.services.SchemaService;
 import com.expediagroup.streamplatform.streamregistry.model.Stream;
+import com.expediagroup.streamplatform.streamregistry.model.keys.DomainKey;
+import com.expediagroup.streamplatform.streamregistry.model.keys.SchemaKey;
 
 @Component
 @RequiredArgsConstructor
@@ -43,21 +48,36 @@ public class StreamValidator implements Validator<Stream> {
   }
 
   public void validateForCreateAndUpdate(Stream stream) throws ValidationException {
-    requireExistingDomain(stream);
-    requireExistingSchema(stream);
+    validateForCreateAndUpdate(stream, domainService::exists, schemaService::exists);
   }
 
-  private void requireExistingDomain(Stream stream) {
-    if (!domainService.exists(stream.getKey().getDomainKey())) {
-      throw new ValidationException("Domain does not exist");
-    }
+  @Override
+  public Validator<Stream> forBatch(List<Stream> streams) {
+    ExistingKeys<DomainKey> domains = ExistingKeys.of(streams, stream -> stream.getKey().getDomainKey(), domainService::existing, domainService::exists);
+    ExistingKeys<SchemaKey> schemas = ExistingKeys.of(streams, Stream::getSchemaKey, schemaService::existing, schemaService::exists);
+    return new Validator<>() {
+      @Override
+      public void validateForCreate(Stream stream) throws ValidationException {
+        validateForCreateAndUpdate(stream, domains, schemas);
+        specificationValidator.validateForCreate(stream.getSpecification());
+      }
+
+      @Override
+      public void validateForUpdate(Stream stream, Stream existing) throws ValidationException {
+        validateForCreateAndUpdate(stream, domains, schemas);
+        specificationValidator.validateForUpdate(stream.getSpecification(), existing.getSpecification());
+      }
+    };
   }
 
-  private void requireExistingSchema(Stream stream) {
+  private static void validateForCreateAndUpdate(Stream stream, Predicate<DomainKey> domainExists, Predicate<SchemaKey> schemaExists) throws ValidationException {
+    if (!domainExists.test(stream.getKey().getDomainKey())) {
+      throw new ValidationException("Domain does not exist");
+    }
     if (stream.getSchemaKey() == null) {
       throw new ValidationException("Schema must be specified");
     }
-    if (!schemaService.exists(stream.getSchemaKey())) {
+    if (!schemaExists.test(stream.getSchemaKey())) {
       throw new ValidationException("Schema does not exist");
     }
   }
@@ -15,9 +15,19 @@
  */
 package com.expediagroup.streamplatform.streamregistry.core.validators;
 
+import java.util.List;
+
 public interface Validator<T> {
 
   void validateForCreate(T type) throws ValidationException;
 
   void validateForUpdate(T type, T existing) throws ValidationException;
+
+  /**
+   * A validator for a batch of entities, which may check what the whole batch references up front (e.g. one
+   * existence query per parent type) instead of once per entity.
+   */
+  default Validator<T> forBatch(List<T> entities) {
+    return this;
+  }
 }
@@ -0,0 +1,74 @@
+/**
+ * Copyright (C) 2018-2020 Expedia, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.expediagroup.streamplatform.streamregistry.core.events;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import org.junit.After;
+import org.junit.Test;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.event.ApplicationEventMulticaster;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.expediagroup.streamplatform.streamregistry.model.Domain;
+
+public class DefaultNotificationEventEmitterTest {
+  private final ApplicationEventMulticaster multicaster = mock(ApplicationEventMulticaster.class);
+  private final DefaultNotificationEventEmitter<Domain> underTest = DefaultNotificationEventEmitter.<Domain>builder()
+      .classType(Domain.class)
+      .applicationEventMulticaster(multicaster)
+      .build();
+
+  @After
+  public void after() {
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.clearSynchronization();
+    }
+  }
+
+  @Test
+  public void multicastsImmediatelyOutsideATransaction() {
+    underTest.emitEventOnProcessedEntity(EventType.CREATE, new Domain());
+
+    verify(multicaster).multicastEvent(any(ApplicationEvent.class));
+  }
+
+  @Test
+  public void multicastsAfterCommit() {
+    TransactionSynchronizationManager.initSynchronization();
+
+    underTest.emitEventOnProcessedEntity(EventType.CREATE, new Domain());
+    verify(multicaster, never()).multicastEvent(any(ApplicationEvent.class));
+
+    TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+    verify(multicaster).multicastEvent(any(ApplicationEvent.class));
+  }
+
+  @Test
+  public void doesNotMulticastOnRollback() {
+    TransactionSynchronizationManager.initSynchronization();
+
+    underTest.emitEventOnProcessedEntity(EventType.CREATE, new Domain());
+    TransactionSynchronizationManager.getSynchronizations()
+        .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+    verify(multicaster, never()).multicastEvent(any(ApplicationEvent.class));
+  }
+}
@@ -0,0 +1,109 @@
+/**
+ * Copyright (C) 2018-2020 Expedia, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.expediagroup.streamplatform.streamregistry.core.events;
+
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.junit.After;
+import org.junit.Test;
+
+import com.expediagroup.streamplatform.streamregistry.core.events.NotificationEventDispatcher.RejectionPolicy;
+
+public class NotificationEventDispatcherTest {
+  private final MeterRegistry registry = new SimpleMeterRegistry();
+  private final CountDownLatch release = new CountDownLatch(1);
+  private NotificationEventDispatcher underTest;
+
+  @After
+  public void after() throws InterruptedException {
+    release.countDown();
+    underTest.destroy();
+  }
+
+  @Test
+  public void dropCountsRejectedEvents() throws InterruptedException {
+    underTest = dispatcher(RejectionPolicy.DROP);
+    CountDownLatch started = new CountDownLatch(1);
+    underTest.execute(() -> {
+      started.countDown();
+      await(release);
+    });
+    started.await(5, TimeUnit.SECONDS);
+
+    underTest.execute(() -> {});
+    underTest.execute(() -> {});
+
+    assertThat(registry.get("notification_events_dispatcher_queue_size").gauge().value(), is(1.0));
+    assertThat(registry.get("notification_events_dispatcher_dropped").counter().count(), is(1.0));
+  }
+
+  @Test
+  public void callerRunsWhenQueueIsFull() throws InterruptedException {
+    underTest = dispatcher(RejectionPolicy.CALLER_RUNS);
+    CountDownLatch started = new CountDownLatch(1);
+    underTest.execute(() -> {
+      started.countDown();
+      await(release);
+    });
+    started.await(5, TimeUnit.SECONDS);
+
+    List<Thread> threads = new ArrayList<>();
+    underTest.execute(() -> threads.add(Thread.currentThread()));
+    underTest.execute(() -> threads.add(Thread.currentThread()));
+
+    assertThat(threads, is(List.of(Thread.currentThread())));
+    assertThat(registry.get("notification_events_dispatcher_dropped").counter().count(), is(0.0));
+  }
+
+  @Test
+  public void listenerFailureDoesNotStopTheWorker() throws InterruptedException {
+    underTest = dispatcher(RejectionPolicy.BLOCK);
+    CountDownLatch done = new CountDownLatch(1);
+    underTest.execute(() -> {
+      throw new RuntimeException("listener failure");
+    });
+    underTest.execute(done::countDown);
+
+    assertThat(done.await(5, TimeUnit.SECONDS), is(true));
+  }
+
+  private NotificationEventDispatcher dispatcher(RejectionPolicy rejectionPolicy) {
+    return NotificationEventDispatcher.builder()
+        .poolSize(1)
+        .queueCapacity(1)
+        .rejectionPolicy(rejectionPolicy)
+        .shutdownTimeoutMillis(1000)
+        .registry(registry)
+        .build();
+  }
+
+  private static void await(CountDownLatch latch) {
+    try {
+      latch.await(5, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
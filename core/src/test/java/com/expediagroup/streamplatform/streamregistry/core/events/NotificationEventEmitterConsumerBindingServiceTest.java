@@ -32,6 +32,7 @@ import org.springframework.context.event.ApplicationEventMulticaster;
 import org.springframework.test.context.junit4.SpringRunner;
 
 import com.expediagroup.streamplatform.streamregistry.core.handlers.HandlerService;
+import com.expediagroup.streamplatform.streamregistry.core.readmodel.ReadModelConfig;
 import com.expediagroup.streamplatform.streamregistry.core.services.ConsumerBindingService;
 import com.expediagroup.streamplatform.streamregistry.core.validators.ConsumerBindingValidator;
 import com.expediagroup.streamplatform.streamregistry.model.ConsumerBinding;
@@ -64,9 +65,8 @@ public class NotificationEventEmitterConsumerBindingServiceTest {
         .applicationEventMulticaster(applicationEventMulticaster)
         .build());
 
-    consumerBindingService = Mockito.spy(
-        new ConsumerBindingService(handlerService, consumerBindingValidator, consumerBindingRepository,
-            consumerBindingServiceEventEmitter));
+    consumerBindingService = Mockito.spy(new ConsumerBindingService(handlerService, consumerBindingValidator, consumerBindingRepository,
+        new ReadModelConfig().consumerBindingIndex(consumerBindingRepository), consumerBindingServiceEventEmitter));
   }
 
   @Test
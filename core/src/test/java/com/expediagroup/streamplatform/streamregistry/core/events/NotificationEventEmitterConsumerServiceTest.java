@@ -32,6 +32,7 @@ import org.springframework.context.event.ApplicationEventMulticaster;
 import org.springframework.test.context.junit4.SpringRunner;
 
 import com.expediagroup.streamplatform.streamregistry.core.handlers.HandlerService;
+import com.expediagroup.streamplatform.streamregistry.core.readmodel.ReadModelConfig;
 import com.expediagroup.streamplatform.streamregistry.core.services.ConsumerService;
 import com.expediagroup.streamplatform.streamregistry.core.validators.ConsumerValidator;
 import com.expediagroup.streamplatform.streamregistry.model.Consumer;
@@ -64,8 +65,8 @@ public class NotificationEventEmitterConsumerServiceTest {
         .applicationEventMulticaster(applicationEventMulticaster)
         .build());
 
-    consumerService = Mockito.spy(
-        new ConsumerService(handlerService, consumerValidator, consumerRepository, consumerServiceEventEmitter));
+    consumerService = Mockito.spy(new ConsumerService(handlerService, consumerValidator, consumerRepository,
+        new ReadModelConfig().consumerIndex(consumerRepository), consumerServiceEventEmitter));
   }
 
   @Test
@@ -32,10 +32,12 @@ import org.springframework.context.event.ApplicationEventMulticaster;
 import org.springframework.test.context.junit4.SpringRunner;
 
 import com.expediagroup.streamplatform.streamregistry.core.handlers.HandlerService;
+import com.expediagroup.streamplatform.streamregistry.core.readmodel.ReadModelConfig;
 import com.expediagroup.streamplatform.streamregistry.core.services.DomainService;
 import com.expediagroup.streamplatform.streamregistry.core.validators.DomainValidator;
 import com.expediagroup.streamplatform.streamregistry.model.Domain;
 import com.expediagroup.streamplatform.streamregistry.model.Specification;
+import com.expediagroup.streamplatform.streamregistry.model.Status;
 import com.expediagroup.streamplatform.streamregistry.repository.DomainRepository;
 
 @RunWith(SpringRunner.class)
@@ -64,7 +66,8 @@ public class NotificationEventEmitterDomainServiceTest {
         .applicationEventMulticaster(applicationEventMulticaster)
         .build());
 
-    domainService = Mockito.spy(new DomainService(handlerService, domainValidator, domainRepository, domainServiceEventEmitter));
+    domainService = Mockito.spy(new DomainService(handlerService, domainValidator, domainRepository,
+        new ReadModelConfig().domainIndex(domainRepository), domainServiceEventEmitter));
   }
 
   @Test
@@ -179,6 +182,23 @@ public class NotificationEventEmitterDomainServiceTest {
         .onFailedEmitting(any(), Mockito.eq(event));
   }
 
+  @Test
+  public void givenADomainForUpsert_validateThatItIsReadOnceAndKeepsItsStatus() {
+    final Domain existing = new Domain();
+    existing.setStatus(new Status(new ObjectMapper().createObjectNode().put("state", "OK")));
+    final Domain entity = new Domain();
+
+    Mockito.when(domainRepository.findById(any())).thenReturn(Optional.of(existing));
+    Mockito.when(handlerService.handleUpdate(Mockito.eq(entity), any())).thenReturn(getDummySpecification());
+    Mockito.when(domainRepository.save(any())).thenReturn(entity);
+
+    domainService.upsert(entity);
+
+    Mockito.verify(domainRepository, Mockito.times(1)).findById(any());
+    Mockito.verify(domainValidator).validateForUpdate(entity, existing);
+    Assert.assertEquals(existing.getStatus(), entity.getStatus());
+  }
+
   @Test
   public void givenADomainForCreate_handleAMulticasterException() {
     final Domain entity = new Domain();
@@ -32,6 +32,7 @@ import org.springframework.context.event.ApplicationEventMulticaster;
 import org.springframework.test.context.junit4.SpringRunner;
 
 import com.expediagroup.streamplatform.streamregistry.core.handlers.HandlerService;
+import com.expediagroup.streamplatform.streamregistry.core.readmodel.ReadModelConfig;
 import com.expediagroup.streamplatform.streamregistry.core.services.InfrastructureService;
 import com.expediagroup.streamplatform.streamregistry.core.validators.InfrastructureValidator;
 import com.expediagroup.streamplatform.streamregistry.model.Infrastructure;
@@ -65,7 +66,7 @@ public class NotificationEventEmitterInfrastructureServiceTest {
         .build());
 
     infrastructureService = Mockito.spy(new InfrastructureService(handlerService, infrastructureValidator, infrastructureRepository,
-        infrastructureServiceEventEmitter));
+        new ReadModelConfig().infrastructureIndex(infrastructureRepository), infrastructureServiceEventEmitter));
   }
 
   @Test
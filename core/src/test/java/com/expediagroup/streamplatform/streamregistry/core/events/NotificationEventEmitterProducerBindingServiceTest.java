@@ -32,6 +32,7 @@ import org.springframework.context.event.ApplicationEventMulticaster;
 import org.springframework.test.context.junit4.SpringRunner;
 
 import com.expediagroup.streamplatform.streamregistry.core.handlers.HandlerService;
+import com.expediagroup.streamplatform.streamregistry.core.readmodel.ReadModelConfig;
 import com.expediagroup.streamplatform.streamregistry.core.services.ProducerBindingService;
 import com.expediagroup.streamplatform.streamregistry.core.validators.ProducerBindingValidator;
 import com.expediagroup.streamplatform.streamregistry.model.ProducerBinding;
@@ -64,9 +65,8 @@ public class NotificationEventEmitterProducerBindingServiceTest {
         .applicationEventMulticaster(applicationEventMulticaster)
         .build());
 
-    producerBindingService = Mockito.spy(
-        new ProducerBindingService(handlerService, producerBindingValidator, producerBindingRepository,
-            producerBindingServiceEventEmitter));
+    producerBindingService = Mockito.spy(new ProducerBindingService(handlerService, producerBindingValidator, producerBindingRepository,
+        new ReadModelConfig().producerBindingIndex(producerBindingRepository), producerBindingServiceEventEmitter));
   }
 
   @Test
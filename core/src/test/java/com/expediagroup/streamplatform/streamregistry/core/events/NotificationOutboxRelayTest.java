@@ -0,0 +1,156 @@
+/**
+ * Copyright (C) 2018-2020 Expedia, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.expediagroup.streamplatform.streamregistry.core.events;
+
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.event.SimpleApplicationEventMulticaster;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+
+import com.expediagroup.streamplatform.streamregistry.model.Producer;
+import com.expediagroup.streamplatform.streamregistry.model.Specification;
+import com.expediagroup.streamplatform.streamregistry.model.Status;
+import com.expediagroup.streamplatform.streamregistry.model.Tag;
+import com.expediagroup.streamplatform.streamregistry.model.keys.ProducerKey;
+import com.expediagroup.streamplatform.streamregistry.repository.outbox.OutboxEvent;
+import com.expediagroup.streamplatform.streamregistry.repository.outbox.OutboxRepository;
+
+public class NotificationOutboxRelayTest {
+  private final OutboxRepository outboxRepository = mock(OutboxRepository.class);
+  private final NotificationOutboxCodec codec = new NotificationOutboxCodec();
+  private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+  private final List<NotificationEvent<?>> received = new ArrayList<>();
+  private final List<Integer> openTransactionsOnDelivery = new ArrayList<>();
+  private int openTransactions;
+  private NotificationOutboxRelay underTest;
+
+  @Before
+  public void before() {
+    when(transactionManager.getTransaction(any())).thenAnswer(invocation -> {
+      openTransactions++;
+      return mock(TransactionStatus.class);
+    });
+    doAnswer(invocation -> openTransactions--).when(transactionManager).commit(any());
+    SimpleApplicationEventMulticaster multicaster = new SimpleApplicationEventMulticaster();
+    multicaster.addApplicationListener((ApplicationListener<NotificationEvent<?>>) event -> {
+      received.add(event);
+      openTransactionsOnDelivery.add(openTransactions);
+      Producer producer = (Producer) event.getEntity();
+      CompletableFuture<Void> delivery = new CompletableFuture<>();
+      if (producer.getKey().getName().equals("undeliverable")) {
+        delivery.completeExceptionally(new RuntimeException("broker unavailable"));
+      } else {
+        delivery.complete(null);
+      }
+      NotificationEventDeliveries.register(delivery);
+    });
+    underTest = NotificationOutboxRelay.builder()
+        .outboxRepository(outboxRepository)
+        .applicationEventMulticaster(multicaster)
+        .transactionManager(transactionManager)
+        .batchSize(10)
+        .pollIntervalMillis(1000)
+        .deliveryTimeoutMillis(1000)
+        .leaseMillis(60000)
+        .build();
+  }
+
+  @Test
+  public void relaysInOrderAndKeepsEverythingFromTheFirstFailure() {
+    when(outboxRepository.claimPending(anyString(), eq(10), eq(60000L))).thenReturn(List.of(
+        outboxEvent(1L, "first"),
+        outboxEvent(2L, "undeliverable"),
+        outboxEvent(3L, "third")));
+
+    int relayed = underTest.relay();
+
+    assertThat(relayed, is(1));
+    assertThat(received.size(), is(3));
+    assertThat(received.get(0).getEntity(), is(producer("first")));
+    assertThat(received.get(0).getEventType(), is(EventType.CREATE));
+    assertThat(received.get(0).getSource(), is("producer-create"));
+    verify(outboxRepository).delete(List.of(1L));
+  }
+
+  @Test
+  public void undecodableEventsAreDiscarded() {
+    when(outboxRepository.claimPending(anyString(), eq(10), eq(60000L))).thenReturn(List.of(
+        OutboxEvent.builder().id(1L).entityType("Unknown").eventType("CREATE").payload("{}").build(),
+        outboxEvent(2L, "second")));
+
+    assertThat(underTest.relay(), is(2));
+    assertThat(received.size(), is(1));
+    verify(outboxRepository).delete(List.of(1L, 2L));
+  }
+
+  @Test
+  public void deliversOutsideTheClaimingTransaction() {
+    when(outboxRepository.claimPending(anyString(), eq(10), eq(60000L))).thenReturn(List.of(
+        outboxEvent(1L, "first"),
+        outboxEvent(2L, "second")));
+
+    assertThat(underTest.relay(), is(2));
+    assertThat(openTransactionsOnDelivery, is(List.of(0, 0)));
+    assertThat(openTransactions, is(0));
+    verify(transactionManager, times(2)).commit(any());
+  }
+
+  @Test
+  public void nothingClaimedNothingRemoved() {
+    when(outboxRepository.claimPending(anyString(), eq(10), eq(60000L))).thenReturn(List.of());
+
+    assertThat(underTest.relay(), is(0));
+    verify(outboxRepository, never()).delete(any());
+  }
+
+  private OutboxEvent outboxEvent(long id, String name) {
+    OutboxEvent event = codec.encode(EventType.CREATE, producer(name));
+    return OutboxEvent.builder()
+        .id(id)
+        .entityType(event.getEntityType())
+        .eventType(event.getEventType())
+        .payload(event.getPayload())
+        .createdAt(event.getCreatedAt())
+        .build();
+  }
+
+  private static Producer producer(String name) {
+    ObjectMapper mapper = new ObjectMapper();
+    Specification specification = new Specification("description", List.of(new Tag("name", "value")), "default", mapper.createObjectNode().put("key", "value"));
+    Status status = new Status(mapper.createObjectNode().put("state", "ready"));
+    return new Producer(new ProducerKey("domain", "stream", 1, "zone", name), specification, status, null);
+  }
+}
@@ -0,0 +1,201 @@
+/**
+ * Copyright (C) 2018-2020 Expedia, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.expediagroup.streamplatform.streamregistry.core.readmodel;
+
+import static java.util.stream.Collectors.toList;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.expediagroup.streamplatform.streamregistry.model.Specification;
+import com.expediagroup.streamplatform.streamregistry.model.Stream;
+import com.expediagroup.streamplatform.streamregistry.model.Tag;
+import com.expediagroup.streamplatform.streamregistry.model.keys.StreamKey;
+import com.expediagroup.streamplatform.streamregistry.repository.StreamRepository;
+import com.expediagroup.streamplatform.streamregistry.repository.query.QuerySpec;
+
+public class EntityIndexTest {
+  private final StreamRepository repository = mock(StreamRepository.class);
+  private EntityIndex<StreamKey, Stream> index;
+
+  @Before
+  public void before() {
+    index = new ReadModelConfig().streamIndex(repository);
+    when(repository.findAll()).thenReturn(List.of(
+        stream("a", "x", 1, 1L, "team", "one"),
+        stream("a", "x", 2, 1L, "team", "two"),
+        stream("a", "y", 1, 1L, "team", "one"),
+        stream("b", "x", 1, 1L, "owner", "one")));
+  }
+
+  @After
+  public void after() {
+    TransactionSynchronizationManager.setActualTransactionActive(false);
+    TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+  }
+
+  @Test
+  public void readsThroughUntilLoaded() {
+    var stream = stream("a", "x", 1, 1L, "team", "one");
+    when(repository.findById(stream.getKey())).thenReturn(Optional.of(stream));
+
+    assertThat(index.findById(stream.getKey()), is(Optional.of(stream)));
+    verify(repository).findById(stream.getKey());
+  }
+
+  @Test
+  public void servesKeysFromMemoryOnceLoaded() {
+    index.load();
+
+    assertThat(index.findById(new StreamKey("a", "x", 2)).get().getKey(), is(new StreamKey("a", "x", 2)));
+    assertThat(index.findById(new StreamKey("a", "x", 3)), is(Optional.empty()));
+    assertThat(index.existsById(new StreamKey("b", "x", 1)), is(true));
+    verify(repository, never()).findById(any());
+    verify(repository, never()).existsById(any());
+  }
+
+  @Test
+  public void readWriteTransactionsReadThrough() {
+    index.load();
+    var key = new StreamKey("a", "x", 2);
+    when(repository.findById(key)).thenReturn(Optional.empty());
+
+    TransactionSynchronizationManager.setActualTransactionActive(true);
+    TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+    assertThat(index.findById(key).isPresent(), is(true));
+    TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    assertThat(index.findById(key), is(Optional.empty()));
+    verify(repository).findById(key);
+  }
+
+  @Test
+  public void prefixQuery() {
+    index.load();
+
+    var query = QuerySpec.<Stream>builder()
+        .matches("key.domain", "a")
+        .matches("key.name", "x")
+        .build();
+
+    assertThat(keys(index.findAll(query)), contains(new StreamKey("a", "x", 1), new StreamKey("a", "x", 2)));
+    verify(repository, never()).findAll(query);
+  }
+
+  @Test
+  public void versionsAreOrderedNumerically() {
+    index.load();
+    index.putOnCommit(stream("c", "x", 10, 1L, "team", "ten"));
+    index.putOnCommit(stream("c", "x", 9, 1L, "team", "ten"));
+
+    var prefix = QuerySpec.<Stream>builder()
+        .matches("key.domain", "c")
+        .matches("key.name", "x")
+        .build();
+    var tag = QuerySpec.<Stream>builder().matchesTag("team", "ten").build();
+    var literal = QuerySpec.<Stream>builder()
+        .matches("key.domain", "c")
+        .matches("key.name", "x")
+        .matches("key.version", "10")
+        .build();
+
+    assertThat(keys(index.findAll(prefix)), contains(new StreamKey("c", "x", 9), new StreamKey("c", "x", 10)));
+    assertThat(keys(index.findAll(tag)), contains(new StreamKey("c", "x", 9), new StreamKey("c", "x", 10)));
+    assertThat(keys(index.findAll(literal)), contains(new StreamKey("c", "x", 10)));
+    verify(repository, never()).findAll(prefix);
+  }
+
+  @Test
+  public void secondaryKeyComponentQuery() {
+    index.load();
+
+    var query = QuerySpec.<Stream>builder()
+        .matches("key.name", "x")
+        .equalTo("key.version", 1)
+        .build();
+
+    assertThat(keys(index.findAll(query)), containsInAnyOrder(new StreamKey("a", "x", 1), new StreamKey("b", "x", 1)));
+  }
+
+  @Test
+  public void tagQueryChecksTheFallback() {
+    index.load();
+
+    var query = QuerySpec.<Stream>builder()
+        .matchesTag("team", "one")
+        .fallback(stream -> stream.getKey().getVersion() == 1)
+        .build();
+
+    assertThat(keys(index.findAll(query)), contains(new StreamKey("a", "x", 1), new StreamKey("a", "y", 1)));
+  }
+
+  @Test
+  public void revisionQueriesAreLeftToTheRepository() {
+    index.load();
+
+    var query = QuerySpec.<Stream>builder().changedSince(5L).build();
+    when(repository.findAll(query)).thenReturn(List.of());
+
+    assertThat(index.findAll(query), is(List.of()));
+    verify(repository).findAll(query);
+  }
+
+  @Test
+  public void writesReplaceTagsButNeverWithAnOlderVersion() {
+    index.load();
+
+    index.putOnCommit(stream("a", "x", 1, 3L, "team", "three"));
+    index.putOnCommit(stream("a", "x", 1, 2L, "team", "two"));
+
+    var stream = index.findById(new StreamKey("a", "x", 1)).get();
+    assertThat(stream.getVersion(), is(3L));
+    assertThat(keys(index.findAll(QuerySpec.<Stream>builder().matchesTag("team", "three").build())),
+        contains(new StreamKey("a", "x", 1)));
+    assertThat(keys(index.findAll(QuerySpec.<Stream>builder().matchesTag("team", "one").build())),
+        contains(new StreamKey("a", "y", 1)));
+  }
+
+  @Test
+  public void entitiesAreCopied() {
+    index.load();
+
+    index.findById(new StreamKey("a", "x", 1)).get().getSpecification().setDescription("changed");
+
+    assertThat(index.findById(new StreamKey("a", "x", 1)).get().getSpecification().getDescription(), is("description"));
+  }
+
+  private static List<StreamKey> keys(List<Stream> streams) {
+    return streams.stream().map(Stream::getKey).collect(toList());
+  }
+
+  private static Stream stream(String domain, String name, int version, Long entityVersion, String tagName, String tagValue) {
+    var specification = new Specification("description", List.of(new Tag(tagName, tagValue)), "type", null);
+    return new Stream(new StreamKey(domain, name, version), null, specification, null, entityVersion);
+  }
+}
@@ -0,0 +1,112 @@
+/**
+ * Copyright (C) 2018-2020 Expedia, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.expediagroup.streamplatform.streamregistry.core.services;
+
+import static com.expediagroup.streamplatform.streamregistry.core.events.EventType.CREATE;
+import static com.expediagroup.streamplatform.streamregistry.core.events.EventType.UPDATE;
+import static java.util.stream.Collectors.toList;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.expediagroup.streamplatform.streamregistry.core.events.NotificationEventEmitter;
+import com.expediagroup.streamplatform.streamregistry.core.validators.ValidationException;
+import com.expediagroup.streamplatform.streamregistry.model.Domain;
+import com.expediagroup.streamplatform.streamregistry.model.keys.DomainKey;
+
+public class BatchWriterTest {
+  private final List<Domain> stored = new ArrayList<>();
+  private final List<List<Domain>> saves = new ArrayList<>();
+  private final List<DomainKey> reads = new ArrayList<>();
+  @SuppressWarnings("unchecked")
+  private final NotificationEventEmitter<Domain> emitter = mock(NotificationEventEmitter.class);
+  private BatchWriter<DomainKey, Domain> underTest;
+
+  @Before
+  public void before() {
+    stored.add(domain("existing"));
+    underTest = BatchWriter.<DomainKey, Domain>builder()
+        .key(Domain::getKey)
+        .readAll(keys -> {
+          reads.addAll(keys);
+          return stored.stream().filter(d -> keys.contains(d.getKey())).collect(toList());
+        })
+        .prepareInsert(domain -> {
+          if (domain.getKey().getName().equals("invalid")) {
+            throw new ValidationException("invalid name");
+          }
+        })
+        .prepareUpdate((domain, existing) -> {})
+        .saveAll(domains -> {
+          saves.add(domains);
+          return domains;
+        })
+        .emitter(emitter)
+        .build();
+  }
+
+  @Test
+  public void upsertAllReadsAndSavesOnceAndReportsPerItem() {
+    var results = underTest.upsertAll(List.of(domain("existing"), domain("new"), domain("invalid"), domain("new")));
+
+    assertThat(reads.size(), is(3));
+    assertThat(saves.size(), is(1));
+    assertThat(saves.get(0).size(), is(2));
+
+    assertThat(results.size(), is(4));
+    assertThat(results.get(0).getEventType(), is(UPDATE));
+    assertThat(results.get(1).getEventType(), is(CREATE));
+    assertThat(results.get(1).getEntity().getKey().getName(), is("new"));
+    assertThat(results.get(2).isSuccess(), is(false));
+    assertThat(results.get(2).getError(), is("invalid name"));
+    assertThat(results.get(3).isSuccess(), is(false));
+
+    verify(emitter).emitEventsOnProcessedEntities(UPDATE, List.of(domain("existing")));
+    verify(emitter).emitEventsOnProcessedEntities(CREATE, List.of(domain("new")));
+  }
+
+  @Test
+  public void createAllRejectsExistingEntities() {
+    var results = underTest.createAll(List.of(domain("existing"), domain("new")));
+
+    assertThat(results.get(0).isSuccess(), is(false));
+    assertThat(results.get(1).getEventType(), is(CREATE));
+    verify(emitter).emitEventsOnProcessedEntities(CREATE, List.of(domain("new")));
+    verify(emitter, never()).emitEventsOnProcessedEntities(UPDATE, List.of(domain("existing")));
+  }
+
+  @Test
+  public void nothingIsSavedWhenEveryEntityIsRejected() {
+    var results = underTest.createAll(List.of(domain("invalid")));
+
+    assertThat(results.get(0).isSuccess(), is(false));
+    assertThat(saves.isEmpty(), is(true));
+    verify(emitter, never()).emitEventsOnProcessedEntities(any(), any());
+  }
+
+  private static Domain domain(String name) {
+    return new Domain(new DomainKey(name), null, null, null);
+  }
+}
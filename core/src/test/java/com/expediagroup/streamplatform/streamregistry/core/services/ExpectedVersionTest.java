@@ -0,0 +1,61 @@
+/**
+ * Copyright (C) 2018-2020 Expedia, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.expediagroup.streamplatform.streamregistry.core.services;
+
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+import org.junit.Test;
+
+import com.expediagroup.streamplatform.streamregistry.core.validators.ValidationException;
+import com.expediagroup.streamplatform.streamregistry.model.Domain;
+import com.expediagroup.streamplatform.streamregistry.model.keys.DomainKey;
+
+public class ExpectedVersionTest {
+
+  @Test
+  public void missingVersionTakesTheStoredOne() {
+    var entity = domain(null);
+    ExpectedVersion.check(entity, domain(3L));
+    assertThat(entity.getVersion(), is(3L));
+  }
+
+  @Test
+  public void matchingVersionIsAccepted() {
+    var entity = domain(3L);
+    ExpectedVersion.check(entity, domain(3L));
+    assertThat(entity.getVersion(), is(3L));
+  }
+
+  @Test(expected = ValidationException.class)
+  public void staleVersionIsRejected() {
+    ExpectedVersion.check(domain(2L), domain(3L));
+  }
+
+  @Test
+  public void statusUpdateWithoutExpectedVersionIsAccepted() {
+    ExpectedVersion.check((Long) null, domain(3L));
+  }
+
+  @Test(expected = ValidationException.class)
+  public void statusUpdateWithStaleExpectedVersionIsRejected() {
+    ExpectedVersion.check(2L, domain(3L));
+  }
+
+  private static Domain domain(Long version) {
+    return new Domain(new DomainKey("domain"), null, null, version);
+  }
+}
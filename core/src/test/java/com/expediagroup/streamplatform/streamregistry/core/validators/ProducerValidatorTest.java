@@ -0,0 +1,84 @@
+/**
+ * Copyright (C) 2018-2020 Expedia, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.expediagroup.streamplatform.streamregistry.core.validators;
+
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.Test;
+
+import com.expediagroup.streamplatform.streamregistry.core.services.StreamService;
+import com.expediagroup.streamplatform.streamregistry.core.services.ZoneService;
+import com.expediagroup.streamplatform.streamregistry.model.Producer;
+import com.expediagroup.streamplatform.streamregistry.model.keys.ProducerKey;
+import com.expediagroup.streamplatform.streamregistry.model.keys.StreamKey;
+import com.expediagroup.streamplatform.streamregistry.model.keys.ZoneKey;
+
+public class ProducerValidatorTest {
+  private final StreamService streamService = mock(StreamService.class);
+  private final ZoneService zoneService = mock(ZoneService.class);
+  private final ProducerValidator underTest = new ProducerValidator(streamService, zoneService, mock(SpecificationValidator.class));
+
+  @Test
+  public void batchLooksUpEachParentTypeOnce() throws ValidationException {
+    Producer first = producer("stream", "zone", "first");
+    Producer second = producer("stream", "zone", "second");
+    Producer orphan = producer("missing", "zone", "orphan");
+    when(streamService.existing(any())).thenReturn(Set.of(new StreamKey("domain", "stream", 1)));
+    when(zoneService.existing(any())).thenReturn(Set.of(new ZoneKey("zone")));
+
+    Validator<Producer> batch = underTest.forBatch(List.of(first, second, orphan));
+    batch.validateForCreate(first);
+    batch.validateForCreate(second);
+    try {
+      batch.validateForCreate(orphan);
+      fail();
+    } catch (ValidationException e) {
+      assertThat(e.getMessage(), is("Stream does not exist"));
+    }
+
+    verify(streamService).existing(Set.of(new StreamKey("domain", "stream", 1), new StreamKey("domain", "missing", 1)));
+    verify(zoneService).existing(Set.of(new ZoneKey("zone")));
+    verify(streamService, never()).exists(any());
+    verify(zoneService, never()).exists(any());
+  }
+
+  @Test
+  public void batchFallsBackToSingleLookupForUnknownKeys() throws ValidationException {
+    when(streamService.existing(any())).thenReturn(Set.of());
+    when(zoneService.existing(any())).thenReturn(Set.of());
+    when(streamService.exists(new StreamKey("domain", "other", 1))).thenReturn(true);
+    when(zoneService.exists(new ZoneKey("other"))).thenReturn(true);
+
+    underTest.forBatch(List.of()).validateForCreate(producer("other", "other", "producer"));
+
+    verify(streamService, never()).existing(any());
+    verify(streamService).exists(new StreamKey("domain", "other", 1));
+  }
+
+  private static Producer producer(String stream, String zone, String name) {
+    return new Producer(new ProducerKey("domain", stream, 1, zone, name), null, null, null);
+  }
+}
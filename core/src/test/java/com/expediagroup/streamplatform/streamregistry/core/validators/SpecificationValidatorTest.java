@@ -0,0 +1,74 @@
+/**
+ * Copyright (C) 2018-2020 Expedia, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.expediagroup.streamplatform.streamregistry.core.validators;
+
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+import java.util.Arrays;
+import java.util.List;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.junit.Test;
+
+import com.expediagroup.streamplatform.streamregistry.model.Specification;
+import com.expediagroup.streamplatform.streamregistry.model.Tag;
+
+public class SpecificationValidatorTest {
+  private final SpecificationValidator underTest = new SpecificationValidator();
+
+  @Test
+  public void distinctTagNames() {
+    underTest.validateForCreate(specification(List.of(new Tag("owner", "team"), new Tag("tier", "1"))));
+  }
+
+  @Test
+  public void duplicateTagName() {
+    var existing = specification(List.of());
+    var specification = specification(List.of(new Tag("owner", "team-a"), new Tag("owner", "team-b")));
+    assertRejected(() -> underTest.validateForCreate(specification), "Tag name 'owner' must not be repeated.");
+    assertRejected(() -> underTest.validateForUpdate(specification, existing), "Tag name 'owner' must not be repeated.");
+  }
+
+  @Test
+  public void nullTagName() {
+    var existing = specification(List.of());
+    var specification = specification(List.of(new Tag("owner", "team"), new Tag(null, "value")));
+    assertRejected(() -> underTest.validateForCreate(specification), "Tag name must not be null.");
+    assertRejected(() -> underTest.validateForUpdate(specification, existing), "Tag name must not be null.");
+  }
+
+  @Test
+  public void nullTag() {
+    var specification = specification(Arrays.asList(new Tag("owner", "team"), null));
+    assertRejected(() -> underTest.validateForCreate(specification), "Tag name must not be null.");
+  }
+
+  private static void assertRejected(Runnable validation, String message) {
+    try {
+      validation.run();
+      fail();
+    } catch (ValidationException e) {
+      assertThat(e.getMessage(), is(message));
+    }
+  }
+
+  private static Specification specification(List<Tag> tags) {
+    return new Specification("description", tags, "default", new ObjectMapper().createObjectNode());
+  }
+}
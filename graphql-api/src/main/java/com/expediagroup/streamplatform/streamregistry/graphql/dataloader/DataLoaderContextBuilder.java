@@ -0,0 +1,62 @@
+/**
+ * Copyright (C) 2018-2020 Expedia, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.expediagroup.streamplatform.streamregistry.graphql.dataloader;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import javax.websocket.Session;
+import javax.websocket.server.HandshakeRequest;
+
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.stereotype.Component;
+
+import graphql.servlet.context.DefaultGraphQLContext;
+import graphql.servlet.context.DefaultGraphQLServletContext;
+import graphql.servlet.context.DefaultGraphQLWebSocketContext;
+import graphql.servlet.context.GraphQLContext;
+import graphql.servlet.context.GraphQLContextBuilder;
+
+/**
+ * Gives every GraphQL request its own {@link EntityDataLoaders} registry so that batching and caching never
+ * span requests.
+ */
+@Component
+@RequiredArgsConstructor
+public class DataLoaderContextBuilder implements GraphQLContextBuilder {
+  private final EntityDataLoaders dataLoaders;
+
+  @Override
+  public GraphQLContext build(HttpServletRequest request, HttpServletResponse response) {
+    return DefaultGraphQLServletContext.createServletContext(dataLoaders.newRegistry(), null)
+        .with(request)
+        .with(response)
+        .build();
+  }
+
+  @Override
+  public GraphQLContext build(Session session, HandshakeRequest handshakeRequest) {
+    return DefaultGraphQLWebSocketContext.createWebSocketContext(dataLoaders.newRegistry(), null)
+        .with(session)
+        .with(handshakeRequest)
+        .build();
+  }
+
+  @Override
+  public GraphQLContext build() {
+    return new DefaultGraphQLContext(dataLoaders.newRegistry(), null);
+  }
+}
@@ -0,0 +1,123 @@
+/**
+ * Copyright (C) 2018-2020 Expedia, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.expediagroup.streamplatform.streamregistry.graphql.dataloader;
+
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static java.util.function.Function.identity;
+import static java.util.stream.Collectors.toMap;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+import lombok.RequiredArgsConstructor;
+
+import org.dataloader.DataLoader;
+import org.dataloader.DataLoaderRegistry;
+import org.springframework.stereotype.Component;
+
+import com.expediagroup.streamplatform.streamregistry.core.services.ConsumerBindingService;
+import com.expediagroup.streamplatform.streamregistry.core.services.ConsumerService;
+import com.expediagroup.streamplatform.streamregistry.core.services.DomainService;
+import com.expediagroup.streamplatform.streamregistry.core.services.InfrastructureService;
+import com.expediagroup.streamplatform.streamregistry.core.services.ProducerBindingService;
+import com.expediagroup.streamplatform.streamregistry.core.services.ProducerService;
+import com.expediagroup.streamplatform.streamregistry.core.services.SchemaService;
+import com.expediagroup.streamplatform.streamregistry.core.services.StreamBindingService;
+import com.expediagroup.streamplatform.streamregistry.core.services.StreamService;
+import com.expediagroup.streamplatform.streamregistry.core.services.ZoneService;
+import com.expediagroup.streamplatform.streamregistry.model.Consumer;
+import com.expediagroup.streamplatform.streamregistry.model.ConsumerBinding;
+import com.expediagroup.streamplatform.streamregistry.model.Domain;
+import com.expediagroup.streamplatform.streamregistry.model.Infrastructure;
+import com.expediagroup.streamplatform.streamregistry.model.Producer;
+import com.expediagroup.streamplatform.streamregistry.model.ProducerBinding;
+import com.expediagroup.streamplatform.streamregistry.model.Schema;
+import com.expediagroup.streamplatform.streamregistry.model.Stream;
+import com.expediagroup.streamplatform.streamregistry.model.StreamBinding;
+import com.expediagroup.streamplatform.streamregistry.model.Zone;
+import com.expediagroup.streamplatform.streamregistry.model.keys.ConsumerKey;
+import com.expediagroup.streamplatform.streamregistry.model.keys.ProducerKey;
+import graphql.schema.DataFetchingEnvironment;
+
+/**
+ * Per request data loaders that collect the keys requested by the resolvers and read them with a single
+ * repository call per entity type, instead of one read per parent row.
+ */
+@Component
+@RequiredArgsConstructor
+public class EntityDataLoaders {
+  public static final String DOMAIN = "domain";
+  public static final String SCHEMA = "schema";
+  public static final String STREAM = "stream";
+  public static final String ZONE = "zone";
+  public static final String INFRASTRUCTURE = "infrastructure";
+  public static final String PRODUCER = "producer";
+  public static final String CONSUMER = "consumer";
+  public static final String STREAM_BINDING = "streamBinding";
+  public static final String PRODUCER_BINDING_BY_PRODUCER = "producerBindingByProducer";
+  public static final String CONSUMER_BINDING_BY_CONSUMER = "consumerBindingByConsumer";
+
+  private final DomainService domainService;
+  private final SchemaService schemaService;
+  private final StreamService streamService;
+  private final ZoneService zoneService;
+  private final InfrastructureService infrastructureService;
+  private final ProducerService producerService;
+  private final ConsumerService consumerService;
+  private final StreamBindingService streamBindingService;
+  private final ProducerBindingService producerBindingService;
+  private final ConsumerBindingService consumerBindingService;
+
+  public DataLoaderRegistry newRegistry() {
+    var registry = new DataLoaderRegistry();
+    registry.register(DOMAIN, byKey(domainService::readAll, Domain::getKey));
+    registry.register(SCHEMA, byKey(schemaService::readAll, Schema::getKey));
+    registry.register(STREAM, byKey(streamService::readAll, Stream::getKey));
+    registry.register(ZONE, byKey(zoneService::readAll, Zone::getKey));
+    registry.register(INFRASTRUCTURE, byKey(infrastructureService::readAll, Infrastructure::getKey));
+    registry.register(PRODUCER, byKey(producerService::readAll, Producer::getKey));
+    registry.register(CONSUMER, byKey(consumerService::readAll, Consumer::getKey));
+    registry.register(STREAM_BINDING, byKey(streamBindingService::readAll, StreamBinding::getKey));
+    // Bindings are looked up by their producer/consumer, which is only part of the binding key, so there is no
+    // single read for a batch of them; the loader still removes duplicate lookups within a request.
+    registry.register(PRODUCER_BINDING_BY_PRODUCER, DataLoader.<ProducerKey, ProducerBinding>newMappedDataLoader(keys -> {
+      var bindings = new HashMap<ProducerKey, ProducerBinding>();
+      keys.forEach(key -> producerBindingService.find(key).ifPresent(binding -> bindings.put(key, binding)));
+      return completedFuture(bindings);
+    }));
+    registry.register(CONSUMER_BINDING_BY_CONSUMER, DataLoader.<ConsumerKey, ConsumerBinding>newMappedDataLoader(keys -> {
+      var bindings = new HashMap<ConsumerKey, ConsumerBinding>();
+      keys.forEach(key -> consumerBindingService.find(key).ifPresent(binding -> bindings.put(key, binding)));
+      return completedFuture(bindings);
+    }));
+    return registry;
+  }
+
+  public static <K, V> CompletableFuture<V> load(DataFetchingEnvironment environment, String name, K key) {
+    DataLoader<K, V> loader = environment.getDataLoader(name);
+    if (loader == null) {
+      throw new IllegalStateException("No data loader registered for " + name);
+    }
+    return loader.load(key);
+  }
+
+  private static <K, E> DataLoader<K, E> byKey(Function<Collection<K>, List<E>> readAll, Function<E, K> key) {
+    return DataLoader.newMappedDataLoader(keys -> completedFuture(readAll.apply(keys).stream().collect(toMap(key, identity()))));
+  }
+}
@@ -0,0 +1,77 @@
+/**
+ * Copyright (C) 2018-2020 Expedia, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.expediagroup.streamplatform.streamregistry.graphql.filters;
+
+import java.util.concurrent.ExecutionException;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+import com.google.common.base.Throwables;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+
+import com.expediagroup.streamplatform.streamregistry.repository.query.Regexes;
+
+/**
+ * Full-match regular expressions, equivalent to {@link String#matches(String)}, compiled once and kept in a
+ * bounded cache shared by all requests. Literal and {@code literal.*} patterns skip the regex engine.
+ */
+final class CompiledRegex {
+  static final int MAX_CACHED = 1000;
+  private static final Cache<String, Predicate<String>> cache = CacheBuilder.newBuilder()
+      .maximumSize(MAX_CACHED)
+      .build();
+
+  private CompiledRegex() {}
+
+  static Predicate<String> of(String regex) {
+    try {
+      return cache.get(regex, () -> compile(regex));
+    } catch (ExecutionException | UncheckedExecutionException e) {
+      Throwables.throwIfUnchecked(e.getCause());
+      throw new IllegalStateException(e.getCause());
+    }
+  }
+
+  static Predicate<String> compile(String regex) {
+    if (Regexes.isLiteral(regex)) {
+      return regex::equals;
+    }
+    if (regex.endsWith(".*") && Regexes.isLiteral(regex.substring(0, regex.length() - 2))) {
+      var prefix = regex.substring(0, regex.length() - 2);
+      return value -> value.startsWith(prefix) && hasNoLineTerminator(value, prefix.length());
+    }
+    var pattern = Pattern.compile(regex);
+    return value -> pattern.matcher(value).matches();
+  }
+
+  // '.' does not match line terminators unless DOTALL is set
+  private static boolean hasNoLineTerminator(String value, int from) {
+    for (int i = from; i < value.length(); i++) {
+      switch (value.charAt(i)) {
+        case '\n':
+        case '\r':
+        case '\u0085':
+        case '\u2028':
+        case '\u2029':
+          return false;
+        default:
+      }
+    }
+    return true;
+  }
+}
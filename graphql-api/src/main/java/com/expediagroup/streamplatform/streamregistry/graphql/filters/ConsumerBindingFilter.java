@@ -16,13 +16,16 @@
 package com.expediagroup.streamplatform.streamregistry.graphql.filters;
 
 import static com.expediagroup.streamplatform.streamregistry.graphql.filters.FilterUtility.matches;
+import static com.expediagroup.streamplatform.streamregistry.graphql.filters.FilterUtility.matchesInt;
 import static com.expediagroup.streamplatform.streamregistry.graphql.filters.FilterUtility.matchesSpecification;
+import static com.expediagroup.streamplatform.streamregistry.graphql.filters.FilterUtility.withSpecification;
 
 import java.util.function.Predicate;
 
 import com.expediagroup.streamplatform.streamregistry.graphql.model.queries.ConsumerBindingKeyQuery;
 import com.expediagroup.streamplatform.streamregistry.graphql.model.queries.SpecificationQuery;
 import com.expediagroup.streamplatform.streamregistry.model.ConsumerBinding;
+import com.expediagroup.streamplatform.streamregistry.repository.query.QuerySpec;
 
 public class ConsumerBindingFilter implements Predicate<ConsumerBinding> {
 
@@ -49,10 +52,26 @@ public class ConsumerBindingFilter implements Predicate<ConsumerBinding> {
       if (!matches(d.getKey().getStreamName(), keyQuery.getStreamNameRegex())) {
         return false;
       }
-      if (keyQuery.getStreamVersion() != null && d.getKey().getStreamVersion() != keyQuery.getStreamVersion()) {
+      if (!matchesInt(d.getKey().getStreamVersion(), keyQuery.getStreamVersion())) {
+        return false;
+      }
+      if (!matches(d.getKey().getConsumerName(), keyQuery.getConsumerNameRegex())) {
         return false;
       }
     }
     return matchesSpecification(d.getSpecification(), specQuery);
   }
+
+  public QuerySpec<ConsumerBinding> asQuerySpec() {
+    var spec = QuerySpec.<ConsumerBinding>builder().fallback(this);
+    if (keyQuery != null) {
+      spec.matches("key.streamDomain", keyQuery.getStreamDomainRegex())
+          .matches("key.streamName", keyQuery.getStreamNameRegex())
+          .equalTo("key.streamVersion", keyQuery.getStreamVersion())
+          .matches("key.infrastructureZone", keyQuery.getInfrastructureZoneRegex())
+          .matches("key.infrastructureName", keyQuery.getInfrastructureNameRegex())
+          .matches("key.consumerName", keyQuery.getConsumerNameRegex());
+    }
+    return withSpecification(spec, specQuery).build();
+  }
 }
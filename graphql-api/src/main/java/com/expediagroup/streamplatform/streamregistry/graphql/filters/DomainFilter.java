@@ -17,12 +17,14 @@ package com.expediagroup.streamplatform.streamregistry.graphql.filters;
 
 import static com.expediagroup.streamplatform.streamregistry.graphql.filters.FilterUtility.matches;
 import static com.expediagroup.streamplatform.streamregistry.graphql.filters.FilterUtility.matchesSpecification;
+import static com.expediagroup.streamplatform.streamregistry.graphql.filters.FilterUtility.withSpecification;
 
 import java.util.function.Predicate;
 
 import com.expediagroup.streamplatform.streamregistry.graphql.model.queries.DomainKeyQuery;
 import com.expediagroup.streamplatform.streamregistry.graphql.model.queries.SpecificationQuery;
 import com.expediagroup.streamplatform.streamregistry.model.Domain;
+import com.expediagroup.streamplatform.streamregistry.repository.query.QuerySpec;
 
 public class DomainFilter implements Predicate<Domain> {
 
@@ -43,4 +45,12 @@ public class DomainFilter implements Predicate<Domain> {
     }
     return matchesSpecification(d.getSpecification(), specQuery);
   }
+
+  public QuerySpec<Domain> asQuerySpec() {
+    var spec = QuerySpec.<Domain>builder().fallback(this);
+    if (keyQuery != null) {
+      spec.matches("key.name", keyQuery.getNameRegex());
+    }
+    return withSpecification(spec, specQuery).build();
+  }
 }
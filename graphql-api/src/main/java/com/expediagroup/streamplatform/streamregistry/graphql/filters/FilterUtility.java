@@ -15,12 +15,15 @@
  */
 package com.expediagroup.streamplatform.streamregistry.graphql.filters;
 
+import static com.expediagroup.streamplatform.streamregistry.graphql.filters.JsonContainment.contains;
 import static com.expediagroup.streamplatform.streamregistry.graphql.filters.TagMatchUtility.matchesAllTagQueries;
 
 import com.expediagroup.streamplatform.streamregistry.graphql.model.queries.SchemaKeyQuery;
 import com.expediagroup.streamplatform.streamregistry.graphql.model.queries.SpecificationQuery;
+import com.expediagroup.streamplatform.streamregistry.graphql.model.queries.TagQuery;
 import com.expediagroup.streamplatform.streamregistry.model.Specification;
 import com.expediagroup.streamplatform.streamregistry.model.keys.SchemaKey;
+import com.expediagroup.streamplatform.streamregistry.repository.query.QuerySpec.QuerySpecBuilder;
 
 public class FilterUtility {
 
@@ -28,7 +31,7 @@ public class FilterUtility {
     if (nullableValue == null) {
       return nullableRegex == null;
     }
-    return nullableRegex == null || nullableValue.matches(nullableRegex);
+    return nullableRegex == null || CompiledRegex.of(nullableRegex).test(nullableValue);
   }
 
   public static boolean matchesInt(Integer value, Integer required) {
@@ -48,6 +51,9 @@ public class FilterUtility {
     if (!matches(specification.getType(), specQuery.getTypeRegex())) {
       return false;
     }
+    if (!contains(specification.getConfiguration(), specQuery.getConfigurationContains())) {
+      return false;
+    }
     return matchesAllTagQueries(specification, specQuery.getTags());
   }
 
@@ -60,4 +66,30 @@ public class FilterUtility {
     }
     return matches(key.getName(), schemaKeyQuery.getNameRegex());
   }
+
+  public static <T> QuerySpecBuilder<T> withSpecification(QuerySpecBuilder<T> spec, SpecificationQuery specQuery) {
+    if (specQuery == null) {
+      return spec;
+    }
+    spec.matches("specification.description", specQuery.getDescriptionRegex())
+        .matches("specification.type", specQuery.getTypeRegex())
+        .contains("specification.configuration", specQuery.getConfigurationContains());
+    if (specQuery.getTags() != null) {
+      for (TagQuery tagQuery : specQuery.getTags()) {
+        if (tagQuery != null) {
+          spec.matchesTag(tagQuery.getNameRegex(), tagQuery.getValueRegex());
+        }
+      }
+    }
+    return spec;
+  }
+
+  public static <T> QuerySpecBuilder<T> withSchemaKey(QuerySpecBuilder<T> spec, String property, SchemaKeyQuery schemaKeyQuery) {
+    if (schemaKeyQuery == null) {
+      return spec;
+    }
+    return spec
+        .matches(property + ".domain", schemaKeyQuery.getDomainRegex())
+        .matches(property + ".name", schemaKeyQuery.getNameRegex());
+  }
 }
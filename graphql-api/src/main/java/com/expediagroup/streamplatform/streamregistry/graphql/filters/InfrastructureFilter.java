@@ -17,12 +17,14 @@ package com.expediagroup.streamplatform.streamregistry.graphql.filters;
 
 import static com.expediagroup.streamplatform.streamregistry.graphql.filters.FilterUtility.matches;
 import static com.expediagroup.streamplatform.streamregistry.graphql.filters.FilterUtility.matchesSpecification;
+import static com.expediagroup.streamplatform.streamregistry.graphql.filters.FilterUtility.withSpecification;
 
 import java.util.function.Predicate;
 
 import com.expediagroup.streamplatform.streamregistry.graphql.model.queries.InfrastructureKeyQuery;
 import com.expediagroup.streamplatform.streamregistry.graphql.model.queries.SpecificationQuery;
 import com.expediagroup.streamplatform.streamregistry.model.Infrastructure;
+import com.expediagroup.streamplatform.streamregistry.repository.query.QuerySpec;
 
 public class InfrastructureFilter implements Predicate<Infrastructure> {
 
@@ -46,4 +48,13 @@ public class InfrastructureFilter implements Predicate<Infrastructure> {
     }
     return matchesSpecification(d.getSpecification(), specQuery);
   }
+
+  public QuerySpec<Infrastructure> asQuerySpec() {
+    var spec = QuerySpec.<Infrastructure>builder().fallback(this);
+    if (keyQuery != null) {
+      spec.matches("key.zone", keyQuery.getZoneRegex())
+          .matches("key.name", keyQuery.getNameRegex());
+    }
+    return withSpecification(spec, specQuery).build();
+  }
 }
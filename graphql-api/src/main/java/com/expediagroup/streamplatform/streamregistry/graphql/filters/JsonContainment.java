@@ -0,0 +1,76 @@
+/**
+ * Copyright (C) 2018-2020 Expedia, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.expediagroup.streamplatform.streamregistry.graphql.filters;
+
+import java.util.Iterator;
+import java.util.Map;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * In memory equivalent of the Postgres {@code jsonb @>} containment operator, used when a query is not evaluated by
+ * the repository.
+ */
+public class JsonContainment {
+
+  public static boolean contains(JsonNode container, JsonNode contained) {
+    if (contained == null) {
+      return true;
+    }
+    if (container == null) {
+      return false;
+    }
+    if (contained.isObject()) {
+      return container.isObject() && containsFields(container, contained);
+    }
+    if (contained.isArray()) {
+      return container.isArray() && containsElements(container, contained);
+    }
+    if (contained.isNumber()) {
+      return container.isNumber() && container.decimalValue().compareTo(contained.decimalValue()) == 0;
+    }
+    return contained.equals(container);
+  }
+
+  private static boolean containsFields(JsonNode container, JsonNode contained) {
+    Iterator<Map.Entry<String, JsonNode>> fields = contained.fields();
+    while (fields.hasNext()) {
+      Map.Entry<String, JsonNode> field = fields.next();
+      if (!container.has(field.getKey()) || !contains(container.get(field.getKey()), field.getValue())) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static boolean containsElements(JsonNode container, JsonNode contained) {
+    for (JsonNode element : contained) {
+      if (!containsElement(container, element)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static boolean containsElement(JsonNode container, JsonNode element) {
+    for (JsonNode candidate : container) {
+      if (contains(candidate, element)) {
+        return true;
+      }
+    }
+    return false;
+  }
+}
@@ -16,13 +16,16 @@
 package com.expediagroup.streamplatform.streamregistry.graphql.filters;
 
 import static com.expediagroup.streamplatform.streamregistry.graphql.filters.FilterUtility.matches;
+import static com.expediagroup.streamplatform.streamregistry.graphql.filters.FilterUtility.matchesInt;
 import static com.expediagroup.streamplatform.streamregistry.graphql.filters.FilterUtility.matchesSpecification;
+import static com.expediagroup.streamplatform.streamregistry.graphql.filters.FilterUtility.withSpecification;
 
 import java.util.function.Predicate;
 
 import com.expediagroup.streamplatform.streamregistry.graphql.model.queries.ProducerBindingKeyQuery;
 import com.expediagroup.streamplatform.streamregistry.graphql.model.queries.SpecificationQuery;
 import com.expediagroup.streamplatform.streamregistry.model.ProducerBinding;
+import com.expediagroup.streamplatform.streamregistry.repository.query.QuerySpec;
 
 public class ProducerBindingFilter implements Predicate<ProducerBinding> {
 
@@ -49,10 +52,26 @@ public class ProducerBindingFilter implements Predicate<ProducerBinding> {
       if (!matches(d.getKey().getStreamName(), keyQuery.getStreamNameRegex())) {
         return false;
       }
-      if (keyQuery.getStreamVersion() != null && d.getKey().getStreamVersion() != keyQuery.getStreamVersion()) {
+      if (!matchesInt(d.getKey().getStreamVersion(), keyQuery.getStreamVersion())) {
+        return false;
+      }
+      if (!matches(d.getKey().getProducerName(), keyQuery.getProducerNameRegex())) {
         return false;
       }
     }
     return matchesSpecification(d.getSpecification(), specQuery);
   }
+
+  public QuerySpec<ProducerBinding> asQuerySpec() {
+    var spec = QuerySpec.<ProducerBinding>builder().fallback(this);
+    if (keyQuery != null) {
+      spec.matches("key.streamDomain", keyQuery.getStreamDomainRegex())
+          .matches("key.streamName", keyQuery.getStreamNameRegex())
+          .equalTo("key.streamVersion", keyQuery.getStreamVersion())
+          .matches("key.infrastructureZone", keyQuery.getInfrastructureZoneRegex())
+          .matches("key.infrastructureName", keyQuery.getInfrastructureNameRegex())
+          .matches("key.producerName", keyQuery.getProducerNameRegex());
+    }
+    return withSpecification(spec, specQuery).build();
+  }
 }
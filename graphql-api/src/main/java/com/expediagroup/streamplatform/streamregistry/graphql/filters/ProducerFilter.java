@@ -16,13 +16,16 @@
 package com.expediagroup.streamplatform.streamregistry.graphql.filters;
 
 import static com.expediagroup.streamplatform.streamregistry.graphql.filters.FilterUtility.matches;
+import static com.expediagroup.streamplatform.streamregistry.graphql.filters.FilterUtility.matchesInt;
 import static com.expediagroup.streamplatform.streamregistry.graphql.filters.FilterUtility.matchesSpecification;
+import static com.expediagroup.streamplatform.streamregistry.graphql.filters.FilterUtility.withSpecification;
 
 import java.util.function.Predicate;
 
 import com.expediagroup.streamplatform.streamregistry.graphql.model.queries.ProducerKeyQuery;
 import com.expediagroup.streamplatform.streamregistry.graphql.model.queries.SpecificationQuery;
 import com.expediagroup.streamplatform.streamregistry.model.Producer;
+import com.expediagroup.streamplatform.streamregistry.repository.query.QuerySpec;
 
 public class ProducerFilter implements Predicate<Producer> {
 
@@ -49,10 +52,22 @@ public class ProducerFilter implements Predicate<Producer> {
       if (!matches(d.getKey().getZone(), keyQuery.getZoneRegex())) {
         return false;
       }
-      if (keyQuery.getStreamVersion() != null && d.getKey().getStreamVersion() != keyQuery.getStreamVersion()) {
+      if (!matchesInt(d.getKey().getStreamVersion(), keyQuery.getStreamVersion())) {
         return false;
       }
     }
     return matchesSpecification(d.getSpecification(), specQuery);
   }
+
+  public QuerySpec<Producer> asQuerySpec() {
+    var spec = QuerySpec.<Producer>builder().fallback(this);
+    if (keyQuery != null) {
+      spec.matches("key.streamDomain", keyQuery.getStreamDomainRegex())
+          .matches("key.streamName", keyQuery.getStreamNameRegex())
+          .equalTo("key.streamVersion", keyQuery.getStreamVersion())
+          .matches("key.zone", keyQuery.getZoneRegex())
+          .matches("key.name", keyQuery.getNameRegex());
+    }
+    return withSpecification(spec, specQuery).build();
+  }
 }
@@ -17,12 +17,15 @@ package com.expediagroup.streamplatform.streamregistry.graphql.filters;
 
 import static com.expediagroup.streamplatform.streamregistry.graphql.filters.FilterUtility.matchesSchemaKey;
 import static com.expediagroup.streamplatform.streamregistry.graphql.filters.FilterUtility.matchesSpecification;
+import static com.expediagroup.streamplatform.streamregistry.graphql.filters.FilterUtility.withSchemaKey;
+import static com.expediagroup.streamplatform.streamregistry.graphql.filters.FilterUtility.withSpecification;
 
 import java.util.function.Predicate;
 
 import com.expediagroup.streamplatform.streamregistry.graphql.model.queries.SchemaKeyQuery;
 import com.expediagroup.streamplatform.streamregistry.graphql.model.queries.SpecificationQuery;
 import com.expediagroup.streamplatform.streamregistry.model.Schema;
+import com.expediagroup.streamplatform.streamregistry.repository.query.QuerySpec;
 
 public class SchemaFilter implements Predicate<Schema> {
 
@@ -39,4 +42,10 @@ public class SchemaFilter implements Predicate<Schema> {
     return matchesSchemaKey(schema.getKey(), keyQuery)
         && matchesSpecification(schema.getSpecification(), specQuery);
   }
+
+  public QuerySpec<Schema> asQuerySpec() {
+    var spec = QuerySpec.<Schema>builder().fallback(this);
+    withSchemaKey(spec, "key", keyQuery);
+    return withSpecification(spec, specQuery).build();
+  }
 }
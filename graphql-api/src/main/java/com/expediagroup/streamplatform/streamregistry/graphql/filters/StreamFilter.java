@@ -19,6 +19,8 @@ import static com.expediagroup.streamplatform.streamregistry.graphql.filters.Fil
 import static com.expediagroup.streamplatform.streamregistry.graphql.filters.FilterUtility.matchesInt;
 import static com.expediagroup.streamplatform.streamregistry.graphql.filters.FilterUtility.matchesSchemaKey;
 import static com.expediagroup.streamplatform.streamregistry.graphql.filters.FilterUtility.matchesSpecification;
+import static com.expediagroup.streamplatform.streamregistry.graphql.filters.FilterUtility.withSchemaKey;
+import static com.expediagroup.streamplatform.streamregistry.graphql.filters.FilterUtility.withSpecification;
 
 import java.util.function.Predicate;
 
@@ -27,6 +29,7 @@ import com.expediagroup.streamplatform.streamregistry.graphql.model.queries.Spec
 import com.expediagroup.streamplatform.streamregistry.graphql.model.queries.StreamKeyQuery;
 import com.expediagroup.streamplatform.streamregistry.model.Stream;
 import com.expediagroup.streamplatform.streamregistry.model.keys.StreamKey;
+import com.expediagroup.streamplatform.streamregistry.repository.query.QuerySpec;
 
 public class StreamFilter implements Predicate<Stream> {
 
@@ -55,4 +58,15 @@ public class StreamFilter implements Predicate<Stream> {
         && matches(key.getName(), streamKeyQuery.getNameRegex())
         && matchesInt(key.getVersion(), streamKeyQuery.getVersion());
   }
+
+  public QuerySpec<Stream> asQuerySpec() {
+    var spec = QuerySpec.<Stream>builder().fallback(this);
+    if (keyQuery != null) {
+      spec.matches("key.domain", keyQuery.getDomainRegex())
+          .matches("key.name", keyQuery.getNameRegex())
+          .equalTo("key.version", keyQuery.getVersion());
+    }
+    withSchemaKey(spec, "schemaKey", schemaKeyQuery);
+    return withSpecification(spec, specQuery).build();
+  }
 }
@@ -58,6 +58,6 @@ public class TagMatchUtility {
 
   private static boolean matchesTag(Tag tag, TagQuery tagQuery) {
     return matches(tag.getName(), tagQuery.getNameRegex())
-        && matches(tag.getValue(), tagQuery.getNameRegex());
+        && matches(tag.getValue(), tagQuery.getValueRegex());
   }
 }
@@ -17,12 +17,14 @@ package com.expediagroup.streamplatform.streamregistry.graphql.filters;
 
 import static com.expediagroup.streamplatform.streamregistry.graphql.filters.FilterUtility.matches;
 import static com.expediagroup.streamplatform.streamregistry.graphql.filters.FilterUtility.matchesSpecification;
+import static com.expediagroup.streamplatform.streamregistry.graphql.filters.FilterUtility.withSpecification;
 
 import java.util.function.Predicate;
 
 import com.expediagroup.streamplatform.streamregistry.graphql.model.queries.SpecificationQuery;
 import com.expediagroup.streamplatform.streamregistry.graphql.model.queries.ZoneKeyQuery;
 import com.expediagroup.streamplatform.streamregistry.model.Zone;
+import com.expediagroup.streamplatform.streamregistry.repository.query.QuerySpec;
 
 public class ZoneFilter implements Predicate<Zone> {
 
@@ -43,4 +45,12 @@ public class ZoneFilter implements Predicate<Zone> {
     }
     return matchesSpecification(zone.getSpecification(), specQuery);
   }
+
+  public QuerySpec<Zone> asQuerySpec() {
+    var spec = QuerySpec.<Zone>builder().fallback(this);
+    if (keyQuery != null) {
+      spec.matches("key.name", keyQuery.getNameRegex());
+    }
+    return withSpecification(spec, specQuery).build();
+  }
 }
@@ -0,0 +1,77 @@
+/**
+ * Copyright (C) 2018-2020 Expedia, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.expediagroup.streamplatform.streamregistry.graphql.model.connections;
+
+import static java.util.stream.Collectors.toList;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+import lombok.Getter;
+
+import com.expediagroup.streamplatform.streamregistry.repository.query.Page;
+import com.expediagroup.streamplatform.streamregistry.repository.query.PageRequest;
+
+/**
+ * Relay style connection over a page of entities. {@code totalCount} is only computed when it is selected.
+ * {@code highWaterMark} is the revision read before the page, to pass as {@code changedSince} on the next sync.
+ */
+public class Connection<T> {
+  public static final int DEFAULT_PAGE_SIZE = 100;
+  public static final int MAX_PAGE_SIZE = 1000;
+
+  @Getter
+  private final List<Edge<T>> edges;
+  @Getter
+  private final PageInfo pageInfo;
+  private final Supplier<Long> totalCount;
+  @Getter
+  private final Long highWaterMark;
+
+  private Connection(List<Edge<T>> edges, PageInfo pageInfo, Supplier<Long> totalCount, Long highWaterMark) {
+    this.edges = edges;
+    this.pageInfo = pageInfo;
+    this.totalCount = totalCount;
+    this.highWaterMark = highWaterMark;
+  }
+
+  public Integer getTotalCount() {
+    return Math.toIntExact(totalCount.get());
+  }
+
+  public static PageRequest pageRequest(Integer first, String after) {
+    if (first == null) {
+      return new PageRequest(DEFAULT_PAGE_SIZE, after);
+    }
+    if (first < 0 || first > MAX_PAGE_SIZE) {
+      throw new IllegalArgumentException("first must be between 0 and " + MAX_PAGE_SIZE);
+    }
+    return new PageRequest(first, after);
+  }
+
+  public static <T> Connection<T> of(Page<T> page, PageRequest request, Supplier<Long> totalCount, Long highWaterMark) {
+    var edges = page.getEntries().stream()
+        .map(entry -> new Edge<>(entry.getCursor(), entry.getEntity()))
+        .collect(toList());
+    var pageInfo = new PageInfo(
+        page.isHasNext(),
+        request.getAfter() != null,
+        edges.isEmpty() ? null : edges.get(0).getCursor(),
+        edges.isEmpty() ? null : edges.get(edges.size() - 1).getCursor()
+    );
+    return new Connection<>(edges, pageInfo, totalCount, highWaterMark);
+  }
+}
@@ -20,10 +20,13 @@ import java.util.List;
 import lombok.Builder;
 import lombok.Value;
 
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
 @Value
 @Builder
 public class SpecificationQuery {
   String descriptionRegex;
   List<TagQuery> tags;
   String typeRegex;
+  ObjectNode configurationContains;
 }
\ No newline at end of file
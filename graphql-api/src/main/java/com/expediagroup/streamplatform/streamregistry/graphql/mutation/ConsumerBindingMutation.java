@@ -15,7 +15,11 @@
  */
 package com.expediagroup.streamplatform.streamregistry.graphql.mutation;
 
+import java.util.List;
+
+import com.expediagroup.streamplatform.streamregistry.core.services.BatchResult;
 import com.expediagroup.streamplatform.streamregistry.graphql.GraphQLApiType;
+import com.expediagroup.streamplatform.streamregistry.graphql.model.inputs.ConsumerBindingInput;
 import com.expediagroup.streamplatform.streamregistry.graphql.model.inputs.ConsumerBindingKeyInput;
 import com.expediagroup.streamplatform.streamregistry.graphql.model.inputs.SpecificationInput;
 import com.expediagroup.streamplatform.streamregistry.graphql.model.inputs.StatusInput;
@@ -24,11 +28,15 @@ import com.expediagroup.streamplatform.streamregistry.model.ConsumerBinding;
 public interface ConsumerBindingMutation extends GraphQLApiType {
   ConsumerBinding insert(ConsumerBindingKeyInput key, SpecificationInput specification);
 
-  ConsumerBinding update(ConsumerBindingKeyInput key, SpecificationInput specification);
+  ConsumerBinding update(ConsumerBindingKeyInput key, SpecificationInput specification, Long expectedVersion);
 
   ConsumerBinding upsert(ConsumerBindingKeyInput key, SpecificationInput specification);
 
+  List<BatchResult<ConsumerBinding>> insertMany(List<ConsumerBindingInput> items);
+
+  List<BatchResult<ConsumerBinding>> upsertMany(List<ConsumerBindingInput> items);
+
   Boolean delete(ConsumerBindingKeyInput key);
 
-  ConsumerBinding updateStatus(ConsumerBindingKeyInput key, StatusInput status);
+  ConsumerBinding updateStatus(ConsumerBindingKeyInput key, StatusInput status, Long expectedVersion);
 }
@@ -15,7 +15,11 @@
  */
 package com.expediagroup.streamplatform.streamregistry.graphql.mutation;
 
+import java.util.List;
+
+import com.expediagroup.streamplatform.streamregistry.core.services.BatchResult;
 import com.expediagroup.streamplatform.streamregistry.graphql.GraphQLApiType;
+import com.expediagroup.streamplatform.streamregistry.graphql.model.inputs.ConsumerInput;
 import com.expediagroup.streamplatform.streamregistry.graphql.model.inputs.ConsumerKeyInput;
 import com.expediagroup.streamplatform.streamregistry.graphql.model.inputs.SpecificationInput;
 import com.expediagroup.streamplatform.streamregistry.graphql.model.inputs.StatusInput;
@@ -24,11 +28,15 @@ import com.expediagroup.streamplatform.streamregistry.model.Consumer;
 public interface ConsumerMutation extends GraphQLApiType {
   Consumer insert(ConsumerKeyInput key, SpecificationInput specification);
 
-  Consumer update(ConsumerKeyInput key, SpecificationInput specification);
+  Consumer update(ConsumerKeyInput key, SpecificationInput specification, Long expectedVersion);
 
   Consumer upsert(ConsumerKeyInput key, SpecificationInput specification);
 
+  List<BatchResult<Consumer>> insertMany(List<ConsumerInput> items);
+
+  List<BatchResult<Consumer>> upsertMany(List<ConsumerInput> items);
+
   Boolean delete(ConsumerKeyInput key);
 
-  Consumer updateStatus(ConsumerKeyInput key, StatusInput status);
+  Consumer updateStatus(ConsumerKeyInput key, StatusInput status, Long expectedVersion);
 }
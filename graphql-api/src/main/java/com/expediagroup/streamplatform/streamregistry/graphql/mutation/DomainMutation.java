@@ -15,7 +15,11 @@
  */
 package com.expediagroup.streamplatform.streamregistry.graphql.mutation;
 
+import java.util.List;
+
+import com.expediagroup.streamplatform.streamregistry.core.services.BatchResult;
 import com.expediagroup.streamplatform.streamregistry.graphql.GraphQLApiType;
+import com.expediagroup.streamplatform.streamregistry.graphql.model.inputs.DomainInput;
 import com.expediagroup.streamplatform.streamregistry.graphql.model.inputs.DomainKeyInput;
 import com.expediagroup.streamplatform.streamregistry.graphql.model.inputs.SpecificationInput;
 import com.expediagroup.streamplatform.streamregistry.graphql.model.inputs.StatusInput;
@@ -24,11 +28,15 @@ import com.expediagroup.streamplatform.streamregistry.model.Domain;
 public interface DomainMutation extends GraphQLApiType {
   Domain insert(DomainKeyInput key, SpecificationInput specification);
 
-  Domain update(DomainKeyInput key, SpecificationInput specification);
+  Domain update(DomainKeyInput key, SpecificationInput specification, Long expectedVersion);
 
   Domain upsert(DomainKeyInput key, SpecificationInput specification);
 
+  List<BatchResult<Domain>> insertMany(List<DomainInput> items);
+
+  List<BatchResult<Domain>> upsertMany(List<DomainInput> items);
+
   Boolean delete(DomainKeyInput key);
 
-  Domain updateStatus(DomainKeyInput key, StatusInput status);
+  Domain updateStatus(DomainKeyInput key, StatusInput status, Long expectedVersion);
 }
@@ -15,7 +15,11 @@
  */
 package com.expediagroup.streamplatform.streamregistry.graphql.mutation;
 
+import java.util.List;
+
+import com.expediagroup.streamplatform.streamregistry.core.services.BatchResult;
 import com.expediagroup.streamplatform.streamregistry.graphql.GraphQLApiType;
+import com.expediagroup.streamplatform.streamregistry.graphql.model.inputs.InfrastructureInput;
 import com.expediagroup.streamplatform.streamregistry.graphql.model.inputs.InfrastructureKeyInput;
 import com.expediagroup.streamplatform.streamregistry.graphql.model.inputs.SpecificationInput;
 import com.expediagroup.streamplatform.streamregistry.graphql.model.inputs.StatusInput;
@@ -24,11 +28,15 @@ import com.expediagroup.streamplatform.streamregistry.model.Infrastructure;
 public interface InfrastructureMutation extends GraphQLApiType {
   Infrastructure insert(InfrastructureKeyInput key, SpecificationInput specification);
 
-  Infrastructure update(InfrastructureKeyInput key, SpecificationInput specification);
+  Infrastructure update(InfrastructureKeyInput key, SpecificationInput specification, Long expectedVersion);
 
   Infrastructure upsert(InfrastructureKeyInput key, SpecificationInput specification);
 
+  List<BatchResult<Infrastructure>> insertMany(List<InfrastructureInput> items);
+
+  List<BatchResult<Infrastructure>> upsertMany(List<InfrastructureInput> items);
+
   Boolean delete(InfrastructureKeyInput key);
 
-  Infrastructure updateStatus(InfrastructureKeyInput key, StatusInput status);
+  Infrastructure updateStatus(InfrastructureKeyInput key, StatusInput status, Long expectedVersion);
 }
@@ -15,7 +15,11 @@
  */
 package com.expediagroup.streamplatform.streamregistry.graphql.mutation;
 
+import java.util.List;
+
+import com.expediagroup.streamplatform.streamregistry.core.services.BatchResult;
 import com.expediagroup.streamplatform.streamregistry.graphql.GraphQLApiType;
+import com.expediagroup.streamplatform.streamregistry.graphql.model.inputs.ProducerBindingInput;
 import com.expediagroup.streamplatform.streamregistry.graphql.model.inputs.ProducerBindingKeyInput;
 import com.expediagroup.streamplatform.streamregistry.graphql.model.inputs.SpecificationInput;
 import com.expediagroup.streamplatform.streamregistry.graphql.model.inputs.StatusInput;
@@ -24,11 +28,15 @@ import com.expediagroup.streamplatform.streamregistry.model.ProducerBinding;
 public interface ProducerBindingMutation extends GraphQLApiType {
   ProducerBinding insert(ProducerBindingKeyInput key, SpecificationInput specification);
 
-  ProducerBinding update(ProducerBindingKeyInput key, SpecificationInput specification);
+  ProducerBinding update(ProducerBindingKeyInput key, SpecificationInput specification, Long expectedVersion);
 
   ProducerBinding upsert(ProducerBindingKeyInput key, SpecificationInput specification);
 
+  List<BatchResult<ProducerBinding>> insertMany(List<ProducerBindingInput> items);
+
+  List<BatchResult<ProducerBinding>> upsertMany(List<ProducerBindingInput> items);
+
   Boolean delete(ProducerBindingKeyInput key);
 
-  ProducerBinding updateStatus(ProducerBindingKeyInput key, StatusInput status);
+  ProducerBinding updateStatus(ProducerBindingKeyInput key, StatusInput status, Long expectedVersion);
 }
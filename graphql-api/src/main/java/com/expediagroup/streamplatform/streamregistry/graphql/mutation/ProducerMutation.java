@@ -15,7 +15,11 @@
  */
 package com.expediagroup.streamplatform.streamregistry.graphql.mutation;
 
+import java.util.List;
+
+import com.expediagroup.streamplatform.streamregistry.core.services.BatchResult;
 import com.expediagroup.streamplatform.streamregistry.graphql.GraphQLApiType;
+import com.expediagroup.streamplatform.streamregistry.graphql.model.inputs.ProducerInput;
 import com.expediagroup.streamplatform.streamregistry.graphql.model.inputs.ProducerKeyInput;
 import com.expediagroup.streamplatform.streamregistry.graphql.model.inputs.SpecificationInput;
 import com.expediagroup.streamplatform.streamregistry.graphql.model.inputs.StatusInput;
@@ -24,11 +28,15 @@ import com.expediagroup.streamplatform.streamregistry.model.Producer;
 public interface ProducerMutation extends GraphQLApiType {
   Producer insert(ProducerKeyInput key, SpecificationInput specification);
 
-  Producer update(ProducerKeyInput key, SpecificationInput specification);
+  Producer update(ProducerKeyInput key, SpecificationInput specification, Long expectedVersion);
 
   Producer upsert(ProducerKeyInput key, SpecificationInput specification);
 
+  List<BatchResult<Producer>> insertMany(List<ProducerInput> items);
+
+  List<BatchResult<Producer>> upsertMany(List<ProducerInput> items);
+
   Boolean delete(ProducerKeyInput key);
 
-  Producer updateStatus(ProducerKeyInput key, StatusInput status);
+  Producer updateStatus(ProducerKeyInput key, StatusInput status, Long expectedVersion);
 }
@@ -15,7 +15,11 @@
  */
 package com.expediagroup.streamplatform.streamregistry.graphql.mutation;
 
+import java.util.List;
+
+import com.expediagroup.streamplatform.streamregistry.core.services.BatchResult;
 import com.expediagroup.streamplatform.streamregistry.graphql.GraphQLApiType;
+import com.expediagroup.streamplatform.streamregistry.graphql.model.inputs.SchemaInput;
 import com.expediagroup.streamplatform.streamregistry.graphql.model.inputs.SchemaKeyInput;
 import com.expediagroup.streamplatform.streamregistry.graphql.model.inputs.SpecificationInput;
 import com.expediagroup.streamplatform.streamregistry.graphql.model.inputs.StatusInput;
@@ -24,11 +28,15 @@ import com.expediagroup.streamplatform.streamregistry.model.Schema;
 public interface SchemaMutation extends GraphQLApiType {
   Schema insert(SchemaKeyInput key, SpecificationInput specification);
 
-  Schema update(SchemaKeyInput key, SpecificationInput specification);
+  Schema update(SchemaKeyInput key, SpecificationInput specification, Long expectedVersion);
 
   Schema upsert(SchemaKeyInput key, SpecificationInput specification);
 
+  List<BatchResult<Schema>> insertMany(List<SchemaInput> items);
+
+  List<BatchResult<Schema>> upsertMany(List<SchemaInput> items);
+
   Boolean delete(SchemaKeyInput key);
 
-  Schema updateStatus(SchemaKeyInput key, StatusInput status);
+  Schema updateStatus(SchemaKeyInput key, StatusInput status, Long expectedVersion);
 }
@@ -15,20 +15,28 @@
  */
 package com.expediagroup.streamplatform.streamregistry.graphql.mutation;
 
+import java.util.List;
+
+import com.expediagroup.streamplatform.streamregistry.core.services.BatchResult;
 import com.expediagroup.streamplatform.streamregistry.graphql.GraphQLApiType;
 import com.expediagroup.streamplatform.streamregistry.graphql.model.inputs.SpecificationInput;
 import com.expediagroup.streamplatform.streamregistry.graphql.model.inputs.StatusInput;
+import com.expediagroup.streamplatform.streamregistry.graphql.model.inputs.StreamBindingInput;
 import com.expediagroup.streamplatform.streamregistry.graphql.model.inputs.StreamBindingKeyInput;
 import com.expediagroup.streamplatform.streamregistry.model.StreamBinding;
 
 public interface StreamBindingMutation extends GraphQLApiType {
   StreamBinding insert(StreamBindingKeyInput key, SpecificationInput specification);
 
-  StreamBinding update(StreamBindingKeyInput key, SpecificationInput specification);
+  StreamBinding update(StreamBindingKeyInput key, SpecificationInput specification, Long expectedVersion);
 
   StreamBinding upsert(StreamBindingKeyInput key, SpecificationInput specification);
 
+  List<BatchResult<StreamBinding>> insertMany(List<StreamBindingInput> items);
+
+  List<BatchResult<StreamBinding>> upsertMany(List<StreamBindingInput> items);
+
   Boolean delete(StreamBindingKeyInput key);
 
-  StreamBinding updateStatus(StreamBindingKeyInput key, StatusInput status);
+  StreamBinding updateStatus(StreamBindingKeyInput key, StatusInput status, Long expectedVersion);
 }
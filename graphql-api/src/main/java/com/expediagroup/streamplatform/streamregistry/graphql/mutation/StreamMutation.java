@@ -15,21 +15,29 @@
  */
 package com.expediagroup.streamplatform.streamregistry.graphql.mutation;
 
+import java.util.List;
+
+import com.expediagroup.streamplatform.streamregistry.core.services.BatchResult;
 import com.expediagroup.streamplatform.streamregistry.graphql.GraphQLApiType;
 import com.expediagroup.streamplatform.streamregistry.graphql.model.inputs.SchemaKeyInput;
 import com.expediagroup.streamplatform.streamregistry.graphql.model.inputs.SpecificationInput;
 import com.expediagroup.streamplatform.streamregistry.graphql.model.inputs.StatusInput;
+import com.expediagroup.streamplatform.streamregistry.graphql.model.inputs.StreamInput;
 import com.expediagroup.streamplatform.streamregistry.graphql.model.inputs.StreamKeyInput;
 import com.expediagroup.streamplatform.streamregistry.model.Stream;
 
 public interface StreamMutation extends GraphQLApiType {
   Stream insert(StreamKeyInput key, SpecificationInput specification, SchemaKeyInput schema);
 
-  Stream update(StreamKeyInput key, SpecificationInput specification);
+  Stream update(StreamKeyInput key, SpecificationInput specification, Long expectedVersion);
 
   Stream upsert(StreamKeyInput key, SpecificationInput specification, SchemaKeyInput schema);
 
+  List<BatchResult<Stream>> insertMany(List<StreamInput> items);
+
+  List<BatchResult<Stream>> upsertMany(List<StreamInput> items);
+
   Boolean delete(StreamKeyInput key);
 
-  Stream updateStatus(StreamKeyInput key, StatusInput status);
+  Stream updateStatus(StreamKeyInput key, StatusInput status, Long expectedVersion);
 }
@@ -15,20 +15,28 @@
  */
 package com.expediagroup.streamplatform.streamregistry.graphql.mutation;
 
+import java.util.List;
+
+import com.expediagroup.streamplatform.streamregistry.core.services.BatchResult;
 import com.expediagroup.streamplatform.streamregistry.graphql.GraphQLApiType;
 import com.expediagroup.streamplatform.streamregistry.graphql.model.inputs.SpecificationInput;
 import com.expediagroup.streamplatform.streamregistry.graphql.model.inputs.StatusInput;
+import com.expediagroup.streamplatform.streamregistry.graphql.model.inputs.ZoneInput;
 import com.expediagroup.streamplatform.streamregistry.graphql.model.inputs.ZoneKeyInput;
 import com.expediagroup.streamplatform.streamregistry.model.Zone;
 
 public interface ZoneMutation extends GraphQLApiType {
   Zone insert(ZoneKeyInput key, SpecificationInput specification);
 
-  Zone update(ZoneKeyInput key, SpecificationInput specification);
+  Zone update(ZoneKeyInput key, SpecificationInput specification, Long expectedVersion);
 
   Zone upsert(ZoneKeyInput key, SpecificationInput specification);
 
+  List<BatchResult<Zone>> insertMany(List<ZoneInput> items);
+
+  List<BatchResult<Zone>> upsertMany(List<ZoneInput> items);
+
   Boolean delete(ZoneKeyInput key);
 
-  Zone updateStatus(ZoneKeyInput key, StatusInput status);
+  Zone updateStatus(ZoneKeyInput key, StatusInput status, Long expectedVersion);
 }
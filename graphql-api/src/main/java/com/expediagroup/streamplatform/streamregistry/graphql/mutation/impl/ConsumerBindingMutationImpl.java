@@ -15,13 +15,17 @@
  */
 package com.expediagroup.streamplatform.streamregistry.graphql.mutation.impl;
 
-import static com.expediagroup.streamplatform.streamregistry.graphql.StateHelper.maintainState;
+import static java.util.stream.Collectors.toList;
+
+import java.util.List;
 
 import lombok.RequiredArgsConstructor;
 
 import org.springframework.stereotype.Component;
 
+import com.expediagroup.streamplatform.streamregistry.core.services.BatchResult;
 import com.expediagroup.streamplatform.streamregistry.core.services.ConsumerBindingService;
+import com.expediagroup.streamplatform.streamregistry.graphql.model.inputs.ConsumerBindingInput;
 import com.expediagroup.streamplatform.streamregistry.graphql.model.inputs.ConsumerBindingKeyInput;
 import com.expediagroup.streamplatform.streamregistry.graphql.model.inputs.SpecificationInput;
 import com.expediagroup.streamplatform.streamregistry.graphql.model.inputs.StatusInput;
@@ -39,8 +43,10 @@ public class ConsumerBindingMutationImpl implements ConsumerBindingMutation {
   }
 
   @Override
-  public ConsumerBinding update(ConsumerBindingKeyInput key, SpecificationInput specification) {
-    return consumerBindingService.update(asConsumerBinding(key, specification)).get();
+  public ConsumerBinding update(ConsumerBindingKeyInput key, SpecificationInput specification, Long expectedVersion) {
+    ConsumerBinding consumerBinding = asConsumerBinding(key, specification);
+    consumerBinding.setVersion(expectedVersion);
+    return consumerBindingService.update(consumerBinding).get();
   }
 
   @Override
@@ -48,23 +54,34 @@ public class ConsumerBindingMutationImpl implements ConsumerBindingMutation {
     return consumerBindingService.upsert(asConsumerBinding(key, specification)).get();
   }
 
+  @Override
+  public List<BatchResult<ConsumerBinding>> insertMany(List<ConsumerBindingInput> items) {
+    return consumerBindingService.createAll(items.stream()
+        .map(item -> asConsumerBinding(item.getKey(), item.getSpecification()))
+        .collect(toList()));
+  }
+
+  @Override
+  public List<BatchResult<ConsumerBinding>> upsertMany(List<ConsumerBindingInput> items) {
+    return consumerBindingService.upsertAll(items.stream()
+        .map(item -> asConsumerBinding(item.getKey(), item.getSpecification()))
+        .collect(toList()));
+  }
+
   @Override
   public Boolean delete(ConsumerBindingKeyInput key) {
     throw new UnsupportedOperationException("delete");
   }
 
   @Override
-  public ConsumerBinding updateStatus(ConsumerBindingKeyInput key, StatusInput status) {
-    ConsumerBinding consumerBinding = consumerBindingService.read(key.asConsumerBindingKey()).get();
-    consumerBinding.setStatus(status.asStatus());
-    return consumerBindingService.update(consumerBinding).get();
+  public ConsumerBinding updateStatus(ConsumerBindingKeyInput key, StatusInput status, Long expectedVersion) {
+    return consumerBindingService.updateStatus(key.asConsumerBindingKey(), status.asStatus(), expectedVersion).get();
   }
 
   private ConsumerBinding asConsumerBinding(ConsumerBindingKeyInput key, SpecificationInput specification) {
     ConsumerBinding consumerBinding = new ConsumerBinding();
     consumerBinding.setKey(key.asConsumerBindingKey());
     consumerBinding.setSpecification(specification.asSpecification());
-    maintainState(consumerBinding, consumerBindingService.read(key.asConsumerBindingKey()));
     return consumerBinding;
   }
 }
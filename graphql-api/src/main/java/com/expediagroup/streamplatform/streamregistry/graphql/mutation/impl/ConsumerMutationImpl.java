@@ -15,13 +15,17 @@
  */
 package com.expediagroup.streamplatform.streamregistry.graphql.mutation.impl;
 
-import static com.expediagroup.streamplatform.streamregistry.graphql.StateHelper.maintainState;
+import static java.util.stream.Collectors.toList;
+
+import java.util.List;
 
 import lombok.RequiredArgsConstructor;
 
 import org.springframework.stereotype.Component;
 
+import com.expediagroup.streamplatform.streamregistry.core.services.BatchResult;
 import com.expediagroup.streamplatform.streamregistry.core.services.ConsumerService;
+import com.expediagroup.streamplatform.streamregistry.graphql.model.inputs.ConsumerInput;
 import com.expediagroup.streamplatform.streamregistry.graphql.model.inputs.ConsumerKeyInput;
 import com.expediagroup.streamplatform.streamregistry.graphql.model.inputs.SpecificationInput;
 import com.expediagroup.streamplatform.streamregistry.graphql.model.inputs.StatusInput;
@@ -39,8 +43,10 @@ public class ConsumerMutationImpl implements ConsumerMutation {
   }
 
   @Override
-  public Consumer update(ConsumerKeyInput key, SpecificationInput specification) {
-    return consumerService.update(asConsumer(key, specification)).get();
+  public Consumer update(ConsumerKeyInput key, SpecificationInput specification, Long expectedVersion) {
+    Consumer consumer = asConsumer(key, specification);
+    consumer.setVersion(expectedVersion);
+    return consumerService.update(consumer).get();
   }
 
   @Override
@@ -48,23 +54,34 @@ public class ConsumerMutationImpl implements ConsumerMutation {
     return consumerService.upsert(asConsumer(key, specification)).get();
   }
 
+  @Override
+  public List<BatchResult<Consumer>> insertMany(List<ConsumerInput> items) {
+    return consumerService.createAll(items.stream()
+        .map(item -> asConsumer(item.getKey(), item.getSpecification()))
+        .collect(toList()));
+  }
+
+  @Override
+  public List<BatchResult<Consumer>> upsertMany(List<ConsumerInput> items) {
+    return consumerService.upsertAll(items.stream()
+        .map(item -> asConsumer(item.getKey(), item.getSpecification()))
+        .collect(toList()));
+  }
+
   @Override
   public Boolean delete(ConsumerKeyInput key) {
     throw new UnsupportedOperationException("delete");
   }
 
   @Override
-  public Consumer updateStatus(ConsumerKeyInput key, StatusInput status) {
-    Consumer consumer = consumerService.read(key.asConsumerKey()).get();
-    consumer.setStatus(status.asStatus());
-    return consumerService.update(consumer).get();
+  public Consumer updateStatus(ConsumerKeyInput key, StatusInput status, Long expectedVersion) {
+    return consumerService.updateStatus(key.asConsumerKey(), status.asStatus(), expectedVersion).get();
   }
 
   private Consumer asConsumer(ConsumerKeyInput key, SpecificationInput specification) {
     Consumer consumer = new Consumer();
     consumer.setKey(key.asConsumerKey());
     consumer.setSpecification(specification.asSpecification());
-    maintainState(consumer, consumerService.read(consumer.getKey()));
     return consumer;
   }
 }
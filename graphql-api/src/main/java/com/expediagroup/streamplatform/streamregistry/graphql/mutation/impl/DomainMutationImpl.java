@@ -15,13 +15,17 @@
  */
 package com.expediagroup.streamplatform.streamregistry.graphql.mutation.impl;
 
-import static com.expediagroup.streamplatform.streamregistry.graphql.StateHelper.maintainState;
+import static java.util.stream.Collectors.toList;
+
+import java.util.List;
 
 import lombok.RequiredArgsConstructor;
 
 import org.springframework.stereotype.Component;
 
+import com.expediagroup.streamplatform.streamregistry.core.services.BatchResult;
 import com.expediagroup.streamplatform.streamregistry.core.services.DomainService;
+import com.expediagroup.streamplatform.streamregistry.graphql.model.inputs.DomainInput;
 import com.expediagroup.streamplatform.streamregistry.graphql.model.inputs.DomainKeyInput;
 import com.expediagroup.streamplatform.streamregistry.graphql.model.inputs.SpecificationInput;
 import com.expediagroup.streamplatform.streamregistry.graphql.model.inputs.StatusInput;
@@ -39,31 +43,44 @@ public class DomainMutationImpl implements DomainMutation {
   }
 
   @Override
-  public Domain update(DomainKeyInput key, SpecificationInput specification) {
-    return domainService.update(asDomain(key, specification)).get();
+  public Domain update(DomainKeyInput key, SpecificationInput specification, Long expectedVersion) {
+    Domain domain = asDomain(key, specification);
+    domain.setVersion(expectedVersion);
+    return domainService.update(domain).get();
   }
   @Override
   public Domain upsert(DomainKeyInput key, SpecificationInput specification) {
     return domainService.upsert(asDomain(key, specification)).get();
   }
 
+  @Override
+  public List<BatchResult<Domain>> insertMany(List<DomainInput> items) {
+    return domainService.createAll(items.stream()
+        .map(item -> asDomain(item.getKey(), item.getSpecification()))
+        .collect(toList()));
+  }
+
+  @Override
+  public List<BatchResult<Domain>> upsertMany(List<DomainInput> items) {
+    return domainService.upsertAll(items.stream()
+        .map(item -> asDomain(item.getKey(), item.getSpecification()))
+        .collect(toList()));
+  }
+
   @Override
   public Boolean delete(DomainKeyInput key) {
     throw new UnsupportedOperationException("delete");
   }
 
   @Override
-  public Domain updateStatus(DomainKeyInput key, StatusInput status) {
-    Domain domain = domainService.read(key.asDomainKey()).get();
-    domain.setStatus(status.asStatus());
-    return domainService.update(domain).get();
+  public Domain updateStatus(DomainKeyInput key, StatusInput status, Long expectedVersion) {
+    return domainService.updateStatus(key.asDomainKey(), status.asStatus(), expectedVersion).get();
   }
 
   private Domain asDomain(DomainKeyInput key, SpecificationInput specification) {
     Domain domain = new Domain();
     domain.setKey(key.asDomainKey());
     domain.setSpecification(specification.asSpecification());
-    maintainState(domain, domainService.read(domain.getKey()));
     return domain;
   }
 }
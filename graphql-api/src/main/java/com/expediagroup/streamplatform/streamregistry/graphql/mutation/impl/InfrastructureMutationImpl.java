@@ -15,13 +15,17 @@
  */
 package com.expediagroup.streamplatform.streamregistry.graphql.mutation.impl;
 
-import static com.expediagroup.streamplatform.streamregistry.graphql.StateHelper.maintainState;
+import static java.util.stream.Collectors.toList;
+
+import java.util.List;
 
 import lombok.RequiredArgsConstructor;
 
 import org.springframework.stereotype.Component;
 
+import com.expediagroup.streamplatform.streamregistry.core.services.BatchResult;
 import com.expediagroup.streamplatform.streamregistry.core.services.InfrastructureService;
+import com.expediagroup.streamplatform.streamregistry.graphql.model.inputs.InfrastructureInput;
 import com.expediagroup.streamplatform.streamregistry.graphql.model.inputs.InfrastructureKeyInput;
 import com.expediagroup.streamplatform.streamregistry.graphql.model.inputs.SpecificationInput;
 import com.expediagroup.streamplatform.streamregistry.graphql.model.inputs.StatusInput;
@@ -39,8 +43,10 @@ public class InfrastructureMutationImpl implements InfrastructureMutation {
   }
 
   @Override
-  public Infrastructure update(InfrastructureKeyInput key, SpecificationInput specification) {
-    return infrastructureService.update(asInfrastructure(key, specification)).get();
+  public Infrastructure update(InfrastructureKeyInput key, SpecificationInput specification, Long expectedVersion) {
+    Infrastructure infrastructure = asInfrastructure(key, specification);
+    infrastructure.setVersion(expectedVersion);
+    return infrastructureService.update(infrastructure).get();
   }
 
   @Override
@@ -48,23 +54,34 @@ public class InfrastructureMutationImpl implements InfrastructureMutation {
     return infrastructureService.upsert(asInfrastructure(key, specification)).get();
   }
 
+  @Override
+  public List<BatchResult<Infrastructure>> insertMany(List<InfrastructureInput> items) {
+    return infrastructureService.createAll(items.stream()
+        .map(item -> asInfrastructure(item.getKey(), item.getSpecification()))
+        .collect(toList()));
+  }
+
+  @Override
+  public List<BatchResult<Infrastructure>> upsertMany(List<InfrastructureInput> items) {
+    return infrastructureService.upsertAll(items.stream()
+        .map(item -> asInfrastructure(item.getKey(), item.getSpecification()))
+        .collect(toList()));
+  }
+
   @Override
   public Boolean delete(InfrastructureKeyInput key) {
     throw new UnsupportedOperationException("delete");
   }
 
   @Override
-  public Infrastructure updateStatus(InfrastructureKeyInput key, StatusInput status) {
-    Infrastructure infrastructure = infrastructureService.read(key.asInfrastructureKey()).get();
-    infrastructure.setStatus(status.asStatus());
-    return infrastructureService.update(infrastructure).get();
+  public Infrastructure updateStatus(InfrastructureKeyInput key, StatusInput status, Long expectedVersion) {
+    return infrastructureService.updateStatus(key.asInfrastructureKey(), status.asStatus(), expectedVersion).get();
   }
 
   private Infrastructure asInfrastructure(InfrastructureKeyInput key, SpecificationInput specification) {
     Infrastructure out = new Infrastructure();
     out.setKey(key.asInfrastructureKey());
     out.setSpecification(specification.asSpecification());
-    maintainState(out, infrastructureService.read(out.getKey()));
     return out;
   }
 }
@@ -15,13 +15,17 @@
  */
 package com.expediagroup.streamplatform.streamregistry.graphql.mutation.impl;
 
-import static com.expediagroup.streamplatform.streamregistry.graphql.StateHelper.maintainState;
+import static java.util.stream.Collectors.toList;
+
+import java.util.List;
 
 import lombok.RequiredArgsConstructor;
 
 import org.springframework.stereotype.Component;
 
+import com.expediagroup.streamplatform.streamregistry.core.services.BatchResult;
 import com.expediagroup.streamplatform.streamregistry.core.services.ProducerBindingService;
+import com.expediagroup.streamplatform.streamregistry.graphql.model.inputs.ProducerBindingInput;
 import com.expediagroup.streamplatform.streamregistry.graphql.model.inputs.ProducerBindingKeyInput;
 import com.expediagroup.streamplatform.streamregistry.graphql.model.inputs.SpecificationInput;
 import com.expediagroup.streamplatform.streamregistry.graphql.model.inputs.StatusInput;
@@ -39,8 +43,10 @@ public class ProducerBindingMutationImpl implements ProducerBindingMutation {
   }
 
   @Override
-  public ProducerBinding update(ProducerBindingKeyInput key, SpecificationInput specification) {
-    return producerBindingService.update(asProducerBinding(key, specification)).get();
+  public ProducerBinding update(ProducerBindingKeyInput key, SpecificationInput specification, Long expectedVersion) {
+    ProducerBinding producerBinding = asProducerBinding(key, specification);
+    producerBinding.setVersion(expectedVersion);
+    return producerBindingService.update(producerBinding).get();
   }
 
   @Override
@@ -48,23 +54,34 @@ public class ProducerBindingMutationImpl implements ProducerBindingMutation {
     return producerBindingService.upsert(asProducerBinding(key, specification)).get();
   }
 
+  @Override
+  public List<BatchResult<ProducerBinding>> insertMany(List<ProducerBindingInput> items) {
+    return producerBindingService.createAll(items.stream()
+        .map(item -> asProducerBinding(item.getKey(), item.getSpecification()))
+        .collect(toList()));
+  }
+
+  @Override
+  public List<BatchResult<ProducerBinding>> upsertMany(List<ProducerBindingInput> items) {
+    return producerBindingService.upsertAll(items.stream()
+        .map(item -> asProducerBinding(item.getKey(), item.getSpecification()))
+        .collect(toList()));
+  }
+
   @Override
   public Boolean delete(ProducerBindingKeyInput key) {
     throw new UnsupportedOperationException("delete");
   }
 
   @Override
-  public ProducerBinding updateStatus(ProducerBindingKeyInput key, StatusInput status) {
-    ProducerBinding producerBinding = producerBindingService.read(key.asProducerBindingKey()).get();
-    producerBinding.setStatus(status.asStatus());
-    return producerBindingService.update(producerBinding).get();
+  public ProducerBinding updateStatus(ProducerBindingKeyInput key, StatusInput status, Long expectedVersion) {
+    return producerBindingService.updateStatus(key.asProducerBindingKey(), status.asStatus(), expectedVersion).get();
   }
 
   private ProducerBinding asProducerBinding(ProducerBindingKeyInput key, SpecificationInput specification) {
     ProducerBinding producerBinding = new ProducerBinding();
     producerBinding.setKey(key.asProducerBindingKey());
     producerBinding.setSpecification(specification.asSpecification());
-    maintainState(producerBinding, producerBindingService.read(producerBinding.getKey()));
     return producerBinding;
   }
 }
@@ -15,13 +15,17 @@
  */
 package com.expediagroup.streamplatform.streamregistry.graphql.mutation.impl;
 
-import static com.expediagroup.streamplatform.streamregistry.graphql.StateHelper.maintainState;
+import static java.util.stream.Collectors.toList;
+
+import java.util.List;
 
 import lombok.RequiredArgsConstructor;
 
 import org.springframework.stereotype.Component;
 
+import com.expediagroup.streamplatform.streamregistry.core.services.BatchResult;
 import com.expediagroup.streamplatform.streamregistry.core.services.ProducerService;
+import com.expediagroup.streamplatform.streamregistry.graphql.model.inputs.ProducerInput;
 import com.expediagroup.streamplatform.streamregistry.graphql.model.inputs.ProducerKeyInput;
 import com.expediagroup.streamplatform.streamregistry.graphql.model.inputs.SpecificationInput;
 import com.expediagroup.streamplatform.streamregistry.graphql.model.inputs.StatusInput;
@@ -39,8 +43,10 @@ public class ProducerMutationImpl implements ProducerMutation {
   }
 
   @Override
-  public Producer update(ProducerKeyInput key, SpecificationInput specification) {
-    return producerService.update(asProducer(key, specification)).get();
+  public Producer update(ProducerKeyInput key, SpecificationInput specification, Long expectedVersion) {
+    Producer producer = asProducer(key, specification);
+    producer.setVersion(expectedVersion);
+    return producerService.update(producer).get();
   }
 
   @Override
@@ -48,23 +54,34 @@ public class ProducerMutationImpl implements ProducerMutation {
     return producerService.upsert(asProducer(key, specification)).get();
   }
 
+  @Override
+  public List<BatchResult<Producer>> insertMany(List<ProducerInput> items) {
+    return producerService.createAll(items.stream()
+        .map(item -> asProducer(item.getKey(), item.getSpecification()))
+        .collect(toList()));
+  }
+
+  @Override
+  public List<BatchResult<Producer>> upsertMany(List<ProducerInput> items) {
+    return producerService.upsertAll(items.stream()
+        .map(item -> asProducer(item.getKey(), item.getSpecification()))
+        .collect(toList()));
+  }
+
   @Override
   public Boolean delete(ProducerKeyInput key) {
     throw new UnsupportedOperationException("delete");
   }
 
   @Override
-  public Producer updateStatus(ProducerKeyInput key, StatusInput status) {
-    Producer producer = producerService.read(key.asProducerKey()).get();
-    producer.setStatus(status.asStatus());
-    return producerService.update(producer).get();
+  public Producer updateStatus(ProducerKeyInput key, StatusInput status, Long expectedVersion) {
+    return producerService.updateStatus(key.asProducerKey(), status.asStatus(), expectedVersion).get();
   }
 
   private Producer asProducer(ProducerKeyInput key, SpecificationInput specification) {
     Producer producer = new Producer();
     producer.setKey(key.asProducerKey());
     producer.setSpecification(specification.asSpecification());
-    maintainState(producer, producerService.read(producer.getKey()));
     return producer;
   }
 }
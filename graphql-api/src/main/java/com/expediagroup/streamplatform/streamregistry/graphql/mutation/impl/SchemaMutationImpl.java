@@ -15,13 +15,17 @@
  */
 package com.expediagroup.streamplatform.streamregistry.graphql.mutation.impl;
 
-import static com.expediagroup.streamplatform.streamregistry.graphql.StateHelper.maintainState;
+import static java.util.stream.Collectors.toList;
+
+import java.util.List;
 
 import lombok.RequiredArgsConstructor;
 
 import org.springframework.stereotype.Component;
 
+import com.expediagroup.streamplatform.streamregistry.core.services.BatchResult;
 import com.expediagroup.streamplatform.streamregistry.core.services.SchemaService;
+import com.expediagroup.streamplatform.streamregistry.graphql.model.inputs.SchemaInput;
 import com.expediagroup.streamplatform.streamregistry.graphql.model.inputs.SchemaKeyInput;
 import com.expediagroup.streamplatform.streamregistry.graphql.model.inputs.SpecificationInput;
 import com.expediagroup.streamplatform.streamregistry.graphql.model.inputs.StatusInput;
@@ -39,8 +43,10 @@ public class SchemaMutationImpl implements SchemaMutation {
   }
 
   @Override
-  public Schema update(SchemaKeyInput key, SpecificationInput specification) {
-    return schemaService.update(asSchema(key, specification)).get();
+  public Schema update(SchemaKeyInput key, SpecificationInput specification, Long expectedVersion) {
+    Schema schema = asSchema(key, specification);
+    schema.setVersion(expectedVersion);
+    return schemaService.update(schema).get();
   }
 
   @Override
@@ -48,23 +54,34 @@ public class SchemaMutationImpl implements SchemaMutation {
     return schemaService.upsert(asSchema(key, specification)).get();
   }
 
+  @Override
+  public List<BatchResult<Schema>> insertMany(List<SchemaInput> items) {
+    return schemaService.createAll(items.stream()
+        .map(item -> asSchema(item.getKey(), item.getSpecification()))
+        .collect(toList()));
+  }
+
+  @Override
+  public List<BatchResult<Schema>> upsertMany(List<SchemaInput> items) {
+    return schemaService.upsertAll(items.stream()
+        .map(item -> asSchema(item.getKey(), item.getSpecification()))
+        .collect(toList()));
+  }
+
   @Override
   public Boolean delete(SchemaKeyInput key) {
     throw new UnsupportedOperationException("delete");
   }
 
   @Override
-  public Schema updateStatus(SchemaKeyInput key, StatusInput status) {
-    Schema schema = schemaService.read(key.asSchemaKey()).get();
-    schema.setStatus(status.asStatus());
-    return schemaService.update(schema).get();
+  public Schema updateStatus(SchemaKeyInput key, StatusInput status, Long expectedVersion) {
+    return schemaService.updateStatus(key.asSchemaKey(), status.asStatus(), expectedVersion).get();
   }
 
   private Schema asSchema(SchemaKeyInput key, SpecificationInput specification) {
     Schema schema = new Schema();
     schema.setKey(key.asSchemaKey());
     schema.setSpecification(specification.asSpecification());
-    maintainState(schema, schemaService.read(schema.getKey()));
     return schema;
   }
 }
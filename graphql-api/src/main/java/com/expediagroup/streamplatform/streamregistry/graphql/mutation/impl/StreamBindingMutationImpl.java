@@ -15,15 +15,19 @@
  */
 package com.expediagroup.streamplatform.streamregistry.graphql.mutation.impl;
 
-import static com.expediagroup.streamplatform.streamregistry.graphql.StateHelper.maintainState;
+import static java.util.stream.Collectors.toList;
+
+import java.util.List;
 
 import lombok.RequiredArgsConstructor;
 
 import org.springframework.stereotype.Component;
 
+import com.expediagroup.streamplatform.streamregistry.core.services.BatchResult;
 import com.expediagroup.streamplatform.streamregistry.core.services.StreamBindingService;
 import com.expediagroup.streamplatform.streamregistry.graphql.model.inputs.SpecificationInput;
 import com.expediagroup.streamplatform.streamregistry.graphql.model.inputs.StatusInput;
+import com.expediagroup.streamplatform.streamregistry.graphql.model.inputs.StreamBindingInput;
 import com.expediagroup.streamplatform.streamregistry.graphql.model.inputs.StreamBindingKeyInput;
 import com.expediagroup.streamplatform.streamregistry.graphql.mutation.StreamBindingMutation;
 import com.expediagroup.streamplatform.streamregistry.model.StreamBinding;
@@ -39,8 +43,10 @@ public class StreamBindingMutationImpl implements StreamBindingMutation {
   }
 
   @Override
-  public StreamBinding update(StreamBindingKeyInput key, SpecificationInput specification) {
-    return streamBindingService.update(asStreamBinding(key, specification)).get();
+  public StreamBinding update(StreamBindingKeyInput key, SpecificationInput specification, Long expectedVersion) {
+    StreamBinding streamBinding = asStreamBinding(key, specification);
+    streamBinding.setVersion(expectedVersion);
+    return streamBindingService.update(streamBinding).get();
   }
 
   @Override
@@ -48,23 +54,34 @@ public class StreamBindingMutationImpl implements StreamBindingMutation {
     return streamBindingService.upsert(asStreamBinding(key, specification)).get();
   }
 
+  @Override
+  public List<BatchResult<StreamBinding>> insertMany(List<StreamBindingInput> items) {
+    return streamBindingService.createAll(items.stream()
+        .map(item -> asStreamBinding(item.getKey(), item.getSpecification()))
+        .collect(toList()));
+  }
+
+  @Override
+  public List<BatchResult<StreamBinding>> upsertMany(List<StreamBindingInput> items) {
+    return streamBindingService.upsertAll(items.stream()
+        .map(item -> asStreamBinding(item.getKey(), item.getSpecification()))
+        .collect(toList()));
+  }
+
   @Override
   public Boolean delete(StreamBindingKeyInput key) {
     throw new UnsupportedOperationException("delete");
   }
 
   @Override
-  public StreamBinding updateStatus(StreamBindingKeyInput key, StatusInput status) {
-    StreamBinding streamBinding = streamBindingService.read(key.asStreamBindingKey()).get();
-    streamBinding.setStatus(status.asStatus());
-    return streamBindingService.update(streamBinding).get();
+  public StreamBinding updateStatus(StreamBindingKeyInput key, StatusInput status, Long expectedVersion) {
+    return streamBindingService.updateStatus(key.asStreamBindingKey(), status.asStatus(), expectedVersion).get();
   }
 
   private StreamBinding asStreamBinding(StreamBindingKeyInput key, SpecificationInput specification) {
     StreamBinding streamBinding = new StreamBinding();
     streamBinding.setKey(key.asStreamBindingKey());
     streamBinding.setSpecification(specification.asSpecification());
-    maintainState(streamBinding, streamBindingService.read(streamBinding.getKey()));
     return streamBinding;
   }
 }
@@ -15,18 +15,21 @@
  */
 package com.expediagroup.streamplatform.streamregistry.graphql.mutation.impl;
 
-import static com.expediagroup.streamplatform.streamregistry.graphql.StateHelper.maintainState;
+import static java.util.stream.Collectors.toList;
 
+import java.util.List;
 import java.util.Optional;
 
 import lombok.RequiredArgsConstructor;
 
 import org.springframework.stereotype.Component;
 
+import com.expediagroup.streamplatform.streamregistry.core.services.BatchResult;
 import com.expediagroup.streamplatform.streamregistry.core.services.StreamService;
 import com.expediagroup.streamplatform.streamregistry.graphql.model.inputs.SchemaKeyInput;
 import com.expediagroup.streamplatform.streamregistry.graphql.model.inputs.SpecificationInput;
 import com.expediagroup.streamplatform.streamregistry.graphql.model.inputs.StatusInput;
+import com.expediagroup.streamplatform.streamregistry.graphql.model.inputs.StreamInput;
 import com.expediagroup.streamplatform.streamregistry.graphql.model.inputs.StreamKeyInput;
 import com.expediagroup.streamplatform.streamregistry.graphql.mutation.StreamMutation;
 import com.expediagroup.streamplatform.streamregistry.model.Stream;
@@ -42,8 +45,10 @@ public class StreamMutationImpl implements StreamMutation {
   }
 
   @Override
-  public Stream update(StreamKeyInput key, SpecificationInput specification) {
-    return streamService.update(asStream(key, specification, Optional.empty())).get();
+  public Stream update(StreamKeyInput key, SpecificationInput specification, Long expectedVersion) {
+    Stream stream = asStream(key, specification, Optional.empty());
+    stream.setVersion(expectedVersion);
+    return streamService.update(stream).get();
   }
 
   @Override
@@ -51,16 +56,28 @@ public class StreamMutationImpl implements StreamMutation {
     return streamService.upsert(asStream(key, specification, Optional.ofNullable(schema))).get();
   }
 
+  @Override
+  public List<BatchResult<Stream>> insertMany(List<StreamInput> items) {
+    return streamService.createAll(items.stream()
+        .map(item -> asStream(item.getKey(), item.getSpecification(), Optional.ofNullable(item.getSchema())))
+        .collect(toList()));
+  }
+
+  @Override
+  public List<BatchResult<Stream>> upsertMany(List<StreamInput> items) {
+    return streamService.upsertAll(items.stream()
+        .map(item -> asStream(item.getKey(), item.getSpecification(), Optional.ofNullable(item.getSchema())))
+        .collect(toList()));
+  }
+
   @Override
   public Boolean delete(StreamKeyInput key) {
     throw new UnsupportedOperationException("deleteStream");
   }
 
   @Override
-  public Stream updateStatus(StreamKeyInput key, StatusInput status) {
-    Stream stream = streamService.read(key.asStreamKey()).get();
-    stream.setStatus(status.asStatus());
-    return streamService.update(stream).get();
+  public Stream updateStatus(StreamKeyInput key, StatusInput status, Long expectedVersion) {
+    return streamService.updateStatus(key.asStreamKey(), status.asStatus(), expectedVersion).get();
   }
 
   private Stream asStream(StreamKeyInput key, SpecificationInput specification, Optional<SchemaKeyInput> schema) {
@@ -70,7 +87,6 @@ public class StreamMutationImpl implements StreamMutation {
     if(schema.isPresent()) {
       stream.setSchemaKey(schema.get().asSchemaKey());
     }
-    maintainState(stream, streamService.read(stream.getKey()));
     return stream;
   }
 }
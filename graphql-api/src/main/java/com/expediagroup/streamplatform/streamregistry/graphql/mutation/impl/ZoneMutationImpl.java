@@ -15,15 +15,19 @@
  */
 package com.expediagroup.streamplatform.streamregistry.graphql.mutation.impl;
 
-import static com.expediagroup.streamplatform.streamregistry.graphql.StateHelper.maintainState;
+import static java.util.stream.Collectors.toList;
+
+import java.util.List;
 
 import lombok.RequiredArgsConstructor;
 
 import org.springframework.stereotype.Component;
 
+import com.expediagroup.streamplatform.streamregistry.core.services.BatchResult;
 import com.expediagroup.streamplatform.streamregistry.core.services.ZoneService;
 import com.expediagroup.streamplatform.streamregistry.graphql.model.inputs.SpecificationInput;
 import com.expediagroup.streamplatform.streamregistry.graphql.model.inputs.StatusInput;
+import com.expediagroup.streamplatform.streamregistry.graphql.model.inputs.ZoneInput;
 import com.expediagroup.streamplatform.streamregistry.graphql.model.inputs.ZoneKeyInput;
 import com.expediagroup.streamplatform.streamregistry.graphql.mutation.ZoneMutation;
 import com.expediagroup.streamplatform.streamregistry.model.Zone;
@@ -39,8 +43,10 @@ public class ZoneMutationImpl implements ZoneMutation {
   }
 
   @Override
-  public Zone update(ZoneKeyInput key, SpecificationInput specification) {
-    return zoneService.update(asZone(key, specification)).get();
+  public Zone update(ZoneKeyInput key, SpecificationInput specification, Long expectedVersion) {
+    Zone zone = asZone(key, specification);
+    zone.setVersion(expectedVersion);
+    return zoneService.update(zone).get();
   }
 
   @Override
@@ -48,23 +54,34 @@ public class ZoneMutationImpl implements ZoneMutation {
     return zoneService.upsert(asZone(key, specification)).get();
   }
 
+  @Override
+  public List<BatchResult<Zone>> insertMany(List<ZoneInput> items) {
+    return zoneService.createAll(items.stream()
+        .map(item -> asZone(item.getKey(), item.getSpecification()))
+        .collect(toList()));
+  }
+
+  @Override
+  public List<BatchResult<Zone>> upsertMany(List<ZoneInput> items) {
+    return zoneService.upsertAll(items.stream()
+        .map(item -> asZone(item.getKey(), item.getSpecification()))
+        .collect(toList()));
+  }
+
   @Override
   public Boolean delete(ZoneKeyInput key) {
     throw new UnsupportedOperationException("deleteZone");
   }
 
   @Override
-  public Zone updateStatus(ZoneKeyInput key, StatusInput status) {
-    Zone zone = zoneService.read(key.asZoneKey()).get();
-    zone.setStatus(status.asStatus());
-    return zoneService.update(zone).get();
+  public Zone updateStatus(ZoneKeyInput key, StatusInput status, Long expectedVersion) {
+    return zoneService.updateStatus(key.asZoneKey(), status.asStatus(), expectedVersion).get();
   }
 
   private Zone asZone(ZoneKeyInput key, SpecificationInput specification) {
     Zone zone = new Zone();
     zone.setKey(key.asZoneKey());
     zone.setSpecification(specification.asSpecification());
-    maintainState(zone, zoneService.read(zone.getKey()));
     return zone;
   }
 }
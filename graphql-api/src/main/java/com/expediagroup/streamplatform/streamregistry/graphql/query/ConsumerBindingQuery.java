@@ -18,6 +18,7 @@ package com.expediagroup.streamplatform.streamregistry.graphql.query;
 import java.util.Optional;
 
 import com.expediagroup.streamplatform.streamregistry.graphql.GraphQLApiType;
+import com.expediagroup.streamplatform.streamregistry.graphql.model.connections.Connection;
 import com.expediagroup.streamplatform.streamregistry.graphql.model.inputs.ConsumerBindingKeyInput;
 import com.expediagroup.streamplatform.streamregistry.graphql.model.queries.ConsumerBindingKeyQuery;
 import com.expediagroup.streamplatform.streamregistry.graphql.model.queries.SpecificationQuery;
@@ -27,4 +28,6 @@ public interface ConsumerBindingQuery extends GraphQLApiType {
   Optional<ConsumerBinding> byKey(ConsumerBindingKeyInput key);
 
   Iterable<ConsumerBinding> byQuery(ConsumerBindingKeyQuery key, SpecificationQuery specification);
+
+  Connection<ConsumerBinding> byQueryConnection(ConsumerBindingKeyQuery key, SpecificationQuery specification, Long changedSince, Integer first, String after);
 }
@@ -18,6 +18,7 @@ package com.expediagroup.streamplatform.streamregistry.graphql.query;
 import java.util.Optional;
 
 import com.expediagroup.streamplatform.streamregistry.graphql.GraphQLApiType;
+import com.expediagroup.streamplatform.streamregistry.graphql.model.connections.Connection;
 import com.expediagroup.streamplatform.streamregistry.graphql.model.inputs.ConsumerKeyInput;
 import com.expediagroup.streamplatform.streamregistry.graphql.model.queries.ConsumerKeyQuery;
 import com.expediagroup.streamplatform.streamregistry.graphql.model.queries.SpecificationQuery;
@@ -27,4 +28,6 @@ public interface ConsumerQuery extends GraphQLApiType {
   Optional<Consumer> byKey(ConsumerKeyInput key);
 
   Iterable<Consumer> byQuery(ConsumerKeyQuery key, SpecificationQuery specification);
+
+  Connection<Consumer> byQueryConnection(ConsumerKeyQuery key, SpecificationQuery specification, Long changedSince, Integer first, String after);
 }
@@ -18,6 +18,7 @@ package com.expediagroup.streamplatform.streamregistry.graphql.query;
 import java.util.Optional;
 
 import com.expediagroup.streamplatform.streamregistry.graphql.GraphQLApiType;
+import com.expediagroup.streamplatform.streamregistry.graphql.model.connections.Connection;
 import com.expediagroup.streamplatform.streamregistry.graphql.model.inputs.DomainKeyInput;
 import com.expediagroup.streamplatform.streamregistry.graphql.model.queries.DomainKeyQuery;
 import com.expediagroup.streamplatform.streamregistry.graphql.model.queries.SpecificationQuery;
@@ -27,4 +28,6 @@ public interface DomainQuery extends GraphQLApiType {
   Optional<Domain> byKey(DomainKeyInput key);
 
   Iterable<Domain> byQuery(DomainKeyQuery key, SpecificationQuery specification);
+
+  Connection<Domain> byQueryConnection(DomainKeyQuery key, SpecificationQuery specification, Long changedSince, Integer first, String after);
 }
@@ -18,6 +18,7 @@ package com.expediagroup.streamplatform.streamregistry.graphql.query;
 import java.util.Optional;
 
 import com.expediagroup.streamplatform.streamregistry.graphql.GraphQLApiType;
+import com.expediagroup.streamplatform.streamregistry.graphql.model.connections.Connection;
 import com.expediagroup.streamplatform.streamregistry.graphql.model.inputs.InfrastructureKeyInput;
 import com.expediagroup.streamplatform.streamregistry.graphql.model.queries.InfrastructureKeyQuery;
 import com.expediagroup.streamplatform.streamregistry.graphql.model.queries.SpecificationQuery;
@@ -27,4 +28,6 @@ public interface InfrastructureQuery extends GraphQLApiType {
   Optional<Infrastructure> byKey(InfrastructureKeyInput key);
 
   Iterable<Infrastructure> byQuery(InfrastructureKeyQuery key, SpecificationQuery specification);
+
+  Connection<Infrastructure> byQueryConnection(InfrastructureKeyQuery key, SpecificationQuery specification, Long changedSince, Integer first, String after);
 }
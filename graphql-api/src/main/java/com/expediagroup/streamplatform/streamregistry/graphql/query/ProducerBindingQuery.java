@@ -18,6 +18,7 @@ package com.expediagroup.streamplatform.streamregistry.graphql.query;
 import java.util.Optional;
 
 import com.expediagroup.streamplatform.streamregistry.graphql.GraphQLApiType;
+import com.expediagroup.streamplatform.streamregistry.graphql.model.connections.Connection;
 import com.expediagroup.streamplatform.streamregistry.graphql.model.inputs.ProducerBindingKeyInput;
 import com.expediagroup.streamplatform.streamregistry.graphql.model.queries.ProducerBindingKeyQuery;
 import com.expediagroup.streamplatform.streamregistry.graphql.model.queries.SpecificationQuery;
@@ -27,4 +28,6 @@ public interface ProducerBindingQuery extends GraphQLApiType {
   Optional<ProducerBinding> byKey(ProducerBindingKeyInput key);
 
   Iterable<ProducerBinding> byQuery(ProducerBindingKeyQuery key, SpecificationQuery specification);
+
+  Connection<ProducerBinding> byQueryConnection(ProducerBindingKeyQuery key, SpecificationQuery specification, Long changedSince, Integer first, String after);
 }
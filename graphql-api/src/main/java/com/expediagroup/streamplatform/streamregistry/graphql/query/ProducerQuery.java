@@ -18,6 +18,7 @@ package com.expediagroup.streamplatform.streamregistry.graphql.query;
 import java.util.Optional;
 
 import com.expediagroup.streamplatform.streamregistry.graphql.GraphQLApiType;
+import com.expediagroup.streamplatform.streamregistry.graphql.model.connections.Connection;
 import com.expediagroup.streamplatform.streamregistry.graphql.model.inputs.ProducerKeyInput;
 import com.expediagroup.streamplatform.streamregistry.graphql.model.queries.ProducerKeyQuery;
 import com.expediagroup.streamplatform.streamregistry.graphql.model.queries.SpecificationQuery;
@@ -27,4 +28,6 @@ public interface ProducerQuery extends GraphQLApiType {
   Optional<Producer> byKey(ProducerKeyInput key);
 
   Iterable<Producer> byQuery(ProducerKeyQuery key, SpecificationQuery specification);
+
+  Connection<Producer> byQueryConnection(ProducerKeyQuery key, SpecificationQuery specification, Long changedSince, Integer first, String after);
 }
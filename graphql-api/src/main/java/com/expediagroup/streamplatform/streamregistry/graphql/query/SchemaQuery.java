@@ -18,6 +18,7 @@ package com.expediagroup.streamplatform.streamregistry.graphql.query;
 import java.util.Optional;
 
 import com.expediagroup.streamplatform.streamregistry.graphql.GraphQLApiType;
+import com.expediagroup.streamplatform.streamregistry.graphql.model.connections.Connection;
 import com.expediagroup.streamplatform.streamregistry.graphql.model.inputs.SchemaKeyInput;
 import com.expediagroup.streamplatform.streamregistry.graphql.model.queries.SchemaKeyQuery;
 import com.expediagroup.streamplatform.streamregistry.graphql.model.queries.SpecificationQuery;
@@ -27,4 +28,6 @@ public interface SchemaQuery extends GraphQLApiType {
   Optional<Schema> byKey(SchemaKeyInput key);
 
   Iterable<Schema> byQuery(SchemaKeyQuery key, SpecificationQuery specification);
+
+  Connection<Schema> byQueryConnection(SchemaKeyQuery key, SpecificationQuery specification, Long changedSince, Integer first, String after);
 }
@@ -18,6 +18,7 @@ package com.expediagroup.streamplatform.streamregistry.graphql.query;
 import java.util.Optional;
 
 import com.expediagroup.streamplatform.streamregistry.graphql.GraphQLApiType;
+import com.expediagroup.streamplatform.streamregistry.graphql.model.connections.Connection;
 import com.expediagroup.streamplatform.streamregistry.graphql.model.inputs.StreamBindingKeyInput;
 import com.expediagroup.streamplatform.streamregistry.graphql.model.queries.SpecificationQuery;
 import com.expediagroup.streamplatform.streamregistry.graphql.model.queries.StreamBindingKeyQuery;
@@ -27,4 +28,6 @@ public interface StreamBindingQuery extends GraphQLApiType {
   Optional<StreamBinding> byKey(StreamBindingKeyInput key);
 
   Iterable<StreamBinding> byQuery(StreamBindingKeyQuery key, SpecificationQuery specification);
+
+  Connection<StreamBinding> byQueryConnection(StreamBindingKeyQuery key, SpecificationQuery specification, Long changedSince, Integer first, String after);
 }
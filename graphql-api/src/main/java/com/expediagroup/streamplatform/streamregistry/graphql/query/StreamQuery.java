@@ -18,6 +18,7 @@ package com.expediagroup.streamplatform.streamregistry.graphql.query;
 import java.util.Optional;
 
 import com.expediagroup.streamplatform.streamregistry.graphql.GraphQLApiType;
+import com.expediagroup.streamplatform.streamregistry.graphql.model.connections.Connection;
 import com.expediagroup.streamplatform.streamregistry.graphql.model.inputs.StreamKeyInput;
 import com.expediagroup.streamplatform.streamregistry.graphql.model.queries.SchemaKeyQuery;
 import com.expediagroup.streamplatform.streamregistry.graphql.model.queries.SpecificationQuery;
@@ -28,4 +29,6 @@ public interface StreamQuery extends GraphQLApiType {
   Optional<Stream> byKey(StreamKeyInput key);
 
   Iterable<Stream> byQuery(StreamKeyQuery key, SpecificationQuery specification, SchemaKeyQuery schemaKeyQuery);
+
+  Connection<Stream> byQueryConnection(StreamKeyQuery key, SpecificationQuery specification, SchemaKeyQuery schemaKeyQuery, Long changedSince, Integer first, String after);
 }
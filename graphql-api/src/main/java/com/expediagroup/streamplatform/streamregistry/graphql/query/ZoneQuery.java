@@ -18,6 +18,7 @@ package com.expediagroup.streamplatform.streamregistry.graphql.query;
 import java.util.Optional;
 
 import com.expediagroup.streamplatform.streamregistry.graphql.GraphQLApiType;
+import com.expediagroup.streamplatform.streamregistry.graphql.model.connections.Connection;
 import com.expediagroup.streamplatform.streamregistry.graphql.model.inputs.ZoneKeyInput;
 import com.expediagroup.streamplatform.streamregistry.graphql.model.queries.SpecificationQuery;
 import com.expediagroup.streamplatform.streamregistry.graphql.model.queries.ZoneKeyQuery;
@@ -27,4 +28,6 @@ public interface ZoneQuery extends GraphQLApiType {
   Optional<Zone> byKey(ZoneKeyInput key);
 
   Iterable<Zone> byQuery(ZoneKeyQuery key, SpecificationQuery specification);
+
+  Connection<Zone> byQueryConnection(ZoneKeyQuery key, SpecificationQuery specification, Long changedSince, Integer first, String after);
 }
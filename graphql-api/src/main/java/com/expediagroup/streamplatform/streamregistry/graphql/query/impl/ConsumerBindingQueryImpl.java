@@ -23,6 +23,7 @@ import org.springframework.stereotype.Component;
 
 import com.expediagroup.streamplatform.streamregistry.core.services.ConsumerBindingService;
 import com.expediagroup.streamplatform.streamregistry.graphql.filters.ConsumerBindingFilter;
+import com.expediagroup.streamplatform.streamregistry.graphql.model.connections.Connection;
 import com.expediagroup.streamplatform.streamregistry.graphql.model.inputs.ConsumerBindingKeyInput;
 import com.expediagroup.streamplatform.streamregistry.graphql.model.queries.ConsumerBindingKeyQuery;
 import com.expediagroup.streamplatform.streamregistry.graphql.model.queries.SpecificationQuery;
@@ -40,6 +41,14 @@ public class ConsumerBindingQueryImpl implements ConsumerBindingQuery {
   }
 
   public Iterable<ConsumerBinding> byQuery(ConsumerBindingKeyQuery key, SpecificationQuery specification) {
-    return consumerBindingService.findAll(new ConsumerBindingFilter(key, specification));
+    return consumerBindingService.findAll(new ConsumerBindingFilter(key, specification).asQuerySpec());
+  }
+
+  @Override
+  public Connection<ConsumerBinding> byQueryConnection(ConsumerBindingKeyQuery key, SpecificationQuery specification, Long changedSince, Integer first, String after) {
+    var query = new ConsumerBindingFilter(key, specification).asQuerySpec().changedSince(changedSince);
+    var page = Connection.pageRequest(first, after);
+    var highWaterMark = consumerBindingService.highWaterMark();
+    return Connection.of(consumerBindingService.findAll(query, page), page, () -> consumerBindingService.count(query), highWaterMark);
   }
 }
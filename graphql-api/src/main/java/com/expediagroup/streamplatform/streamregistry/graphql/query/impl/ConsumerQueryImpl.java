@@ -23,6 +23,7 @@ import org.springframework.stereotype.Component;
 
 import com.expediagroup.streamplatform.streamregistry.core.services.ConsumerService;
 import com.expediagroup.streamplatform.streamregistry.graphql.filters.ConsumerFilter;
+import com.expediagroup.streamplatform.streamregistry.graphql.model.connections.Connection;
 import com.expediagroup.streamplatform.streamregistry.graphql.model.inputs.ConsumerKeyInput;
 import com.expediagroup.streamplatform.streamregistry.graphql.model.queries.ConsumerKeyQuery;
 import com.expediagroup.streamplatform.streamregistry.graphql.model.queries.SpecificationQuery;
@@ -41,6 +42,14 @@ public class ConsumerQueryImpl implements ConsumerQuery {
 
   @Override
   public Iterable<Consumer> byQuery(ConsumerKeyQuery key, SpecificationQuery specification) {
-    return consumerService.findAll(new ConsumerFilter(key, specification));
+    return consumerService.findAll(new ConsumerFilter(key, specification).asQuerySpec());
+  }
+
+  @Override
+  public Connection<Consumer> byQueryConnection(ConsumerKeyQuery key, SpecificationQuery specification, Long changedSince, Integer first, String after) {
+    var query = new ConsumerFilter(key, specification).asQuerySpec().changedSince(changedSince);
+    var page = Connection.pageRequest(first, after);
+    var highWaterMark = consumerService.highWaterMark();
+    return Connection.of(consumerService.findAll(query, page), page, () -> consumerService.count(query), highWaterMark);
   }
 }
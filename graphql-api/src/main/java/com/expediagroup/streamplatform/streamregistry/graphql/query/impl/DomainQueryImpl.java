@@ -23,6 +23,7 @@ import org.springframework.stereotype.Component;
 
 import com.expediagroup.streamplatform.streamregistry.core.services.DomainService;
 import com.expediagroup.streamplatform.streamregistry.graphql.filters.DomainFilter;
+import com.expediagroup.streamplatform.streamregistry.graphql.model.connections.Connection;
 import com.expediagroup.streamplatform.streamregistry.graphql.model.inputs.DomainKeyInput;
 import com.expediagroup.streamplatform.streamregistry.graphql.model.queries.DomainKeyQuery;
 import com.expediagroup.streamplatform.streamregistry.graphql.model.queries.SpecificationQuery;
@@ -41,6 +42,14 @@ public class DomainQueryImpl implements DomainQuery {
 
   @Override
   public Iterable<Domain> byQuery(DomainKeyQuery key, SpecificationQuery specification) {
-    return domainService.findAll(new DomainFilter(key, specification));
+    return domainService.findAll(new DomainFilter(key, specification).asQuerySpec());
+  }
+
+  @Override
+  public Connection<Domain> byQueryConnection(DomainKeyQuery key, SpecificationQuery specification, Long changedSince, Integer first, String after) {
+    var query = new DomainFilter(key, specification).asQuerySpec().changedSince(changedSince);
+    var page = Connection.pageRequest(first, after);
+    var highWaterMark = domainService.highWaterMark();
+    return Connection.of(domainService.findAll(query, page), page, () -> domainService.count(query), highWaterMark);
   }
 }
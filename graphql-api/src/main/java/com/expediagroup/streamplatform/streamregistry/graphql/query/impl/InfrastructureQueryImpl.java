@@ -23,6 +23,7 @@ import org.springframework.stereotype.Component;
 
 import com.expediagroup.streamplatform.streamregistry.core.services.InfrastructureService;
 import com.expediagroup.streamplatform.streamregistry.graphql.filters.InfrastructureFilter;
+import com.expediagroup.streamplatform.streamregistry.graphql.model.connections.Connection;
 import com.expediagroup.streamplatform.streamregistry.graphql.model.inputs.InfrastructureKeyInput;
 import com.expediagroup.streamplatform.streamregistry.graphql.model.queries.InfrastructureKeyQuery;
 import com.expediagroup.streamplatform.streamregistry.graphql.model.queries.SpecificationQuery;
@@ -41,6 +42,14 @@ public class InfrastructureQueryImpl implements InfrastructureQuery {
 
   @Override
   public Iterable<Infrastructure> byQuery(InfrastructureKeyQuery key, SpecificationQuery specification) {
-    return infrastructureService.findAll(new InfrastructureFilter(key, specification));
+    return infrastructureService.findAll(new InfrastructureFilter(key, specification).asQuerySpec());
+  }
+
+  @Override
+  public Connection<Infrastructure> byQueryConnection(InfrastructureKeyQuery key, SpecificationQuery specification, Long changedSince, Integer first, String after) {
+    var query = new InfrastructureFilter(key, specification).asQuerySpec().changedSince(changedSince);
+    var page = Connection.pageRequest(first, after);
+    var highWaterMark = infrastructureService.highWaterMark();
+    return Connection.of(infrastructureService.findAll(query, page), page, () -> infrastructureService.count(query), highWaterMark);
   }
 }
@@ -23,6 +23,7 @@ import org.springframework.stereotype.Component;
 
 import com.expediagroup.streamplatform.streamregistry.core.services.ProducerBindingService;
 import com.expediagroup.streamplatform.streamregistry.graphql.filters.ProducerBindingFilter;
+import com.expediagroup.streamplatform.streamregistry.graphql.model.connections.Connection;
 import com.expediagroup.streamplatform.streamregistry.graphql.model.inputs.ProducerBindingKeyInput;
 import com.expediagroup.streamplatform.streamregistry.graphql.model.queries.ProducerBindingKeyQuery;
 import com.expediagroup.streamplatform.streamregistry.graphql.model.queries.SpecificationQuery;
@@ -41,6 +42,14 @@ public class ProducerBindingQueryImpl implements ProducerBindingQuery {
 
   @Override
   public Iterable<ProducerBinding> byQuery(ProducerBindingKeyQuery key, SpecificationQuery specification) {
-    return producerBindingService.findAll(new ProducerBindingFilter(key, specification));
+    return producerBindingService.findAll(new ProducerBindingFilter(key, specification).asQuerySpec());
+  }
+
+  @Override
+  public Connection<ProducerBinding> byQueryConnection(ProducerBindingKeyQuery key, SpecificationQuery specification, Long changedSince, Integer first, String after) {
+    var query = new ProducerBindingFilter(key, specification).asQuerySpec().changedSince(changedSince);
+    var page = Connection.pageRequest(first, after);
+    var highWaterMark = producerBindingService.highWaterMark();
+    return Connection.of(producerBindingService.findAll(query, page), page, () -> producerBindingService.count(query), highWaterMark);
   }
 }
@@ -23,6 +23,7 @@ import org.springframework.stereotype.Component;
 
 import com.expediagroup.streamplatform.streamregistry.core.services.ProducerService;
 import com.expediagroup.streamplatform.streamregistry.graphql.filters.ProducerFilter;
+import com.expediagroup.streamplatform.streamregistry.graphql.model.connections.Connection;
 import com.expediagroup.streamplatform.streamregistry.graphql.model.inputs.ProducerKeyInput;
 import com.expediagroup.streamplatform.streamregistry.graphql.model.queries.ProducerKeyQuery;
 import com.expediagroup.streamplatform.streamregistry.graphql.model.queries.SpecificationQuery;
@@ -41,6 +42,14 @@ public class ProducerQueryImpl implements ProducerQuery {
 
   @Override
   public Iterable<Producer> byQuery(ProducerKeyQuery key, SpecificationQuery specification) {
-    return producerService.findAll(new ProducerFilter(key, specification));
+    return producerService.findAll(new ProducerFilter(key, specification).asQuerySpec());
+  }
+
+  @Override
+  public Connection<Producer> byQueryConnection(ProducerKeyQuery key, SpecificationQuery specification, Long changedSince, Integer first, String after) {
+    var query = new ProducerFilter(key, specification).asQuerySpec().changedSince(changedSince);
+    var page = Connection.pageRequest(first, after);
+    var highWaterMark = producerService.highWaterMark();
+    return Connection.of(producerService.findAll(query, page), page, () -> producerService.count(query), highWaterMark);
   }
 }
@@ -23,6 +23,7 @@ import org.springframework.stereotype.Component;
 
 import com.expediagroup.streamplatform.streamregistry.core.services.SchemaService;
 import com.expediagroup.streamplatform.streamregistry.graphql.filters.SchemaFilter;
+import com.expediagroup.streamplatform.streamregistry.graphql.model.connections.Connection;
 import com.expediagroup.streamplatform.streamregistry.graphql.model.inputs.SchemaKeyInput;
 import com.expediagroup.streamplatform.streamregistry.graphql.model.queries.SchemaKeyQuery;
 import com.expediagroup.streamplatform.streamregistry.graphql.model.queries.SpecificationQuery;
@@ -41,6 +42,14 @@ public class SchemaQueryImpl implements SchemaQuery {
 
   @Override
   public Iterable<Schema> byQuery(SchemaKeyQuery key, SpecificationQuery specification) {
-    return schemaService.findAll(new SchemaFilter(key, specification));
+    return schemaService.findAll(new SchemaFilter(key, specification).asQuerySpec());
+  }
+
+  @Override
+  public Connection<Schema> byQueryConnection(SchemaKeyQuery key, SpecificationQuery specification, Long changedSince, Integer first, String after) {
+    var query = new SchemaFilter(key, specification).asQuerySpec().changedSince(changedSince);
+    var page = Connection.pageRequest(first, after);
+    var highWaterMark = schemaService.highWaterMark();
+    return Connection.of(schemaService.findAll(query, page), page, () -> schemaService.count(query), highWaterMark);
   }
 }
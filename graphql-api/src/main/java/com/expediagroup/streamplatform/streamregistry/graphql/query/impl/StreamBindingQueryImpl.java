@@ -23,6 +23,7 @@ import org.springframework.stereotype.Component;
 
 import com.expediagroup.streamplatform.streamregistry.core.services.StreamBindingService;
 import com.expediagroup.streamplatform.streamregistry.graphql.filters.StreamBindingFilter;
+import com.expediagroup.streamplatform.streamregistry.graphql.model.connections.Connection;
 import com.expediagroup.streamplatform.streamregistry.graphql.model.inputs.StreamBindingKeyInput;
 import com.expediagroup.streamplatform.streamregistry.graphql.model.queries.SpecificationQuery;
 import com.expediagroup.streamplatform.streamregistry.graphql.model.queries.StreamBindingKeyQuery;
@@ -41,6 +42,14 @@ public class StreamBindingQueryImpl implements StreamBindingQuery {
 
   @Override
   public Iterable<StreamBinding> byQuery(StreamBindingKeyQuery key, SpecificationQuery specification) {
-    return streamBindingService.findAll(new StreamBindingFilter(key, specification));
+    return streamBindingService.findAll(new StreamBindingFilter(key, specification).asQuerySpec());
+  }
+
+  @Override
+  public Connection<StreamBinding> byQueryConnection(StreamBindingKeyQuery key, SpecificationQuery specification, Long changedSince, Integer first, String after) {
+    var query = new StreamBindingFilter(key, specification).asQuerySpec().changedSince(changedSince);
+    var page = Connection.pageRequest(first, after);
+    var highWaterMark = streamBindingService.highWaterMark();
+    return Connection.of(streamBindingService.findAll(query, page), page, () -> streamBindingService.count(query), highWaterMark);
   }
 }
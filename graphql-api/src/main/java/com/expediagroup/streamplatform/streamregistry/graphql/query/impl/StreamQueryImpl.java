@@ -23,6 +23,7 @@ import org.springframework.stereotype.Component;
 
 import com.expediagroup.streamplatform.streamregistry.core.services.StreamService;
 import com.expediagroup.streamplatform.streamregistry.graphql.filters.StreamFilter;
+import com.expediagroup.streamplatform.streamregistry.graphql.model.connections.Connection;
 import com.expediagroup.streamplatform.streamregistry.graphql.model.inputs.StreamKeyInput;
 import com.expediagroup.streamplatform.streamregistry.graphql.model.queries.SchemaKeyQuery;
 import com.expediagroup.streamplatform.streamregistry.graphql.model.queries.SpecificationQuery;
@@ -42,6 +43,14 @@ public class StreamQueryImpl implements StreamQuery {
 
   @Override
   public Iterable<Stream> byQuery(StreamKeyQuery key, SpecificationQuery specification, SchemaKeyQuery schemaKeyQuery) {
-    return streamService.findAll(new StreamFilter(key, specification, schemaKeyQuery));
+    return streamService.findAll(new StreamFilter(key, specification, schemaKeyQuery).asQuerySpec());
+  }
+
+  @Override
+  public Connection<Stream> byQueryConnection(StreamKeyQuery key, SpecificationQuery specification, SchemaKeyQuery schemaKeyQuery, Long changedSince, Integer first, String after) {
+    var query = new StreamFilter(key, specification, schemaKeyQuery).asQuerySpec().changedSince(changedSince);
+    var page = Connection.pageRequest(first, after);
+    var highWaterMark = streamService.highWaterMark();
+    return Connection.of(streamService.findAll(query, page), page, () -> streamService.count(query), highWaterMark);
   }
 }
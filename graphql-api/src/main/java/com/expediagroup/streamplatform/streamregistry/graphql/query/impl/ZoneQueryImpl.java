@@ -23,6 +23,7 @@ import org.springframework.stereotype.Component;
 
 import com.expediagroup.streamplatform.streamregistry.core.services.ZoneService;
 import com.expediagroup.streamplatform.streamregistry.graphql.filters.ZoneFilter;
+import com.expediagroup.streamplatform.streamregistry.graphql.model.connections.Connection;
 import com.expediagroup.streamplatform.streamregistry.graphql.model.inputs.ZoneKeyInput;
 import com.expediagroup.streamplatform.streamregistry.graphql.model.queries.SpecificationQuery;
 import com.expediagroup.streamplatform.streamregistry.graphql.model.queries.ZoneKeyQuery;
@@ -41,6 +42,14 @@ public class ZoneQueryImpl implements ZoneQuery {
 
   @Override
   public Iterable<Zone> byQuery(ZoneKeyQuery key, SpecificationQuery specification) {
-    return zoneService.findAll(new ZoneFilter(key, specification));
+    return zoneService.findAll(new ZoneFilter(key, specification).asQuerySpec());
+  }
+
+  @Override
+  public Connection<Zone> byQueryConnection(ZoneKeyQuery key, SpecificationQuery specification, Long changedSince, Integer first, String after) {
+    var query = new ZoneFilter(key, specification).asQuerySpec().changedSince(changedSince);
+    var page = Connection.pageRequest(first, after);
+    var highWaterMark = zoneService.highWaterMark();
+    return Connection.of(zoneService.findAll(query, page), page, () -> zoneService.count(query), highWaterMark);
   }
 }
@@ -15,27 +15,26 @@
  */
 package com.expediagroup.streamplatform.streamregistry.graphql.resolvers;
 
-import lombok.RequiredArgsConstructor;
+import static com.expediagroup.streamplatform.streamregistry.graphql.dataloader.EntityDataLoaders.CONSUMER;
+import static com.expediagroup.streamplatform.streamregistry.graphql.dataloader.EntityDataLoaders.STREAM_BINDING;
+import static com.expediagroup.streamplatform.streamregistry.graphql.dataloader.EntityDataLoaders.load;
+
+import java.util.concurrent.CompletableFuture;
 
 import org.springframework.stereotype.Component;
 
-import com.expediagroup.streamplatform.streamregistry.core.services.ConsumerService;
-import com.expediagroup.streamplatform.streamregistry.core.services.StreamBindingService;
 import com.expediagroup.streamplatform.streamregistry.model.Consumer;
 import com.expediagroup.streamplatform.streamregistry.model.ConsumerBinding;
 import com.expediagroup.streamplatform.streamregistry.model.StreamBinding;
+import graphql.schema.DataFetchingEnvironment;
 
 @Component
-@RequiredArgsConstructor
 public class ConsumerBindingResolver implements Resolvers.ConsumerBindingResolver {
-  private final ConsumerService consumerService;
-  private final StreamBindingService streamBindingService;
-
-  public Consumer consumer(ConsumerBinding consumerBinding) {
-    return consumerService.read(consumerBinding.getKey().getConsumerKey()).orElse(null);
+  public CompletableFuture<Consumer> consumer(ConsumerBinding consumerBinding, DataFetchingEnvironment environment) {
+    return load(environment, CONSUMER, consumerBinding.getKey().getConsumerKey());
   }
 
-  public StreamBinding binding(ConsumerBinding consumerBinding) {
-    return streamBindingService.read(consumerBinding.getKey().getStreamBindingKey()).orElse(null);
+  public CompletableFuture<StreamBinding> binding(ConsumerBinding consumerBinding, DataFetchingEnvironment environment) {
+    return load(environment, STREAM_BINDING, consumerBinding.getKey().getStreamBindingKey());
   }
 }
@@ -15,34 +15,32 @@
  */
 package com.expediagroup.streamplatform.streamregistry.graphql.resolvers;
 
-import lombok.RequiredArgsConstructor;
+import static com.expediagroup.streamplatform.streamregistry.graphql.dataloader.EntityDataLoaders.CONSUMER_BINDING_BY_CONSUMER;
+import static com.expediagroup.streamplatform.streamregistry.graphql.dataloader.EntityDataLoaders.STREAM;
+import static com.expediagroup.streamplatform.streamregistry.graphql.dataloader.EntityDataLoaders.ZONE;
+import static com.expediagroup.streamplatform.streamregistry.graphql.dataloader.EntityDataLoaders.load;
+
+import java.util.concurrent.CompletableFuture;
 
 import org.springframework.stereotype.Component;
 
-import com.expediagroup.streamplatform.streamregistry.core.services.ConsumerBindingService;
-import com.expediagroup.streamplatform.streamregistry.core.services.StreamService;
-import com.expediagroup.streamplatform.streamregistry.core.services.ZoneService;
 import com.expediagroup.streamplatform.streamregistry.model.Consumer;
 import com.expediagroup.streamplatform.streamregistry.model.ConsumerBinding;
 import com.expediagroup.streamplatform.streamregistry.model.Stream;
 import com.expediagroup.streamplatform.streamregistry.model.Zone;
+import graphql.schema.DataFetchingEnvironment;
 
 @Component
-@RequiredArgsConstructor
 public class ConsumerResolver implements Resolvers.ConsumerResolver {
-  private final StreamService streamService;
-  private final ZoneService zoneService;
-  private final ConsumerBindingService consumerBindingService;
-
-  public Stream stream(Consumer consumer) {
-    return streamService.read(consumer.getKey().getStreamKey()).orElse(null);
+  public CompletableFuture<Stream> stream(Consumer consumer, DataFetchingEnvironment environment) {
+    return load(environment, STREAM, consumer.getKey().getStreamKey());
   }
 
-  public Zone zone(Consumer consumer) {
-    return zoneService.read(consumer.getKey().getZoneKey()).orElse(null);
+  public CompletableFuture<Zone> zone(Consumer consumer, DataFetchingEnvironment environment) {
+    return load(environment, ZONE, consumer.getKey().getZoneKey());
   }
 
-  public ConsumerBinding binding(Consumer consumer) {
-    return consumerBindingService.find(consumer.getKey()).orElse(null);
+  public CompletableFuture<ConsumerBinding> binding(Consumer consumer, DataFetchingEnvironment environment) {
+    return load(environment, CONSUMER_BINDING_BY_CONSUMER, consumer.getKey());
   }
 }
@@ -15,20 +15,20 @@
  */
 package com.expediagroup.streamplatform.streamregistry.graphql.resolvers;
 
-import lombok.RequiredArgsConstructor;
+import static com.expediagroup.streamplatform.streamregistry.graphql.dataloader.EntityDataLoaders.ZONE;
+import static com.expediagroup.streamplatform.streamregistry.graphql.dataloader.EntityDataLoaders.load;
+
+import java.util.concurrent.CompletableFuture;
 
 import org.springframework.stereotype.Component;
 
-import com.expediagroup.streamplatform.streamregistry.core.services.ZoneService;
 import com.expediagroup.streamplatform.streamregistry.model.Infrastructure;
 import com.expediagroup.streamplatform.streamregistry.model.Zone;
+import graphql.schema.DataFetchingEnvironment;
 
 @Component
-@RequiredArgsConstructor
 public class InfrastructureResolver implements Resolvers.InfrastructureResolver {
-  private final ZoneService zoneService;
-
-  public Zone zone(Infrastructure infrastructure) {
-    return zoneService.read(infrastructure.getKey().getZoneKey()).orElse(null);
+  public CompletableFuture<Zone> zone(Infrastructure infrastructure, DataFetchingEnvironment environment) {
+    return load(environment, ZONE, infrastructure.getKey().getZoneKey());
   }
 }
@@ -15,27 +15,26 @@
  */
 package com.expediagroup.streamplatform.streamregistry.graphql.resolvers;
 
-import lombok.RequiredArgsConstructor;
+import static com.expediagroup.streamplatform.streamregistry.graphql.dataloader.EntityDataLoaders.PRODUCER;
+import static com.expediagroup.streamplatform.streamregistry.graphql.dataloader.EntityDataLoaders.STREAM_BINDING;
+import static com.expediagroup.streamplatform.streamregistry.graphql.dataloader.EntityDataLoaders.load;
+
+import java.util.concurrent.CompletableFuture;
 
 import org.springframework.stereotype.Component;
 
-import com.expediagroup.streamplatform.streamregistry.core.services.ProducerService;
-import com.expediagroup.streamplatform.streamregistry.core.services.StreamBindingService;
 import com.expediagroup.streamplatform.streamregistry.model.Producer;
 import com.expediagroup.streamplatform.streamregistry.model.ProducerBinding;
 import com.expediagroup.streamplatform.streamregistry.model.StreamBinding;
+import graphql.schema.DataFetchingEnvironment;
 
 @Component
-@RequiredArgsConstructor
 public class ProducerBindingResolver implements Resolvers.ProducerBindingResolver {
-  private final ProducerService producerService;
-  private final StreamBindingService streamBindingService;
-
-  public Producer producer(ProducerBinding producerBinding) {
-    return producerService.read(producerBinding.getKey().getProducerKey()).orElse(null);
+  public CompletableFuture<Producer> producer(ProducerBinding producerBinding, DataFetchingEnvironment environment) {
+    return load(environment, PRODUCER, producerBinding.getKey().getProducerKey());
   }
 
-  public StreamBinding binding(ProducerBinding producerBinding) {
-    return streamBindingService.read(producerBinding.getKey().getStreamBindingKey()).orElse(null);
+  public CompletableFuture<StreamBinding> binding(ProducerBinding producerBinding, DataFetchingEnvironment environment) {
+    return load(environment, STREAM_BINDING, producerBinding.getKey().getStreamBindingKey());
   }
 }
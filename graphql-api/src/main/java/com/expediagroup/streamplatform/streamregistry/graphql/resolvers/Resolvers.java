@@ -17,6 +17,7 @@ package com.expediagroup.streamplatform.streamregistry.graphql.resolvers;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 import com.coxautodev.graphql.tools.GraphQLResolver;
 import com.fasterxml.jackson.databind.node.ObjectNode;
@@ -34,65 +35,67 @@ import com.expediagroup.streamplatform.streamregistry.model.Status;
 import com.expediagroup.streamplatform.streamregistry.model.Stream;
 import com.expediagroup.streamplatform.streamregistry.model.StreamBinding;
 import com.expediagroup.streamplatform.streamregistry.model.Zone;
+import graphql.schema.DataFetchingEnvironment;
 
 interface Resolvers {
-  // DomainResolver intentionally does not have the GraphQLApiType interface
-  // The bean would be wrapped in a metrics proxy and graphql has issues with
-  // getting generics from a proxy instance.
+  // Resolvers returning generic types (DomainResolver and those that return
+  // CompletableFuture from a data loader) intentionally do not have the
+  // GraphQLApiType interface. The bean would be wrapped in a metrics proxy and
+  // graphql has issues with getting generics from a proxy instance.
   // See https://github.com/graphql-java-kickstart/graphql-java-tools/issues/277
-  // TODO upgrade GraphQL and add GraphQLApiType to DomainResolver
+  // TODO upgrade GraphQL and add GraphQLApiType to these resolvers
   interface DomainResolver extends EntityResolver<Domain>, GraphQLResolver<Domain> {
     List<Schema> schemas(Domain domain);
   }
 
-  interface SchemaResolver extends EntityResolver<Schema>, GraphQLResolver<Schema>, GraphQLApiType {
-    Domain domain(Schema schema);
+  interface SchemaResolver extends EntityResolver<Schema>, GraphQLResolver<Schema> {
+    CompletableFuture<Domain> domain(Schema schema, DataFetchingEnvironment environment);
   }
 
-  interface StreamResolver extends EntityResolver<Stream>, GraphQLResolver<Stream>, GraphQLApiType {
-    Domain domain(Stream stream);
+  interface StreamResolver extends EntityResolver<Stream>, GraphQLResolver<Stream> {
+    CompletableFuture<Domain> domain(Stream stream, DataFetchingEnvironment environment);
 
-    Schema schema(Stream stream);
+    CompletableFuture<Schema> schema(Stream stream, DataFetchingEnvironment environment);
   }
 
   interface ZoneResolver extends EntityResolver<Zone>, GraphQLResolver<Zone>, GraphQLApiType {}
 
-  interface InfrastructureResolver extends EntityResolver<Infrastructure>, GraphQLResolver<Infrastructure>, GraphQLApiType {
-    Zone zone(Infrastructure infrastructure);
+  interface InfrastructureResolver extends EntityResolver<Infrastructure>, GraphQLResolver<Infrastructure> {
+    CompletableFuture<Zone> zone(Infrastructure infrastructure, DataFetchingEnvironment environment);
   }
 
-  interface StreamBindingResolver extends EntityResolver<StreamBinding>, GraphQLResolver<StreamBinding>, GraphQLApiType {
-    Stream stream(StreamBinding streamBinding);
+  interface StreamBindingResolver extends EntityResolver<StreamBinding>, GraphQLResolver<StreamBinding> {
+    CompletableFuture<Stream> stream(StreamBinding streamBinding, DataFetchingEnvironment environment);
 
-    Infrastructure infrastructure(StreamBinding streamBinding);
+    CompletableFuture<Infrastructure> infrastructure(StreamBinding streamBinding, DataFetchingEnvironment environment);
   }
 
-  interface ProducerResolver extends EntityResolver<Producer>, GraphQLResolver<Producer>, GraphQLApiType {
-    Stream stream(Producer producer);
+  interface ProducerResolver extends EntityResolver<Producer>, GraphQLResolver<Producer> {
+    CompletableFuture<Stream> stream(Producer producer, DataFetchingEnvironment environment);
 
-    Zone zone(Producer producer);
+    CompletableFuture<Zone> zone(Producer producer, DataFetchingEnvironment environment);
 
-    ProducerBinding binding(Producer producer);
+    CompletableFuture<ProducerBinding> binding(Producer producer, DataFetchingEnvironment environment);
   }
 
-  interface ConsumerResolver extends EntityResolver<Consumer>, GraphQLResolver<Consumer>, GraphQLApiType {
-    Stream stream(Consumer consumer);
+  interface ConsumerResolver extends EntityResolver<Consumer>, GraphQLResolver<Consumer> {
+    CompletableFuture<Stream> stream(Consumer consumer, DataFetchingEnvironment environment);
 
-    Zone zone(Consumer consumer);
+    CompletableFuture<Zone> zone(Consumer consumer, DataFetchingEnvironment environment);
 
-    ConsumerBinding binding(Consumer consumer);
+    CompletableFuture<ConsumerBinding> binding(Consumer consumer, DataFetchingEnvironment environment);
   }
 
-  interface ConsumerBindingResolver extends EntityResolver<ConsumerBinding>, GraphQLResolver<ConsumerBinding>, GraphQLApiType {
-    Consumer consumer(ConsumerBinding consumerBinding);
+  interface ConsumerBindingResolver extends EntityResolver<ConsumerBinding>, GraphQLResolver<ConsumerBinding> {
+    CompletableFuture<Consumer> consumer(ConsumerBinding consumerBinding, DataFetchingEnvironment environment);
 
-    StreamBinding binding(ConsumerBinding consumerBinding);
+    CompletableFuture<StreamBinding> binding(ConsumerBinding consumerBinding, DataFetchingEnvironment environment);
   }
 
-  interface ProducerBindingResolver extends EntityResolver<ProducerBinding>, GraphQLResolver<ProducerBinding>, GraphQLApiType {
-    Producer producer(ProducerBinding producerBinding);
+  interface ProducerBindingResolver extends EntityResolver<ProducerBinding>, GraphQLResolver<ProducerBinding> {
+    CompletableFuture<Producer> producer(ProducerBinding producerBinding, DataFetchingEnvironment environment);
 
-    StreamBinding binding(ProducerBinding producerBinding);
+    CompletableFuture<StreamBinding> binding(ProducerBinding producerBinding, DataFetchingEnvironment environment);
   }
 
   interface StatusResolver extends GraphQLResolver<Status>, GraphQLApiType {
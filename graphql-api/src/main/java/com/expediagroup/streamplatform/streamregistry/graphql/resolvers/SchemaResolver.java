@@ -15,20 +15,20 @@
  */
 package com.expediagroup.streamplatform.streamregistry.graphql.resolvers;
 
-import lombok.RequiredArgsConstructor;
+import static com.expediagroup.streamplatform.streamregistry.graphql.dataloader.EntityDataLoaders.DOMAIN;
+import static com.expediagroup.streamplatform.streamregistry.graphql.dataloader.EntityDataLoaders.load;
+
+import java.util.concurrent.CompletableFuture;
 
 import org.springframework.stereotype.Component;
 
-import com.expediagroup.streamplatform.streamregistry.core.services.DomainService;
 import com.expediagroup.streamplatform.streamregistry.model.Domain;
 import com.expediagroup.streamplatform.streamregistry.model.Schema;
+import graphql.schema.DataFetchingEnvironment;
 
 @Component
-@RequiredArgsConstructor
 public class SchemaResolver implements Resolvers.SchemaResolver {
-  private final DomainService domainService;
-
-  public Domain domain(Schema schema) {
-    return domainService.read(schema.getKey().getDomainKey()).orElse(null);
+  public CompletableFuture<Domain> domain(Schema schema, DataFetchingEnvironment environment) {
+    return load(environment, DOMAIN, schema.getKey().getDomainKey());
   }
 }
@@ -15,27 +15,26 @@
  */
 package com.expediagroup.streamplatform.streamregistry.graphql.resolvers;
 
-import lombok.RequiredArgsConstructor;
+import static com.expediagroup.streamplatform.streamregistry.graphql.dataloader.EntityDataLoaders.INFRASTRUCTURE;
+import static com.expediagroup.streamplatform.streamregistry.graphql.dataloader.EntityDataLoaders.STREAM;
+import static com.expediagroup.streamplatform.streamregistry.graphql.dataloader.EntityDataLoaders.load;
+
+import java.util.concurrent.CompletableFuture;
 
 import org.springframework.stereotype.Component;
 
-import com.expediagroup.streamplatform.streamregistry.core.services.InfrastructureService;
-import com.expediagroup.streamplatform.streamregistry.core.services.StreamService;
 import com.expediagroup.streamplatform.streamregistry.model.Infrastructure;
 import com.expediagroup.streamplatform.streamregistry.model.Stream;
 import com.expediagroup.streamplatform.streamregistry.model.StreamBinding;
+import graphql.schema.DataFetchingEnvironment;
 
 @Component
-@RequiredArgsConstructor
 public class StreamBindingResolver implements Resolvers.StreamBindingResolver {
-  private final StreamService streamService;
-  private final InfrastructureService infrastructureService;
-
-  public Stream stream(StreamBinding streamBinding) {
-    return streamService.read(streamBinding.getKey().getStreamKey()).orElse(null);
+  public CompletableFuture<Stream> stream(StreamBinding streamBinding, DataFetchingEnvironment environment) {
+    return load(environment, STREAM, streamBinding.getKey().getStreamKey());
   }
 
-  public Infrastructure infrastructure(StreamBinding streamBinding) {
-    return infrastructureService.read(streamBinding.getKey().getInfrastructureKey()).orElse(null);
+  public CompletableFuture<Infrastructure> infrastructure(StreamBinding streamBinding, DataFetchingEnvironment environment) {
+    return load(environment, INFRASTRUCTURE, streamBinding.getKey().getInfrastructureKey());
   }
 }
@@ -15,27 +15,26 @@
  */
 package com.expediagroup.streamplatform.streamregistry.graphql.resolvers;
 
-import lombok.RequiredArgsConstructor;
+import static com.expediagroup.streamplatform.streamregistry.graphql.dataloader.EntityDataLoaders.DOMAIN;
+import static com.expediagroup.streamplatform.streamregistry.graphql.dataloader.EntityDataLoaders.SCHEMA;
+import static com.expediagroup.streamplatform.streamregistry.graphql.dataloader.EntityDataLoaders.load;
+
+import java.util.concurrent.CompletableFuture;
 
 import org.springframework.stereotype.Component;
 
-import com.expediagroup.streamplatform.streamregistry.core.services.DomainService;
-import com.expediagroup.streamplatform.streamregistry.core.services.SchemaService;
 import com.expediagroup.streamplatform.streamregistry.model.Domain;
 import com.expediagroup.streamplatform.streamregistry.model.Schema;
 import com.expediagroup.streamplatform.streamregistry.model.Stream;
+import graphql.schema.DataFetchingEnvironment;
 
 @Component
-@RequiredArgsConstructor
 public class StreamResolver implements Resolvers.StreamResolver {
-  private final DomainService domainService;
-  private final SchemaService schemaService;
-
-  public Domain domain(Stream stream) {
-    return domainService.read(stream.getKey().getDomainKey()).orElse(null);
+  public CompletableFuture<Domain> domain(Stream stream, DataFetchingEnvironment environment) {
+    return load(environment, DOMAIN, stream.getKey().getDomainKey());
   }
 
-  public Schema schema(Stream stream) {
-    return schemaService.read(stream.getSchemaKey()).orElse(null);
+  public CompletableFuture<Schema> schema(Stream stream, DataFetchingEnvironment environment) {
+    return load(environment, SCHEMA, stream.getSchemaKey());
   }
 }
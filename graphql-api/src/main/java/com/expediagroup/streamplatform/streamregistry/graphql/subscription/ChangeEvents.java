@@ -0,0 +1,108 @@
+/**
+ * Copyright (C) 2018-2020 Expedia, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.expediagroup.streamplatform.streamregistry.graphql.subscription;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.reactivestreams.Publisher;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationListener;
+import org.springframework.stereotype.Component;
+
+import reactor.core.publisher.BufferOverflowStrategy;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.FluxSink;
+import reactor.core.publisher.FluxSink.OverflowStrategy;
+
+import com.expediagroup.streamplatform.streamregistry.core.events.NotificationEvent;
+import com.expediagroup.streamplatform.streamregistry.core.events.NotificationOutboxCodec;
+import com.expediagroup.streamplatform.streamregistry.graphql.model.subscriptions.Change;
+import com.expediagroup.streamplatform.streamregistry.repository.outbox.EventBroadcast;
+import com.expediagroup.streamplatform.streamregistry.repository.outbox.EventBroadcastListener;
+import com.expediagroup.streamplatform.streamregistry.repository.outbox.OutboxEvent;
+
+/**
+ * Fans the notification events out to GraphQL subscribers. Each subscriber filters on the publishing thread and
+ * buffers at most {@code graphql.subscriptions.buffer-size} changes, dropping the oldest when the client falls behind,
+ * so a slow client never holds up the notification dispatcher.
+ *
+ * <p>Without an {@link EventBroadcast} only the events emitted on this instance are seen, so with more than one
+ * replica a subscriber misses the writes made on the others. With one, the events of every instance are taken from
+ * the broadcast instead, and the local application events are ignored.
+ */
+@Slf4j
+@Component
+public class ChangeEvents implements ApplicationListener<NotificationEvent<?>>, EventBroadcastListener {
+  public static final String BUFFER_SIZE_PROPERTY = "graphql.subscriptions.buffer-size";
+
+  private final Set<FluxSink<Change<?>>> sinks = ConcurrentHashMap.newKeySet();
+  private final NotificationOutboxCodec codec = new NotificationOutboxCodec();
+  private final int bufferSize;
+  private final boolean shared;
+
+  @Autowired
+  public ChangeEvents(
+      @Value("${" + BUFFER_SIZE_PROPERTY + ":1000}") int bufferSize,
+      ObjectProvider<EventBroadcast> eventBroadcast) {
+    this(bufferSize, eventBroadcast.getIfAvailable() != null);
+  }
+
+  ChangeEvents(int bufferSize, boolean shared) {
+    this.bufferSize = bufferSize;
+    this.shared = shared;
+  }
+
+  @Override
+  public void onApplicationEvent(NotificationEvent<?> event) {
+    if (!shared) {
+      publish(event);
+    }
+  }
+
+  @Override
+  public void received(OutboxEvent event) {
+    if (shared && !sinks.isEmpty()) {
+      publish(codec.decode(event));
+    }
+  }
+
+  private void publish(NotificationEvent<?> event) {
+    if (event.getEntity() == null || sinks.isEmpty()) {
+      return;
+    }
+    Change<?> change = new Change<>(event.getEventType(), event.getEntity());
+    sinks.forEach(sink -> sink.next(change));
+  }
+
+  @SuppressWarnings("unchecked")
+  public <T> Publisher<Change<T>> changes(Class<T> entityType, Predicate<T> filter) {
+    return Flux.<Change<?>>create(sink -> {
+      sinks.add(sink);
+      sink.onDispose(() -> sinks.remove(sink));
+    }, OverflowStrategy.IGNORE)
+        .filter(change -> entityType.isInstance(change.getEntity()) && filter.test(entityType.cast(change.getEntity())))
+        .map(change -> (Change<T>) change)
+        .onBackpressureBuffer(bufferSize,
+            dropped -> log.warn("Dropped {} {} change for a slow subscriber", dropped.getEventType(), entityType.getSimpleName()),
+            BufferOverflowStrategy.DROP_OLDEST);
+  }
+}
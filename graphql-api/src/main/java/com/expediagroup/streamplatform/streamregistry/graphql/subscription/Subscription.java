@@ -0,0 +1,102 @@
+/**
+ * Copyright (C) 2018-2020 Expedia, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.expediagroup.streamplatform.streamregistry.graphql.subscription;
+
+import lombok.RequiredArgsConstructor;
+
+import com.coxautodev.graphql.tools.GraphQLSubscriptionResolver;
+
+import org.reactivestreams.Publisher;
+import org.springframework.stereotype.Component;
+
+import com.expediagroup.streamplatform.streamregistry.graphql.filters.ConsumerBindingFilter;
+import com.expediagroup.streamplatform.streamregistry.graphql.filters.ConsumerFilter;
+import com.expediagroup.streamplatform.streamregistry.graphql.filters.DomainFilter;
+import com.expediagroup.streamplatform.streamregistry.graphql.filters.InfrastructureFilter;
+import com.expediagroup.streamplatform.streamregistry.graphql.filters.ProducerBindingFilter;
+import com.expediagroup.streamplatform.streamregistry.graphql.filters.ProducerFilter;
+import com.expediagroup.streamplatform.streamregistry.graphql.filters.SchemaFilter;
+import com.expediagroup.streamplatform.streamregistry.graphql.filters.StreamBindingFilter;
+import com.expediagroup.streamplatform.streamregistry.graphql.filters.StreamFilter;
+import com.expediagroup.streamplatform.streamregistry.graphql.filters.ZoneFilter;
+import com.expediagroup.streamplatform.streamregistry.graphql.model.queries.ConsumerBindingKeyQuery;
+import com.expediagroup.streamplatform.streamregistry.graphql.model.queries.ConsumerKeyQuery;
+import com.expediagroup.streamplatform.streamregistry.graphql.model.queries.DomainKeyQuery;
+import com.expediagroup.streamplatform.streamregistry.graphql.model.queries.InfrastructureKeyQuery;
+import com.expediagroup.streamplatform.streamregistry.graphql.model.queries.ProducerBindingKeyQuery;
+import com.expediagroup.streamplatform.streamregistry.graphql.model.queries.ProducerKeyQuery;
+import com.expediagroup.streamplatform.streamregistry.graphql.model.queries.SchemaKeyQuery;
+import com.expediagroup.streamplatform.streamregistry.graphql.model.queries.SpecificationQuery;
+import com.expediagroup.streamplatform.streamregistry.graphql.model.queries.StreamBindingKeyQuery;
+import com.expediagroup.streamplatform.streamregistry.graphql.model.queries.StreamKeyQuery;
+import com.expediagroup.streamplatform.streamregistry.graphql.model.queries.ZoneKeyQuery;
+import com.expediagroup.streamplatform.streamregistry.graphql.model.subscriptions.Change;
+import com.expediagroup.streamplatform.streamregistry.model.Consumer;
+import com.expediagroup.streamplatform.streamregistry.model.ConsumerBinding;
+import com.expediagroup.streamplatform.streamregistry.model.Domain;
+import com.expediagroup.streamplatform.streamregistry.model.Infrastructure;
+import com.expediagroup.streamplatform.streamregistry.model.Producer;
+import com.expediagroup.streamplatform.streamregistry.model.ProducerBinding;
+import com.expediagroup.streamplatform.streamregistry.model.Schema;
+import com.expediagroup.streamplatform.streamregistry.model.Stream;
+import com.expediagroup.streamplatform.streamregistry.model.StreamBinding;
+import com.expediagroup.streamplatform.streamregistry.model.Zone;
+
+@Component
+@RequiredArgsConstructor
+public class Subscription implements GraphQLSubscriptionResolver {
+  private final ChangeEvents changeEvents;
+
+  public Publisher<Change<Domain>> domainChanged(DomainKeyQuery key, SpecificationQuery specification) {
+    return changeEvents.changes(Domain.class, new DomainFilter(key, specification));
+  }
+
+  public Publisher<Change<Schema>> schemaChanged(SchemaKeyQuery key, SpecificationQuery specification) {
+    return changeEvents.changes(Schema.class, new SchemaFilter(key, specification));
+  }
+
+  public Publisher<Change<Stream>> streamChanged(StreamKeyQuery key, SpecificationQuery specification, SchemaKeyQuery schema) {
+    return changeEvents.changes(Stream.class, new StreamFilter(key, specification, schema));
+  }
+
+  public Publisher<Change<Zone>> zoneChanged(ZoneKeyQuery key, SpecificationQuery specification) {
+    return changeEvents.changes(Zone.class, new ZoneFilter(key, specification));
+  }
+
+  public Publisher<Change<Infrastructure>> infrastructureChanged(InfrastructureKeyQuery key, SpecificationQuery specification) {
+    return changeEvents.changes(Infrastructure.class, new InfrastructureFilter(key, specification));
+  }
+
+  public Publisher<Change<Producer>> producerChanged(ProducerKeyQuery key, SpecificationQuery specification) {
+    return changeEvents.changes(Producer.class, new ProducerFilter(key, specification));
+  }
+
+  public Publisher<Change<Consumer>> consumerChanged(ConsumerKeyQuery key, SpecificationQuery specification) {
+    return changeEvents.changes(Consumer.class, new ConsumerFilter(key, specification));
+  }
+
+  public Publisher<Change<StreamBinding>> streamBindingChanged(StreamBindingKeyQuery key, SpecificationQuery specification) {
+    return changeEvents.changes(StreamBinding.class, new StreamBindingFilter(key, specification));
+  }
+
+  public Publisher<Change<ProducerBinding>> producerBindingChanged(ProducerBindingKeyQuery key, SpecificationQuery specification) {
+    return changeEvents.changes(ProducerBinding.class, new ProducerBindingFilter(key, specification));
+  }
+
+  public Publisher<Change<ConsumerBinding>> consumerBindingChanged(ConsumerBindingKeyQuery key, SpecificationQuery specification) {
+    return changeEvents.changes(ConsumerBinding.class, new ConsumerBindingFilter(key, specification));
+  }
+}
@@ -0,0 +1,91 @@
+/**
+ * Copyright (C) 2018-2020 Expedia, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.expediagroup.streamplatform.streamregistry.graphql.dataloader;
+
+import static com.expediagroup.streamplatform.streamregistry.graphql.dataloader.EntityDataLoaders.STREAM;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import com.expediagroup.streamplatform.streamregistry.core.services.ConsumerBindingService;
+import com.expediagroup.streamplatform.streamregistry.core.services.ConsumerService;
+import com.expediagroup.streamplatform.streamregistry.core.services.DomainService;
+import com.expediagroup.streamplatform.streamregistry.core.services.InfrastructureService;
+import com.expediagroup.streamplatform.streamregistry.core.services.ProducerBindingService;
+import com.expediagroup.streamplatform.streamregistry.core.services.ProducerService;
+import com.expediagroup.streamplatform.streamregistry.core.services.SchemaService;
+import com.expediagroup.streamplatform.streamregistry.core.services.StreamBindingService;
+import com.expediagroup.streamplatform.streamregistry.core.services.StreamService;
+import com.expediagroup.streamplatform.streamregistry.core.services.ZoneService;
+import com.expediagroup.streamplatform.streamregistry.model.Stream;
+import com.expediagroup.streamplatform.streamregistry.model.keys.StreamKey;
+
+@RunWith(MockitoJUnitRunner.class)
+public class EntityDataLoadersTest {
+  @Mock
+  private DomainService domainService;
+  @Mock
+  private SchemaService schemaService;
+  @Mock
+  private StreamService streamService;
+  @Mock
+  private ZoneService zoneService;
+  @Mock
+  private InfrastructureService infrastructureService;
+  @Mock
+  private ProducerService producerService;
+  @Mock
+  private ConsumerService consumerService;
+  @Mock
+  private StreamBindingService streamBindingService;
+  @Mock
+  private ProducerBindingService producerBindingService;
+  @Mock
+  private ConsumerBindingService consumerBindingService;
+  @InjectMocks
+  private EntityDataLoaders underTest;
+
+  @Test
+  public void batchesLoadsIntoSingleRead() {
+    var key1 = new StreamKey("domain", "a", 1);
+    var key2 = new StreamKey("domain", "b", 1);
+    var stream1 = new Stream(key1, null, null, null, null);
+    when(streamService.readAll(any())).thenReturn(List.of(stream1));
+
+    var loader = underTest.newRegistry().<StreamKey, Stream>getDataLoader(STREAM);
+    var future1 = loader.load(key1);
+    var future2 = loader.load(key2);
+    var future3 = loader.load(key1);
+    loader.dispatchAndJoin();
+
+    assertThat(future1.join(), is(stream1));
+    assertThat(future2.join(), is(nullValue()));
+    assertThat(future3.join(), is(stream1));
+    verify(streamService, times(1)).readAll(any());
+  }
+}
@@ -0,0 +1,50 @@
+/**
+ * Copyright (C) 2018-2020 Expedia, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.expediagroup.streamplatform.streamregistry.graphql.filters;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import java.util.List;
+import java.util.regex.PatternSyntaxException;
+
+import org.junit.Test;
+
+public class CompiledRegexTest {
+
+  private static final List<String> REGEXES = List.of("abc", "abc.*", ".*", "", "a.c", "ab[c]", "abc.*d", "a|b", "a\\.b");
+  private static final List<String> VALUES = List.of("abc", "abcdef", "abc\ndef", "ab", "", "a.b", "axb", "a", "abcd");
+
+  @Test
+  public void equivalentToStringMatches() {
+    for (String regex : REGEXES) {
+      var compiled = CompiledRegex.compile(regex);
+      for (String value : VALUES) {
+        assertEquals(regex + " ~ " + value, value.matches(regex), compiled.test(value));
+      }
+    }
+  }
+
+  @Test
+  public void cached() {
+    assertSame(CompiledRegex.of("cached.*"), CompiledRegex.of("cached.*"));
+  }
+
+  @Test(expected = PatternSyntaxException.class)
+  public void invalidRegex() {
+    CompiledRegex.of("(unclosed");
+  }
+}
@@ -19,6 +19,9 @@ import static com.expediagroup.streamplatform.streamregistry.graphql.model.queri
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
 import org.junit.Test;
 
 import com.expediagroup.streamplatform.streamregistry.graphql.model.queries.SchemaKeyQuery;
@@ -31,6 +34,7 @@ public class FilterUtilityTest {
   private static final String REGEX = "match.*";
   private static final String MATCH = "match_this";
   private static final String FAIL = "fail_this";
+  private static final ObjectMapper MAPPER = new ObjectMapper();
 
   @Test
   public void matches() {
@@ -85,4 +89,22 @@ public class FilterUtilityTest {
     specification = new Specification(MATCH, null, MATCH, null);
     assertTrue(FilterUtility.matchesSpecification(specification, query));
   }
-}
\ No newline at end of file
+
+  @Test
+  public void matchesConfigurationContains() throws Exception {
+    var specification = new Specification(MATCH, null, MATCH, (ObjectNode) MAPPER.readTree(
+        "{\"partitions\":3,\"cleanup\":{\"policy\":\"compact\"},\"regions\":[\"eu\",\"us\"]}"));
+
+    assertTrue(FilterUtility.matchesSpecification(specification, configurationContains("{}")));
+    assertTrue(FilterUtility.matchesSpecification(specification, configurationContains("{\"partitions\":3.0}")));
+    assertTrue(FilterUtility.matchesSpecification(specification, configurationContains("{\"cleanup\":{\"policy\":\"compact\"}}")));
+    assertTrue(FilterUtility.matchesSpecification(specification, configurationContains("{\"regions\":[\"us\"]}")));
+    assertFalse(FilterUtility.matchesSpecification(specification, configurationContains("{\"partitions\":4}")));
+    assertFalse(FilterUtility.matchesSpecification(specification, configurationContains("{\"regions\":[\"ap\"]}")));
+    assertFalse(FilterUtility.matchesSpecification(specification, configurationContains("{\"retention\":null}")));
+  }
+
+  private static SpecificationQuery configurationContains(String json) throws Exception {
+    return SpecificationQuery.builder().configurationContains((ObjectNode) MAPPER.readTree(json)).build();
+  }
+}
@@ -0,0 +1,63 @@
+/**
+ * Copyright (C) 2018-2020 Expedia, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.expediagroup.streamplatform.streamregistry.graphql.model.connections;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+
+import org.junit.Test;
+
+import com.expediagroup.streamplatform.streamregistry.repository.query.Page;
+import com.expediagroup.streamplatform.streamregistry.repository.query.PageRequest;
+
+public class ConnectionTest {
+
+  @Test
+  public void defaultPageSize() {
+    assertEquals(new PageRequest(Connection.DEFAULT_PAGE_SIZE, null), Connection.pageRequest(null, null));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void pageSizeTooLarge() {
+    Connection.pageRequest(Connection.MAX_PAGE_SIZE + 1, null);
+  }
+
+  @Test
+  public void of() {
+    var page = new Page<>(List.of(new Page.Entry<>("a", "first"), new Page.Entry<>("b", "second")), true);
+
+    var connection = Connection.of(page, new PageRequest(2, "x"), () -> 5L, 7L);
+
+    assertEquals(List.of(new Edge<>("a", "first"), new Edge<>("b", "second")), connection.getEdges());
+    assertEquals(new PageInfo(true, true, "a", "b"), connection.getPageInfo());
+    assertEquals(Integer.valueOf(5), connection.getTotalCount());
+    assertEquals(Long.valueOf(7), connection.getHighWaterMark());
+  }
+
+  @Test
+  public void emptyPage() {
+    var connection = Connection.<String>of(new Page<>(List.of(), false), new PageRequest(2, null), () -> 0L, 0L);
+
+    assertTrue(connection.getEdges().isEmpty());
+    assertFalse(connection.getPageInfo().isHasNextPage());
+    assertFalse(connection.getPageInfo().isHasPreviousPage());
+    assertNull(connection.getPageInfo().getEndCursor());
+  }
+}
@@ -0,0 +1,109 @@
+/**
+ * Copyright (C) 2018-2020 Expedia, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.expediagroup.streamplatform.streamregistry.graphql.subscription;
+
+import static java.util.stream.Collectors.toList;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.Test;
+import org.reactivestreams.Subscription;
+
+import reactor.core.Disposable;
+import reactor.core.publisher.BaseSubscriber;
+import reactor.core.publisher.Flux;
+
+import com.expediagroup.streamplatform.streamregistry.core.events.EventType;
+import com.expediagroup.streamplatform.streamregistry.core.events.NotificationEvent;
+import com.expediagroup.streamplatform.streamregistry.core.events.NotificationOutboxCodec;
+import com.expediagroup.streamplatform.streamregistry.graphql.filters.StreamFilter;
+import com.expediagroup.streamplatform.streamregistry.graphql.model.queries.StreamKeyQuery;
+import com.expediagroup.streamplatform.streamregistry.graphql.model.subscriptions.Change;
+import com.expediagroup.streamplatform.streamregistry.model.Schema;
+import com.expediagroup.streamplatform.streamregistry.model.Stream;
+import com.expediagroup.streamplatform.streamregistry.model.keys.StreamKey;
+
+public class ChangeEventsTest {
+  private final ChangeEvents changeEvents = new ChangeEvents(2, false);
+
+  @Test
+  public void pushesMatchingChangesToSubscribers() {
+    var received = new CopyOnWriteArrayList<Change<Stream>>();
+    var filter = new StreamFilter(StreamKeyQuery.builder().domainRegex("a.*").build(), null, null);
+    Disposable subscription = Flux.from(changeEvents.changes(Stream.class, filter)).subscribe(received::add);
+
+    publish(EventType.CREATE, stream("alpha"));
+    publish(EventType.UPDATE, stream("beta"));
+    publish(EventType.CREATE, new Schema());
+    publish(EventType.UPDATE, stream("alpha"));
+    subscription.dispose();
+    publish(EventType.DELETE, stream("alpha"));
+
+    assertThat(received.stream().map(Change::getEventType).collect(toList()), contains(EventType.CREATE, EventType.UPDATE));
+  }
+
+  @Test
+  public void dropsOldestChangesForSlowSubscribers() {
+    List<EventType> received = new CopyOnWriteArrayList<>();
+    var subscriber = new BaseSubscriber<Change<Stream>>() {
+      @Override
+      protected void hookOnSubscribe(Subscription subscription) {
+      }
+
+      @Override
+      protected void hookOnNext(Change<Stream> change) {
+        received.add(change.getEventType());
+      }
+    };
+    changeEvents.changes(Stream.class, stream -> true).subscribe(subscriber);
+
+    publish(EventType.CREATE, stream("alpha"));
+    publish(EventType.UPDATE, stream("alpha"));
+    publish(EventType.DELETE, stream("alpha"));
+    subscriber.request(10);
+
+    assertThat(received, contains(EventType.UPDATE, EventType.DELETE));
+  }
+
+  @Test
+  public void takesChangesFromTheBroadcastWhenShared() {
+    var shared = new ChangeEvents(2, true);
+    var codec = new NotificationOutboxCodec();
+    var received = new CopyOnWriteArrayList<Change<Stream>>();
+    Disposable subscription = Flux.from(shared.changes(Stream.class, stream -> true)).subscribe(received::add);
+
+    shared.onApplicationEvent(NotificationEvent.builder().source(this).eventType(EventType.CREATE).entity(stream("local")).build());
+    shared.received(codec.encode(EventType.UPDATE, stream("remote")));
+    subscription.dispose();
+
+    assertThat(received.stream().map(Change::getEventType).collect(toList()), contains(EventType.UPDATE));
+    assertThat(received.get(0).getEntity().getKey().getDomain(), is("remote"));
+  }
+
+  private void publish(EventType eventType, Object entity) {
+    changeEvents.onApplicationEvent(NotificationEvent.builder().source(this).eventType(eventType).entity(entity).build());
+  }
+
+  private static Stream stream(String domain) {
+    var stream = new Stream();
+    stream.setKey(new StreamKey(domain, "stream", 1));
+    return stream;
+  }
+}
@@ -0,0 +1,111 @@
+/**
+ * Copyright (C) 2018-2020 Expedia, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.expediagroup.streamplatform.streamregistry.it;
+
+import static com.expediagroup.streamplatform.streamregistry.core.handlers.IdentityHandler.DEFAULT;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.util.List;
+
+import lombok.extern.slf4j.Slf4j;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.ClassRule;
+import org.junit.Test;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.util.SocketUtils;
+import org.testcontainers.containers.GenericContainer;
+
+import com.expediagroup.streamplatform.streamregistry.StreamRegistryApp;
+import com.expediagroup.streamplatform.streamregistry.core.services.DomainService;
+import com.expediagroup.streamplatform.streamregistry.model.Domain;
+import com.expediagroup.streamplatform.streamregistry.model.Specification;
+import com.expediagroup.streamplatform.streamregistry.model.keys.DomainKey;
+
+/**
+ * Two instances sharing one database: a write on one evicts the entity from the second level cache of the other.
+ */
+@Slf4j
+public class CacheCoherenceIT {
+  private static ConfigurableApplicationContext first;
+  private static ConfigurableApplicationContext second;
+
+  @ClassRule
+  public static GenericContainer postgres =
+      new GenericContainer<>("postgres:12.0-alpine")
+          .withLogConsumer(o -> log.info("Postgres: {}", o.getUtf8String().trim()))
+          .withEnv("POSTGRES_USER", "streamregistry")
+          .withEnv("POSTGRES_PASSWORD", "streamregistry")
+          .withEnv("POSTGRES_DB", "streamregistry");
+
+  @BeforeClass
+  public static void before() {
+    first = start("first");
+    second = start("second");
+  }
+
+  @AfterClass
+  public static void after() {
+    if (second != null) {
+      second.close();
+    }
+    if (first != null) {
+      first.close();
+    }
+  }
+
+  @Test
+  public void writeOnOneInstanceIsVisibleOnTheOther() throws InterruptedException {
+    var key = new DomainKey("coherence");
+    var writer = first.getBean(DomainService.class);
+    var reader = second.getBean(DomainService.class);
+
+    writer.upsert(domain(key, "before"));
+    assertThat(reader.read(key).get().getSpecification().getDescription(), is("before"));
+
+    writer.upsert(domain(key, "after"));
+    var description = "before";
+    for (int i = 0; i < 100 && description.equals("before"); i++) {
+      Thread.sleep(100);
+      description = reader.read(key).get().getSpecification().getDescription();
+    }
+    assertThat(description, is("after"));
+  }
+
+  private static Domain domain(DomainKey key, String description) {
+    var specification = new Specification(description, List.of(), DEFAULT, new ObjectMapper().createObjectNode());
+    return new Domain(key, specification, null, null);
+  }
+
+  private static ConfigurableApplicationContext start(String name) {
+    String[] args = new String[] {
+        String.format("--server.port=%d", SocketUtils.findAvailableTcpPort()),
+        "--spring.profiles.active=default,graphql,hibernate",
+        "--spring.datasource.url=jdbc:postgresql://localhost:" + postgres.getMappedPort(5432) + "/streamregistry",
+        "--spring.datasource.username=streamregistry",
+        "--spring.datasource.password=streamregistry",
+        "--spring.jpa.show-sql=false",
+        "--spring.jpa.properties.net.sf.ehcache.cacheManagerName=" + name,
+        "--registry.cache-coherence.enabled=true"
+    };
+    return SpringApplication.run(StreamRegistryApp.class, args);
+  }
+}
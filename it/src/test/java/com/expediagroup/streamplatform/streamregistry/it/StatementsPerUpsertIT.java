@@ -0,0 +1,135 @@
+/**
+ * Copyright (C) 2018-2020 Expedia, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.expediagroup.streamplatform.streamregistry.it;
+
+import static com.expediagroup.streamplatform.streamregistry.core.handlers.IdentityHandler.DEFAULT;
+import static java.util.stream.Collectors.toList;
+import static org.hamcrest.Matchers.lessThan;
+import static org.junit.Assert.assertThat;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import javax.persistence.EntityManagerFactory;
+
+import lombok.extern.slf4j.Slf4j;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.hibernate.SessionFactory;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.ClassRule;
+import org.junit.Test;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.util.SocketUtils;
+import org.testcontainers.containers.GenericContainer;
+
+import com.expediagroup.streamplatform.streamregistry.StreamRegistryApp;
+import com.expediagroup.streamplatform.streamregistry.core.services.DomainService;
+import com.expediagroup.streamplatform.streamregistry.model.Domain;
+import com.expediagroup.streamplatform.streamregistry.model.Specification;
+import com.expediagroup.streamplatform.streamregistry.model.Tag;
+import com.expediagroup.streamplatform.streamregistry.model.keys.DomainKey;
+
+/**
+ * Statements prepared per upsert of an entity with {@value #TAGS} tags, without JDBC batching and with the batching
+ * and statement ordering of {@code application-hibernate.yaml}.
+ */
+@Slf4j
+public class StatementsPerUpsertIT {
+  private static final int TAGS = 20;
+
+  private static ConfigurableApplicationContext unbatched;
+  private static ConfigurableApplicationContext batched;
+
+  @ClassRule
+  public static GenericContainer postgres =
+      new GenericContainer<>("postgres:12.0-alpine")
+          .withLogConsumer(o -> log.info("Postgres: {}", o.getUtf8String().trim()))
+          .withEnv("POSTGRES_USER", "streamregistry")
+          .withEnv("POSTGRES_PASSWORD", "streamregistry")
+          .withEnv("POSTGRES_DB", "streamregistry");
+
+  @BeforeClass
+  public static void before() {
+    unbatched = start("unbatched",
+        "--spring.jpa.properties.hibernate.jdbc.batch_size=0",
+        "--spring.jpa.properties.hibernate.order_inserts=false",
+        "--spring.jpa.properties.hibernate.order_updates=false");
+    batched = start("batched");
+  }
+
+  @AfterClass
+  public static void after() {
+    if (batched != null) {
+      batched.close();
+    }
+    if (unbatched != null) {
+      unbatched.close();
+    }
+  }
+
+  @Test
+  public void batchingReducesStatementsPerUpsert() {
+    var before = upserts(unbatched, new DomainKey("unbatched"));
+    var after = upserts(batched, new DomainKey("batched"));
+    log.info("Statements per upsert with {} tags: insert {} -> {}, update {} -> {}",
+        TAGS, before[0], after[0], before[1], after[1]);
+
+    assertThat(after[0], lessThan(before[0]));
+    assertThat(after[1], lessThan(before[1]));
+  }
+
+  private static long[] upserts(ConfigurableApplicationContext context, DomainKey key) {
+    var domains = context.getBean(DomainService.class);
+    var statistics = context.getBean(EntityManagerFactory.class).unwrap(SessionFactory.class).getStatistics();
+
+    statistics.clear();
+    domains.upsert(domain(key, "first"));
+    var insert = statistics.getPrepareStatementCount();
+
+    statistics.clear();
+    domains.upsert(domain(key, "second"));
+    var update = statistics.getPrepareStatementCount();
+    return new long[] {insert, update};
+  }
+
+  private static Domain domain(DomainKey key, String value) {
+    var tags = IntStream.range(0, TAGS)
+        .mapToObj(i -> new Tag(0, "tag" + i, value))
+        .collect(toList());
+    var specification = new Specification("statements", tags, DEFAULT, new ObjectMapper().createObjectNode());
+    return new Domain(key, specification, null, null);
+  }
+
+  private static ConfigurableApplicationContext start(String name, String... properties) {
+    var args = new String[] {
+        String.format("--server.port=%d", SocketUtils.findAvailableTcpPort()),
+        "--spring.profiles.active=default,graphql,hibernate",
+        "--spring.datasource.url=jdbc:postgresql://localhost:" + postgres.getMappedPort(5432) + "/streamregistry",
+        "--spring.datasource.username=streamregistry",
+        "--spring.datasource.password=streamregistry",
+        "--spring.jpa.show-sql=false",
+        "--spring.jpa.properties.net.sf.ehcache.cacheManagerName=" + name
+    };
+    var all = new String[args.length + properties.length];
+    System.arraycopy(args, 0, all, 0, args.length);
+    System.arraycopy(properties, 0, all, args.length, properties.length);
+    return SpringApplication.run(StreamRegistryApp.class, all);
+  }
+}
@@ -29,4 +29,5 @@ public class Consumer implements Entity {
   private ConsumerKey key;
   private Specification specification;
   private Status status;
+  private Long version;
 }
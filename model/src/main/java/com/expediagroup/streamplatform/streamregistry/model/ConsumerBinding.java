@@ -29,4 +29,5 @@ public class ConsumerBinding implements Entity {
   private ConsumerBindingKey key;
   private Specification specification;
   private Status status;
+  private Long version;
 }
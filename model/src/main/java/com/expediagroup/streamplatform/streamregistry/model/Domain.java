@@ -29,4 +29,5 @@ public class Domain implements Entity {
   private DomainKey key;
   private Specification specification;
   private Status status;
+  private Long version;
 }
@@ -29,4 +29,5 @@ public class Infrastructure implements Entity {
   private InfrastructureKey key;
   private Specification specification;
   private Status status;
+  private Long version;
 }
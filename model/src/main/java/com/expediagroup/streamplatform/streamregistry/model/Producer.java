@@ -29,4 +29,5 @@ public class Producer implements Entity {
   private ProducerKey key;
   private Specification specification;
   private Status status;
+  private Long version;
 }
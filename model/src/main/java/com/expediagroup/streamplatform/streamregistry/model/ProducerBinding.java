@@ -29,4 +29,5 @@ public class ProducerBinding implements Entity {
   private ProducerBindingKey key;
   private Specification specification;
   private Status status;
+  private Long version;
 }
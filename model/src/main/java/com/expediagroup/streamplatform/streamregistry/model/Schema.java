@@ -28,4 +28,5 @@ public class Schema implements Entity {
   private SchemaKey key;
   private Specification specification;
   private Status status;
+  private Long version;
 }
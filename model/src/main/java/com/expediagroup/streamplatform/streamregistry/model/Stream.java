@@ -33,4 +33,5 @@ public class Stream implements Entity {
   private SchemaKey schemaKey;
   private Specification specification;
   private Status status;
+  private Long version;
 }
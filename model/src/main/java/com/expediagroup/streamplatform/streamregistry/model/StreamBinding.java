@@ -29,4 +29,5 @@ public class StreamBinding implements Entity {
   private StreamBindingKey key;
   private Specification specification;
   private Status status;
+  private Long version;
 }
@@ -0,0 +1,27 @@
+/**
+ * Copyright (C) 2018-2020 Expedia, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.expediagroup.streamplatform.streamregistry.model;
+
+/**
+ * Optimistic concurrency version of a stored entity, incremented on every write. {@code null} for an entity that
+ * has not been stored yet or, on an update, when the caller does not expect a particular version.
+ */
+public interface Versioned {
+
+  Long getVersion();
+
+  void setVersion(Long version);
+}
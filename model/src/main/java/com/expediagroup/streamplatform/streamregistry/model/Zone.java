@@ -30,4 +30,5 @@ public class Zone implements Entity {
   private ZoneKey key;
   private Specification specification;
   private Status status;
+  private Long version;
 }
@@ -0,0 +1,62 @@
+/**
+ * Copyright (C) 2018-2020 Expedia, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.expediagroup.streamplatform.streamregistry.core.events;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+import java.util.function.Function;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+
+import org.springframework.messaging.Message;
+import org.springframework.util.concurrent.ListenableFuture;
+
+/**
+ * Records {@code notification_events_kafka_send} (timer, from send until the broker acknowledges) and
+ * {@code notification_events_kafka_send_errors} (counter, by exception) for each Kafka handler.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class KafkaSendMetrics {
+
+  public static <T> Function<Message<?>, ListenableFuture<T>> timed(MeterRegistry registry, String entity, Function<Message<?>, ListenableFuture<T>> send) {
+    return message -> {
+      long started = System.nanoTime();
+      ListenableFuture<T> result;
+      try {
+        result = send.apply(message);
+      } catch (RuntimeException e) {
+        record(registry, entity, started, e);
+        throw e;
+      }
+      result.addCallback(
+          success -> record(registry, entity, started, null),
+          failure -> record(registry, entity, started, failure));
+      return result;
+    };
+  }
+
+  private static void record(MeterRegistry registry, String entity, long started, Throwable failure) {
+    Tags tags = Tags.of("entity", entity).and("result", failure == null ? "success" : "failure");
+    registry.timer("notification_events_kafka_send", tags).record(System.nanoTime() - started, NANOSECONDS);
+    if (failure != null) {
+      registry.counter("notification_events_kafka_send_errors", Tags.of("entity", entity).and("exception", failure.getClass().getSimpleName())).increment();
+    }
+  }
+}
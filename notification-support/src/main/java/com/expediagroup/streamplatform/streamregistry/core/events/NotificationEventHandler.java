@@ -16,6 +16,7 @@
 package com.expediagroup.streamplatform.streamregistry.core.events;
 
 import java.util.Optional;
+import java.util.concurrent.Future;
 import java.util.function.Function;
 
 import lombok.val;
@@ -31,6 +32,17 @@ public interface NotificationEventHandler<T> {
 
   void onUpdate(NotificationEvent<T> event);
 
+  /**
+   * Status only updates are published as updates unless a handler needs to tell them apart.
+   */
+  default void onStatusUpdate(NotificationEvent<T> event) {
+    onUpdate(NotificationEvent.<T>builder()
+        .source(event.getSource())
+        .eventType(EventType.UPDATE)
+        .entity(event.getEntity())
+        .build());
+  }
+
   void onDelete(NotificationEvent<T> event);
 
   static <T, V> T sendEntityNotificationEvent(
@@ -61,6 +73,10 @@ public interface NotificationEventHandler<T> {
         .setHeader(NotificationEventConstants.ENTITY_TYPE_HEADER.name, entity)
         .build();
 
-    return sendMessage.apply(message);
+    T result = sendMessage.apply(message);
+    if (result instanceof Future) {
+      NotificationEventDeliveries.register((Future<?>) result);
+    }
+    return result;
   }
 }
\ No newline at end of file
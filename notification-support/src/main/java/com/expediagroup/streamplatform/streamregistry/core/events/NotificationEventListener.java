@@ -20,5 +20,7 @@ public interface NotificationEventListener<T> {
 
   void onUpdate(NotificationEvent<T> event);
 
+  void onStatusUpdate(NotificationEvent<T> event);
+
   void onDelete(NotificationEvent<T> event);
 }
\ No newline at end of file
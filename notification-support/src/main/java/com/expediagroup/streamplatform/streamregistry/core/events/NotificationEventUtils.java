@@ -18,6 +18,11 @@ package com.expediagroup.streamplatform.streamregistry.core.events;
 import static com.expediagroup.streamplatform.streamregistry.core.events.ObjectNodeMapper.serialise;
 import static java.util.Objects.requireNonNull;
 
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -228,14 +233,21 @@ public class NotificationEventUtils {
     return String.format("%s can not be null", target);
   }
 
+  /**
+   * Binds the static {@code clazz.methodName(argType)} parser once, as a generated {@link Function}, so that
+   * converting each event is a plain call rather than a reflective {@code Method.invoke}.
+   */
   public static <W, R extends SpecificRecord> Function<W, R> loadToAvroStaticMethod(String clazz, String methodName, Class<W> argType) throws ClassNotFoundException, NoSuchMethodException {
-    val method = Class.forName(clazz)
-        .getDeclaredMethod(methodName, argType);
+    val type = Class.forName(clazz);
+    val method = type.getDeclaredMethod(methodName, argType);
+    if (!Modifier.isStatic(method.getModifiers())) {
+      throw new NoSuchMethodException(String.format("%s.%s (toAvro) method must be static", clazz, methodName));
+    }
+    Function<W, R> parser = bindStaticFunction(type, method);
 
     Function<W, R> toAvroFn = obj -> {
       try {
-        // We set null as first argument, since we're expecting an static method
-        return (R) method.invoke(null, obj);
+        return parser.apply(obj);
       } catch (Exception e) {
         log.error("There was an error in {}.{} (toAvro) method: {}", clazz, methodName, e.getMessage(), e);
         throw new RuntimeException(e);
@@ -245,6 +257,25 @@ public class NotificationEventUtils {
     return toAvroFn;
   }
 
+  @SuppressWarnings("unchecked")
+  private static <W, R> Function<W, R> bindStaticFunction(Class<?> type, Method method) {
+    try {
+      // A lookup in the parser's own class can link to it whatever its visibility or class loader
+      val lookup = MethodHandles.privateLookupIn(type, MethodHandles.lookup());
+      val handle = lookup.unreflect(method);
+      val callSite = LambdaMetafactory.metafactory(
+          lookup,
+          "apply",
+          MethodType.methodType(Function.class),
+          MethodType.methodType(Object.class, Object.class),
+          handle,
+          handle.type());
+      return (Function<W, R>) callSite.getTarget().invokeExact();
+    } catch (Throwable e) {
+      throw new IllegalArgumentException(String.format("Can not bind %s.%s (toAvro) method", type.getName(), method.getName()), e);
+    }
+  }
+
   public static String getWarningMessageOnNotDefinedProp(String component, String property) {
     return String.format("%s prop must be configured on %s", property, component);
   }
@@ -0,0 +1,56 @@
+/**
+ * Copyright (C) 2018-2020 Expedia, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.expediagroup.streamplatform.streamregistry.core.events.config;
+
+import static com.expediagroup.streamplatform.streamregistry.core.events.config.NotificationEventConfig.KAFKA_PRODUCER_PROPERTY;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import lombok.Data;
+
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Kafka producer settings for notification events. The defaults favour throughput for bulk imports without
+ * giving up ordering: an idempotent producer ({@code acks=all}) that compresses and lingers to fill batches.
+ * Any other producer setting can be passed through {@code configs}, keyed by its Kafka name.
+ */
+@Data
+@ConfigurationProperties(prefix = KAFKA_PRODUCER_PROPERTY)
+public class KafkaProducerProperties {
+  private String acks = "all";
+  private boolean enableIdempotence = true;
+  private String compressionType = "lz4";
+  private int lingerMs = 20;
+  private int batchSize = 64 * 1024;
+  private int maxInFlightRequestsPerConnection = 5;
+  private int deliveryTimeoutMs = 120_000;
+  private Map<String, String> configs = new HashMap<>();
+
+  public Map<String, Object> buildProducerConfigs() {
+    Map<String, Object> props = new HashMap<>(configs);
+    props.put(ProducerConfig.ACKS_CONFIG, acks);
+    props.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, enableIdempotence);
+    props.put(ProducerConfig.COMPRESSION_TYPE_CONFIG, compressionType);
+    props.put(ProducerConfig.LINGER_MS_CONFIG, lingerMs);
+    props.put(ProducerConfig.BATCH_SIZE_CONFIG, batchSize);
+    props.put(ProducerConfig.MAX_IN_FLIGHT_REQUESTS_PER_CONNECTION, maxInFlightRequestsPerConnection);
+    props.put(ProducerConfig.DELIVERY_TIMEOUT_MS_CONFIG, deliveryTimeoutMs);
+    return props;
+  }
+}
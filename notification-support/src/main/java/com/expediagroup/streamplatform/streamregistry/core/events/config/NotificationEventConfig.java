@@ -25,9 +25,13 @@ import lombok.val;
 
 import io.confluent.kafka.serializers.KafkaAvroSerializer;
 import io.confluent.kafka.serializers.KafkaAvroSerializerConfig;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
 
 import org.apache.avro.specific.SpecificRecord;
 import org.apache.kafka.clients.producer.ProducerConfig;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
@@ -46,13 +50,15 @@ import com.expediagroup.streamplatform.streamregistry.core.events.handlers.Strea
 
 @Slf4j
 @Configuration
-@EnableConfigurationProperties({NewTopicProperties.class, SchemaParserProperties.class, StreamParserProperties.class, StreamBindingParserProperties.class, ProducerParserProperties.class, ConsumerParserProperties.class})
+@EnableConfigurationProperties({NewTopicProperties.class, KafkaProducerProperties.class, SchemaParserProperties.class, StreamParserProperties.class, StreamBindingParserProperties.class, ProducerParserProperties.class, ConsumerParserProperties.class})
 public class NotificationEventConfig {
   public static final String KAFKA_SCHEMA_REGISTRY_URL_PROPERTY = "notification.events.kafka.schema.registry.url";
   public static final String KAFKA_BOOTSTRAP_SERVERS_PROPERTY = "notification.events.kafka.bootstrap-servers";
   public static final String KAFKA_NOTIFICATIONS_ENABLED_PROPERTY = "notification.events.kafka.enabled";
   public static final String KAFKA_TOPIC_NAME_PROPERTY = "notification.events.kafka.topic";
   public static final String KAFKA_TOPIC_SETUP_PROPERTY = "notification.events.kafka.topic.setup";
+  public static final String KAFKA_PRODUCER_PROPERTY = "notification.events.kafka.producer";
+  public static final String SPEL_LISTENERS_ENABLED_PROPERTY = "notification.events.spel-listeners.enabled";
 
   public static final String CUSTOM_SCHEMA_TYPE_PREFIX = "notification.events.kafka.custom.schema";
   public static final String CUSTOM_SCHEMA_PARSER_ENABLED_PROPERTY = "notification.events.kafka.custom.schema.custom-enabled";
@@ -101,6 +107,12 @@ public class NotificationEventConfig {
   @Value("${" + KAFKA_SCHEMA_REGISTRY_URL_PROPERTY + ":#{null}}")
   private String schemaRegistryUrl;
 
+  @Autowired
+  private KafkaProducerProperties producerProperties;
+
+  @Autowired
+  private ObjectProvider<MeterRegistry> meterRegistry;
+
   @Bean
   @ConditionalOnProperty(name = KAFKA_NOTIFICATIONS_ENABLED_PROPERTY)
   public ProducerFactory<SpecificRecord, SpecificRecord> producerFactory() {
@@ -108,7 +120,7 @@ public class NotificationEventConfig {
     Objects.requireNonNull(bootstrapServers, getWarningMessageOnNotDefinedProp("enabled notification events", KAFKA_BOOTSTRAP_SERVERS_PROPERTY));
     Objects.requireNonNull(schemaRegistryUrl, getWarningMessageOnNotDefinedProp("enabled notification events", KAFKA_SCHEMA_REGISTRY_URL_PROPERTY));
 
-    val props = new HashMap<String, Object>();
+    val props = new HashMap<String, Object>(producerProperties.buildProducerConfigs());
     props.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
     props.put(KafkaAvroSerializerConfig.SCHEMA_REGISTRY_URL_CONFIG, schemaRegistryUrl);
     props.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, KafkaAvroSerializer.class);
@@ -133,6 +145,7 @@ public class NotificationEventConfig {
         .schemaToKeyRecord(parserProperties.buildSchemaToKeyRecord())
         .schemaToValueRecord(parserProperties.buildSchemaToValueRecord())
         .kafkaTemplate(kafkaTemplate())
+        .meterRegistry(meterRegistry.getIfAvailable(() -> Metrics.globalRegistry))
         .build();
   }
 
@@ -146,6 +159,7 @@ public class NotificationEventConfig {
         .streamToKeyRecord(parserProperties.buildStreamToKeyRecord())
         .streamToValueRecord(parserProperties.buildStreamToValueRecord())
         .kafkaTemplate(kafkaTemplate())
+        .meterRegistry(meterRegistry.getIfAvailable(() -> Metrics.globalRegistry))
         .build();
   }
 
@@ -159,6 +173,7 @@ public class NotificationEventConfig {
         .streamBindingToKeyRecord(parserProperties.buildStreamBindingToKeyRecord())
         .streamBindingToValueRecord(parserProperties.buildStreamBindingToValueRecord())
         .kafkaTemplate(kafkaTemplate())
+        .meterRegistry(meterRegistry.getIfAvailable(() -> Metrics.globalRegistry))
         .build();
   }
 
@@ -172,6 +187,7 @@ public class NotificationEventConfig {
         .producerToKeyRecord(parserProperties.buildProducerToKeyRecord())
         .producerToValueRecord(parserProperties.buildProducerToValueRecord())
         .kafkaTemplate(kafkaTemplate())
+        .meterRegistry(meterRegistry.getIfAvailable(() -> Metrics.globalRegistry))
         .build();
   }
 
@@ -185,6 +201,7 @@ public class NotificationEventConfig {
         .consumerToKeyRecord(parserProperties.buildConsumerToKeyRecord())
         .consumerToValueRecord(parserProperties.buildConsumerToValueRecord())
         .kafkaTemplate(kafkaTemplate())
+        .meterRegistry(meterRegistry.getIfAvailable(() -> Metrics.globalRegistry))
         .build();
   }
 
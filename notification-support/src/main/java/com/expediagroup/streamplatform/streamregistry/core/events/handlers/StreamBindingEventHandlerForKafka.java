@@ -25,10 +25,14 @@ import lombok.Getter;
 import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+
 import org.apache.avro.specific.SpecificRecord;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.kafka.support.SendResult;
 
+import com.expediagroup.streamplatform.streamregistry.core.events.KafkaSendMetrics;
 import com.expediagroup.streamplatform.streamregistry.core.events.NotificationEvent;
 import com.expediagroup.streamplatform.streamregistry.core.events.NotificationEventHandler;
 import com.expediagroup.streamplatform.streamregistry.model.StreamBinding;
@@ -53,6 +57,11 @@ public class StreamBindingEventHandlerForKafka implements NotificationEventHandl
   @NonNull
   private final KafkaTemplate<SpecificRecord, SpecificRecord> kafkaTemplate;
 
+  @Getter
+  @NonNull
+  @Builder.Default
+  private final MeterRegistry meterRegistry = Metrics.globalRegistry;
+
   @Override
   public void onCreate(NotificationEvent<StreamBinding> event) {
     log.info("Pushing create-stream-binding event {} to Kafka", event);
@@ -74,7 +83,7 @@ public class StreamBindingEventHandlerForKafka implements NotificationEventHandl
     return sendEntityNotificationEvent(
         streamBindingToKeyRecord,
         streamBindingToValueRecord,
-        kafkaTemplate::send,
+        KafkaSendMetrics.timed(meterRegistry, "stream_binding", kafkaTemplate::send),
         notificationEventsTopic,
         event
     );
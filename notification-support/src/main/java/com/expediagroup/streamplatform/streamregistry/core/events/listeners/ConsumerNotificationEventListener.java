@@ -15,11 +15,14 @@
  */
 package com.expediagroup.streamplatform.streamregistry.core.events.listeners;
 
+import static com.expediagroup.streamplatform.streamregistry.core.events.config.NotificationEventConfig.SPEL_LISTENERS_ENABLED_PROPERTY;
+
 import java.util.List;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
 
@@ -31,6 +34,7 @@ import com.expediagroup.streamplatform.streamregistry.model.Consumer;
 @Slf4j
 @Component
 @RequiredArgsConstructor
+@ConditionalOnProperty(name = SPEL_LISTENERS_ENABLED_PROPERTY, havingValue = "true")
 public class ConsumerNotificationEventListener implements NotificationEventListener<Consumer> {
   private static final String IS_CREATING_A_CONSUMER = "" +
       "event.entity instanceof T(com.expediagroup.streamplatform.streamregistry.model.Consumer)" +
@@ -40,6 +44,10 @@ public class ConsumerNotificationEventListener implements NotificationEventListe
       "event.entity instanceof T(com.expediagroup.streamplatform.streamregistry.model.Consumer)" +
       "and event.eventType == T(com.expediagroup.streamplatform.streamregistry.core.events.EventType).UPDATE";
 
+  private static final String IS_UPDATING_A_CONSUMER_STATUS = "" +
+      "event.entity instanceof T(com.expediagroup.streamplatform.streamregistry.model.Consumer)" +
+      "and event.eventType == T(com.expediagroup.streamplatform.streamregistry.core.events.EventType).STATUS_UPDATE";
+
 
   private static final String IS_DELETING_A_CONSUMER = "" +
       "event.entity instanceof T(com.expediagroup.streamplatform.streamregistry.model.Consumer)" +
@@ -61,6 +69,13 @@ public class ConsumerNotificationEventListener implements NotificationEventListe
     notificationEventHandlers.forEach(h -> this.handle(h::onUpdate, event));
   }
 
+  @Override
+  @EventListener(condition = IS_UPDATING_A_CONSUMER_STATUS)
+  public void onStatusUpdate(NotificationEvent<Consumer> event) {
+    log.debug("On update consumer status event {}", event);
+    notificationEventHandlers.forEach(h -> this.handle(h::onStatusUpdate, event));
+  }
+
   @Override
   @EventListener(condition = IS_DELETING_A_CONSUMER)
   public void onDelete(NotificationEvent<Consumer> event) {
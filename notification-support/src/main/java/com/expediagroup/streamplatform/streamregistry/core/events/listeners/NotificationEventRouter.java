@@ -0,0 +1,112 @@
+/**
+ * Copyright (C) 2018-2020 Expedia, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.expediagroup.streamplatform.streamregistry.core.events.listeners;
+
+import static com.expediagroup.streamplatform.streamregistry.core.events.config.NotificationEventConfig.SPEL_LISTENERS_ENABLED_PROPERTY;
+import static java.util.stream.Collectors.toList;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationListener;
+import org.springframework.core.ResolvableType;
+import org.springframework.stereotype.Component;
+
+import com.expediagroup.streamplatform.streamregistry.core.events.EventType;
+import com.expediagroup.streamplatform.streamregistry.core.events.NotificationEvent;
+import com.expediagroup.streamplatform.streamregistry.core.events.NotificationEventHandler;
+
+/**
+ * Routes each notification event to the handlers of its entity type with a table lookup keyed by entity class
+ * and {@link EventType}, instead of evaluating the SpEL conditions of every {@code *NotificationEventListener}.
+ * The listeners are still available by setting {@value
+ * com.expediagroup.streamplatform.streamregistry.core.events.config.NotificationEventConfig#SPEL_LISTENERS_ENABLED_PROPERTY}.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = SPEL_LISTENERS_ENABLED_PROPERTY, havingValue = "false", matchIfMissing = true)
+public class NotificationEventRouter implements ApplicationListener<NotificationEvent<?>> {
+  private final List<Route> routes;
+  private final Map<Class<?>, List<Route>> table = new ConcurrentHashMap<>();
+
+  public NotificationEventRouter(List<NotificationEventHandler<?>> notificationEventHandlers) {
+    this.routes = new ArrayList<>();
+    for (NotificationEventHandler<?> handler : notificationEventHandlers) {
+      Class<?> entityType = ResolvableType.forClass(handler.getClass())
+          .as(NotificationEventHandler.class)
+          .resolveGeneric(0);
+      if (entityType == null) {
+        log.warn("Can not resolve the entity type of notification event handler {}, it will not receive events", handler);
+        continue;
+      }
+      routes.add(new Route(entityType, handler));
+    }
+  }
+
+  @Override
+  public void onApplicationEvent(NotificationEvent<?> event) {
+    Object entity = event.getEntity();
+    if (entity == null || event.getEventType() == null) {
+      return;
+    }
+    List<Route> targets = table.computeIfAbsent(entity.getClass(), this::routesFor);
+    if (targets.isEmpty()) {
+      return;
+    }
+    log.debug("On {} {} event {}", event.getEventType(), entity.getClass().getSimpleName(), event);
+    for (Route route : targets) {
+      route.handle(event);
+    }
+  }
+
+  private List<Route> routesFor(Class<?> entityClass) {
+    return routes.stream()
+        .filter(route -> route.entityType.isAssignableFrom(entityClass))
+        .collect(toList());
+  }
+
+  private static class Route {
+    private final Class<?> entityType;
+    private final Map<EventType, BiConsumer<NotificationEventHandler<Object>, NotificationEvent<Object>>> methods = new EnumMap<>(EventType.class);
+    private final NotificationEventHandler<Object> handler;
+
+    @SuppressWarnings("unchecked")
+    Route(Class<?> entityType, NotificationEventHandler<?> handler) {
+      this.entityType = entityType;
+      this.handler = (NotificationEventHandler<Object>) handler;
+      methods.put(EventType.CREATE, NotificationEventHandler::onCreate);
+      methods.put(EventType.UPDATE, NotificationEventHandler::onUpdate);
+      methods.put(EventType.STATUS_UPDATE, NotificationEventHandler::onStatusUpdate);
+      methods.put(EventType.DELETE, NotificationEventHandler::onDelete);
+    }
+
+    @SuppressWarnings("unchecked")
+    void handle(NotificationEvent<?> event) {
+      try {
+        methods.get(event.getEventType()).accept(handler, (NotificationEvent<Object>) event);
+      } catch (Error e) {
+        log.error("Error handling event {}", event, e);
+      }
+    }
+  }
+}
@@ -15,12 +15,15 @@
  */
 package com.expediagroup.streamplatform.streamregistry.core.events.listeners;
 
+import static com.expediagroup.streamplatform.streamregistry.core.events.config.NotificationEventConfig.SPEL_LISTENERS_ENABLED_PROPERTY;
+
 import java.util.List;
 import java.util.function.Consumer;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
 
@@ -32,6 +35,7 @@ import com.expediagroup.streamplatform.streamregistry.model.Schema;
 @Slf4j
 @Component
 @RequiredArgsConstructor
+@ConditionalOnProperty(name = SPEL_LISTENERS_ENABLED_PROPERTY, havingValue = "true")
 public class SchemaNotificationEventListener implements NotificationEventListener<Schema> {
   private static final String IS_CREATING_A_SCHEMA = "" +
       "event.entity instanceof T(com.expediagroup.streamplatform.streamregistry.model.Schema)" +
@@ -41,6 +45,10 @@ public class SchemaNotificationEventListener implements NotificationEventListene
       "event.entity instanceof T(com.expediagroup.streamplatform.streamregistry.model.Schema)" +
       "and event.eventType == T(com.expediagroup.streamplatform.streamregistry.core.events.EventType).UPDATE";
 
+  private static final String IS_UPDATING_A_SCHEMA_STATUS = "" +
+      "event.entity instanceof T(com.expediagroup.streamplatform.streamregistry.model.Schema)" +
+      "and event.eventType == T(com.expediagroup.streamplatform.streamregistry.core.events.EventType).STATUS_UPDATE";
+
   private static final String IS_DELETING_A_SCHEMA = "" +
       "event.entity instanceof T(com.expediagroup.streamplatform.streamregistry.model.Schema)" +
       "and event.eventType == T(com.expediagroup.streamplatform.streamregistry.core.events.EventType).DELETE";
@@ -62,6 +70,13 @@ public class SchemaNotificationEventListener implements NotificationEventListene
     notificationEventHandlers.forEach(h -> this.handle(h::onUpdate, event));
   }
 
+  @Override
+  @EventListener(condition = IS_UPDATING_A_SCHEMA_STATUS)
+  public void onStatusUpdate(NotificationEvent<Schema> event) {
+    log.debug("On update schema status event {}", event);
+    notificationEventHandlers.forEach(h -> this.handle(h::onStatusUpdate, event));
+  }
+
   @Override
   @EventListener(condition = IS_DELETING_A_SCHEMA)
   public void onDelete(NotificationEvent<Schema> event) {
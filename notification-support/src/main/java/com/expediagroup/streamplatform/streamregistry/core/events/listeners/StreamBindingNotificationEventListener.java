@@ -15,12 +15,15 @@
  */
 package com.expediagroup.streamplatform.streamregistry.core.events.listeners;
 
+import static com.expediagroup.streamplatform.streamregistry.core.events.config.NotificationEventConfig.SPEL_LISTENERS_ENABLED_PROPERTY;
+
 import java.util.List;
 import java.util.function.Consumer;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
 
@@ -32,6 +35,7 @@ import com.expediagroup.streamplatform.streamregistry.model.StreamBinding;
 @Slf4j
 @Component
 @RequiredArgsConstructor
+@ConditionalOnProperty(name = SPEL_LISTENERS_ENABLED_PROPERTY, havingValue = "true")
 public class StreamBindingNotificationEventListener implements NotificationEventListener<StreamBinding> {
   private static final String IS_CREATING_A_STREAM_BINDING = "" +
       "event.entity instanceof T(com.expediagroup.streamplatform.streamregistry.model.StreamBinding)" +
@@ -41,6 +45,10 @@ public class StreamBindingNotificationEventListener implements NotificationEvent
       "event.entity instanceof T(com.expediagroup.streamplatform.streamregistry.model.StreamBinding)" +
       "and event.eventType == T(com.expediagroup.streamplatform.streamregistry.core.events.EventType).UPDATE";
 
+  private static final String IS_UPDATING_A_STREAM_BINDING_STATUS = "" +
+      "event.entity instanceof T(com.expediagroup.streamplatform.streamregistry.model.StreamBinding)" +
+      "and event.eventType == T(com.expediagroup.streamplatform.streamregistry.core.events.EventType).STATUS_UPDATE";
+
   private static final String IS_DELETING_A_STREAM_BINDING = "" +
       "event.entity instanceof T(com.expediagroup.streamplatform.streamregistry.model.StreamBinding)" +
       "and event.eventType == T(com.expediagroup.streamplatform.streamregistry.core.events.EventType).DELETE";
@@ -61,6 +69,13 @@ public class StreamBindingNotificationEventListener implements NotificationEvent
     notificationEventHandlers.forEach(h -> this.handle(h::onUpdate, event));
   }
 
+  @Override
+  @EventListener(condition = IS_UPDATING_A_STREAM_BINDING_STATUS)
+  public void onStatusUpdate(NotificationEvent<StreamBinding> event) {
+    log.debug("On update streamBinding status event {}", event);
+    notificationEventHandlers.forEach(h -> this.handle(h::onStatusUpdate, event));
+  }
+
   @Override
   @EventListener(condition = IS_DELETING_A_STREAM_BINDING)
   public void onDelete(NotificationEvent<StreamBinding> event) {
@@ -15,12 +15,15 @@
  */
 package com.expediagroup.streamplatform.streamregistry.core.events.listeners;
 
+import static com.expediagroup.streamplatform.streamregistry.core.events.config.NotificationEventConfig.SPEL_LISTENERS_ENABLED_PROPERTY;
+
 import java.util.List;
 import java.util.function.Consumer;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
 
@@ -32,6 +35,7 @@ import com.expediagroup.streamplatform.streamregistry.model.Stream;
 @Slf4j
 @Component
 @RequiredArgsConstructor
+@ConditionalOnProperty(name = SPEL_LISTENERS_ENABLED_PROPERTY, havingValue = "true")
 public class StreamNotificationEventListener implements NotificationEventListener<Stream> {
   private static final String IS_CREATING_A_STREAM = "" +
       "event.entity instanceof T(com.expediagroup.streamplatform.streamregistry.model.Stream)" +
@@ -41,6 +45,10 @@ public class StreamNotificationEventListener implements NotificationEventListene
       "event.entity instanceof T(com.expediagroup.streamplatform.streamregistry.model.Stream)" +
       "and event.eventType == T(com.expediagroup.streamplatform.streamregistry.core.events.EventType).UPDATE";
 
+  private static final String IS_UPDATING_A_STREAM_STATUS = "" +
+      "event.entity instanceof T(com.expediagroup.streamplatform.streamregistry.model.Stream)" +
+      "and event.eventType == T(com.expediagroup.streamplatform.streamregistry.core.events.EventType).STATUS_UPDATE";
+
 
   private static final String IS_DELETING_A_STREAM = "" +
       "event.entity instanceof T(com.expediagroup.streamplatform.streamregistry.model.Stream)" +
@@ -62,6 +70,13 @@ public class StreamNotificationEventListener implements NotificationEventListene
     notificationEventHandlers.forEach(h -> this.handle(h::onUpdate, event));
   }
 
+  @Override
+  @EventListener(condition = IS_UPDATING_A_STREAM_STATUS)
+  public void onStatusUpdate(NotificationEvent<Stream> event) {
+    log.debug("On update stream status event {}", event);
+    notificationEventHandlers.forEach(h -> this.handle(h::onStatusUpdate, event));
+  }
+
   @Override
   @EventListener(condition = IS_DELETING_A_STREAM)
   public void onDelete(NotificationEvent<Stream> event) {
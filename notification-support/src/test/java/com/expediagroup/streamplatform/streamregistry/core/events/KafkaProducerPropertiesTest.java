@@ -0,0 +1,51 @@
+/**
+ * Copyright (C) 2018-2020 Expedia, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.expediagroup.streamplatform.streamregistry.core.events;
+
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.util.Map;
+
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.junit.Test;
+
+import com.expediagroup.streamplatform.streamregistry.core.events.config.KafkaProducerProperties;
+
+public class KafkaProducerPropertiesTest {
+
+  @Test
+  public void defaultsToAnIdempotentBatchingProducer() {
+    Map<String, Object> configs = new KafkaProducerProperties().buildProducerConfigs();
+
+    assertThat(configs.get(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG), is(true));
+    assertThat(configs.get(ProducerConfig.ACKS_CONFIG), is("all"));
+    assertThat(configs.get(ProducerConfig.COMPRESSION_TYPE_CONFIG), is("lz4"));
+    assertThat(configs.get(ProducerConfig.LINGER_MS_CONFIG), is(20));
+  }
+
+  @Test
+  public void passesThroughOtherProducerSettings() {
+    KafkaProducerProperties properties = new KafkaProducerProperties();
+    properties.setLingerMs(5);
+    properties.getConfigs().put(ProducerConfig.BUFFER_MEMORY_CONFIG, "67108864");
+
+    Map<String, Object> configs = properties.buildProducerConfigs();
+
+    assertThat(configs.get(ProducerConfig.LINGER_MS_CONFIG), is(5));
+    assertThat(configs.get(ProducerConfig.BUFFER_MEMORY_CONFIG), is("67108864"));
+  }
+}
@@ -22,6 +22,7 @@ import static com.expediagroup.streamplatform.streamregistry.core.events.config.
 import static com.expediagroup.streamplatform.streamregistry.core.events.config.NotificationEventConfig.KAFKA_SCHEMA_REGISTRY_URL_PROPERTY;
 import static com.expediagroup.streamplatform.streamregistry.core.events.config.NotificationEventConfig.KAFKA_TOPIC_NAME_PROPERTY;
 import static com.expediagroup.streamplatform.streamregistry.core.events.config.NotificationEventConfig.KAFKA_TOPIC_SETUP_PROPERTY;
+import static com.expediagroup.streamplatform.streamregistry.core.events.config.NotificationEventConfig.SPEL_LISTENERS_ENABLED_PROPERTY;
 
 import java.io.IOException;
 import java.time.Instant;
@@ -102,6 +103,7 @@ import com.expediagroup.streamplatform.streamregistry.model.keys.StreamKey;
     classes = NotificationEventListenerKafkaIntegrationTest.SpyListenerConfiguration.class,
     properties = {
         KAFKA_NOTIFICATIONS_ENABLED_PROPERTY + "=true",
+        SPEL_LISTENERS_ENABLED_PROPERTY + "=true",
         KAFKA_TOPIC_NAME_PROPERTY + "=" + NotificationEventListenerKafkaIntegrationTest.TEST_NOTIFICATION_TOPIC,
         KAFKA_TOPIC_SETUP_PROPERTY + "=true",
         KAFKA_TOPIC_SETUP_PROPERTY + ".numPartitions=" + NotificationEventListenerKafkaIntegrationTest.TEST_PARTITIONS,
@@ -21,6 +21,7 @@ import static com.expediagroup.streamplatform.streamregistry.core.events.config.
 import static com.expediagroup.streamplatform.streamregistry.core.events.config.NotificationEventConfig.KAFKA_SCHEMA_REGISTRY_URL_PROPERTY;
 import static com.expediagroup.streamplatform.streamregistry.core.events.config.NotificationEventConfig.KAFKA_TOPIC_NAME_PROPERTY;
 import static com.expediagroup.streamplatform.streamregistry.core.events.config.NotificationEventConfig.KAFKA_TOPIC_SETUP_PROPERTY;
+import static com.expediagroup.streamplatform.streamregistry.core.events.config.NotificationEventConfig.SPEL_LISTENERS_ENABLED_PROPERTY;
 
 import java.util.Objects;
 import java.util.stream.IntStream;
@@ -71,6 +72,7 @@ import com.expediagroup.streamplatform.streamregistry.model.StreamBinding;
 @SpringBootTest(classes = {NotificationEventListenerTest.MockListenerConfiguration.class},
     properties = {
         KAFKA_NOTIFICATIONS_ENABLED_PROPERTY + "=true",
+        SPEL_LISTENERS_ENABLED_PROPERTY + "=true",
         KAFKA_TOPIC_NAME_PROPERTY + "=my-topic",
         KAFKA_TOPIC_SETUP_PROPERTY + "=false", // We don't test setup topic here but in  the integration test
         KAFKA_BOOTSTRAP_SERVERS_PROPERTY + "=localhost:9092",
@@ -0,0 +1,86 @@
+/**
+ * Copyright (C) 2018-2020 Expedia, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.expediagroup.streamplatform.streamregistry.core.events;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.doCallRealMethod;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.List;
+
+import org.junit.Test;
+
+import com.expediagroup.streamplatform.streamregistry.core.events.handlers.SchemaEventHandlerForKafka;
+import com.expediagroup.streamplatform.streamregistry.core.events.handlers.StreamEventHandlerForKafka;
+import com.expediagroup.streamplatform.streamregistry.core.events.listeners.NotificationEventRouter;
+import com.expediagroup.streamplatform.streamregistry.model.Schema;
+import com.expediagroup.streamplatform.streamregistry.model.Stream;
+
+public class NotificationEventRouterTest {
+  private final SchemaEventHandlerForKafka schemaHandler = mock(SchemaEventHandlerForKafka.class);
+  private final StreamEventHandlerForKafka streamHandler = mock(StreamEventHandlerForKafka.class);
+  private final NotificationEventRouter router = new NotificationEventRouter(List.of(schemaHandler, streamHandler));
+
+  @Test
+  public void routesByEntityClassAndEventType() {
+    NotificationEvent<Schema> created = event(EventType.CREATE, new Schema());
+    NotificationEvent<Stream> deleted = event(EventType.DELETE, new Stream());
+
+    router.onApplicationEvent(created);
+    router.onApplicationEvent(deleted);
+
+    verify(schemaHandler).onCreate(created);
+    verify(schemaHandler, never()).onDelete(any());
+    verify(streamHandler).onDelete(deleted);
+    verify(streamHandler, never()).onCreate(any());
+  }
+
+  @Test
+  public void statusUpdatesAreHandedOnAsUpdates() {
+    var stream = new Stream();
+    NotificationEvent<Stream> statusUpdated = event(EventType.STATUS_UPDATE, stream);
+    doCallRealMethod().when(streamHandler).onStatusUpdate(any());
+
+    router.onApplicationEvent(statusUpdated);
+
+    verify(streamHandler).onStatusUpdate(statusUpdated);
+    verify(streamHandler).onUpdate(argThat(event -> event.getEventType() == EventType.UPDATE && event.getEntity() == stream));
+  }
+
+  @Test
+  public void keepsDispatchingWhenAHandlerFailsWithAnError() {
+    NotificationEvent<Schema> updated = event(EventType.UPDATE, new Schema());
+    doThrow(new AssertionError("boom")).when(schemaHandler).onUpdate(updated);
+
+    router.onApplicationEvent(updated);
+    router.onApplicationEvent(updated);
+
+    verify(schemaHandler, times(2)).onUpdate(updated);
+  }
+
+  private static <T> NotificationEvent<T> event(EventType eventType, T entity) {
+    return NotificationEvent.<T>builder()
+        .source("test")
+        .eventType(eventType)
+        .entity(entity)
+        .build();
+  }
+}
@@ -0,0 +1,29 @@
+/**
+ * Copyright (C) 2018-2020 Expedia, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.expediagroup.streamplatform.streamregistry.repository;
+
+/**
+ * Told when another instance has written entities of a type, after the repository has evicted them from its own
+ * caches, so that caches held above the repository can catch up, for example with a
+ * {@link com.expediagroup.streamplatform.streamregistry.repository.query.QuerySpec.QuerySpecBuilder#changedSince(Long)
+ * changedSince} query.
+ */
+public interface EntityInvalidationListener {
+  /**
+   * @param entityType the model class, such as {@code Stream}
+   */
+  void invalidated(Class<?> entityType);
+}
@@ -17,13 +17,53 @@ package com.expediagroup.streamplatform.streamregistry.repository;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+
+import com.expediagroup.streamplatform.streamregistry.model.Status;
+import com.expediagroup.streamplatform.streamregistry.repository.query.Page;
+import com.expediagroup.streamplatform.streamregistry.repository.query.PageRequest;
+import com.expediagroup.streamplatform.streamregistry.repository.query.QuerySpec;
 
 public interface Repository<T, ID> {
   T save(T entity);
 
+  List<T> saveAll(List<T> entities);
+
+  /**
+   * Replaces the status of an existing entity, leaving its specification untouched.
+   *
+   * @param expectedVersion the version the stored entity must have, or {@code null} to accept any
+   * @return the updated entity, or empty if it does not exist
+   * @throws javax.persistence.OptimisticLockException if the stored entity has another version, or is written
+   *     concurrently
+   */
+  Optional<T> saveStatus(ID id, Status status, Long expectedVersion);
+
   Optional<T> findById(ID id);
 
+  boolean existsById(ID id);
+
+  /**
+   * The subset of {@code ids} that exist, checked without loading the entities.
+   */
+  Set<ID> findExistingIds(Iterable<ID> ids);
+
+  List<T> findAllById(Iterable<ID> ids);
+
   List<T> findAll();
 
    List<T> findAll(T example);
+
+  List<T> findAll(QuerySpec<T> query);
+
+  Page<T> findAll(QuerySpec<T> query, PageRequest page);
+
+  long count(QuerySpec<T> query);
+
+  /**
+   * A revision at or below which every write has committed, across all entity types. Reading it before a query and
+   * passing it as {@link QuerySpec.QuerySpecBuilder#changedSince(Long) changedSince} to the next one returns every
+   * entity written in between.
+   */
+  long highWaterMark();
 }
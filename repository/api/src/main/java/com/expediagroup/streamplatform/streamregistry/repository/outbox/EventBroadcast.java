@@ -0,0 +1,29 @@
+/**
+ * Copyright (C) 2018-2020 Expedia, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.expediagroup.streamplatform.streamregistry.repository.outbox;
+
+import java.util.List;
+
+/**
+ * Shares notification events with every instance using the same repository, so that each instance can tell its own
+ * subscribers about every write, not only about those made or relayed on it.
+ */
+public interface EventBroadcast {
+  /**
+   * Sends the events to every instance, this one included, if the current transaction commits.
+   */
+  void publish(List<OutboxEvent> events);
+}
@@ -0,0 +1,35 @@
+/**
+ * Copyright (C) 2018-2020 Expedia, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.expediagroup.streamplatform.streamregistry.repository.outbox;
+
+import java.time.Instant;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * A notification event waiting in the outbox, or sent with {@link EventBroadcast}. The entity is serialised in
+ * {@code payload} so that the event can be delivered exactly as it was when the entity was written.
+ */
+@Value
+@Builder
+public class OutboxEvent {
+  Long id;
+  String entityType;
+  String eventType;
+  String payload;
+  Instant createdAt;
+}
@@ -0,0 +1,42 @@
+/**
+ * Copyright (C) 2018-2020 Expedia, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.expediagroup.streamplatform.streamregistry.repository.outbox;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Notification events recorded in the same transaction as the entity writes that caused them.
+ */
+public interface OutboxRepository {
+  /**
+   * Records the events in the current transaction, so that they are kept only if the transaction commits.
+   */
+  void append(List<OutboxEvent> events);
+
+  /**
+   * The oldest pending events, ordered by the transaction that appended them and then in the order they were
+   * appended. Only the events of transactions older than every transaction still in flight are returned, so an
+   * event is never returned after one that follows it.
+   *
+   * <p>The events are claimed for {@code owner} until {@code leaseMillis} after the claiming transaction started,
+   * so they can be delivered after it commits. Each call from the owner renews the claim, and other owners get an
+   * empty list until it lapses, so that events are relayed in order.
+   */
+  List<OutboxEvent> claimPending(String owner, int limit, long leaseMillis);
+
+  void delete(Collection<Long> ids);
+}
@@ -0,0 +1,59 @@
+/**
+ * Copyright (C) 2018-2020 Expedia, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.expediagroup.streamplatform.streamregistry.repository.query;
+
+import lombok.Value;
+
+/**
+ * A single restriction on a model property, addressed by its dotted path from the entity root
+ * (e.g. {@code key.streamDomain}, {@code schemaKey.name} or {@code specification.type}).
+ */
+@Value
+public class Criterion {
+  String property;
+  Operator operator;
+  Object value;
+
+  /**
+   * Full-match regular expression, equivalent to {@link String#matches(String)}.
+   */
+  public static Criterion matches(String property, String regex) {
+    return new Criterion(property, Operator.MATCHES, regex);
+  }
+
+  public static Criterion equalTo(String property, Object value) {
+    return new Criterion(property, Operator.EQUALS, value);
+  }
+
+  public static Criterion greaterThan(String property, Comparable<?> value) {
+    return new Criterion(property, Operator.GREATER_THAN, value);
+  }
+
+  /**
+   * JSON containment: the property, a JSON document, holds {@code document} at its top level, recursively for
+   * nested objects and arrays, like the Postgres {@code @>} operator.
+   */
+  public static Criterion contains(String property, Object document) {
+    return new Criterion(property, Operator.CONTAINS, document);
+  }
+
+  public enum Operator {
+    MATCHES,
+    EQUALS,
+    GREATER_THAN,
+    CONTAINS
+  }
+}
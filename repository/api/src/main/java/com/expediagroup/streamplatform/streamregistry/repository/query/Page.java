@@ -1,5 +1,5 @@
 /**
- * Copyright (C) 2018-2019 Expedia, Inc.
+ * Copyright (C) 2018-2020 Expedia, Inc.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -13,17 +13,23 @@
  * See the License for the specific language governing permissions and
  * limitations under the License.
  */
-package com.expediagroup.streamplatform.streamregistry.graphql;
+package com.expediagroup.streamplatform.streamregistry.repository.query;
 
-import java.util.Optional;
+import java.util.List;
 
-import com.expediagroup.streamplatform.streamregistry.model.Stated;
+import lombok.Value;
 
-public class StateHelper {
+/**
+ * A page of entities in key order, each with the cursor to resume from after it.
+ */
+@Value
+public class Page<T> {
+  List<Entry<T>> entries;
+  boolean hasNext;
 
-  public static void maintainState(Stated stated, Optional<? extends Stated> existing) {
-    if (existing.isPresent()) {
-      stated.setStatus(existing.get().getStatus());
-    }
+  @Value
+  public static class Entry<T> {
+    String cursor;
+    T entity;
   }
 }
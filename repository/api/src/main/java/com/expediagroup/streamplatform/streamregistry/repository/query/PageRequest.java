@@ -0,0 +1,28 @@
+/**
+ * Copyright (C) 2018-2020 Expedia, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.expediagroup.streamplatform.streamregistry.repository.query;
+
+import lombok.Value;
+
+/**
+ * Requests up to {@code size} entities ordered by key, starting after the entity identified by the
+ * opaque {@code after} cursor, or from the beginning when it is {@code null}.
+ */
+@Value
+public class PageRequest {
+  int size;
+  String after;
+}
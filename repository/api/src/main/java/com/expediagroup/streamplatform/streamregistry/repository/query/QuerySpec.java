@@ -0,0 +1,82 @@
+/**
+ * Copyright (C) 2018-2020 Expedia, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.expediagroup.streamplatform.streamregistry.repository.query;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+import lombok.Builder;
+import lombok.Singular;
+import lombok.Value;
+
+/**
+ * Describes a search over a repository so that implementations can evaluate it where the data lives
+ * instead of loading every entity. All criteria must hold for an entity to be returned.
+ *
+ * <p>Implementations that cannot evaluate some of the criteria natively must apply the
+ * {@code fallback} predicate to the entities they load.
+ */
+@Value
+@Builder(toBuilder = true)
+public class QuerySpec<T> {
+  /**
+   * Pseudo property holding the revision of an entity's latest write. It is not part of the model, so only
+   * repositories that store revisions can evaluate it.
+   */
+  public static final String REVISION = "revision";
+
+  @Singular("criterion")
+  List<Criterion> criteria;
+  @Singular
+  List<TagCriterion> tags;
+  Predicate<T> fallback;
+
+  /**
+   * This spec, restricted to entities written after {@code revision} unless it is {@code null}.
+   */
+  public QuerySpec<T> changedSince(Long revision) {
+    return revision == null ? this : toBuilder().changedSince(revision).build();
+  }
+
+  public static class QuerySpecBuilder<T> {
+    public QuerySpecBuilder<T> matches(String property, String regex) {
+      return regex == null ? this : criterion(Criterion.matches(property, regex));
+    }
+
+    public QuerySpecBuilder<T> equalTo(String property, Object value) {
+      return value == null ? this : criterion(Criterion.equalTo(property, value));
+    }
+
+    public QuerySpecBuilder<T> greaterThan(String property, Comparable<?> value) {
+      return value == null ? this : criterion(Criterion.greaterThan(property, value));
+    }
+
+    public QuerySpecBuilder<T> contains(String property, Object document) {
+      return document == null ? this : criterion(Criterion.contains(property, document));
+    }
+
+    /**
+     * Only entities written after {@code revision}, as returned by {@code Repository#highWaterMark()}.
+     */
+    public QuerySpecBuilder<T> changedSince(Long revision) {
+      return greaterThan(REVISION, revision);
+    }
+
+    public QuerySpecBuilder<T> matchesTag(String nameRegex, String valueRegex) {
+      return tag(new TagCriterion(nameRegex, valueRegex));
+    }
+  }
+}
@@ -0,0 +1,38 @@
+/**
+ * Copyright (C) 2018-2020 Expedia, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.expediagroup.streamplatform.streamregistry.repository.query;
+
+/**
+ * Regular expression helpers shared by everything that evaluates {@code MATCHES} criteria (the GraphQL filters, the
+ * read model and the Postgres translation), so they agree on which patterns are plain literals.
+ */
+public final class Regexes {
+  private static final String METACHARACTERS = "\\^$.|?*+()[]{}";
+
+  private Regexes() {}
+
+  /**
+   * Whether {@code regex} only matches itself.
+   */
+  public static boolean isLiteral(String regex) {
+    for (int i = 0; i < regex.length(); i++) {
+      if (METACHARACTERS.indexOf(regex.charAt(i)) >= 0) {
+        return false;
+      }
+    }
+    return true;
+  }
+}
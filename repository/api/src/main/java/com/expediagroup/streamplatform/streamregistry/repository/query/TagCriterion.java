@@ -0,0 +1,28 @@
+/**
+ * Copyright (C) 2018-2020 Expedia, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.expediagroup.streamplatform.streamregistry.repository.query;
+
+import lombok.Value;
+
+/**
+ * Requires at least one tag whose name and value fully match the given regular expressions.
+ * A {@code null} regular expression matches anything.
+ */
+@Value
+public class TagCriterion {
+  String nameRegex;
+  String valueRegex;
+}
@@ -16,10 +16,15 @@
 package com.expediagroup.streamplatform.streamregistry.repository.postgres;
 
 import static java.util.Collections.emptyList;
+import static java.util.function.Function.identity;
 import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toMap;
+import static java.util.stream.Collectors.toSet;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.StreamSupport;
 
 import lombok.RequiredArgsConstructor;
 
@@ -27,10 +32,16 @@ import org.springframework.data.domain.Example;
 import org.springframework.stereotype.Component;
 
 import com.expediagroup.streamplatform.streamregistry.model.Domain;
+import com.expediagroup.streamplatform.streamregistry.model.Status;
 import com.expediagroup.streamplatform.streamregistry.model.keys.DomainKey;
 import com.expediagroup.streamplatform.streamregistry.repository.postgres.data.DataToModel;
+import com.expediagroup.streamplatform.streamregistry.repository.postgres.data.DomainData;
 import com.expediagroup.streamplatform.streamregistry.repository.postgres.data.ModelToData;
 import com.expediagroup.streamplatform.streamregistry.repository.postgres.jpa.DomainJpaRepository;
+import com.expediagroup.streamplatform.streamregistry.repository.postgres.query.QuerySpecExecutor;
+import com.expediagroup.streamplatform.streamregistry.repository.query.Page;
+import com.expediagroup.streamplatform.streamregistry.repository.query.PageRequest;
+import com.expediagroup.streamplatform.streamregistry.repository.query.QuerySpec;
 
 @Component
 @RequiredArgsConstructor
@@ -38,16 +49,42 @@ public class DomainRepository implements com.expediagroup.streamplatform.streamr
   private final ModelToData modelToData;
   private final DataToModel dataToModel;
   private final DomainJpaRepository delegate;
+  private final QuerySpecExecutor querySpecExecutor;
+  private final EntityRevisions revisions;
+  private final EntityStatuses statuses;
+  private final EntityResultCache resultCache;
 
   @Override
   public Domain save(Domain entity) {
     return Optional.of(entity)
         .map(modelToData::convertToData)
-        .map(delegate::save)
+        .map(revisions::assign)
+        .map(delegate::saveAndFlush)
+        .map(resultCache::putOnCommit)
         .map(dataToModel::convertToModel)
         .orElse(null);
   }
 
+  @Override
+  public List<Domain> saveAll(List<Domain> entities) {
+    var data = entities.stream()
+        .map(modelToData::convertToData)
+        .collect(toList());
+    var saved = delegate.saveAll(revisions.assignAll(data));
+    delegate.flush();
+    resultCache.putAllOnCommit(saved);
+    return saved.stream()
+        .map(dataToModel::convertToModel)
+        .collect(toList());
+  }
+
+  @Override
+  public Optional<Domain> saveStatus(DomainKey key, Status status, Long expectedVersion) {
+    return statuses.save(DomainData.class, modelToData.convertToData(key), status, expectedVersion)
+        .map(resultCache::putOnCommit)
+        .map(dataToModel::convertToModel);
+  }
+
   @Override
   public Optional<Domain> findById(DomainKey key) {
     return Optional.of(key)
@@ -56,9 +93,33 @@ public class DomainRepository implements com.expediagroup.streamplatform.streamr
         .map(dataToModel::convertToModel);
   }
 
+  @Override
+  public boolean existsById(DomainKey key) {
+    return delegate.existsById(modelToData.convertToData(key));
+  }
+
+  @Override
+  public Set<DomainKey> findExistingIds(Iterable<DomainKey> keys) {
+    var dataKeys = StreamSupport.stream(keys.spliterator(), false)
+        .collect(toMap(modelToData::convertToData, identity(), (a, b) -> a));
+    return querySpecExecutor.existingIds(DomainData.class, dataKeys.keySet()).stream()
+        .map(dataKeys::get)
+        .collect(toSet());
+  }
+
+  @Override
+  public List<Domain> findAllById(Iterable<DomainKey> keys) {
+    var dataKeys = StreamSupport.stream(keys.spliterator(), false)
+        .map(modelToData::convertToData)
+        .collect(toList());
+    return delegate.findAllById(dataKeys).stream()
+        .map(dataToModel::convertToModel)
+        .collect(toList());
+  }
+
   @Override
   public List<Domain> findAll() {
-    return delegate.findAll().stream()
+    return resultCache.findAll(DomainData.class, delegate::findAll).stream()
         .map(dataToModel::convertToModel)
         .collect(toList());
   }
@@ -68,10 +129,30 @@ public class DomainRepository implements com.expediagroup.streamplatform.streamr
     return Optional.of(example)
         .map(modelToData::convertToData)
         .map(Example::of)
-        .map(delegate::findAll)
+        .map(probe -> resultCache.findAll(probe, () -> delegate.findAll(probe)))
         .orElse(emptyList())
         .stream()
         .map(dataToModel::convertToModel)
         .collect(toList());
   }
+
+  @Override
+  public List<Domain> findAll(QuerySpec<Domain> query) {
+    return querySpecExecutor.findAll(DomainData.class, query, dataToModel::convertToModel);
+  }
+
+  @Override
+  public Page<Domain> findAll(QuerySpec<Domain> query, PageRequest page) {
+    return querySpecExecutor.findAll(DomainData.class, query, page, dataToModel::convertToModel);
+  }
+
+  @Override
+  public long count(QuerySpec<Domain> query) {
+    return querySpecExecutor.count(DomainData.class, query, dataToModel::convertToModel);
+  }
+
+  @Override
+  public long highWaterMark() {
+    return revisions.highWaterMark();
+  }
 }
@@ -0,0 +1,306 @@
+/**
+ * Copyright (C) 2018-2020 Expedia, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.expediagroup.streamplatform.streamregistry.repository.postgres;
+
+import static java.util.stream.Collectors.toList;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import javax.persistence.Embeddable;
+import javax.persistence.EntityManagerFactory;
+
+import lombok.extern.slf4j.Slf4j;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+
+import org.hibernate.Hibernate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Example;
+import org.springframework.data.domain.ExampleMatcher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.expediagroup.streamplatform.streamregistry.repository.postgres.data.DataCopies;
+import com.expediagroup.streamplatform.streamregistry.repository.postgres.data.EntityData;
+
+/**
+ * Caches the results of {@code findAll()} and {@code findAll(Example)} per entity type. Unlike the query cache, which
+ * drops every cached result of a table on any write to it, a write here is applied to the cached results: the written
+ * row replaces its previous version in the full list and is added to or removed from each cached example result
+ * depending on whether it still matches the probe. Status heartbeats therefore no longer empty the cache.
+ *
+ * <p>Writes are applied after their transaction commits, in version order per row. A result loaded while a write
+ * was being applied is returned but not cached. A transaction that has written bypasses the cache until it ends, so
+ * it sees its own writes. Writes on other instances arrive through {@link #reload(Class, Collection)}.
+ *
+ * <p>Cached rows are copies and every row handed out is a copy, so neither callers nor persistence contexts share
+ * them.
+ */
+@Slf4j
+@Component
+public class EntityResultCache {
+  static final int MAX_EXAMPLES_PER_TYPE = 10_000;
+
+  private final Map<Class<?>, Results> results = new ConcurrentHashMap<>();
+  private final Function<Object, Object> identifiers;
+  private final EntityManagerFactory entityManagerFactory;
+  private final MeterRegistry registry;
+
+  @Autowired
+  public EntityResultCache(
+      EntityManagerFactory entityManagerFactory,
+      ObjectProvider<MeterRegistry> meterRegistry) {
+    this(entityManagerFactory.getPersistenceUnitUtil()::getIdentifier, entityManagerFactory,
+        meterRegistry.getIfAvailable(() -> Metrics.globalRegistry));
+  }
+
+  EntityResultCache(
+      Function<Object, Object> identifiers,
+      EntityManagerFactory entityManagerFactory,
+      MeterRegistry registry) {
+    this.identifiers = identifiers;
+    this.entityManagerFactory = entityManagerFactory;
+    this.registry = registry;
+  }
+
+  public <D> List<D> findAll(Class<D> type, Supplier<List<D>> loader) {
+    return find(type, null, loader);
+  }
+
+  @SuppressWarnings("unchecked")
+  public <D> List<D> findAll(Example<D> example, Supplier<List<D>> loader) {
+    return find((Class<D>) Hibernate.getClass(example.getProbe()), example, loader);
+  }
+
+  public <D extends EntityData<?>> D putOnCommit(D entity) {
+    putAllOnCommit(List.of(entity));
+    return entity;
+  }
+
+  @SuppressWarnings("unchecked")
+  public <D extends EntityData<?>> List<D> putAllOnCommit(List<D> entities) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      entities.forEach(this::apply);
+      return entities;
+    }
+    var pending = (List<Object>) TransactionSynchronizationManager.getResource(this);
+    if (pending == null) {
+      List<Object> written = new ArrayList<>();
+      TransactionSynchronizationManager.bindResource(this, written);
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCommit() {
+          written.forEach(EntityResultCache.this::apply);
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+          TransactionSynchronizationManager.unbindResourceIfPossible(EntityResultCache.this);
+        }
+      });
+      pending = written;
+    }
+    pending.addAll(entities);
+    return entities;
+  }
+
+  /**
+   * Applies rows written by another instance, reading them back from the database. The second level cache entries of
+   * these rows must have been evicted first.
+   */
+  public void reload(Class<?> type, Collection<?> ids) {
+    var cached = results.get(type);
+    if (cached == null) {
+      return;
+    }
+    var reader = entityManagerFactory.createEntityManager();
+    try {
+      for (Object id : ids) {
+        var entity = reader.find(type, id);
+        if (entity == null) {
+          cached.remove(id);
+        } else {
+          apply(entity);
+        }
+      }
+    } catch (RuntimeException e) {
+      log.warn("Could not reload {} rows, dropping their cached results", type.getSimpleName(), e);
+      cached.clear();
+    } finally {
+      reader.close();
+    }
+  }
+
+  public void clear() {
+    results.values().forEach(Results::clear);
+  }
+
+  @SuppressWarnings("unchecked")
+  private <D> List<D> find(Class<D> type, Example<D> example, Supplier<List<D>> loader) {
+    var cached = results.computeIfAbsent(type, Results::new);
+    if (TransactionSynchronizationManager.hasResource(this)) {
+      return loader.get();
+    }
+    long generation;
+    synchronized (cached) {
+      var rows = example == null ? cached.all : cached.examples.get(example);
+      if (rows != null) {
+        cached.hit(registry);
+        return rows.values().stream().map(row -> (D) DataCopies.copyOf(row)).collect(toList());
+      }
+      generation = cached.generation;
+    }
+    cached.miss(registry);
+    var loaded = loader.get();
+    var rows = new LinkedHashMap<Object, Object>();
+    loaded.forEach(row -> rows.put(identifiers.apply(row), DataCopies.copyOf(row)));
+    synchronized (cached) {
+      if (cached.generation == generation) {
+        if (example == null) {
+          cached.all = rows;
+        } else {
+          cached.examples.put(example, rows);
+        }
+      }
+    }
+    return loaded;
+  }
+
+  private void apply(Object written) {
+    var entity = Hibernate.unproxy(written);
+    var cached = results.get(entity.getClass());
+    if (cached == null) {
+      return;
+    }
+    cached.apply(identifiers.apply(entity), DataCopies.copyOf(entity));
+  }
+
+  /**
+   * Whether every non null property of the probe, looking into embedded keys and values, equals that of the
+   * candidate, as the default {@link ExampleMatcher} does in the database. Collections are not compared.
+   */
+  static boolean matches(Object probe, Object candidate) {
+    for (Class<?> type = probe.getClass(); type != Object.class; type = type.getSuperclass()) {
+      for (Field field : type.getDeclaredFields()) {
+        if (Modifier.isStatic(field.getModifiers())
+            || Collection.class.isAssignableFrom(field.getType())
+            || Map.class.isAssignableFrom(field.getType())) {
+          continue;
+        }
+        field.setAccessible(true);
+        try {
+          var expected = field.get(probe);
+          if (expected == null) {
+            continue;
+          }
+          var actual = field.get(candidate);
+          if (field.getType().isAnnotationPresent(Embeddable.class)) {
+            if (actual == null || !matches(expected, actual)) {
+              return false;
+            }
+          } else if (!expected.equals(actual)) {
+            return false;
+          }
+        } catch (IllegalAccessException e) {
+          throw new IllegalStateException(e);
+        }
+      }
+    }
+    return true;
+  }
+
+  private static class Results {
+    private static final ExampleMatcher DEFAULT_MATCHER = ExampleMatcher.matching();
+
+    private final String entity;
+    private final Map<Object, Long> versions = new HashMap<>();
+    private Map<Object, Object> all;
+    private final Map<Example<?>, Map<Object, Object>> examples =
+        new LinkedHashMap<>(16, 0.75f, true) {
+          @Override
+          protected boolean removeEldestEntry(Map.Entry<Example<?>, Map<Object, Object>> eldest) {
+            return size() > MAX_EXAMPLES_PER_TYPE;
+          }
+        };
+    private long generation;
+
+    Results(Class<?> type) {
+      entity = type.getSimpleName();
+    }
+
+    synchronized void apply(Object id, Object entity) {
+      var version = ((EntityData<?>) entity).getVersion();
+      var applied = versions.get(id);
+      if (version != null && applied != null && applied > version) {
+        return;
+      }
+      if (version != null) {
+        versions.put(id, version);
+      }
+      generation++;
+      if (all != null) {
+        all.put(id, entity);
+      }
+      var iterator = examples.entrySet().iterator();
+      while (iterator.hasNext()) {
+        var cached = iterator.next();
+        var example = cached.getKey();
+        if (!DEFAULT_MATCHER.equals(example.getMatcher())) {
+          iterator.remove();
+        } else if (matches(example.getProbe(), entity)) {
+          cached.getValue().put(id, entity);
+        } else {
+          cached.getValue().remove(id);
+        }
+      }
+    }
+
+    synchronized void remove(Object id) {
+      generation++;
+      if (all != null) {
+        all.remove(id);
+      }
+      examples.values().forEach(rows -> rows.remove(id));
+    }
+
+    synchronized void clear() {
+      generation++;
+      all = null;
+      examples.clear();
+    }
+
+    void hit(MeterRegistry registry) {
+      registry.counter("registry_result_cache_hits", "entity", entity).increment();
+    }
+
+    void miss(MeterRegistry registry) {
+      registry.counter("registry_result_cache_misses", "entity", entity).increment();
+    }
+  }
+}
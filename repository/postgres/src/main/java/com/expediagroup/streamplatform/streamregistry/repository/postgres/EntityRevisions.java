@@ -0,0 +1,75 @@
+/**
+ * Copyright (C) 2018-2020 Expedia, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.expediagroup.streamplatform.streamregistry.repository.postgres;
+
+import java.util.List;
+
+import javax.persistence.EntityManager;
+
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.expediagroup.streamplatform.streamregistry.repository.postgres.coherence.CacheInvalidationPublisher;
+import com.expediagroup.streamplatform.streamregistry.repository.postgres.data.EntityData;
+
+/**
+ * Assigns entity revisions: the id of the writing transaction plus the fixed offset in {@code entity_revision}. The
+ * rows written by one transaction share its revision, and nothing is locked, so concurrent writes do not wait for
+ * each other. Transaction ids are handed out when transactions first write rather than when they commit, so the
+ * {@link #highWaterMark()} is bounded by the oldest transaction still in flight instead of the latest revision.
+ *
+ * <p>Every write goes through here, so this is also where the written keys are published to the other instances.
+ */
+@Component
+@RequiredArgsConstructor
+public class EntityRevisions {
+  private final EntityManager entityManager;
+  private final CacheInvalidationPublisher invalidations;
+
+  @Transactional
+  public <D extends EntityData<?>> D assign(D data) {
+    assignAll(List.of(data));
+    return data;
+  }
+
+  @Transactional
+  public <D extends EntityData<?>> List<D> assignAll(List<D> data) {
+    if (data.isEmpty()) {
+      return data;
+    }
+    var revision = ((Number) entityManager
+        .createNativeQuery("SELECT txid_current() + xid_offset FROM entity_revision WHERE id = 1")
+        .getSingleResult()).longValue();
+    for (D row : data) {
+      row.setRevision(revision);
+    }
+    invalidations.publish(data);
+    return data;
+  }
+
+  /**
+   * The revision below the oldest transaction still in flight, across all entity types: every write at or below it
+   * has committed or rolled back, and every later write will carry a higher revision.
+   */
+  @Transactional(readOnly = true)
+  public long highWaterMark() {
+    return ((Number) entityManager
+        .createNativeQuery("SELECT txid_snapshot_xmin(txid_current_snapshot()) - 1 + xid_offset FROM entity_revision WHERE id = 1")
+        .getSingleResult()).longValue();
+  }
+}
@@ -0,0 +1,62 @@
+/**
+ * Copyright (C) 2018-2020 Expedia, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.expediagroup.streamplatform.streamregistry.repository.postgres;
+
+import java.util.Optional;
+
+import javax.persistence.EntityManager;
+import javax.persistence.OptimisticLockException;
+
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.expediagroup.streamplatform.streamregistry.model.Status;
+import com.expediagroup.streamplatform.streamregistry.repository.postgres.data.EntityData;
+import com.expediagroup.streamplatform.streamregistry.repository.postgres.data.ModelToData;
+
+/**
+ * Writes the status of an entity in place. The row is loaded through the persistence context (and so the second level
+ * cache) and only its status is changed, so with {@link org.hibernate.annotations.DynamicUpdate} the flush updates the
+ * status, revision and version columns and leaves the specification and its tags alone.
+ *
+ * <p>The expected version is compared with the row that is actually updated, and the update itself is conditional on
+ * that version, so a write committed since the caller read the entity is never overwritten.
+ */
+@Component
+@RequiredArgsConstructor
+public class EntityStatuses {
+  private final EntityManager entityManager;
+  private final EntityRevisions revisions;
+  private final ModelToData modelToData;
+
+  @Transactional
+  public <D extends EntityData<?>> Optional<D> save(Class<D> type, Object key, Status status, Long expectedVersion) {
+    var data = entityManager.find(type, key);
+    if (data == null) {
+      return Optional.empty();
+    }
+    if (expectedVersion != null && !expectedVersion.equals(data.getVersion())) {
+      throw new OptimisticLockException("Expected version " + expectedVersion + " of " + key + ", found "
+          + data.getVersion(), null, data);
+    }
+    data.setStatus(modelToData.convertToData(status));
+    revisions.assign(data);
+    entityManager.flush();
+    return Optional.of(data);
+  }
+}
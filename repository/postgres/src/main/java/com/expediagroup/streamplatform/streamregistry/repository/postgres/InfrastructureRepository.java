@@ -16,10 +16,15 @@
 package com.expediagroup.streamplatform.streamregistry.repository.postgres;
 
 import static java.util.Collections.emptyList;
+import static java.util.function.Function.identity;
 import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toMap;
+import static java.util.stream.Collectors.toSet;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.StreamSupport;
 
 import lombok.RequiredArgsConstructor;
 
@@ -27,10 +32,16 @@ import org.springframework.data.domain.Example;
 import org.springframework.stereotype.Component;
 
 import com.expediagroup.streamplatform.streamregistry.model.Infrastructure;
+import com.expediagroup.streamplatform.streamregistry.model.Status;
 import com.expediagroup.streamplatform.streamregistry.model.keys.InfrastructureKey;
 import com.expediagroup.streamplatform.streamregistry.repository.postgres.data.DataToModel;
+import com.expediagroup.streamplatform.streamregistry.repository.postgres.data.InfrastructureData;
 import com.expediagroup.streamplatform.streamregistry.repository.postgres.data.ModelToData;
 import com.expediagroup.streamplatform.streamregistry.repository.postgres.jpa.InfrastructureJpaRepository;
+import com.expediagroup.streamplatform.streamregistry.repository.postgres.query.QuerySpecExecutor;
+import com.expediagroup.streamplatform.streamregistry.repository.query.Page;
+import com.expediagroup.streamplatform.streamregistry.repository.query.PageRequest;
+import com.expediagroup.streamplatform.streamregistry.repository.query.QuerySpec;
 
 @Component
 @RequiredArgsConstructor
@@ -38,16 +49,42 @@ public class InfrastructureRepository implements com.expediagroup.streamplatform
   private final ModelToData modelToData;
   private final DataToModel dataToModel;
   private final InfrastructureJpaRepository delegate;
+  private final QuerySpecExecutor querySpecExecutor;
+  private final EntityRevisions revisions;
+  private final EntityStatuses statuses;
+  private final EntityResultCache resultCache;
 
   @Override
   public Infrastructure save(Infrastructure entity) {
     return Optional.of(entity)
         .map(modelToData::convertToData)
-        .map(delegate::save)
+        .map(revisions::assign)
+        .map(delegate::saveAndFlush)
+        .map(resultCache::putOnCommit)
         .map(dataToModel::convertToModel)
         .orElse(null);
   }
 
+  @Override
+  public List<Infrastructure> saveAll(List<Infrastructure> entities) {
+    var data = entities.stream()
+        .map(modelToData::convertToData)
+        .collect(toList());
+    var saved = delegate.saveAll(revisions.assignAll(data));
+    delegate.flush();
+    resultCache.putAllOnCommit(saved);
+    return saved.stream()
+        .map(dataToModel::convertToModel)
+        .collect(toList());
+  }
+
+  @Override
+  public Optional<Infrastructure> saveStatus(InfrastructureKey key, Status status, Long expectedVersion) {
+    return statuses.save(InfrastructureData.class, modelToData.convertToData(key), status, expectedVersion)
+        .map(resultCache::putOnCommit)
+        .map(dataToModel::convertToModel);
+  }
+
   @Override
   public Optional<Infrastructure> findById(InfrastructureKey key) {
     return Optional.of(key)
@@ -56,9 +93,33 @@ public class InfrastructureRepository implements com.expediagroup.streamplatform
         .map(dataToModel::convertToModel);
   }
 
+  @Override
+  public boolean existsById(InfrastructureKey key) {
+    return delegate.existsById(modelToData.convertToData(key));
+  }
+
+  @Override
+  public Set<InfrastructureKey> findExistingIds(Iterable<InfrastructureKey> keys) {
+    var dataKeys = StreamSupport.stream(keys.spliterator(), false)
+        .collect(toMap(modelToData::convertToData, identity(), (a, b) -> a));
+    return querySpecExecutor.existingIds(InfrastructureData.class, dataKeys.keySet()).stream()
+        .map(dataKeys::get)
+        .collect(toSet());
+  }
+
+  @Override
+  public List<Infrastructure> findAllById(Iterable<InfrastructureKey> keys) {
+    var dataKeys = StreamSupport.stream(keys.spliterator(), false)
+        .map(modelToData::convertToData)
+        .collect(toList());
+    return delegate.findAllById(dataKeys).stream()
+        .map(dataToModel::convertToModel)
+        .collect(toList());
+  }
+
   @Override
   public List<Infrastructure> findAll() {
-    return delegate.findAll().stream()
+    return resultCache.findAll(InfrastructureData.class, delegate::findAll).stream()
         .map(dataToModel::convertToModel)
         .collect(toList());
   }
@@ -68,10 +129,30 @@ public class InfrastructureRepository implements com.expediagroup.streamplatform
     return Optional.of(example)
         .map(modelToData::convertToData)
         .map(Example::of)
-        .map(delegate::findAll)
+        .map(probe -> resultCache.findAll(probe, () -> delegate.findAll(probe)))
         .orElse(emptyList())
         .stream()
         .map(dataToModel::convertToModel)
         .collect(toList());
   }
+
+  @Override
+  public List<Infrastructure> findAll(QuerySpec<Infrastructure> query) {
+    return querySpecExecutor.findAll(InfrastructureData.class, query, dataToModel::convertToModel);
+  }
+
+  @Override
+  public Page<Infrastructure> findAll(QuerySpec<Infrastructure> query, PageRequest page) {
+    return querySpecExecutor.findAll(InfrastructureData.class, query, page, dataToModel::convertToModel);
+  }
+
+  @Override
+  public long count(QuerySpec<Infrastructure> query) {
+    return querySpecExecutor.count(InfrastructureData.class, query, dataToModel::convertToModel);
+  }
+
+  @Override
+  public long highWaterMark() {
+    return revisions.highWaterMark();
+  }
 }
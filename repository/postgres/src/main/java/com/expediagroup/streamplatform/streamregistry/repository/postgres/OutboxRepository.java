@@ -0,0 +1,71 @@
+/**
+ * Copyright (C) 2018-2020 Expedia, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.expediagroup.streamplatform.streamregistry.repository.postgres;
+
+import static java.util.Collections.emptyList;
+import static java.util.stream.Collectors.toList;
+
+import java.util.Collection;
+import java.util.List;
+
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.expediagroup.streamplatform.streamregistry.repository.outbox.OutboxEvent;
+import com.expediagroup.streamplatform.streamregistry.repository.postgres.data.OutboxData;
+import com.expediagroup.streamplatform.streamregistry.repository.postgres.jpa.OutboxJpaRepository;
+
+@Component
+@RequiredArgsConstructor
+public class OutboxRepository implements com.expediagroup.streamplatform.streamregistry.repository.outbox.OutboxRepository {
+  private final OutboxJpaRepository delegate;
+
+  @Override
+  @Transactional(propagation = Propagation.MANDATORY)
+  public void append(List<OutboxEvent> events) {
+    delegate.saveAll(events.stream()
+        .map(event -> new OutboxData(null, event.getEntityType(), event.getEventType(), event.getPayload(), event.getCreatedAt()))
+        .collect(toList()));
+  }
+
+  @Override
+  @Transactional(propagation = Propagation.MANDATORY)
+  public List<OutboxEvent> claimPending(String owner, int limit, long leaseMillis) {
+    if (delegate.claim(owner, leaseMillis) == 0) {
+      return emptyList();
+    }
+    return delegate.findOldest(limit).stream()
+        .map(data -> OutboxEvent.builder()
+            .id(data.getId())
+            .entityType(data.getEntityType())
+            .eventType(data.getEventType())
+            .payload(data.getPayload())
+            .createdAt(data.getCreatedAt())
+            .build())
+        .collect(toList());
+  }
+
+  @Override
+  @Transactional(propagation = Propagation.MANDATORY)
+  public void delete(Collection<Long> ids) {
+    if (!ids.isEmpty()) {
+      delegate.deleteByIds(ids);
+    }
+  }
+}
@@ -0,0 +1,129 @@
+/**
+ * Copyright (C) 2018-2020 Expedia, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.expediagroup.streamplatform.streamregistry.repository.postgres.coherence;
+
+import static java.util.stream.Collectors.toList;
+
+import java.sql.DriverManager;
+import java.util.Map;
+import java.util.UUID;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Condition;
+import org.springframework.context.annotation.ConditionContext;
+import org.springframework.context.annotation.Conditional;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.type.AnnotatedTypeMetadata;
+
+import com.expediagroup.streamplatform.streamregistry.model.Consumer;
+import com.expediagroup.streamplatform.streamregistry.model.ConsumerBinding;
+import com.expediagroup.streamplatform.streamregistry.model.Domain;
+import com.expediagroup.streamplatform.streamregistry.model.Infrastructure;
+import com.expediagroup.streamplatform.streamregistry.model.Producer;
+import com.expediagroup.streamplatform.streamregistry.model.ProducerBinding;
+import com.expediagroup.streamplatform.streamregistry.model.Schema;
+import com.expediagroup.streamplatform.streamregistry.model.Stream;
+import com.expediagroup.streamplatform.streamregistry.model.StreamBinding;
+import com.expediagroup.streamplatform.streamregistry.model.Zone;
+import com.expediagroup.streamplatform.streamregistry.repository.EntityInvalidationListener;
+import com.expediagroup.streamplatform.streamregistry.repository.postgres.EntityResultCache;
+import com.expediagroup.streamplatform.streamregistry.repository.postgres.data.ConsumerBindingData;
+import com.expediagroup.streamplatform.streamregistry.repository.postgres.data.ConsumerData;
+import com.expediagroup.streamplatform.streamregistry.repository.postgres.data.DomainData;
+import com.expediagroup.streamplatform.streamregistry.repository.postgres.data.InfrastructureData;
+import com.expediagroup.streamplatform.streamregistry.repository.postgres.data.ProducerBindingData;
+import com.expediagroup.streamplatform.streamregistry.repository.postgres.data.ProducerData;
+import com.expediagroup.streamplatform.streamregistry.repository.postgres.data.SchemaData;
+import com.expediagroup.streamplatform.streamregistry.repository.postgres.data.StreamBindingData;
+import com.expediagroup.streamplatform.streamregistry.repository.postgres.data.StreamData;
+import com.expediagroup.streamplatform.streamregistry.repository.postgres.data.ZoneData;
+
+/**
+ * With {@value #CACHE_COHERENCE_ENABLED_PROPERTY} set, every write notifies the other instances sharing the database
+ * of the keys it wrote, and they evict those entities from their second level cache, so a write on one instance is
+ * not hidden by stale cache entries on the others.
+ */
+@Configuration
+public class CacheCoherenceConfig {
+  public static final String CACHE_COHERENCE_ENABLED_PROPERTY = "registry.cache-coherence.enabled";
+  public static final String CACHE_COHERENCE_POLL_TIMEOUT_MS_PROPERTY = "registry.cache-coherence.poll-timeout-ms";
+  public static final String CACHE_COHERENCE_RECONNECT_DELAY_MS_PROPERTY = "registry.cache-coherence.reconnect-delay-ms";
+
+  private static final Map<Class<?>, Class<?>> MODEL_TYPES = Map.of(
+      DomainData.class, Domain.class,
+      SchemaData.class, Schema.class,
+      StreamData.class, Stream.class,
+      ZoneData.class, Zone.class,
+      InfrastructureData.class, Infrastructure.class,
+      ProducerData.class, Producer.class,
+      ConsumerData.class, Consumer.class,
+      StreamBindingData.class, StreamBinding.class,
+      ProducerBindingData.class, ProducerBinding.class,
+      ConsumerBindingData.class, ConsumerBinding.class);
+
+  private final String origin = UUID.randomUUID().toString();
+  private final CacheInvalidationCodec codec = new CacheInvalidationCodec();
+
+  @Bean
+  public CacheInvalidationPublisher cacheInvalidationPublisher(
+      EntityManager entityManager,
+      @Value("${" + CACHE_COHERENCE_ENABLED_PROPERTY + ":false}") boolean enabled) {
+    return new CacheInvalidationPublisher(entityManager, codec, origin, enabled);
+  }
+
+  @Bean
+  @Conditional(CacheCoherenceEnabled.class)
+  public CacheInvalidationListener cacheInvalidationListener(
+      DataSourceProperties dataSourceProperties,
+      EntityManagerFactory entityManagerFactory,
+      EntityResultCache resultCache,
+      ObjectProvider<EntityInvalidationListener> listeners,
+      @Value("${" + CACHE_COHERENCE_POLL_TIMEOUT_MS_PROPERTY + ":500}") int pollTimeoutMillis,
+      @Value("${" + CACHE_COHERENCE_RECONNECT_DELAY_MS_PROPERTY + ":5000}") long reconnectDelayMillis,
+      ObjectProvider<MeterRegistry> meterRegistry) {
+    return CacheInvalidationListener.builder()
+        .connections(() -> DriverManager.getConnection(
+            dataSourceProperties.determineUrl(),
+            dataSourceProperties.determineUsername(),
+            dataSourceProperties.determinePassword()))
+        .entityManagerFactory(entityManagerFactory)
+        .resultCache(resultCache)
+        .codec(codec)
+        .origin(origin)
+        .modelTypes(MODEL_TYPES)
+        .listeners(listeners.orderedStream().collect(toList()))
+        .pollTimeoutMillis(pollTimeoutMillis)
+        .reconnectDelayMillis(reconnectDelayMillis)
+        .registry(meterRegistry.getIfAvailable(() -> Metrics.globalRegistry))
+        .build();
+  }
+
+  static class CacheCoherenceEnabled implements Condition {
+    @Override
+    public boolean matches(ConditionContext context, AnnotatedTypeMetadata metadata) {
+      return context.getEnvironment().getProperty(CACHE_COHERENCE_ENABLED_PROPERTY, Boolean.class, false);
+    }
+  }
+}
@@ -0,0 +1,122 @@
+/**
+ * Copyright (C) 2018-2020 Expedia, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.expediagroup.streamplatform.streamregistry.repository.postgres.coherence;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import lombok.Value;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility;
+import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * JSON payloads of the cache invalidation notifications. The keys of one write are split over as many payloads as
+ * needed to stay below the Postgres {@code NOTIFY} payload limit.
+ */
+class CacheInvalidationCodec {
+  /**
+   * In bytes, leaving room below the 8000 byte limit.
+   */
+  static final int MAX_PAYLOAD_LENGTH = 7000;
+
+  /**
+   * Keys are serialized by field, like the embeddables they are, so derived getters such as
+   * {@code getDomainDataKey()} are left out.
+   */
+  private final ObjectMapper mapper = new ObjectMapper()
+      .setVisibility(PropertyAccessor.ALL, Visibility.NONE)
+      .setVisibility(PropertyAccessor.FIELD, Visibility.ANY);
+
+  List<String> encode(String origin, Class<?> entityType, List<?> keys, long publishedAt) {
+    var payloads = new ArrayList<String>();
+    var batch = header(origin, entityType, publishedAt);
+    var length = size(batch);
+    for (Object key : keys) {
+      JsonNode node = mapper.valueToTree(key);
+      var keyLength = size(node) + 1;
+      if (batch.withArray("keys").size() > 0 && length + keyLength > MAX_PAYLOAD_LENGTH) {
+        payloads.add(write(batch));
+        batch = header(origin, entityType, publishedAt);
+        length = size(batch);
+      }
+      batch.withArray("keys").add(node);
+      length += keyLength;
+    }
+    if (batch.withArray("keys").size() > 0) {
+      payloads.add(write(batch));
+    }
+    return payloads;
+  }
+
+  CacheInvalidation decode(String payload) {
+    try {
+      var node = mapper.readTree(payload);
+      var keys = new ArrayList<JsonNode>();
+      node.path("keys").forEach(keys::add);
+      return new CacheInvalidation(
+          node.path("origin").asText(),
+          node.path("entityType").asText(),
+          keys,
+          node.path("publishedAt").asLong());
+    } catch (JsonProcessingException e) {
+      throw new IllegalArgumentException("Invalid cache invalidation payload " + payload, e);
+    }
+  }
+
+  <K> K key(JsonNode key, Class<K> keyType) {
+    try {
+      return mapper.treeToValue(key, keyType);
+    } catch (JsonProcessingException e) {
+      throw new IllegalArgumentException("Invalid " + keyType.getSimpleName() + " " + key, e);
+    }
+  }
+
+  private ObjectNode header(String origin, Class<?> entityType, long publishedAt) {
+    var node = mapper.createObjectNode()
+        .put("origin", origin)
+        .put("entityType", entityType.getName())
+        .put("publishedAt", publishedAt);
+    node.putArray("keys");
+    return node;
+  }
+
+  private int size(JsonNode node) {
+    return write(node).getBytes(UTF_8).length;
+  }
+
+  private String write(JsonNode node) {
+    try {
+      return mapper.writeValueAsString(node);
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  @Value
+  static class CacheInvalidation {
+    String origin;
+    String entityType;
+    List<JsonNode> keys;
+    long publishedAt;
+  }
+}
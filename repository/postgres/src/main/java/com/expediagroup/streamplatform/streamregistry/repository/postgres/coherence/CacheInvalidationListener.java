@@ -0,0 +1,178 @@
+/**
+ * Copyright (C) 2018-2020 Expedia, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.expediagroup.streamplatform.streamregistry.repository.postgres.coherence;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.stream.Collectors.toList;
+
+import java.io.Serializable;
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+
+import javax.persistence.EntityManagerFactory;
+
+import lombok.Builder;
+import lombok.NonNull;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import org.hibernate.Cache;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.persister.collection.CollectionPersister;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+
+import com.expediagroup.streamplatform.streamregistry.repository.EntityInvalidationListener;
+import com.expediagroup.streamplatform.streamregistry.repository.postgres.EntityResultCache;
+
+/**
+ * Listens on a dedicated connection for the invalidations published by the other instances and evicts the written
+ * entities, their tag collections and the query cache from this instance's second level cache, reloads them into the
+ * {@link EntityResultCache} and then tells the {@link EntityInvalidationListener}s. Whenever it (re)connects it evicts
+ * everything, since notifications sent while it was not listening are lost.
+ *
+ * <p>{@code registry_cache_invalidation_lag} is the time from the write to the eviction, as measured by the clocks of
+ * the two instances.
+ */
+@Slf4j
+public class CacheInvalidationListener implements InitializingBean, DisposableBean {
+  private final SessionFactoryImplementor sessionFactory;
+  private final EntityResultCache resultCache;
+  private final CacheInvalidationCodec codec;
+  private final String origin;
+  private final Map<Class<?>, Class<?>> modelTypes;
+  private final List<EntityInvalidationListener> listeners;
+  private final MeterRegistry registry;
+  private final Timer lag;
+  private final Map<String, Target> targets = new HashMap<>();
+  private final PgChannelListener channelListener;
+
+  @Builder
+  private CacheInvalidationListener(
+      @NonNull Callable<Connection> connections,
+      @NonNull EntityManagerFactory entityManagerFactory,
+      @NonNull EntityResultCache resultCache,
+      @NonNull CacheInvalidationCodec codec,
+      @NonNull String origin,
+      @NonNull Map<Class<?>, Class<?>> modelTypes,
+      @NonNull List<EntityInvalidationListener> listeners,
+      int pollTimeoutMillis,
+      long reconnectDelayMillis,
+      @NonNull MeterRegistry registry) {
+    this.sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+    this.resultCache = resultCache;
+    this.codec = codec;
+    this.origin = origin;
+    this.modelTypes = modelTypes;
+    this.listeners = listeners;
+    this.registry = registry;
+    this.lag = registry.timer("registry_cache_invalidation_lag");
+    this.channelListener = PgChannelListener.builder()
+        .connections(connections)
+        .channel(CacheInvalidationPublisher.CHANNEL)
+        .onConnect(this::evictAll)
+        .handler(this::handle)
+        .pollTimeoutMillis(pollTimeoutMillis)
+        .reconnectDelayMillis(reconnectDelayMillis)
+        .threadName("cache-invalidation-listener")
+        .build();
+  }
+
+  @Override
+  public void afterPropertiesSet() {
+    var metamodel = sessionFactory.getMetamodel();
+    for (var persister : metamodel.entityPersisters().values()) {
+      var dataType = persister.getMappedClass();
+      var roles = metamodel.collectionPersisters().values().stream()
+          .filter(collection -> collection.getOwnerEntityPersister() == persister)
+          .map(CollectionPersister::getRole)
+          .collect(toList());
+      targets.put(dataType.getName(), new Target(dataType, persister.getIdentifierType().getReturnedClass(), roles));
+    }
+    channelListener.start();
+  }
+
+  @Override
+  public void destroy() {
+    channelListener.stop();
+  }
+
+  void handle(String payload) {
+    CacheInvalidationCodec.CacheInvalidation invalidation;
+    try {
+      invalidation = codec.decode(payload);
+    } catch (RuntimeException e) {
+      log.error("Discarding cache invalidation that can not be decoded", e);
+      return;
+    }
+    if (origin.equals(invalidation.getOrigin())) {
+      return;
+    }
+    var target = targets.get(invalidation.getEntityType());
+    if (target == null) {
+      log.warn("Discarding cache invalidation for unknown entity type {}", invalidation.getEntityType());
+      return;
+    }
+    Cache cache = sessionFactory.getCache();
+    var ids = new ArrayList<Serializable>();
+    for (var key : invalidation.getKeys()) {
+      var id = (Serializable) codec.key(key, target.getIdType());
+      cache.evictEntityData(target.getDataType(), id);
+      target.getCollectionRoles().forEach(role -> cache.evictCollectionData(role, id));
+      ids.add(id);
+    }
+    cache.evictQueryRegions();
+    resultCache.reload(target.getDataType(), ids);
+    lag.record(Math.max(0, System.currentTimeMillis() - invalidation.getPublishedAt()), MILLISECONDS);
+    registry.counter("registry_cache_invalidations", "entity", target.getDataType().getSimpleName())
+        .increment(invalidation.getKeys().size());
+    notifyListeners(target.getDataType());
+  }
+
+  private void evictAll() {
+    sessionFactory.getCache().evictAllRegions();
+    resultCache.clear();
+    modelTypes.keySet().forEach(this::notifyListeners);
+  }
+
+  private void notifyListeners(Class<?> dataType) {
+    var modelType = modelTypes.get(dataType);
+    if (modelType == null) {
+      return;
+    }
+    for (EntityInvalidationListener listener : listeners) {
+      try {
+        listener.invalidated(modelType);
+      } catch (RuntimeException e) {
+        log.error("Error invalidating {} in {}", modelType.getSimpleName(), listener, e);
+      }
+    }
+  }
+
+  @Value
+  private static class Target {
+    Class<?> dataType;
+    Class<?> idType;
+    List<String> collectionRoles;
+  }
+}
@@ -0,0 +1,64 @@
+/**
+ * Copyright (C) 2018-2020 Expedia, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.expediagroup.streamplatform.streamregistry.repository.postgres.coherence;
+
+import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.mapping;
+import static java.util.stream.Collectors.toList;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+
+import javax.persistence.EntityManager;
+
+import org.hibernate.Hibernate;
+
+import com.expediagroup.streamplatform.streamregistry.repository.postgres.data.EntityData;
+
+/**
+ * Sends the keys of the entities written by the current transaction to the other instances with {@code pg_notify}.
+ * Postgres delivers notifications only when the transaction commits, and drops them when it rolls back.
+ */
+public class CacheInvalidationPublisher {
+  static final String CHANNEL = "registry_cache_invalidation";
+
+  private final EntityManager entityManager;
+  private final CacheInvalidationCodec codec;
+  private final String origin;
+  private final boolean enabled;
+
+  CacheInvalidationPublisher(EntityManager entityManager, CacheInvalidationCodec codec, String origin, boolean enabled) {
+    this.entityManager = entityManager;
+    this.codec = codec;
+    this.origin = origin;
+    this.enabled = enabled;
+  }
+
+  public void publish(List<? extends EntityData<?>> written) {
+    if (!enabled || written.isEmpty()) {
+      return;
+    }
+    var persistenceUnit = entityManager.getEntityManagerFactory().getPersistenceUnitUtil();
+    var keys = written.stream().collect(groupingBy(Hibernate::getClass, LinkedHashMap::new,
+        mapping(persistenceUnit::getIdentifier, toList())));
+    var publishedAt = System.currentTimeMillis();
+    keys.forEach((type, ids) -> codec.encode(origin, type, ids, publishedAt).forEach(this::send));
+  }
+
+  private void send(String payload) {
+    PgNotifications.send(entityManager, CHANNEL, payload);
+  }
+}
@@ -0,0 +1,145 @@
+/**
+ * Copyright (C) 2018-2020 Expedia, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.expediagroup.streamplatform.streamregistry.repository.postgres.coherence;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import com.expediagroup.streamplatform.streamregistry.repository.outbox.OutboxEvent;
+
+/**
+ * Notification events as {@code NOTIFY} payloads. An event is written as JSON and split over as many payloads as
+ * needed to stay below the payload limit, each starting with {@code <message id> <part> <parts> }. Postgres delivers
+ * the payloads of a transaction together and in the order they were sent, so a {@link Decoder} only has to join
+ * consecutive parts.
+ */
+class EventBroadcastCodec {
+  static final int MAX_PAYLOAD_LENGTH = CacheInvalidationCodec.MAX_PAYLOAD_LENGTH;
+  // Room for the header, in bytes
+  private static final int MAX_HEADER_LENGTH = 64;
+
+  private final ObjectMapper mapper = new ObjectMapper();
+
+  List<String> encode(OutboxEvent event) {
+    var node = mapper.createObjectNode()
+        .put("entityType", event.getEntityType())
+        .put("eventType", event.getEventType())
+        .put("payload", event.getPayload());
+    if (event.getCreatedAt() != null) {
+      node.put("createdAt", event.getCreatedAt().toEpochMilli());
+    }
+    String message;
+    try {
+      message = mapper.writeValueAsString(node);
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException(e);
+    }
+    var id = UUID.randomUUID().toString();
+    var parts = split(message, MAX_PAYLOAD_LENGTH - MAX_HEADER_LENGTH);
+    var payloads = new ArrayList<String>(parts.size());
+    for (int i = 0; i < parts.size(); i++) {
+      payloads.add(id + " " + i + " " + parts.size() + " " + parts.get(i));
+    }
+    return payloads;
+  }
+
+  Decoder decoder() {
+    return new Decoder();
+  }
+
+  private OutboxEvent read(String message) {
+    try {
+      var node = mapper.readTree(message);
+      return OutboxEvent.builder()
+          .entityType(node.path("entityType").asText())
+          .eventType(node.path("eventType").asText())
+          .payload(node.path("payload").asText())
+          .createdAt(node.hasNonNull("createdAt") ? Instant.ofEpochMilli(node.get("createdAt").asLong()) : null)
+          .build();
+    } catch (JsonProcessingException e) {
+      throw new IllegalArgumentException("Invalid event broadcast message " + message, e);
+    }
+  }
+
+  private static List<String> split(String message, int maxBytes) {
+    var parts = new ArrayList<String>();
+    int start = 0;
+    int bytes = 0;
+    for (int i = 0; i < message.length(); ) {
+      int codePoint = message.codePointAt(i);
+      int size = codePoint < 0x80 ? 1 : codePoint < 0x800 ? 2 : codePoint < 0x10000 ? 3 : 4;
+      if (bytes + size > maxBytes) {
+        parts.add(message.substring(start, i));
+        start = i;
+        bytes = 0;
+      }
+      bytes += size;
+      i += Character.charCount(codePoint);
+    }
+    parts.add(message.substring(start));
+    return parts;
+  }
+
+  /**
+   * Joins the parts of each message as they arrive. Not thread safe.
+   */
+  class Decoder {
+    private final StringBuilder message = new StringBuilder();
+    private String id;
+    private int next;
+
+    /**
+     * The event, once {@code payload} is its last part.
+     */
+    Optional<OutboxEvent> accept(String payload) {
+      var header = payload.split(" ", 4);
+      if (header.length < 4) {
+        reset();
+        throw new IllegalArgumentException("Invalid event broadcast payload " + payload);
+      }
+      int part = Integer.parseInt(header[1]);
+      int parts = Integer.parseInt(header[2]);
+      if (part == 0) {
+        reset();
+        id = header[0];
+      } else if (!header[0].equals(id) || part != next) {
+        var expected = id + " part " + next;
+        reset();
+        throw new IllegalArgumentException("Expected " + expected + " of an event broadcast message, got " + header[0] + " part " + part);
+      }
+      message.append(header[3]);
+      next = part + 1;
+      if (next < parts) {
+        return Optional.empty();
+      }
+      var complete = message.toString();
+      reset();
+      return Optional.of(read(complete));
+    }
+
+    void reset() {
+      message.setLength(0);
+      id = null;
+      next = 0;
+    }
+  }
+}
@@ -0,0 +1,83 @@
+/**
+ * Copyright (C) 2018-2020 Expedia, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.expediagroup.streamplatform.streamregistry.repository.postgres.coherence;
+
+import static java.util.stream.Collectors.toList;
+
+import java.sql.DriverManager;
+
+import javax.persistence.EntityManager;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Condition;
+import org.springframework.context.annotation.ConditionContext;
+import org.springframework.context.annotation.Conditional;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.type.AnnotatedTypeMetadata;
+
+import com.expediagroup.streamplatform.streamregistry.repository.outbox.EventBroadcastListener;
+
+/**
+ * With {@value #EVENT_BROADCAST_ENABLED_PROPERTY} set, notification events are also sent to every instance sharing
+ * the database, so that the subscriptions of each instance see every write and not only those made or relayed on it.
+ */
+@Configuration
+@Conditional(EventBroadcastConfig.EventBroadcastEnabled.class)
+public class EventBroadcastConfig {
+  public static final String EVENT_BROADCAST_ENABLED_PROPERTY = "registry.event-broadcast.enabled";
+  public static final String EVENT_BROADCAST_POLL_TIMEOUT_MS_PROPERTY = "registry.event-broadcast.poll-timeout-ms";
+  public static final String EVENT_BROADCAST_RECONNECT_DELAY_MS_PROPERTY = "registry.event-broadcast.reconnect-delay-ms";
+
+  private final EventBroadcastCodec codec = new EventBroadcastCodec();
+
+  @Bean
+  public EventBroadcastPublisher eventBroadcastPublisher(EntityManager entityManager) {
+    return new EventBroadcastPublisher(entityManager, codec);
+  }
+
+  @Bean
+  public EventBroadcastReceiver eventBroadcastReceiver(
+      DataSourceProperties dataSourceProperties,
+      ObjectProvider<EventBroadcastListener> listeners,
+      @Value("${" + EVENT_BROADCAST_POLL_TIMEOUT_MS_PROPERTY + ":500}") int pollTimeoutMillis,
+      @Value("${" + EVENT_BROADCAST_RECONNECT_DELAY_MS_PROPERTY + ":5000}") long reconnectDelayMillis,
+      ObjectProvider<MeterRegistry> meterRegistry) {
+    return EventBroadcastReceiver.builder()
+        .connections(() -> DriverManager.getConnection(
+            dataSourceProperties.determineUrl(),
+            dataSourceProperties.determineUsername(),
+            dataSourceProperties.determinePassword()))
+        .codec(codec)
+        .listeners(listeners.orderedStream().collect(toList()))
+        .pollTimeoutMillis(pollTimeoutMillis)
+        .reconnectDelayMillis(reconnectDelayMillis)
+        .registry(meterRegistry.getIfAvailable(() -> Metrics.globalRegistry))
+        .build();
+  }
+
+  static class EventBroadcastEnabled implements Condition {
+    @Override
+    public boolean matches(ConditionContext context, AnnotatedTypeMetadata metadata) {
+      return context.getEnvironment().getProperty(EVENT_BROADCAST_ENABLED_PROPERTY, Boolean.class, false);
+    }
+  }
+}
@@ -0,0 +1,46 @@
+/**
+ * Copyright (C) 2018-2020 Expedia, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.expediagroup.streamplatform.streamregistry.repository.postgres.coherence;
+
+import java.util.List;
+
+import javax.persistence.EntityManager;
+
+import com.expediagroup.streamplatform.streamregistry.repository.outbox.EventBroadcast;
+import com.expediagroup.streamplatform.streamregistry.repository.outbox.OutboxEvent;
+
+/**
+ * Sends notification events to every instance sharing the database with {@code pg_notify}, in the transaction that
+ * wrote the entities, so that they are received in commit order and never for a write that rolls back.
+ */
+public class EventBroadcastPublisher implements EventBroadcast {
+  static final String CHANNEL = "registry_events";
+
+  private final EntityManager entityManager;
+  private final EventBroadcastCodec codec;
+
+  EventBroadcastPublisher(EntityManager entityManager, EventBroadcastCodec codec) {
+    this.entityManager = entityManager;
+    this.codec = codec;
+  }
+
+  @Override
+  public void publish(List<OutboxEvent> events) {
+    for (OutboxEvent event : events) {
+      codec.encode(event).forEach(payload -> PgNotifications.send(entityManager, CHANNEL, payload));
+    }
+  }
+}
@@ -0,0 +1,111 @@
+/**
+ * Copyright (C) 2018-2020 Expedia, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.expediagroup.streamplatform.streamregistry.repository.postgres.coherence;
+
+import java.sql.Connection;
+import java.util.List;
+import java.util.concurrent.Callable;
+
+import lombok.Builder;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+
+import com.expediagroup.streamplatform.streamregistry.repository.outbox.EventBroadcastListener;
+import com.expediagroup.streamplatform.streamregistry.repository.outbox.OutboxEvent;
+
+/**
+ * Listens on a dedicated connection for the notification events sent by {@link EventBroadcastPublisher} on every
+ * instance, this one included, and hands them to the {@link EventBroadcastListener}s in commit order. Events sent
+ * while it is reconnecting are lost, and counted in {@code registry_event_broadcast_reconnects}.
+ */
+@Slf4j
+public class EventBroadcastReceiver implements InitializingBean, DisposableBean {
+  private final EventBroadcastCodec.Decoder decoder;
+  private final List<EventBroadcastListener> listeners;
+  private final Counter received;
+  private final Counter reconnects;
+  private final PgChannelListener channelListener;
+  private boolean connected;
+
+  @Builder
+  private EventBroadcastReceiver(
+      @NonNull Callable<Connection> connections,
+      @NonNull EventBroadcastCodec codec,
+      @NonNull List<EventBroadcastListener> listeners,
+      int pollTimeoutMillis,
+      long reconnectDelayMillis,
+      @NonNull MeterRegistry registry) {
+    this.decoder = codec.decoder();
+    this.listeners = listeners;
+    this.received = registry.counter("registry_event_broadcast_received");
+    this.reconnects = registry.counter("registry_event_broadcast_reconnects");
+    this.channelListener = PgChannelListener.builder()
+        .connections(connections)
+        .channel(EventBroadcastPublisher.CHANNEL)
+        .onConnect(this::connected)
+        .handler(this::handle)
+        .pollTimeoutMillis(pollTimeoutMillis)
+        .reconnectDelayMillis(reconnectDelayMillis)
+        .threadName("event-broadcast-receiver")
+        .build();
+  }
+
+  @Override
+  public void afterPropertiesSet() {
+    channelListener.start();
+  }
+
+  @Override
+  public void destroy() {
+    channelListener.stop();
+  }
+
+  private void connected() {
+    decoder.reset();
+    if (connected) {
+      reconnects.increment();
+      log.warn("Event broadcast receiver reconnected, events sent while it was disconnected are lost");
+    }
+    connected = true;
+  }
+
+  void handle(String payload) {
+    OutboxEvent event;
+    try {
+      event = decoder.accept(payload).orElse(null);
+    } catch (RuntimeException e) {
+      log.error("Discarding event broadcast payload that can not be decoded", e);
+      return;
+    }
+    if (event == null) {
+      return;
+    }
+    received.increment();
+    for (EventBroadcastListener listener : listeners) {
+      try {
+        listener.received(event);
+      } catch (RuntimeException e) {
+        log.error("Error handing {} {} event to {}", event.getEventType(), event.getEntityType(), listener, e);
+      }
+    }
+  }
+}
@@ -0,0 +1,97 @@
+/**
+ * Copyright (C) 2018-2020 Expedia, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.expediagroup.streamplatform.streamregistry.repository.postgres.coherence;
+
+import java.sql.Connection;
+import java.util.concurrent.Callable;
+import java.util.function.Consumer;
+
+import lombok.Builder;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Listens on a channel on a dedicated connection, on its own daemon thread, and hands each payload to a handler,
+ * reconnecting after a failure. {@code onConnect} runs every time it starts listening, since notifications sent while
+ * it was not listening are lost.
+ */
+@Slf4j
+final class PgChannelListener {
+  private final Callable<Connection> connections;
+  private final String channel;
+  private final Runnable onConnect;
+  private final Consumer<String> handler;
+  private final int pollTimeoutMillis;
+  private final long reconnectDelayMillis;
+  private final Thread thread;
+  private volatile boolean running = true;
+
+  @Builder
+  private PgChannelListener(
+      @NonNull Callable<Connection> connections,
+      @NonNull String channel,
+      @NonNull Runnable onConnect,
+      @NonNull Consumer<String> handler,
+      int pollTimeoutMillis,
+      long reconnectDelayMillis,
+      @NonNull String threadName) {
+    this.connections = connections;
+    this.channel = channel;
+    this.onConnect = onConnect;
+    this.handler = handler;
+    this.pollTimeoutMillis = pollTimeoutMillis;
+    this.reconnectDelayMillis = reconnectDelayMillis;
+    this.thread = new Thread(this::run, threadName);
+  }
+
+  void start() {
+    thread.setDaemon(true);
+    thread.start();
+  }
+
+  void stop() {
+    running = false;
+    thread.interrupt();
+  }
+
+  private void run() {
+    while (running) {
+      try (var connection = connections.call()) {
+        var notifications = PgNotifications.of(connection);
+        try (var statement = connection.createStatement()) {
+          statement.execute("LISTEN " + channel);
+        }
+        onConnect.run();
+        while (running) {
+          notifications.poll(connection, pollTimeoutMillis).forEach(handler);
+        }
+      } catch (Exception e) {
+        if (running) {
+          log.warn("Listener on {} disconnected, reconnecting in {}ms", channel, reconnectDelayMillis, e);
+          sleep();
+        }
+      }
+    }
+  }
+
+  private void sleep() {
+    try {
+      Thread.sleep(reconnectDelayMillis);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
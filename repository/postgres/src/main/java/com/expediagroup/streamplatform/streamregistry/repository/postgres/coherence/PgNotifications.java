@@ -0,0 +1,82 @@
+/**
+ * Copyright (C) 2018-2020 Expedia, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.expediagroup.streamplatform.streamregistry.repository.postgres.coherence;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.persistence.EntityManager;
+
+/**
+ * Sends notifications, and reads the notifications received on a PgJDBC connection. The driver is a runtime dependency of the application
+ * rather than of this module, so its {@code PGConnection} API is called reflectively.
+ */
+final class PgNotifications {
+  private final Class<?> connectionType;
+  private final Method getNotifications;
+  private final Method getParameter;
+
+  private PgNotifications(ClassLoader classLoader) throws ReflectiveOperationException {
+    connectionType = Class.forName("org.postgresql.PGConnection", true, classLoader);
+    getNotifications = connectionType.getMethod("getNotifications", int.class);
+    getParameter = Class.forName("org.postgresql.PGNotification", true, classLoader).getMethod("getParameter");
+  }
+
+  /**
+   * Sends {@code payload} on {@code channel} with the current transaction, if any: Postgres delivers it when the
+   * transaction commits and drops it if it rolls back.
+   */
+  static void send(EntityManager entityManager, String channel, String payload) {
+    entityManager.createNativeQuery("SELECT count(*) FROM (SELECT pg_notify(?1, ?2)) AS notified")
+        .setParameter(1, channel)
+        .setParameter(2, payload)
+        .getSingleResult();
+  }
+
+  static PgNotifications of(Connection connection) throws SQLException {
+    try {
+      return new PgNotifications(connection.getClass().getClassLoader());
+    } catch (ReflectiveOperationException e) {
+      throw new SQLException("LISTEN requires the PostgreSQL JDBC driver", e);
+    }
+  }
+
+  /**
+   * The payloads received since the last poll, waiting up to {@code timeoutMillis} for the first one.
+   */
+  List<String> poll(Connection connection, int timeoutMillis) throws SQLException {
+    var payloads = new ArrayList<String>();
+    try {
+      var notifications = getNotifications.invoke(connection.unwrap(connectionType), timeoutMillis);
+      for (int i = 0; notifications != null && i < Array.getLength(notifications); i++) {
+        payloads.add((String) getParameter.invoke(Array.get(notifications, i)));
+      }
+    } catch (InvocationTargetException e) {
+      if (e.getCause() instanceof SQLException) {
+        throw (SQLException) e.getCause();
+      }
+      throw new SQLException(e.getCause());
+    } catch (IllegalAccessException e) {
+      throw new SQLException(e);
+    }
+    return payloads;
+  }
+}
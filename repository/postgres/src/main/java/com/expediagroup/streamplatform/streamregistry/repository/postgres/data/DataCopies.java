@@ -0,0 +1,165 @@
+/**
+ * Copyright (C) 2018-2020 Expedia, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.expediagroup.streamplatform.streamregistry.repository.postgres.data;
+
+import java.util.TreeMap;
+
+import com.expediagroup.streamplatform.streamregistry.repository.postgres.data.keys.ConsumerBindingDataKey;
+import com.expediagroup.streamplatform.streamregistry.repository.postgres.data.keys.ConsumerDataKey;
+import com.expediagroup.streamplatform.streamregistry.repository.postgres.data.keys.DomainDataKey;
+import com.expediagroup.streamplatform.streamregistry.repository.postgres.data.keys.InfrastructureDataKey;
+import com.expediagroup.streamplatform.streamregistry.repository.postgres.data.keys.ProducerBindingDataKey;
+import com.expediagroup.streamplatform.streamregistry.repository.postgres.data.keys.ProducerDataKey;
+import com.expediagroup.streamplatform.streamregistry.repository.postgres.data.keys.SchemaDataKey;
+import com.expediagroup.streamplatform.streamregistry.repository.postgres.data.keys.StreamBindingDataKey;
+import com.expediagroup.streamplatform.streamregistry.repository.postgres.data.keys.StreamDataKey;
+import com.expediagroup.streamplatform.streamregistry.repository.postgres.data.keys.ZoneDataKey;
+
+/**
+ * Deep copies of the entity data, for caches that must not share rows with the persistence context or their callers.
+ */
+public final class DataCopies {
+  private DataCopies() {}
+
+  @SuppressWarnings("unchecked")
+  public static <D> D copyOf(D data) {
+    if (data == null) {
+      return null;
+    }
+    if (data instanceof ConsumerData) {
+      return (D) copy((ConsumerData) data);
+    }
+    if (data instanceof ConsumerBindingData) {
+      return (D) copy((ConsumerBindingData) data);
+    }
+    if (data instanceof DomainData) {
+      return (D) copy((DomainData) data);
+    }
+    if (data instanceof InfrastructureData) {
+      return (D) copy((InfrastructureData) data);
+    }
+    if (data instanceof ProducerData) {
+      return (D) copy((ProducerData) data);
+    }
+    if (data instanceof ProducerBindingData) {
+      return (D) copy((ProducerBindingData) data);
+    }
+    if (data instanceof SchemaData) {
+      return (D) copy((SchemaData) data);
+    }
+    if (data instanceof StreamData) {
+      return (D) copy((StreamData) data);
+    }
+    if (data instanceof StreamBindingData) {
+      return (D) copy((StreamBindingData) data);
+    }
+    if (data instanceof ZoneData) {
+      return (D) copy((ZoneData) data);
+    }
+    throw new IllegalArgumentException("Can't copy " + data.getClass());
+  }
+
+  public static ConsumerData copy(ConsumerData in) {
+    return new ConsumerData(copy(in.getKey()), copy(in.getSpecification()), copy(in.getStatus()), in.getRevision(), in.getVersion());
+  }
+
+  public static ConsumerBindingData copy(ConsumerBindingData in) {
+    return new ConsumerBindingData(copy(in.getKey()), copy(in.getSpecification()), copy(in.getStatus()), in.getRevision(), in.getVersion());
+  }
+
+  public static DomainData copy(DomainData in) {
+    return new DomainData(copy(in.getKey()), copy(in.getSpecification()), copy(in.getStatus()), in.getRevision(), in.getVersion());
+  }
+
+  public static InfrastructureData copy(InfrastructureData in) {
+    return new InfrastructureData(copy(in.getKey()), copy(in.getSpecification()), copy(in.getStatus()), in.getRevision(), in.getVersion());
+  }
+
+  public static ProducerData copy(ProducerData in) {
+    return new ProducerData(copy(in.getKey()), copy(in.getSpecification()), copy(in.getStatus()), in.getRevision(), in.getVersion());
+  }
+
+  public static ProducerBindingData copy(ProducerBindingData in) {
+    return new ProducerBindingData(copy(in.getKey()), copy(in.getSpecification()), copy(in.getStatus()), in.getRevision(), in.getVersion());
+  }
+
+  public static SchemaData copy(SchemaData in) {
+    return new SchemaData(copy(in.getKey()), copy(in.getSpecification()), copy(in.getStatus()), in.getRevision(), in.getVersion());
+  }
+
+  public static StreamData copy(StreamData in) {
+    return new StreamData(copy(in.getKey()), copy(in.getSchemaKey()), copy(in.getSpecification()), copy(in.getStatus()), in.getRevision(), in.getVersion());
+  }
+
+  public static StreamBindingData copy(StreamBindingData in) {
+    return new StreamBindingData(copy(in.getKey()), copy(in.getSpecification()), copy(in.getStatus()), in.getRevision(), in.getVersion());
+  }
+
+  public static ZoneData copy(ZoneData in) {
+    return new ZoneData(copy(in.getKey()), copy(in.getSpecification()), copy(in.getStatus()), in.getRevision(), in.getVersion());
+  }
+
+  public static ConsumerDataKey copy(ConsumerDataKey in) {
+    return in == null ? null : new ConsumerDataKey(in.getStreamDomain(), in.getStreamName(), in.getStreamVersion(), in.getZone(), in.getName());
+  }
+
+  public static ConsumerBindingDataKey copy(ConsumerBindingDataKey in) {
+    return in == null ? null : new ConsumerBindingDataKey(in.getStreamDomain(), in.getStreamName(), in.getStreamVersion(), in.getInfrastructureZone(), in.getInfrastructureName(), in.getConsumerName());
+  }
+
+  public static DomainDataKey copy(DomainDataKey in) {
+    return in == null ? null : new DomainDataKey(in.getName());
+  }
+
+  public static InfrastructureDataKey copy(InfrastructureDataKey in) {
+    return in == null ? null : new InfrastructureDataKey(in.getZone(), in.getName());
+  }
+
+  public static ProducerDataKey copy(ProducerDataKey in) {
+    return in == null ? null : new ProducerDataKey(in.getStreamDomain(), in.getStreamName(), in.getStreamVersion(), in.getZone(), in.getName());
+  }
+
+  public static ProducerBindingDataKey copy(ProducerBindingDataKey in) {
+    return in == null ? null : new ProducerBindingDataKey(in.getStreamDomain(), in.getStreamName(), in.getStreamVersion(), in.getInfrastructureZone(), in.getInfrastructureName(), in.getProducerName());
+  }
+
+  public static SchemaDataKey copy(SchemaDataKey in) {
+    return in == null ? null : new SchemaDataKey(in.getDomain(), in.getName());
+  }
+
+  public static StreamDataKey copy(StreamDataKey in) {
+    return in == null ? null : new StreamDataKey(in.getDomain(), in.getName(), in.getVersion());
+  }
+
+  public static StreamBindingDataKey copy(StreamBindingDataKey in) {
+    return in == null ? null : new StreamBindingDataKey(in.getStreamDomain(), in.getStreamName(), in.getStreamVersion(), in.getInfrastructureZone(), in.getInfrastructureName());
+  }
+
+  public static ZoneDataKey copy(ZoneDataKey in) {
+    return in == null ? null : new ZoneDataKey(in.getName());
+  }
+
+  public static SpecificationData copy(SpecificationData in) {
+    if (in == null) {
+      return null;
+    }
+    return new SpecificationData(in.getDescription(), new TreeMap<>(in.getTags()), in.getType(), in.getConfigJson());
+  }
+
+  public static StatusData copy(StatusData in) {
+    return in == null ? null : new StatusData(in.getStatusJson());
+  }
+}
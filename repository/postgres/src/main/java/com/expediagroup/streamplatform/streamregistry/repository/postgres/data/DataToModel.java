@@ -15,12 +15,8 @@
  */
 package com.expediagroup.streamplatform.streamregistry.repository.postgres.data;
 
-
-
-import com.hotels.beans.BeanUtils;
-import com.hotels.beans.model.FieldMapping;
-import com.hotels.beans.model.FieldTransformer;
-import com.hotels.beans.transformer.Transformer;
+import java.util.ArrayList;
+import java.util.Map;
 
 import org.springframework.stereotype.Component;
 
@@ -31,8 +27,11 @@ import com.expediagroup.streamplatform.streamregistry.model.Infrastructure;
 import com.expediagroup.streamplatform.streamregistry.model.Producer;
 import com.expediagroup.streamplatform.streamregistry.model.ProducerBinding;
 import com.expediagroup.streamplatform.streamregistry.model.Schema;
+import com.expediagroup.streamplatform.streamregistry.model.Specification;
+import com.expediagroup.streamplatform.streamregistry.model.Status;
 import com.expediagroup.streamplatform.streamregistry.model.Stream;
 import com.expediagroup.streamplatform.streamregistry.model.StreamBinding;
+import com.expediagroup.streamplatform.streamregistry.model.Tag;
 import com.expediagroup.streamplatform.streamregistry.model.Zone;
 import com.expediagroup.streamplatform.streamregistry.model.keys.ConsumerBindingKey;
 import com.expediagroup.streamplatform.streamregistry.model.keys.ConsumerKey;
@@ -58,101 +57,161 @@ import com.expediagroup.streamplatform.streamregistry.repository.postgres.data.k
 @Component
 public class DataToModel {
 
-  private static Transformer transformer = new BeanUtils()
-      .getTransformer()
-      .setFlatFieldNameTransformation(true)
-      .withFieldMapping(new FieldMapping("configJson", "configuration"))
-      .withFieldTransformer(new FieldTransformer<>("configuration", ObjectNodeMapper::deserialise))
-      .withFieldMapping(new FieldMapping("statusJson", "objectNode"))
-      .withFieldTransformer(new FieldTransformer<>("objectNode", ObjectNodeMapper::deserialise))
-      ;
-
-  public Object convert(Object in,Class clazz) {
+  public ConsumerKey convertToModel(ConsumerDataKey in) {
     if (in == null) {
       return null;
     }
-    return transformer.transform(in, clazz);
-  }
-
-  public ConsumerKey convertToModel(ConsumerDataKey in) {
-    return (ConsumerKey) convert(in,ConsumerKey.class);
+    return new ConsumerKey(in.getStreamDomain(), in.getStreamName(), in.getStreamVersion(), in.getZone(), in.getName());
   }
 
   public Consumer convertToModel(ConsumerData in) {
-    return (Consumer) convert(in,Consumer.class);
+    if (in == null) {
+      return null;
+    }
+    return new Consumer(convertToModel(in.getKey()), convertToModel(in.getSpecification()), convertToModel(in.getStatus()), in.getVersion());
   }
 
   public ConsumerBindingKey convertToModel(ConsumerBindingDataKey in) {
-    return (ConsumerBindingKey) convert(in,ConsumerBindingKey.class);
+    if (in == null) {
+      return null;
+    }
+    return new ConsumerBindingKey(in.getStreamDomain(), in.getStreamName(), in.getStreamVersion(), in.getInfrastructureZone(), in.getInfrastructureName(), in.getConsumerName());
   }
 
   public ConsumerBinding convertToModel(ConsumerBindingData in) {
-    return (ConsumerBinding) convert(in,ConsumerBinding.class);
+    if (in == null) {
+      return null;
+    }
+    return new ConsumerBinding(convertToModel(in.getKey()), convertToModel(in.getSpecification()), convertToModel(in.getStatus()), in.getVersion());
   }
 
   public DomainKey convertToModel(DomainDataKey in) {
-    return (DomainKey) convert(in,DomainKey.class);
+    if (in == null) {
+      return null;
+    }
+    return new DomainKey(in.getName());
   }
 
   public Domain convertToModel(DomainData in) {
-    return (Domain) convert(in,Domain.class);
+    if (in == null) {
+      return null;
+    }
+    return new Domain(convertToModel(in.getKey()), convertToModel(in.getSpecification()), convertToModel(in.getStatus()), in.getVersion());
   }
 
   public InfrastructureKey convertToModel(InfrastructureDataKey in) {
-    return (InfrastructureKey) convert(in,InfrastructureKey.class);
+    if (in == null) {
+      return null;
+    }
+    return new InfrastructureKey(in.getZone(), in.getName());
   }
 
   public Infrastructure convertToModel(InfrastructureData in) {
-    return (Infrastructure) convert(in,Infrastructure.class);
+    if (in == null) {
+      return null;
+    }
+    return new Infrastructure(convertToModel(in.getKey()), convertToModel(in.getSpecification()), convertToModel(in.getStatus()), in.getVersion());
   }
 
   public ProducerKey convertToModel(ProducerDataKey in) {
-    return (ProducerKey) convert(in,ProducerKey.class);
+    if (in == null) {
+      return null;
+    }
+    return new ProducerKey(in.getStreamDomain(), in.getStreamName(), in.getStreamVersion(), in.getZone(), in.getName());
   }
 
   public Producer convertToModel(ProducerData in) {
-    return (Producer) convert(in,Producer.class);
+    if (in == null) {
+      return null;
+    }
+    return new Producer(convertToModel(in.getKey()), convertToModel(in.getSpecification()), convertToModel(in.getStatus()), in.getVersion());
   }
 
   public ProducerBindingKey convertToModel(ProducerBindingDataKey in) {
-    return (ProducerBindingKey) convert(in,ProducerBindingKey.class);
-
+    if (in == null) {
+      return null;
+    }
+    return new ProducerBindingKey(in.getStreamDomain(), in.getStreamName(), in.getStreamVersion(), in.getInfrastructureZone(), in.getInfrastructureName(), in.getProducerName());
   }
 
   public ProducerBinding convertToModel(ProducerBindingData in) {
-    return (ProducerBinding) convert(in,ProducerBinding.class);
+    if (in == null) {
+      return null;
+    }
+    return new ProducerBinding(convertToModel(in.getKey()), convertToModel(in.getSpecification()), convertToModel(in.getStatus()), in.getVersion());
   }
 
   public SchemaKey convertToModel(SchemaDataKey in) {
-    return (SchemaKey) convert(in,SchemaKey.class);
+    if (in == null) {
+      return null;
+    }
+    return new SchemaKey(in.getDomain(), in.getName());
   }
 
   public Schema convertToModel(SchemaData in) {
-    return (Schema) convert(in,Schema.class);
+    if (in == null) {
+      return null;
+    }
+    return new Schema(convertToModel(in.getKey()), convertToModel(in.getSpecification()), convertToModel(in.getStatus()), in.getVersion());
   }
 
   public StreamKey convertToModel(StreamDataKey in) {
-    return (StreamKey) convert(in,StreamKey.class);
+    if (in == null) {
+      return null;
+    }
+    return new StreamKey(in.getDomain(), in.getName(), in.getVersion());
   }
 
   public Stream convertToModel(StreamData in) {
-    return (Stream) convert(in,Stream.class);
+    if (in == null) {
+      return null;
+    }
+    return new Stream(convertToModel(in.getKey()), convertToModel(in.getSchemaKey()), convertToModel(in.getSpecification()), convertToModel(in.getStatus()), in.getVersion());
   }
 
   public StreamBindingKey convertToModel(StreamBindingDataKey in) {
-    return (StreamBindingKey) convert(in,StreamBindingKey.class);
+    if (in == null) {
+      return null;
+    }
+    return new StreamBindingKey(in.getStreamDomain(), in.getStreamName(), in.getStreamVersion(), in.getInfrastructureZone(), in.getInfrastructureName());
   }
 
   public StreamBinding convertToModel(StreamBindingData in) {
-    return (StreamBinding) convert(in,StreamBinding.class);
+    if (in == null) {
+      return null;
+    }
+    return new StreamBinding(convertToModel(in.getKey()), convertToModel(in.getSpecification()), convertToModel(in.getStatus()), in.getVersion());
   }
 
   public ZoneKey convertToModel(ZoneDataKey in) {
-    return (ZoneKey) convert(in,ZoneKey.class);
+    if (in == null) {
+      return null;
+    }
+    return new ZoneKey(in.getName());
   }
 
   public Zone convertToModel(ZoneData in) {
-    return (Zone) convert(in,Zone.class);
+    if (in == null) {
+      return null;
+    }
+    return new Zone(convertToModel(in.getKey()), convertToModel(in.getSpecification()), convertToModel(in.getStatus()), in.getVersion());
+  }
+
+  public Specification convertToModel(SpecificationData in) {
+    if (in == null) {
+      return null;
+    }
+    var tags = new ArrayList<Tag>(in.getTags().size());
+    for (Map.Entry<String, String> tag : in.getTags().entrySet()) {
+      tags.add(new Tag(tag.getKey(), tag.getValue()));
+    }
+    return new Specification(in.getDescription(), tags, in.getType(), ObjectNodeMapper.deserialise(in.getConfigJson()));
   }
 
+  public Status convertToModel(StatusData in) {
+    if (in == null) {
+      return null;
+    }
+    return new Status(ObjectNodeMapper.deserialise(in.getStatusJson()));
+  }
 }
@@ -17,15 +17,20 @@ package com.expediagroup.streamplatform.streamregistry.repository.postgres.data;
 
 import static org.hibernate.annotations.CacheConcurrencyStrategy.READ_WRITE;
 
+import javax.persistence.AssociationOverride;
 import javax.persistence.Cacheable;
+import javax.persistence.Column;
 import javax.persistence.EmbeddedId;
 import javax.persistence.Entity;
+import javax.persistence.JoinTable;
+import javax.persistence.Version;
 
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.DynamicUpdate;
 
 import com.expediagroup.streamplatform.streamregistry.repository.postgres.data.keys.DomainDataKey;
 
@@ -35,10 +40,18 @@ import com.expediagroup.streamplatform.streamregistry.repository.postgres.data.k
 @Entity(name = "domain")
 @Cacheable
 @Cache(usage = READ_WRITE)
-public class DomainData implements EntityData {
+@DynamicUpdate
+@AssociationOverride(name = "specification.tags", joinTable = @JoinTable(name = "domain_tag"))
+public class DomainData implements EntityData<DomainDataKey> {
 
   @EmbeddedId
   private DomainDataKey key;
   private SpecificationData specification;
   private StatusData status;
+
+  @Column(nullable = false)
+  private Long revision;
+
+  @Version
+  private Long version;
 }
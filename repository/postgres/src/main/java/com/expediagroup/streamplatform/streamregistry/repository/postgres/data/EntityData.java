@@ -15,4 +15,22 @@
  */
 package com.expediagroup.streamplatform.streamregistry.repository.postgres.data;
 
-public interface EntityData<K> {}
+/**
+ * The columns shared by every entity table, for the entity with the key type {@code K}.
+ */
+public interface EntityData<K> {
+  K getKey();
+
+  /**
+   * Revision of the transaction that last wrote this row, assigned on save by
+   * {@link com.expediagroup.streamplatform.streamregistry.repository.postgres.EntityRevisions}. It orders writes for
+   * {@code changedSince} queries but not the writes to a single row, which are ordered by {@link #getVersion()}.
+   */
+  Long getRevision();
+
+  void setRevision(Long revision);
+
+  Long getVersion();
+
+  void setStatus(StatusData status);
+}
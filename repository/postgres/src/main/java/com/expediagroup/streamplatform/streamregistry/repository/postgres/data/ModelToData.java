@@ -15,13 +15,33 @@
  */
 package com.expediagroup.streamplatform.streamregistry.repository.postgres.data;
 
-import com.hotels.beans.BeanUtils;
-import com.hotels.beans.model.FieldMapping;
-import com.hotels.beans.model.FieldTransformer;
-import com.hotels.beans.transformer.Transformer;
+import java.util.TreeMap;
 
 import org.springframework.stereotype.Component;
 
+import com.expediagroup.streamplatform.streamregistry.model.Consumer;
+import com.expediagroup.streamplatform.streamregistry.model.ConsumerBinding;
+import com.expediagroup.streamplatform.streamregistry.model.Domain;
+import com.expediagroup.streamplatform.streamregistry.model.Infrastructure;
+import com.expediagroup.streamplatform.streamregistry.model.Producer;
+import com.expediagroup.streamplatform.streamregistry.model.ProducerBinding;
+import com.expediagroup.streamplatform.streamregistry.model.Schema;
+import com.expediagroup.streamplatform.streamregistry.model.Specification;
+import com.expediagroup.streamplatform.streamregistry.model.Status;
+import com.expediagroup.streamplatform.streamregistry.model.Stream;
+import com.expediagroup.streamplatform.streamregistry.model.StreamBinding;
+import com.expediagroup.streamplatform.streamregistry.model.Tag;
+import com.expediagroup.streamplatform.streamregistry.model.Zone;
+import com.expediagroup.streamplatform.streamregistry.model.keys.ConsumerBindingKey;
+import com.expediagroup.streamplatform.streamregistry.model.keys.ConsumerKey;
+import com.expediagroup.streamplatform.streamregistry.model.keys.DomainKey;
+import com.expediagroup.streamplatform.streamregistry.model.keys.InfrastructureKey;
+import com.expediagroup.streamplatform.streamregistry.model.keys.ProducerBindingKey;
+import com.expediagroup.streamplatform.streamregistry.model.keys.ProducerKey;
+import com.expediagroup.streamplatform.streamregistry.model.keys.SchemaKey;
+import com.expediagroup.streamplatform.streamregistry.model.keys.StreamBindingKey;
+import com.expediagroup.streamplatform.streamregistry.model.keys.StreamKey;
+import com.expediagroup.streamplatform.streamregistry.model.keys.ZoneKey;
 import com.expediagroup.streamplatform.streamregistry.repository.postgres.data.keys.ConsumerBindingDataKey;
 import com.expediagroup.streamplatform.streamregistry.repository.postgres.data.keys.ConsumerDataKey;
 import com.expediagroup.streamplatform.streamregistry.repository.postgres.data.keys.DomainDataKey;
@@ -36,105 +56,168 @@ import com.expediagroup.streamplatform.streamregistry.repository.postgres.data.k
 @Component
 public class ModelToData {
 
-  private static Transformer transformer = new BeanUtils()
-      .getTransformer()
-      .setFlatFieldNameTransformation(true)
-      .withFieldMapping(new FieldMapping("configuration", "configJson"))
-      .withFieldTransformer(new FieldTransformer<>("configJson", ObjectNodeMapper::serialise))
-
-      .withFieldMapping(new FieldMapping("objectNode", "statusJson"))
-      .withFieldTransformer(new FieldTransformer<>("statusJson", ObjectNodeMapper::serialise))
-      ;
-
-  public Object convert(Object in,Class clazz) {
+  public ConsumerDataKey convertToData(ConsumerKey in) {
     if (in == null) {
       return null;
     }
-    return transformer.transform(in, clazz);
+    return new ConsumerDataKey(in.getStreamDomain(), in.getStreamName(), in.getStreamVersion(), in.getZone(), in.getName());
   }
 
-  public ConsumerDataKey convertToData(com.expediagroup.streamplatform.streamregistry.model.keys.ConsumerKey in) {
-    return (ConsumerDataKey) convert(in, ConsumerDataKey.class);
+  public ConsumerData convertToData(Consumer in) {
+    if (in == null) {
+      return null;
+    }
+    return new ConsumerData(convertToData(in.getKey()), convertToData(in.getSpecification()), convertToData(in.getStatus()), null, in.getVersion());
   }
 
-  public ConsumerData convertToData(com.expediagroup.streamplatform.streamregistry.model.Consumer in) {
-    return (ConsumerData) convert(in, ConsumerData.class);
+  public ConsumerBindingDataKey convertToData(ConsumerBindingKey in) {
+    if (in == null) {
+      return null;
+    }
+    return new ConsumerBindingDataKey(in.getStreamDomain(), in.getStreamName(), in.getStreamVersion(), in.getInfrastructureZone(), in.getInfrastructureName(), in.getConsumerName());
   }
 
-  public ConsumerBindingDataKey convertToData(com.expediagroup.streamplatform.streamregistry.model.keys.ConsumerBindingKey in) {
-    return (ConsumerBindingDataKey) convert(in, ConsumerBindingDataKey.class);
+  public ConsumerBindingData convertToData(ConsumerBinding in) {
+    if (in == null) {
+      return null;
+    }
+    return new ConsumerBindingData(convertToData(in.getKey()), convertToData(in.getSpecification()), convertToData(in.getStatus()), null, in.getVersion());
   }
 
-  public ConsumerBindingData convertToData(com.expediagroup.streamplatform.streamregistry.model.ConsumerBinding in) {
-    return (ConsumerBindingData) convert(in, ConsumerBindingData.class);
+  public DomainDataKey convertToData(DomainKey in) {
+    if (in == null) {
+      return null;
+    }
+    return new DomainDataKey(in.getName());
   }
 
-  public DomainDataKey convertToData(com.expediagroup.streamplatform.streamregistry.model.keys.DomainKey in) {
-    return (DomainDataKey) convert(in, DomainDataKey.class);
+  public DomainData convertToData(Domain in) {
+    if (in == null) {
+      return null;
+    }
+    return new DomainData(convertToData(in.getKey()), convertToData(in.getSpecification()), convertToData(in.getStatus()), null, in.getVersion());
   }
 
-  public DomainData convertToData(com.expediagroup.streamplatform.streamregistry.model.Domain in) {
-    return (DomainData) convert(in, DomainData.class);
+  public InfrastructureDataKey convertToData(InfrastructureKey in) {
+    if (in == null) {
+      return null;
+    }
+    return new InfrastructureDataKey(in.getZone(), in.getName());
   }
 
-  public InfrastructureDataKey convertToData(com.expediagroup.streamplatform.streamregistry.model.keys.InfrastructureKey in) {
-    return (InfrastructureDataKey) convert(in, InfrastructureDataKey.class);
+  public InfrastructureData convertToData(Infrastructure in) {
+    if (in == null) {
+      return null;
+    }
+    return new InfrastructureData(convertToData(in.getKey()), convertToData(in.getSpecification()), convertToData(in.getStatus()), null, in.getVersion());
   }
 
-  public InfrastructureData convertToData(com.expediagroup.streamplatform.streamregistry.model.Infrastructure in) {
-    return (InfrastructureData) convert(in, InfrastructureData.class);
+  public ProducerDataKey convertToData(ProducerKey in) {
+    if (in == null) {
+      return null;
+    }
+    return new ProducerDataKey(in.getStreamDomain(), in.getStreamName(), in.getStreamVersion(), in.getZone(), in.getName());
   }
 
-  public ProducerDataKey convertToData(com.expediagroup.streamplatform.streamregistry.model.keys.ProducerKey in) {
-    return (ProducerDataKey) convert(in, ProducerDataKey.class);
+  public ProducerData convertToData(Producer in) {
+    if (in == null) {
+      return null;
+    }
+    return new ProducerData(convertToData(in.getKey()), convertToData(in.getSpecification()), convertToData(in.getStatus()), null, in.getVersion());
   }
 
-  public ProducerData convertToData(com.expediagroup.streamplatform.streamregistry.model.Producer in) {
-    return (ProducerData) convert(in, ProducerData.class);
+  public ProducerBindingDataKey convertToData(ProducerBindingKey in) {
+    if (in == null) {
+      return null;
+    }
+    return new ProducerBindingDataKey(in.getStreamDomain(), in.getStreamName(), in.getStreamVersion(), in.getInfrastructureZone(), in.getInfrastructureName(), in.getProducerName());
   }
 
-  public ProducerBindingDataKey convertToData(com.expediagroup.streamplatform.streamregistry.model.keys.ProducerBindingKey in) {
-    return (ProducerBindingDataKey) convert(in, ProducerBindingDataKey.class);
+  public ProducerBindingData convertToData(ProducerBinding in) {
+    if (in == null) {
+      return null;
+    }
+    return new ProducerBindingData(convertToData(in.getKey()), convertToData(in.getSpecification()), convertToData(in.getStatus()), null, in.getVersion());
   }
 
-  public ProducerBindingData convertToData(com.expediagroup.streamplatform.streamregistry.model.ProducerBinding in) {
-    return (ProducerBindingData) convert(in, ProducerBindingData.class);
+  public SchemaDataKey convertToData(SchemaKey in) {
+    if (in == null) {
+      return null;
+    }
+    return new SchemaDataKey(in.getDomain(), in.getName());
   }
 
-  public SchemaDataKey convertToData(com.expediagroup.streamplatform.streamregistry.model.keys.SchemaKey in) {
-    return (SchemaDataKey) convert(in, SchemaDataKey.class);
+  public SchemaData convertToData(Schema in) {
+    if (in == null) {
+      return null;
+    }
+    return new SchemaData(convertToData(in.getKey()), convertToData(in.getSpecification()), convertToData(in.getStatus()), null, in.getVersion());
   }
 
-  public SchemaData convertToData(com.expediagroup.streamplatform.streamregistry.model.Schema in) {
-    return (SchemaData) convert(in, SchemaData.class);
+  public StreamDataKey convertToData(StreamKey in) {
+    if (in == null) {
+      return null;
+    }
+    return new StreamDataKey(in.getDomain(), in.getName(), in.getVersion());
   }
 
-  public StreamDataKey convertToData(com.expediagroup.streamplatform.streamregistry.model.keys.StreamKey in) {
-    return (StreamDataKey) convert(in, StreamDataKey.class);
+  public StreamData convertToData(Stream in) {
+    if (in == null) {
+      return null;
+    }
+    return new StreamData(convertToData(in.getKey()), convertToData(in.getSchemaKey()), convertToData(in.getSpecification()), convertToData(in.getStatus()), null, in.getVersion());
   }
 
-  public StreamData convertToData(com.expediagroup.streamplatform.streamregistry.model.Stream in) {
-    return (StreamData) convert(in, StreamData.class);
+  public StreamBindingDataKey convertToData(StreamBindingKey in) {
+    if (in == null) {
+      return null;
+    }
+    return new StreamBindingDataKey(in.getStreamDomain(), in.getStreamName(), in.getStreamVersion(), in.getInfrastructureZone(), in.getInfrastructureName());
   }
 
-  public StreamBindingDataKey convertToData(com.expediagroup.streamplatform.streamregistry.model.keys.StreamBindingKey in) {
-    return (StreamBindingDataKey) convert(in, StreamBindingDataKey.class);
+  public StreamBindingData convertToData(StreamBinding in) {
+    if (in == null) {
+      return null;
+    }
+    return new StreamBindingData(convertToData(in.getKey()), convertToData(in.getSpecification()), convertToData(in.getStatus()), null, in.getVersion());
   }
 
-  public StreamBindingData convertToData(com.expediagroup.streamplatform.streamregistry.model.StreamBinding in) {
-    return (StreamBindingData) convert(in, StreamBindingData.class);
+  public ZoneDataKey convertToData(ZoneKey in) {
+    if (in == null) {
+      return null;
+    }
+    return new ZoneDataKey(in.getName());
   }
 
-  public ZoneDataKey convertToData(com.expediagroup.streamplatform.streamregistry.model.keys.ZoneKey in) {
-    return (ZoneDataKey) convert(in, ZoneDataKey.class);
+  public ZoneData convertToData(Zone in) {
+    if (in == null) {
+      return null;
+    }
+    return new ZoneData(convertToData(in.getKey()), convertToData(in.getSpecification()), convertToData(in.getStatus()), null, in.getVersion());
   }
 
-  public ZoneData convertToData(com.expediagroup.streamplatform.streamregistry.model.Zone in) {
-    return (ZoneData) convert(in, ZoneData.class);
+  public SpecificationData convertToData(Specification in) {
+    if (in == null) {
+      return null;
+    }
+    // SpecificationValidator rejects these, anything else reaching here would be silently lost
+    var tags = new TreeMap<String, String>();
+    for (Tag tag : in.getTags()) {
+      if (tag == null || tag.getName() == null) {
+        throw new IllegalArgumentException("Tag name must not be null");
+      }
+      if (tags.containsKey(tag.getName())) {
+        throw new IllegalArgumentException("Tag name '" + tag.getName() + "' must not be repeated");
+      }
+      tags.put(tag.getName(), tag.getValue());
+    }
+    return new SpecificationData(in.getDescription(), tags, in.getType(), ObjectNodeMapper.serialise(in.getConfiguration()));
   }
 
-  public SpecificationData convertToData(com.expediagroup.streamplatform.streamregistry.model.Specification in) {
-    return (SpecificationData) convert(in, SpecificationData.class);
+  public StatusData convertToData(Status in) {
+    if (in == null) {
+      return null;
+    }
+    return new StatusData(ObjectNodeMapper.serialise(in.getObjectNode()));
   }
-
 }
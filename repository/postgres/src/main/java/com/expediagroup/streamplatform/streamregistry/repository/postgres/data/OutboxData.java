@@ -15,37 +15,41 @@
  */
 package com.expediagroup.streamplatform.streamregistry.repository.postgres.data;
 
-import static org.hibernate.annotations.CacheConcurrencyStrategy.READ_WRITE;
+import java.time.Instant;
 
-import javax.persistence.Cacheable;
+import javax.persistence.Column;
 import javax.persistence.Entity;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.SequenceGenerator;
 
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
-import org.hibernate.annotations.Cache;
-
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
-@Entity(name="tag")
-@Cacheable
-@Cache(usage = READ_WRITE)
-public class TagData {
+@Entity(name = "notification_outbox")
+public class OutboxData {
 
+  // allocationSize 1 keeps ids in the order events were appended, which orders the events of one transaction; the
+  // events of different transactions are ordered by the txid column (see OutboxJpaRepository)
   @Id
-  @GeneratedValue(strategy = GenerationType.AUTO)
-  private int id;
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "notification_outbox_id")
+  @SequenceGenerator(name = "notification_outbox_id", sequenceName = "notification_outbox_id_seq", allocationSize = 1)
+  private Long id;
+
+  @Column(name = "entity_type", nullable = false, length = 100)
+  private String entityType;
+
+  @Column(name = "event_type", nullable = false, length = 20)
+  private String eventType;
 
-  public TagData(String name, String value) {
-    this.name = name;
-    this.value = value;
-  }
+  @Column(nullable = false, columnDefinition = "text")
+  private String payload;
 
-  private String name;
-  private String value;
+  @Column(name = "created_at", nullable = false)
+  private Instant createdAt;
 }
@@ -17,15 +17,20 @@ package com.expediagroup.streamplatform.streamregistry.repository.postgres.data;
 
 import static org.hibernate.annotations.CacheConcurrencyStrategy.READ_WRITE;
 
+import javax.persistence.AssociationOverride;
 import javax.persistence.Cacheable;
+import javax.persistence.Column;
 import javax.persistence.EmbeddedId;
 import javax.persistence.Entity;
+import javax.persistence.JoinTable;
+import javax.persistence.Version;
 
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.DynamicUpdate;
 
 import com.expediagroup.streamplatform.streamregistry.repository.postgres.data.keys.ProducerBindingDataKey;
 
@@ -35,10 +40,18 @@ import com.expediagroup.streamplatform.streamregistry.repository.postgres.data.k
 @Entity(name = "producer_binding")
 @Cacheable
 @Cache(usage = READ_WRITE)
-public class ProducerBindingData implements EntityData {
+@DynamicUpdate
+@AssociationOverride(name = "specification.tags", joinTable = @JoinTable(name = "producer_binding_tag"))
+public class ProducerBindingData implements EntityData<ProducerBindingDataKey> {
 
   @EmbeddedId
   private ProducerBindingDataKey key;
   private SpecificationData specification;
   private StatusData status;
+
+  @Column(nullable = false)
+  private Long revision;
+
+  @Version
+  private Long version;
 }
@@ -15,37 +15,50 @@
  */
 package com.expediagroup.streamplatform.streamregistry.repository.postgres.data;
 
+import static org.hibernate.annotations.CacheConcurrencyStrategy.READ_WRITE;
 
-import java.util.ArrayList;
 import java.util.Collections;
-import java.util.List;
+import java.util.SortedMap;
+import java.util.TreeMap;
 
-import javax.persistence.CascadeType;
 import javax.persistence.Column;
+import javax.persistence.ElementCollection;
 import javax.persistence.Embeddable;
 import javax.persistence.FetchType;
-import javax.persistence.Lob;
-import javax.persistence.OneToMany;
+import javax.persistence.MapKeyColumn;
 
 import lombok.Data;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.ColumnTransformer;
+import org.hibernate.annotations.SortNatural;
+
 @Data
 @Embeddable
 public class SpecificationData {
 
   private String description;
 
-  @OneToMany(fetch = FetchType.EAGER, cascade = { CascadeType.ALL }, orphanRemoval = true)
-  private List<TagData> tags = new ArrayList<>();
+  /**
+   * Tag values by name, stored in a tag table per entity type (named by an {@code @AssociationOverride} on the
+   * entity) whose primary key is the entity key and the tag name. As an indexed collection, an update only writes
+   * the tags that changed.
+   */
+  @ElementCollection(fetch = FetchType.EAGER)
+  @MapKeyColumn(name = "name")
+  @Column(name = "value")
+  @SortNatural
+  @Cache(usage = READ_WRITE)
+  private SortedMap<String, String> tags = new TreeMap<>();
 
   @Column(name = "rword_type")
   private String type;
 
-  @Lob
-  @Column(name = "config_json", length = 20000)
+  @Column(name = "config_json", columnDefinition = "jsonb")
+  @ColumnTransformer(write = "?::jsonb")
   private String configJson;
 
-  public SpecificationData(String description, List<TagData> tags, String type, String configJson) {
+  public SpecificationData(String description, SortedMap<String, String> tags, String type, String configJson) {
     this.description = description;
     this.tags = tags;
     this.type = type;
@@ -54,8 +67,8 @@ public class SpecificationData {
 
   public SpecificationData() {}
 
-  public List<TagData> getTags() {
-    return tags == null ? Collections.emptyList() : tags;
+  public SortedMap<String, String> getTags() {
+    return tags == null ? Collections.emptySortedMap() : tags;
   }
 
 }
@@ -17,16 +17,17 @@ package com.expediagroup.streamplatform.streamregistry.repository.postgres.data;
 
 import javax.persistence.Column;
 import javax.persistence.Embeddable;
-import javax.persistence.Lob;
 
 import lombok.Data;
 
+import org.hibernate.annotations.ColumnTransformer;
+
 @Data
 @Embeddable
 public class StatusData {
 
-  @Lob
-  @Column(name = "statusJson", length = 20000)
+  @Column(name = "statusJson", columnDefinition = "jsonb")
+  @ColumnTransformer(write = "?::jsonb")
   private String statusJson;
 
   public StatusData() {}
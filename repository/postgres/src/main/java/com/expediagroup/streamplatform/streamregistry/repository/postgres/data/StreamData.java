@@ -17,16 +17,20 @@ package com.expediagroup.streamplatform.streamregistry.repository.postgres.data;
 
 import static org.hibernate.annotations.CacheConcurrencyStrategy.READ_WRITE;
 
+import javax.persistence.AssociationOverride;
 import javax.persistence.Cacheable;
 import javax.persistence.Column;
 import javax.persistence.EmbeddedId;
 import javax.persistence.Entity;
+import javax.persistence.JoinTable;
+import javax.persistence.Version;
 
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.DynamicUpdate;
 
 import com.expediagroup.streamplatform.streamregistry.repository.postgres.data.keys.SchemaDataKey;
 import com.expediagroup.streamplatform.streamregistry.repository.postgres.data.keys.StreamDataKey;
@@ -37,7 +41,9 @@ import com.expediagroup.streamplatform.streamregistry.repository.postgres.data.k
 @Entity(name = "stream")
 @Cacheable
 @Cache(usage = READ_WRITE)
-public class StreamData implements EntityData {
+@DynamicUpdate
+@AssociationOverride(name = "specification.tags", joinTable = @JoinTable(name = "stream_tag"))
+public class StreamData implements EntityData<StreamDataKey> {
 
   @EmbeddedId
   private StreamDataKey key;
@@ -46,4 +52,10 @@ public class StreamData implements EntityData {
   private SchemaDataKey schemaKey;
   private SpecificationData specification;
   private StatusData status;
+
+  @Column(nullable = false)
+  private Long revision;
+
+  @Version
+  private Long version;
 }
@@ -22,11 +22,15 @@ import java.util.Optional;
 
 import javax.persistence.QueryHint;
 
-import org.springframework.data.domain.Example;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.NoRepositoryBean;
 
+/**
+ * Lookups by key go through the second level cache. {@code findAll()} and {@code findAll(Example)} are cached by
+ * {@link com.expediagroup.streamplatform.streamregistry.repository.postgres.EntityResultCache} instead of the query
+ * cache, which would drop them on every write to the table.
+ */
 @NoRepositoryBean
 public interface CachingJpaRepository<T, ID> extends JpaRepository<T, ID> {
   @QueryHints(@QueryHint(name = CACHEABLE, value = "true"))
@@ -35,12 +39,6 @@ public interface CachingJpaRepository<T, ID> extends JpaRepository<T, ID> {
   @QueryHints(@QueryHint(name = CACHEABLE, value = "true"))
   boolean existsById(ID id);
 
-  @QueryHints(@QueryHint(name = CACHEABLE, value = "true"))
-  List<T> findAll();
-
   @QueryHints(@QueryHint(name = CACHEABLE, value = "true"))
   List<T> findAllById(Iterable<ID> ids);
-
-  @QueryHints(@QueryHint(name = CACHEABLE, value = "true"))
-  <S extends T> List<S> findAll(Example<S> example);
 }
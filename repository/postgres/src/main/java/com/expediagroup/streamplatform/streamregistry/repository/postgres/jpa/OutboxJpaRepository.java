@@ -0,0 +1,45 @@
+/**
+ * Copyright (C) 2018-2020 Expedia, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.expediagroup.streamplatform.streamregistry.repository.postgres.jpa;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.expediagroup.streamplatform.streamregistry.repository.postgres.data.OutboxData;
+
+public interface OutboxJpaRepository extends JpaRepository<OutboxData, Long> {
+  // A concurrent claim waits for the row and then re-checks the condition, so only one owner can succeed
+  @Modifying
+  @Query(value = "UPDATE notification_outbox_relay SET \"owner\" = :owner, "
+      + "lease_until = now() + :leaseMillis * INTERVAL '1 millisecond' "
+      + "WHERE id = 1 AND (\"owner\" = :owner OR lease_until < now())", nativeQuery = true)
+  int claim(@Param("owner") String owner, @Param("leaseMillis") long leaseMillis);
+
+  // txid is filled in by the column default: only transactions below the snapshot xmin have all ended, so nothing
+  // can commit later with a lower txid
+  @Query(value = "SELECT * FROM notification_outbox WHERE txid < txid_snapshot_xmin(txid_current_snapshot()) "
+      + "ORDER BY txid, id LIMIT :limit", nativeQuery = true)
+  List<OutboxData> findOldest(@Param("limit") int limit);
+
+  @Modifying
+  @Query("DELETE FROM notification_outbox o WHERE o.id IN :ids")
+  void deleteByIds(@Param("ids") Collection<Long> ids);
+}
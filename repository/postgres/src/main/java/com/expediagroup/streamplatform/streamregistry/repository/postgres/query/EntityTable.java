@@ -0,0 +1,100 @@
+/**
+ * Copyright (C) 2018-2020 Expedia, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.expediagroup.streamplatform.streamregistry.repository.postgres.query;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+
+import javax.persistence.EntityManager;
+
+import lombok.Value;
+
+import org.hibernate.EntityMode;
+import org.hibernate.QueryException;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.persister.collection.QueryableCollection;
+import org.hibernate.persister.entity.Queryable;
+import org.hibernate.type.ComponentType;
+
+/**
+ * Physical layout of an entity table and its tag table, as mapped by Hibernate.
+ */
+@Value
+class EntityTable {
+  /**
+   * Model properties stored under a different name in the data classes.
+   */
+  private static final Map<String, String> DATA_PROPERTIES = Map.of(
+      "specification.configuration", "specification.configJson",
+      "status", "status.statusJson"
+  );
+
+  String name;
+  List<String> idColumns;
+  Function<Object, List<Object>> idValues;
+  Function<Object, List<Object>> keyValues;
+  Function<String, Optional<String>> columns;
+  String tagTable;
+  List<String> tagOwnerColumns;
+  String tagNameColumn;
+  String tagValueColumn;
+
+  Optional<String> column(String property) {
+    return columns.apply(property);
+  }
+
+  /**
+   * The primary key values of a row, in the same order as {@link #getIdColumns()}.
+   */
+  List<Object> idValues(Object data) {
+    return idValues.apply(data);
+  }
+
+  /**
+   * The primary key values of an embedded id, in the same order as {@link #getIdColumns()}.
+   */
+  List<Object> keyValues(Object id) {
+    return keyValues.apply(id);
+  }
+
+  static EntityTable of(EntityManager entityManager, Class<?> dataClass) {
+    var metamodel = entityManager.getEntityManagerFactory().unwrap(SessionFactoryImplementor.class).getMetamodel();
+    var entity = (Queryable) metamodel.entityPersister(dataClass);
+    var tags = (QueryableCollection) metamodel.collectionPersister(dataClass.getName() + ".specification.tags");
+    return new EntityTable(
+        entity.getTableName(),
+        List.of(entity.getIdentifierColumnNames()),
+        data -> List.of(((ComponentType) entity.getIdentifierType()).getPropertyValues(entity.getIdentifier(data), EntityMode.POJO)),
+        id -> List.of(((ComponentType) entity.getIdentifierType()).getPropertyValues(id, EntityMode.POJO)),
+        property -> singleColumn(entity, property),
+        tags.getTableName(),
+        List.of(tags.getKeyColumnNames()),
+        tags.getIndexColumnNames()[0],
+        tags.getElementColumnNames()[0]
+    );
+  }
+
+  private static Optional<String> singleColumn(Queryable entity, String property) {
+    try {
+      var columns = entity.toColumns(DATA_PROPERTIES.getOrDefault(property, property));
+      return columns.length == 1 ? Optional.of(columns[0]) : Optional.empty();
+    } catch (QueryException e) {
+      return Optional.empty();
+    }
+  }
+}
@@ -0,0 +1,56 @@
+/**
+ * Copyright (C) 2018-2020 Expedia, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.expediagroup.streamplatform.streamregistry.repository.postgres.query;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.IOException;
+import java.util.Base64;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Opaque cursor holding the primary key values of the last row of a page.
+ */
+final class KeysetCursor {
+  private static final ObjectMapper mapper = new ObjectMapper();
+
+  private KeysetCursor() {}
+
+  static String encode(List<Object> idValues) {
+    try {
+      return Base64.getUrlEncoder().withoutPadding().encodeToString(mapper.writeValueAsBytes(idValues));
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException("Could not encode cursor", e);
+    }
+  }
+
+  static List<Object> decode(String cursor, int size) {
+    List<Object> idValues;
+    try {
+      idValues = mapper.readValue(new String(Base64.getUrlDecoder().decode(cursor), UTF_8), new TypeReference<List<Object>>() {});
+    } catch (IllegalArgumentException | IOException e) {
+      throw new IllegalArgumentException("Invalid cursor: " + cursor, e);
+    }
+    if (idValues == null || idValues.size() != size) {
+      throw new IllegalArgumentException("Invalid cursor: " + cursor);
+    }
+    return idValues;
+  }
+}
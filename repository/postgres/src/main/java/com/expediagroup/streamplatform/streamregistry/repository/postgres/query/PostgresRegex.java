@@ -0,0 +1,52 @@
+/**
+ * Copyright (C) 2018-2020 Expedia, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.expediagroup.streamplatform.streamregistry.repository.postgres.query;
+
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * Bridges Java regular expressions, as used by the GraphQL filters, to Postgres advanced regular expressions.
+ */
+final class PostgresRegex {
+  // Constructs whose meaning differs between java.util.regex and Postgres AREs, or that AREs lack altogether:
+  // lookbehind/named groups/atomic groups, inline flags, possessive quantifiers, java-only escapes,
+  // class intersections and POSIX brackets. Matching any of them keeps the criterion in memory.
+  private static final Pattern NOT_PORTABLE = Pattern.compile(
+      "\\(\\?[<>]|\\(\\?[a-zA-Z-]+[:)]|[*+?}]\\+|\\\\[pPQEbBzZGRhHvVXkK0]|&&|\\[\\[:");
+
+  private PostgresRegex() {}
+
+  static boolean isPortable(String regex) {
+    if (regex == null) {
+      return true;
+    }
+    try {
+      Pattern.compile(regex);
+    } catch (PatternSyntaxException e) {
+      return false;
+    }
+    return !NOT_PORTABLE.matcher(regex).find();
+  }
+
+  /**
+   * Postgres {@code ~} finds a match anywhere in the value whereas {@link String#matches(String)} requires the
+   * whole value to match.
+   */
+  static String anchored(String regex) {
+    return "^(?:" + regex + ")$";
+  }
+}
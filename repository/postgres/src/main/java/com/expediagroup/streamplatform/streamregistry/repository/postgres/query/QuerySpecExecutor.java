@@ -0,0 +1,161 @@
+/**
+ * Copyright (C) 2018-2020 Expedia, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.expediagroup.streamplatform.streamregistry.repository.postgres.query;
+
+import static java.util.stream.Collectors.toList;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+import javax.persistence.EntityManager;
+import javax.persistence.Query;
+
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.expediagroup.streamplatform.streamregistry.repository.postgres.query.QuerySpecTranslator.Translation;
+import com.expediagroup.streamplatform.streamregistry.repository.query.Page;
+import com.expediagroup.streamplatform.streamregistry.repository.query.PageRequest;
+import com.expediagroup.streamplatform.streamregistry.repository.query.QuerySpec;
+
+/**
+ * Runs a {@link QuerySpec} against Postgres, filtering in the database wherever the spec allows it.
+ */
+@Component
+@RequiredArgsConstructor
+public class QuerySpecExecutor {
+  private static final int EXISTING_IDS_CHUNK = 500;
+
+  private final EntityManager entityManager;
+  private final Map<Class<?>, EntityTable> tables = new ConcurrentHashMap<>();
+  private final Map<Class<?>, QuerySpecTranslator> translators = new ConcurrentHashMap<>();
+
+  @Transactional(readOnly = true)
+  public <D, T> List<T> findAll(Class<D> dataClass, QuerySpec<T> spec, Function<D, T> toModel) {
+    var translation = translator(dataClass).translate(spec);
+    Stream<T> results = this.<D>resultList(translation, dataClass).stream().map(toModel);
+    if (!translation.isComplete()) {
+      results = results.filter(fallback(spec));
+    }
+    return results.collect(toList());
+  }
+
+  /**
+   * Reads one page in primary key order. When the spec needs the in-memory fallback, further keyset chunks are
+   * read until the page is full, so the cost stays proportional to the page size rather than its offset.
+   */
+  @Transactional(readOnly = true)
+  public <D, T> Page<T> findAll(Class<D> dataClass, QuerySpec<T> spec, PageRequest page, Function<D, T> toModel) {
+    var translator = translator(dataClass);
+    var table = tables.get(dataClass);
+    var after = page.getAfter() == null ? null : KeysetCursor.decode(page.getAfter(), table.getIdColumns().size());
+    var limit = page.getSize() + 1;
+    var entries = new ArrayList<Page.Entry<T>>();
+
+    while (true) {
+      var translation = translator.translatePage(spec, after, limit);
+      List<D> rows = resultList(translation, dataClass);
+      for (D row : rows) {
+        after = table.idValues(row);
+        var entity = toModel.apply(row);
+        if (translation.isComplete() || fallback(spec).test(entity)) {
+          entries.add(new Page.Entry<>(KeysetCursor.encode(after), entity));
+          if (entries.size() == limit) {
+            return new Page<>(entries.subList(0, page.getSize()), true);
+          }
+        }
+      }
+      if (rows.size() < limit) {
+        return new Page<>(entries, false);
+      }
+    }
+  }
+
+  @Transactional(readOnly = true)
+  public <D, T> long count(Class<D> dataClass, QuerySpec<T> spec, Function<D, T> toModel) {
+    var translation = translator(dataClass).translateCount(spec);
+    if (!translation.isComplete()) {
+      return findAll(dataClass, spec, toModel).size();
+    }
+    var query = entityManager.createNativeQuery(translation.getSql());
+    bind(query, translation);
+    return ((Number) query.getSingleResult()).longValue();
+  }
+
+  /**
+   * The subset of {@code ids} (embedded ids of {@code dataClass}) that exist, reading only their key columns, in
+   * chunks of {@value #EXISTING_IDS_CHUNK} keys per query.
+   */
+  @Transactional(readOnly = true)
+  public <D, ID> Set<ID> existingIds(Class<D> dataClass, Collection<ID> ids) {
+    var translator = translator(dataClass);
+    var table = tables.get(dataClass);
+    var byValues = new HashMap<List<Object>, ID>();
+    ids.forEach(id -> byValues.put(table.keyValues(id), id));
+
+    var existing = new HashSet<ID>();
+    var values = new ArrayList<>(byValues.keySet());
+    for (int from = 0; from < values.size(); from += EXISTING_IDS_CHUNK) {
+      var translation = translator.translateExistingIds(values.subList(from, Math.min(values.size(), from + EXISTING_IDS_CHUNK)));
+      var query = entityManager.createNativeQuery(translation.getSql());
+      bind(query, translation);
+      for (Object row : query.getResultList()) {
+        var key = row instanceof Object[] ? List.of((Object[]) row) : List.of(row);
+        var id = byValues.get(key);
+        if (id != null) {
+          existing.add(id);
+        }
+      }
+    }
+    return existing;
+  }
+
+  private QuerySpecTranslator translator(Class<?> dataClass) {
+    return translators.computeIfAbsent(dataClass, c -> new QuerySpecTranslator(tables.computeIfAbsent(c, t -> EntityTable.of(entityManager, t))));
+  }
+
+  @SuppressWarnings("unchecked")
+  private <D> List<D> resultList(Translation translation, Class<D> dataClass) {
+    var query = entityManager.createNativeQuery(translation.getSql(), dataClass);
+    bind(query, translation);
+    return query.getResultList();
+  }
+
+  private static void bind(Query query, Translation translation) {
+    var parameters = translation.getParameters();
+    for (int i = 0; i < parameters.size(); i++) {
+      query.setParameter(i + 1, parameters.get(i));
+    }
+  }
+
+  private static <T> Predicate<T> fallback(QuerySpec<T> spec) {
+    if (spec.getFallback() == null) {
+      throw new IllegalStateException("Query can only be partially evaluated in the database and has no fallback");
+    }
+    return spec.getFallback();
+  }
+}
@@ -0,0 +1,193 @@
+/**
+ * Copyright (C) 2018-2020 Expedia, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.expediagroup.streamplatform.streamregistry.repository.postgres.query;
+
+import static java.util.stream.Collectors.joining;
+import static java.util.stream.Collectors.toList;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import lombok.RequiredArgsConstructor;
+import lombok.Value;
+
+import com.expediagroup.streamplatform.streamregistry.repository.query.Criterion;
+import com.expediagroup.streamplatform.streamregistry.repository.query.QuerySpec;
+import com.expediagroup.streamplatform.streamregistry.repository.query.Regexes;
+import com.expediagroup.streamplatform.streamregistry.repository.query.TagCriterion;
+
+/**
+ * Translates a {@link QuerySpec} into a native Postgres query over an {@link EntityTable}.
+ *
+ * <p>Criteria that cannot be expressed in SQL are left out and the resulting {@link Translation} is flagged as
+ * incomplete, in which case the caller must apply the spec's fallback predicate to the rows returned.
+ */
+@RequiredArgsConstructor
+class QuerySpecTranslator {
+  private final EntityTable table;
+
+  Translation translate(QuerySpec<?> spec) {
+    var where = where(spec);
+    return new Translation(select(where), where.parameters, where.complete);
+  }
+
+  /**
+   * Keyset pagination over the primary key: rows strictly after {@code after} (or from the start when it is
+   * {@code null}), in primary key order, limited to {@code limit} rows.
+   */
+  Translation translatePage(QuerySpec<?> spec, List<Object> after, int limit) {
+    var where = where(spec);
+    var keyColumns = table.getIdColumns().stream().map(column -> "e." + quote(column)).collect(toList());
+    if (after != null) {
+      var placeholders = new ArrayList<String>();
+      for (Object value : after) {
+        where.parameters.add(value);
+        placeholders.add("?" + where.parameters.size());
+      }
+      where.conditions.add("(" + String.join(", ", keyColumns) + ") > (" + String.join(", ", placeholders) + ")");
+    }
+    where.parameters.add(limit);
+    var sql = select(where) + " ORDER BY " + String.join(", ", keyColumns) + " LIMIT ?" + where.parameters.size();
+    return new Translation(sql, where.parameters, where.complete);
+  }
+
+  Translation translateCount(QuerySpec<?> spec) {
+    var where = where(spec);
+    return new Translation("SELECT count(*) FROM " + quote(table.getName()) + " e" + where.sql(), where.parameters, where.complete);
+  }
+
+  /**
+   * The primary keys, amongst {@code ids}, of the rows that exist, selecting only the key columns.
+   */
+  Translation translateExistingIds(List<List<Object>> ids) {
+    var keyColumns = table.getIdColumns().stream().map(column -> "e." + quote(column)).collect(toList());
+    var parameters = new ArrayList<>();
+    var tuples = new ArrayList<String>();
+    for (List<Object> id : ids) {
+      var placeholders = new ArrayList<String>();
+      for (Object value : id) {
+        parameters.add(value);
+        placeholders.add("?" + parameters.size());
+      }
+      tuples.add("(" + String.join(", ", placeholders) + ")");
+    }
+    var sql = "SELECT " + String.join(", ", keyColumns) + " FROM " + quote(table.getName()) + " e"
+        + " WHERE (" + String.join(", ", keyColumns) + ") IN (" + String.join(", ", tuples) + ")";
+    return new Translation(sql, parameters, true);
+  }
+
+  private String select(Where where) {
+    return "SELECT e.* FROM " + quote(table.getName()) + " e" + where.sql();
+  }
+
+  private Where where(QuerySpec<?> spec) {
+    var where = new Where();
+
+    for (Criterion criterion : spec.getCriteria()) {
+      var column = table.column(criterion.getProperty());
+      if (column.isEmpty()) {
+        where.complete = false;
+        continue;
+      }
+      switch (criterion.getOperator()) {
+        case MATCHES:
+          var regex = (String) criterion.getValue();
+          if (!PostgresRegex.isPortable(regex)) {
+            where.complete = false;
+            continue;
+          }
+          where.conditions.add(regexCondition("e." + quote(column.get()), regex, where.parameters));
+          break;
+        case EQUALS:
+          where.parameters.add(criterion.getValue());
+          where.conditions.add("e." + quote(column.get()) + " = ?" + where.parameters.size());
+          break;
+        case GREATER_THAN:
+          where.parameters.add(criterion.getValue());
+          where.conditions.add("e." + quote(column.get()) + " > ?" + where.parameters.size());
+          break;
+        case CONTAINS:
+          where.parameters.add(criterion.getValue().toString());
+          where.conditions.add("e." + quote(column.get()) + " @> CAST(?" + where.parameters.size() + " AS jsonb)");
+          break;
+        default:
+          where.complete = false;
+      }
+    }
+
+    for (TagCriterion tag : spec.getTags()) {
+      if (!PostgresRegex.isPortable(tag.getNameRegex()) || !PostgresRegex.isPortable(tag.getValueRegex())) {
+        where.complete = false;
+        continue;
+      }
+      var tagConditions = new ArrayList<String>();
+      if (tag.getNameRegex() != null) {
+        tagConditions.add(regexCondition("t." + quote(table.getTagNameColumn()), tag.getNameRegex(), where.parameters));
+      }
+      if (tag.getValueRegex() != null) {
+        tagConditions.add(regexCondition("t." + quote(table.getTagValueColumn()), tag.getValueRegex(), where.parameters));
+      }
+      where.conditions.add(tagExists(tagConditions));
+    }
+    return where;
+  }
+
+  /**
+   * Literal patterns are compared with {@code =} so that they can use the indexes.
+   */
+  private static String regexCondition(String column, String regex, List<Object> parameters) {
+    if (Regexes.isLiteral(regex)) {
+      parameters.add(regex);
+      return column + " = ?" + parameters.size();
+    }
+    parameters.add(PostgresRegex.anchored(regex));
+    return column + " ~ ?" + parameters.size();
+  }
+
+  private String tagExists(List<String> tagConditions) {
+    var joinOnOwner = IntStream.range(0, table.getIdColumns().size())
+        .mapToObj(i -> "t." + quote(table.getTagOwnerColumns().get(i)) + " = e." + quote(table.getIdColumns().get(i)))
+        .collect(joining(" AND "));
+    var sql = "EXISTS (SELECT 1 FROM " + quote(table.getTagTable()) + " t WHERE " + joinOnOwner;
+    for (String condition : tagConditions) {
+      sql += " AND " + condition;
+    }
+    return sql + ")";
+  }
+
+  private static String quote(String identifier) {
+    var unquoted = identifier.startsWith("\"") ? identifier.substring(1, identifier.length() - 1) : identifier;
+    return "\"" + unquoted.toLowerCase() + "\"";
+  }
+
+  private static class Where {
+    final List<String> conditions = new ArrayList<>();
+    final List<Object> parameters = new ArrayList<>();
+    boolean complete = true;
+
+    String sql() {
+      return conditions.isEmpty() ? "" : " WHERE " + String.join(" AND ", conditions);
+    }
+  }
+
+  @Value
+  static class Translation {
+    String sql;
+    List<Object> parameters;
+    boolean complete;
+  }
+}
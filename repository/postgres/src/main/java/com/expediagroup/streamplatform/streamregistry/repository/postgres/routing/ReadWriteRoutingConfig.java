@@ -0,0 +1,122 @@
+/**
+ * Copyright (C) 2018-2020 Expedia, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.expediagroup.streamplatform.streamregistry.repository.postgres.routing;
+
+import java.sql.Connection;
+
+import javax.sql.DataSource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Condition;
+import org.springframework.context.annotation.ConditionContext;
+import org.springframework.context.annotation.Conditional;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.type.AnnotatedTypeMetadata;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+/**
+ * With {@value #REPLICA_ENABLED_PROPERTY} set, read only transactions (the read only service methods, such as
+ * {@code read}, {@code findAll} and {@code exists}) use a separate pool of connections to a read replica, so a read
+ * storm can no longer starve the writes of connections. The primary pool keeps its {@code spring.datasource.hikari}
+ * settings, the replica pool is configured under {@code registry.datasource.replica.hikari}, and both report the
+ * Hikari pool metrics tagged with their pool name.
+ */
+@Configuration
+@Conditional(ReadWriteRoutingConfig.ReplicaEnabled.class)
+public class ReadWriteRoutingConfig {
+  public static final String REPLICA_ENABLED_PROPERTY = "registry.datasource.replica.enabled";
+  public static final String REPLICA_URL_PROPERTY = "registry.datasource.replica.url";
+  public static final String REPLICA_USERNAME_PROPERTY = "registry.datasource.replica.username";
+  public static final String REPLICA_PASSWORD_PROPERTY = "registry.datasource.replica.password";
+  public static final String REPLICA_READ_YOUR_WRITES_MS_PROPERTY = "registry.datasource.replica.read-your-writes-ms";
+
+  @Bean
+  @ConfigurationProperties("spring.datasource.hikari")
+  public HikariDataSource primaryDataSource(
+      DataSourceProperties dataSourceProperties,
+      ObjectProvider<MeterRegistry> meterRegistry) {
+    var dataSource = dataSourceProperties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    return pool(dataSource, ReadWriteRoutingDataSource.PRIMARY, meterRegistry);
+  }
+
+  @Bean
+  @ConfigurationProperties("registry.datasource.replica.hikari")
+  public HikariDataSource replicaDataSource(
+      DataSourceProperties dataSourceProperties,
+      @Value("${" + REPLICA_URL_PROPERTY + "}") String url,
+      @Value("${" + REPLICA_USERNAME_PROPERTY + ":#{null}}") String username,
+      @Value("${" + REPLICA_PASSWORD_PROPERTY + ":#{null}}") String password,
+      ObjectProvider<MeterRegistry> meterRegistry) {
+    var dataSource = DataSourceBuilder.create(dataSourceProperties.getClassLoader())
+        .type(HikariDataSource.class)
+        .driverClassName(dataSourceProperties.determineDriverClassName())
+        .url(url)
+        .username(username == null ? dataSourceProperties.determineUsername() : username)
+        .password(password == null ? dataSourceProperties.determinePassword() : password)
+        .build();
+    dataSource.setReadOnly(true);
+    return pool(dataSource, ReadWriteRoutingDataSource.REPLICA, meterRegistry);
+  }
+
+  @Bean
+  @Primary
+  public DataSource dataSource(
+      @Qualifier("primaryDataSource") DataSource primary,
+      @Qualifier("replicaDataSource") DataSource replica,
+      @Value("${" + REPLICA_READ_YOUR_WRITES_MS_PROPERTY + ":5000}") long readYourWritesMillis,
+      ObjectProvider<MeterRegistry> meterRegistry) {
+    var routing = ReadWriteRoutingDataSource.builder()
+        .primary(primary)
+        .replica(replica)
+        .readYourWritesMillis(readYourWritesMillis)
+        .registry(meterRegistry.getIfAvailable(() -> Metrics.globalRegistry))
+        .build();
+    var dataSource = new LazyConnectionDataSourceProxy(routing);
+    dataSource.setDefaultAutoCommit(true);
+    dataSource.setDefaultTransactionIsolation(Connection.TRANSACTION_READ_COMMITTED);
+    return dataSource;
+  }
+
+  private static HikariDataSource pool(
+      HikariDataSource dataSource,
+      String name,
+      ObjectProvider<MeterRegistry> meterRegistry) {
+    dataSource.setPoolName(name);
+    dataSource.setMetricsTrackerFactory(
+        new MicrometerMetricsTrackerFactory(meterRegistry.getIfAvailable(() -> Metrics.globalRegistry)));
+    return dataSource;
+  }
+
+  static class ReplicaEnabled implements Condition {
+    @Override
+    public boolean matches(ConditionContext context, AnnotatedTypeMetadata metadata) {
+      return context.getEnvironment().getProperty(REPLICA_ENABLED_PROPERTY, Boolean.class, false);
+    }
+  }
+}
@@ -0,0 +1,91 @@
+/**
+ * Copyright (C) 2018-2020 Expedia, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.expediagroup.streamplatform.streamregistry.repository.postgres.routing;
+
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+import javax.sql.DataSource;
+
+import lombok.Builder;
+import lombok.NonNull;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Routes read only transactions to the replica pool and everything else to the primary. It must be wrapped in a
+ * {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}, since the transaction is only marked
+ * read only after it has begun.
+ *
+ * <p>A thread that has run a write transaction reads from the primary for the next {@code readYourWritesMillis}, so
+ * the mutating request sees its own writes even while the replica lags behind.
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+  static final String PRIMARY = "primary";
+  static final String REPLICA = "replica";
+
+  private final ThreadLocal<Long> primaryUntil = new ThreadLocal<>();
+  private final long readYourWritesMillis;
+  private final LongSupplier clock;
+  private final Counter primaryRoutes;
+  private final Counter replicaRoutes;
+
+  @Builder
+  private ReadWriteRoutingDataSource(
+      @NonNull DataSource primary,
+      @NonNull DataSource replica,
+      long readYourWritesMillis,
+      LongSupplier clock,
+      @NonNull MeterRegistry registry) {
+    this.readYourWritesMillis = readYourWritesMillis;
+    this.clock = clock == null ? System::currentTimeMillis : clock;
+    this.primaryRoutes = registry.counter("registry_datasource_routes", "pool", PRIMARY);
+    this.replicaRoutes = registry.counter("registry_datasource_routes", "pool", REPLICA);
+    setTargetDataSources(Map.of(PRIMARY, primary, REPLICA, replica));
+    setDefaultTargetDataSource(primary);
+    afterPropertiesSet();
+  }
+
+  @Override
+  protected Object determineCurrentLookupKey() {
+    var now = clock.getAsLong();
+    if (TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+      var until = primaryUntil.get();
+      if (until == null || until <= now) {
+        primaryUntil.remove();
+        replicaRoutes.increment();
+        return REPLICA;
+      }
+    } else if (TransactionSynchronizationManager.isActualTransactionActive()) {
+      primaryUntil.set(now + readYourWritesMillis);
+      if (TransactionSynchronizationManager.isSynchronizationActive()) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+          @Override
+          public void afterCompletion(int status) {
+            primaryUntil.set(clock.getAsLong() + readYourWritesMillis);
+          }
+        });
+      }
+    }
+    primaryRoutes.increment();
+    return PRIMARY;
+  }
+}
@@ -0,0 +1,10 @@
+-- The relay held a transaction scoped advisory lock, and with it a transaction and a pooled connection, while it
+-- waited for every delivery of a batch. It now claims the outbox with a lease on this row and commits before
+-- delivering, then removes the delivered events in a second, short transaction.
+CREATE TABLE notification_outbox_relay (
+	id int4 NOT NULL,
+	"owner" varchar(100) NULL,
+	lease_until timestamptz NOT NULL,
+	CONSTRAINT notification_outbox_relay_pkey PRIMARY KEY (id)
+);
+INSERT INTO notification_outbox_relay (id, "owner", lease_until) VALUES (1, NULL, TIMESTAMPTZ 'epoch');
@@ -0,0 +1,10 @@
+CREATE SEQUENCE notification_outbox_id_seq START 1 INCREMENT 1;
+
+CREATE TABLE notification_outbox (
+	id int8 NOT NULL,
+	entity_type varchar(100) NOT NULL,
+	event_type varchar(20) NOT NULL,
+	payload text NOT NULL,
+	created_at timestamp NOT NULL,
+	CONSTRAINT notification_outbox_pkey PRIMARY KEY (id)
+);
@@ -0,0 +1,37 @@
+CREATE TABLE entity_revision (
+	id int4 NOT NULL,
+	revision int8 NOT NULL,
+	CONSTRAINT entity_revision_pkey PRIMARY KEY (id)
+);
+
+INSERT INTO entity_revision (id, revision) VALUES (1, 0);
+
+ALTER TABLE consumer ADD COLUMN revision int8 NOT NULL DEFAULT 0;
+CREATE INDEX consumer_revision_idx ON consumer (revision);
+
+ALTER TABLE consumer_binding ADD COLUMN revision int8 NOT NULL DEFAULT 0;
+CREATE INDEX consumer_binding_revision_idx ON consumer_binding (revision);
+
+ALTER TABLE "domain" ADD COLUMN revision int8 NOT NULL DEFAULT 0;
+CREATE INDEX domain_revision_idx ON "domain" (revision);
+
+ALTER TABLE infrastructure ADD COLUMN revision int8 NOT NULL DEFAULT 0;
+CREATE INDEX infrastructure_revision_idx ON infrastructure (revision);
+
+ALTER TABLE producer ADD COLUMN revision int8 NOT NULL DEFAULT 0;
+CREATE INDEX producer_revision_idx ON producer (revision);
+
+ALTER TABLE producer_binding ADD COLUMN revision int8 NOT NULL DEFAULT 0;
+CREATE INDEX producer_binding_revision_idx ON producer_binding (revision);
+
+ALTER TABLE rword_schema ADD COLUMN revision int8 NOT NULL DEFAULT 0;
+CREATE INDEX rword_schema_revision_idx ON rword_schema (revision);
+
+ALTER TABLE stream ADD COLUMN revision int8 NOT NULL DEFAULT 0;
+CREATE INDEX stream_revision_idx ON stream (revision);
+
+ALTER TABLE stream_binding ADD COLUMN revision int8 NOT NULL DEFAULT 0;
+CREATE INDEX stream_binding_revision_idx ON stream_binding (revision);
+
+ALTER TABLE "zone" ADD COLUMN revision int8 NOT NULL DEFAULT 0;
+CREATE INDEX zone_revision_idx ON "zone" (revision);
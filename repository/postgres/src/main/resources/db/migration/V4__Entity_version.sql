@@ -0,0 +1,10 @@
+ALTER TABLE consumer ADD COLUMN version int8 NOT NULL DEFAULT 0;
+ALTER TABLE consumer_binding ADD COLUMN version int8 NOT NULL DEFAULT 0;
+ALTER TABLE "domain" ADD COLUMN version int8 NOT NULL DEFAULT 0;
+ALTER TABLE infrastructure ADD COLUMN version int8 NOT NULL DEFAULT 0;
+ALTER TABLE producer ADD COLUMN version int8 NOT NULL DEFAULT 0;
+ALTER TABLE producer_binding ADD COLUMN version int8 NOT NULL DEFAULT 0;
+ALTER TABLE rword_schema ADD COLUMN version int8 NOT NULL DEFAULT 0;
+ALTER TABLE stream ADD COLUMN version int8 NOT NULL DEFAULT 0;
+ALTER TABLE stream_binding ADD COLUMN version int8 NOT NULL DEFAULT 0;
+ALTER TABLE "zone" ADD COLUMN version int8 NOT NULL DEFAULT 0;
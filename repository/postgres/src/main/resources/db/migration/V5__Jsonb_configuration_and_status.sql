@@ -0,0 +1,41 @@
+ALTER TABLE consumer
+  ALTER COLUMN config_json TYPE jsonb USING NULLIF(config_json, '')::jsonb,
+  ALTER COLUMN status_json TYPE jsonb USING NULLIF(status_json, '')::jsonb;
+ALTER TABLE consumer_binding
+  ALTER COLUMN config_json TYPE jsonb USING NULLIF(config_json, '')::jsonb,
+  ALTER COLUMN status_json TYPE jsonb USING NULLIF(status_json, '')::jsonb;
+ALTER TABLE "domain"
+  ALTER COLUMN config_json TYPE jsonb USING NULLIF(config_json, '')::jsonb,
+  ALTER COLUMN status_json TYPE jsonb USING NULLIF(status_json, '')::jsonb;
+ALTER TABLE infrastructure
+  ALTER COLUMN config_json TYPE jsonb USING NULLIF(config_json, '')::jsonb,
+  ALTER COLUMN status_json TYPE jsonb USING NULLIF(status_json, '')::jsonb;
+ALTER TABLE producer
+  ALTER COLUMN config_json TYPE jsonb USING NULLIF(config_json, '')::jsonb,
+  ALTER COLUMN status_json TYPE jsonb USING NULLIF(status_json, '')::jsonb;
+ALTER TABLE producer_binding
+  ALTER COLUMN config_json TYPE jsonb USING NULLIF(config_json, '')::jsonb,
+  ALTER COLUMN status_json TYPE jsonb USING NULLIF(status_json, '')::jsonb;
+ALTER TABLE rword_schema
+  ALTER COLUMN config_json TYPE jsonb USING NULLIF(config_json, '')::jsonb,
+  ALTER COLUMN status_json TYPE jsonb USING NULLIF(status_json, '')::jsonb;
+ALTER TABLE stream
+  ALTER COLUMN config_json TYPE jsonb USING NULLIF(config_json, '')::jsonb,
+  ALTER COLUMN status_json TYPE jsonb USING NULLIF(status_json, '')::jsonb;
+ALTER TABLE stream_binding
+  ALTER COLUMN config_json TYPE jsonb USING NULLIF(config_json, '')::jsonb,
+  ALTER COLUMN status_json TYPE jsonb USING NULLIF(status_json, '')::jsonb;
+ALTER TABLE "zone"
+  ALTER COLUMN config_json TYPE jsonb USING NULLIF(config_json, '')::jsonb,
+  ALTER COLUMN status_json TYPE jsonb USING NULLIF(status_json, '')::jsonb;
+
+CREATE INDEX consumer_config_json_idx ON consumer USING gin (config_json jsonb_path_ops);
+CREATE INDEX consumer_binding_config_json_idx ON consumer_binding USING gin (config_json jsonb_path_ops);
+CREATE INDEX domain_config_json_idx ON "domain" USING gin (config_json jsonb_path_ops);
+CREATE INDEX infrastructure_config_json_idx ON infrastructure USING gin (config_json jsonb_path_ops);
+CREATE INDEX producer_config_json_idx ON producer USING gin (config_json jsonb_path_ops);
+CREATE INDEX producer_binding_config_json_idx ON producer_binding USING gin (config_json jsonb_path_ops);
+CREATE INDEX rword_schema_config_json_idx ON rword_schema USING gin (config_json jsonb_path_ops);
+CREATE INDEX stream_config_json_idx ON stream USING gin (config_json jsonb_path_ops);
+CREATE INDEX stream_binding_config_json_idx ON stream_binding USING gin (config_json jsonb_path_ops);
+CREATE INDEX zone_config_json_idx ON "zone" USING gin (config_json jsonb_path_ops);
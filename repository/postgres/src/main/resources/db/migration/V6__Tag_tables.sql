@@ -0,0 +1,272 @@
+-- Tags move from the shared tag table, joined through <entity>_tags, to one table per entity type keyed by
+-- (entity key, tag name). Where an entity has several tags with the same name the most recent one is kept, and the
+-- rows that cannot be moved (the older duplicates and tags without a name) are copied to tag_migration_conflict
+-- with the table and key of their entity, so that nothing is lost when the tag table is dropped.
+
+CREATE TABLE tag_migration_conflict (
+	owner_table varchar(30) NOT NULL,
+	entity_key jsonb NOT NULL,
+	tag_id int4 NOT NULL,
+	name varchar(255) NULL,
+	value varchar(255) NULL,
+	reason varchar(20) NOT NULL,
+	CONSTRAINT tag_migration_conflict_pkey PRIMARY KEY (tag_id)
+);
+
+CREATE TABLE consumer_tag (
+	consumer_name varchar(100) NOT NULL,
+	consumer_stream_domain varchar(100) NOT NULL,
+	consumer_stream_name varchar(100) NOT NULL,
+	consumer_stream_version int4 NOT NULL,
+	consumer_zone varchar(100) NOT NULL,
+	name varchar(255) NOT NULL,
+	value varchar(255) NULL,
+	CONSTRAINT consumer_tag_pkey PRIMARY KEY (consumer_name, consumer_stream_domain, consumer_stream_name, consumer_stream_version, consumer_zone, name),
+	CONSTRAINT consumer_tag_owner_fkey FOREIGN KEY (consumer_name, consumer_stream_domain, consumer_stream_name, consumer_stream_version, consumer_zone) REFERENCES consumer(name, stream_domain, stream_name, stream_version, zone) ON DELETE CASCADE
+);
+CREATE INDEX consumer_tag_name_value_idx ON consumer_tag (name, value);
+INSERT INTO tag_migration_conflict (owner_table, entity_key, tag_id, name, value, reason)
+SELECT 'consumer', c.entity_key, c.id, c.name, c.value, CASE WHEN c.name IS NULL THEN 'NULL_NAME' ELSE 'DUPLICATE_NAME' END
+FROM (
+	SELECT to_jsonb(jt) - 'tags_id' AS entity_key, t.id, t.name, t.value,
+		row_number() OVER (PARTITION BY to_jsonb(jt) - 'tags_id', t.name ORDER BY t.id DESC) AS position
+	FROM consumer_tags jt JOIN tag t ON t.id = jt.tags_id
+) c
+WHERE c.name IS NULL OR c.position > 1;
+INSERT INTO consumer_tag (consumer_name, consumer_stream_domain, consumer_stream_name, consumer_stream_version, consumer_zone, name, value)
+SELECT DISTINCT ON (jt.consumer_name, jt.consumer_stream_domain, jt.consumer_stream_name, jt.consumer_stream_version, jt.consumer_zone, t.name) jt.consumer_name, jt.consumer_stream_domain, jt.consumer_stream_name, jt.consumer_stream_version, jt.consumer_zone, t.name, t.value
+FROM consumer_tags jt JOIN tag t ON t.id = jt.tags_id
+WHERE t.name IS NOT NULL
+ORDER BY jt.consumer_name, jt.consumer_stream_domain, jt.consumer_stream_name, jt.consumer_stream_version, jt.consumer_zone, t.name, t.id DESC;
+DROP TABLE consumer_tags;
+
+CREATE TABLE consumer_binding_tag (
+	consumer_binding_consumer_name varchar(100) NOT NULL,
+	consumer_binding_infrastructure_name varchar(100) NOT NULL,
+	consumer_binding_infrastructure_zone varchar(100) NOT NULL,
+	consumer_binding_stream_domain varchar(100) NOT NULL,
+	consumer_binding_stream_name varchar(100) NOT NULL,
+	consumer_binding_stream_version int4 NOT NULL,
+	name varchar(255) NOT NULL,
+	value varchar(255) NULL,
+	CONSTRAINT consumer_binding_tag_pkey PRIMARY KEY (consumer_binding_consumer_name, consumer_binding_infrastructure_name, consumer_binding_infrastructure_zone, consumer_binding_stream_domain, consumer_binding_stream_name, consumer_binding_stream_version, name),
+	CONSTRAINT consumer_binding_tag_owner_fkey FOREIGN KEY (consumer_binding_consumer_name, consumer_binding_infrastructure_name, consumer_binding_infrastructure_zone, consumer_binding_stream_domain, consumer_binding_stream_name, consumer_binding_stream_version) REFERENCES consumer_binding(consumer_name, infrastructure_name, infrastructure_zone, stream_domain, stream_name, stream_version) ON DELETE CASCADE
+);
+CREATE INDEX consumer_binding_tag_name_value_idx ON consumer_binding_tag (name, value);
+INSERT INTO tag_migration_conflict (owner_table, entity_key, tag_id, name, value, reason)
+SELECT 'consumer_binding', c.entity_key, c.id, c.name, c.value, CASE WHEN c.name IS NULL THEN 'NULL_NAME' ELSE 'DUPLICATE_NAME' END
+FROM (
+	SELECT to_jsonb(jt) - 'tags_id' AS entity_key, t.id, t.name, t.value,
+		row_number() OVER (PARTITION BY to_jsonb(jt) - 'tags_id', t.name ORDER BY t.id DESC) AS position
+	FROM consumer_binding_tags jt JOIN tag t ON t.id = jt.tags_id
+) c
+WHERE c.name IS NULL OR c.position > 1;
+INSERT INTO consumer_binding_tag (consumer_binding_consumer_name, consumer_binding_infrastructure_name, consumer_binding_infrastructure_zone, consumer_binding_stream_domain, consumer_binding_stream_name, consumer_binding_stream_version, name, value)
+SELECT DISTINCT ON (jt.consumer_binding_consumer_name, jt.consumer_binding_infrastructure_name, jt.consumer_binding_infrastructure_zone, jt.consumer_binding_stream_domain, jt.consumer_binding_stream_name, jt.consumer_binding_stream_version, t.name) jt.consumer_binding_consumer_name, jt.consumer_binding_infrastructure_name, jt.consumer_binding_infrastructure_zone, jt.consumer_binding_stream_domain, jt.consumer_binding_stream_name, jt.consumer_binding_stream_version, t.name, t.value
+FROM consumer_binding_tags jt JOIN tag t ON t.id = jt.tags_id
+WHERE t.name IS NOT NULL
+ORDER BY jt.consumer_binding_consumer_name, jt.consumer_binding_infrastructure_name, jt.consumer_binding_infrastructure_zone, jt.consumer_binding_stream_domain, jt.consumer_binding_stream_name, jt.consumer_binding_stream_version, t.name, t.id DESC;
+DROP TABLE consumer_binding_tags;
+
+CREATE TABLE domain_tag (
+	domain_name varchar(100) NOT NULL,
+	name varchar(255) NOT NULL,
+	value varchar(255) NULL,
+	CONSTRAINT domain_tag_pkey PRIMARY KEY (domain_name, name),
+	CONSTRAINT domain_tag_owner_fkey FOREIGN KEY (domain_name) REFERENCES "domain"(name) ON DELETE CASCADE
+);
+CREATE INDEX domain_tag_name_value_idx ON domain_tag (name, value);
+INSERT INTO tag_migration_conflict (owner_table, entity_key, tag_id, name, value, reason)
+SELECT 'domain', c.entity_key, c.id, c.name, c.value, CASE WHEN c.name IS NULL THEN 'NULL_NAME' ELSE 'DUPLICATE_NAME' END
+FROM (
+	SELECT to_jsonb(jt) - 'tags_id' AS entity_key, t.id, t.name, t.value,
+		row_number() OVER (PARTITION BY to_jsonb(jt) - 'tags_id', t.name ORDER BY t.id DESC) AS position
+	FROM domain_tags jt JOIN tag t ON t.id = jt.tags_id
+) c
+WHERE c.name IS NULL OR c.position > 1;
+INSERT INTO domain_tag (domain_name, name, value)
+SELECT DISTINCT ON (jt.domain_name, t.name) jt.domain_name, t.name, t.value
+FROM domain_tags jt JOIN tag t ON t.id = jt.tags_id
+WHERE t.name IS NOT NULL
+ORDER BY jt.domain_name, t.name, t.id DESC;
+DROP TABLE domain_tags;
+
+CREATE TABLE infrastructure_tag (
+	infrastructure_name varchar(100) NOT NULL,
+	infrastructure_zone varchar(100) NOT NULL,
+	name varchar(255) NOT NULL,
+	value varchar(255) NULL,
+	CONSTRAINT infrastructure_tag_pkey PRIMARY KEY (infrastructure_name, infrastructure_zone, name),
+	CONSTRAINT infrastructure_tag_owner_fkey FOREIGN KEY (infrastructure_name, infrastructure_zone) REFERENCES infrastructure(name, zone) ON DELETE CASCADE
+);
+CREATE INDEX infrastructure_tag_name_value_idx ON infrastructure_tag (name, value);
+INSERT INTO tag_migration_conflict (owner_table, entity_key, tag_id, name, value, reason)
+SELECT 'infrastructure', c.entity_key, c.id, c.name, c.value, CASE WHEN c.name IS NULL THEN 'NULL_NAME' ELSE 'DUPLICATE_NAME' END
+FROM (
+	SELECT to_jsonb(jt) - 'tags_id' AS entity_key, t.id, t.name, t.value,
+		row_number() OVER (PARTITION BY to_jsonb(jt) - 'tags_id', t.name ORDER BY t.id DESC) AS position
+	FROM infrastructure_tags jt JOIN tag t ON t.id = jt.tags_id
+) c
+WHERE c.name IS NULL OR c.position > 1;
+INSERT INTO infrastructure_tag (infrastructure_name, infrastructure_zone, name, value)
+SELECT DISTINCT ON (jt.infrastructure_name, jt.infrastructure_zone, t.name) jt.infrastructure_name, jt.infrastructure_zone, t.name, t.value
+FROM infrastructure_tags jt JOIN tag t ON t.id = jt.tags_id
+WHERE t.name IS NOT NULL
+ORDER BY jt.infrastructure_name, jt.infrastructure_zone, t.name, t.id DESC;
+DROP TABLE infrastructure_tags;
+
+CREATE TABLE producer_tag (
+	producer_name varchar(100) NOT NULL,
+	producer_stream_domain varchar(100) NOT NULL,
+	producer_stream_name varchar(100) NOT NULL,
+	producer_stream_version int4 NOT NULL,
+	producer_zone varchar(100) NOT NULL,
+	name varchar(255) NOT NULL,
+	value varchar(255) NULL,
+	CONSTRAINT producer_tag_pkey PRIMARY KEY (producer_name, producer_stream_domain, producer_stream_name, producer_stream_version, producer_zone, name),
+	CONSTRAINT producer_tag_owner_fkey FOREIGN KEY (producer_name, producer_stream_domain, producer_stream_name, producer_stream_version, producer_zone) REFERENCES producer(name, stream_domain, stream_name, stream_version, zone) ON DELETE CASCADE
+);
+CREATE INDEX producer_tag_name_value_idx ON producer_tag (name, value);
+INSERT INTO tag_migration_conflict (owner_table, entity_key, tag_id, name, value, reason)
+SELECT 'producer', c.entity_key, c.id, c.name, c.value, CASE WHEN c.name IS NULL THEN 'NULL_NAME' ELSE 'DUPLICATE_NAME' END
+FROM (
+	SELECT to_jsonb(jt) - 'tags_id' AS entity_key, t.id, t.name, t.value,
+		row_number() OVER (PARTITION BY to_jsonb(jt) - 'tags_id', t.name ORDER BY t.id DESC) AS position
+	FROM producer_tags jt JOIN tag t ON t.id = jt.tags_id
+) c
+WHERE c.name IS NULL OR c.position > 1;
+INSERT INTO producer_tag (producer_name, producer_stream_domain, producer_stream_name, producer_stream_version, producer_zone, name, value)
+SELECT DISTINCT ON (jt.producer_name, jt.producer_stream_domain, jt.producer_stream_name, jt.producer_stream_version, jt.producer_zone, t.name) jt.producer_name, jt.producer_stream_domain, jt.producer_stream_name, jt.producer_stream_version, jt.producer_zone, t.name, t.value
+FROM producer_tags jt JOIN tag t ON t.id = jt.tags_id
+WHERE t.name IS NOT NULL
+ORDER BY jt.producer_name, jt.producer_stream_domain, jt.producer_stream_name, jt.producer_stream_version, jt.producer_zone, t.name, t.id DESC;
+DROP TABLE producer_tags;
+
+CREATE TABLE producer_binding_tag (
+	producer_binding_infrastructure_name varchar(100) NOT NULL,
+	producer_binding_infrastructure_zone varchar(100) NOT NULL,
+	producer_binding_producer_name varchar(100) NOT NULL,
+	producer_binding_stream_domain varchar(100) NOT NULL,
+	producer_binding_stream_name varchar(100) NOT NULL,
+	producer_binding_stream_version int4 NOT NULL,
+	name varchar(255) NOT NULL,
+	value varchar(255) NULL,
+	CONSTRAINT producer_binding_tag_pkey PRIMARY KEY (producer_binding_infrastructure_name, producer_binding_infrastructure_zone, producer_binding_producer_name, producer_binding_stream_domain, producer_binding_stream_name, producer_binding_stream_version, name),
+	CONSTRAINT producer_binding_tag_owner_fkey FOREIGN KEY (producer_binding_infrastructure_name, producer_binding_infrastructure_zone, producer_binding_producer_name, producer_binding_stream_domain, producer_binding_stream_name, producer_binding_stream_version) REFERENCES producer_binding(infrastructure_name, infrastructure_zone, producer_name, stream_domain, stream_name, stream_version) ON DELETE CASCADE
+);
+CREATE INDEX producer_binding_tag_name_value_idx ON producer_binding_tag (name, value);
+INSERT INTO tag_migration_conflict (owner_table, entity_key, tag_id, name, value, reason)
+SELECT 'producer_binding', c.entity_key, c.id, c.name, c.value, CASE WHEN c.name IS NULL THEN 'NULL_NAME' ELSE 'DUPLICATE_NAME' END
+FROM (
+	SELECT to_jsonb(jt) - 'tags_id' AS entity_key, t.id, t.name, t.value,
+		row_number() OVER (PARTITION BY to_jsonb(jt) - 'tags_id', t.name ORDER BY t.id DESC) AS position
+	FROM producer_binding_tags jt JOIN tag t ON t.id = jt.tags_id
+) c
+WHERE c.name IS NULL OR c.position > 1;
+INSERT INTO producer_binding_tag (producer_binding_infrastructure_name, producer_binding_infrastructure_zone, producer_binding_producer_name, producer_binding_stream_domain, producer_binding_stream_name, producer_binding_stream_version, name, value)
+SELECT DISTINCT ON (jt.producer_binding_infrastructure_name, jt.producer_binding_infrastructure_zone, jt.producer_binding_producer_name, jt.producer_binding_stream_domain, jt.producer_binding_stream_name, jt.producer_binding_stream_version, t.name) jt.producer_binding_infrastructure_name, jt.producer_binding_infrastructure_zone, jt.producer_binding_producer_name, jt.producer_binding_stream_domain, jt.producer_binding_stream_name, jt.producer_binding_stream_version, t.name, t.value
+FROM producer_binding_tags jt JOIN tag t ON t.id = jt.tags_id
+WHERE t.name IS NOT NULL
+ORDER BY jt.producer_binding_infrastructure_name, jt.producer_binding_infrastructure_zone, jt.producer_binding_producer_name, jt.producer_binding_stream_domain, jt.producer_binding_stream_name, jt.producer_binding_stream_version, t.name, t.id DESC;
+DROP TABLE producer_binding_tags;
+
+CREATE TABLE rword_schema_tag (
+	rword_schema_skdomain varchar(100) NOT NULL,
+	rword_schema_skname varchar(100) NOT NULL,
+	name varchar(255) NOT NULL,
+	value varchar(255) NULL,
+	CONSTRAINT rword_schema_tag_pkey PRIMARY KEY (rword_schema_skdomain, rword_schema_skname, name),
+	CONSTRAINT rword_schema_tag_owner_fkey FOREIGN KEY (rword_schema_skdomain, rword_schema_skname) REFERENCES rword_schema(skdomain, skname) ON DELETE CASCADE
+);
+CREATE INDEX rword_schema_tag_name_value_idx ON rword_schema_tag (name, value);
+INSERT INTO tag_migration_conflict (owner_table, entity_key, tag_id, name, value, reason)
+SELECT 'rword_schema', c.entity_key, c.id, c.name, c.value, CASE WHEN c.name IS NULL THEN 'NULL_NAME' ELSE 'DUPLICATE_NAME' END
+FROM (
+	SELECT to_jsonb(jt) - 'tags_id' AS entity_key, t.id, t.name, t.value,
+		row_number() OVER (PARTITION BY to_jsonb(jt) - 'tags_id', t.name ORDER BY t.id DESC) AS position
+	FROM rword_schema_tags jt JOIN tag t ON t.id = jt.tags_id
+) c
+WHERE c.name IS NULL OR c.position > 1;
+INSERT INTO rword_schema_tag (rword_schema_skdomain, rword_schema_skname, name, value)
+SELECT DISTINCT ON (jt.rword_schema_skdomain, jt.rword_schema_skname, t.name) jt.rword_schema_skdomain, jt.rword_schema_skname, t.name, t.value
+FROM rword_schema_tags jt JOIN tag t ON t.id = jt.tags_id
+WHERE t.name IS NOT NULL
+ORDER BY jt.rword_schema_skdomain, jt.rword_schema_skname, t.name, t.id DESC;
+DROP TABLE rword_schema_tags;
+
+CREATE TABLE stream_tag (
+	stream_domain varchar(100) NOT NULL,
+	stream_name varchar(100) NOT NULL,
+	stream_version int4 NOT NULL,
+	name varchar(255) NOT NULL,
+	value varchar(255) NULL,
+	CONSTRAINT stream_tag_pkey PRIMARY KEY (stream_domain, stream_name, stream_version, name),
+	CONSTRAINT stream_tag_owner_fkey FOREIGN KEY (stream_domain, stream_name, stream_version) REFERENCES stream("domain", name, "version") ON DELETE CASCADE
+);
+CREATE INDEX stream_tag_name_value_idx ON stream_tag (name, value);
+INSERT INTO tag_migration_conflict (owner_table, entity_key, tag_id, name, value, reason)
+SELECT 'stream', c.entity_key, c.id, c.name, c.value, CASE WHEN c.name IS NULL THEN 'NULL_NAME' ELSE 'DUPLICATE_NAME' END
+FROM (
+	SELECT to_jsonb(jt) - 'tags_id' AS entity_key, t.id, t.name, t.value,
+		row_number() OVER (PARTITION BY to_jsonb(jt) - 'tags_id', t.name ORDER BY t.id DESC) AS position
+	FROM stream_tags jt JOIN tag t ON t.id = jt.tags_id
+) c
+WHERE c.name IS NULL OR c.position > 1;
+INSERT INTO stream_tag (stream_domain, stream_name, stream_version, name, value)
+SELECT DISTINCT ON (jt.stream_domain, jt.stream_name, jt.stream_version, t.name) jt.stream_domain, jt.stream_name, jt.stream_version, t.name, t.value
+FROM stream_tags jt JOIN tag t ON t.id = jt.tags_id
+WHERE t.name IS NOT NULL
+ORDER BY jt.stream_domain, jt.stream_name, jt.stream_version, t.name, t.id DESC;
+DROP TABLE stream_tags;
+
+CREATE TABLE stream_binding_tag (
+	stream_binding_infrastructure_name varchar(100) NOT NULL,
+	stream_binding_infrastructure_zone varchar(100) NOT NULL,
+	stream_binding_stream_domain varchar(100) NOT NULL,
+	stream_binding_stream_name varchar(100) NOT NULL,
+	stream_binding_stream_version int4 NOT NULL,
+	name varchar(255) NOT NULL,
+	value varchar(255) NULL,
+	CONSTRAINT stream_binding_tag_pkey PRIMARY KEY (stream_binding_infrastructure_name, stream_binding_infrastructure_zone, stream_binding_stream_domain, stream_binding_stream_name, stream_binding_stream_version, name),
+	CONSTRAINT stream_binding_tag_owner_fkey FOREIGN KEY (stream_binding_infrastructure_name, stream_binding_infrastructure_zone, stream_binding_stream_domain, stream_binding_stream_name, stream_binding_stream_version) REFERENCES stream_binding(infrastructure_name, infrastructure_zone, stream_domain, stream_name, stream_version) ON DELETE CASCADE
+);
+CREATE INDEX stream_binding_tag_name_value_idx ON stream_binding_tag (name, value);
+INSERT INTO tag_migration_conflict (owner_table, entity_key, tag_id, name, value, reason)
+SELECT 'stream_binding', c.entity_key, c.id, c.name, c.value, CASE WHEN c.name IS NULL THEN 'NULL_NAME' ELSE 'DUPLICATE_NAME' END
+FROM (
+	SELECT to_jsonb(jt) - 'tags_id' AS entity_key, t.id, t.name, t.value,
+		row_number() OVER (PARTITION BY to_jsonb(jt) - 'tags_id', t.name ORDER BY t.id DESC) AS position
+	FROM stream_binding_tags jt JOIN tag t ON t.id = jt.tags_id
+) c
+WHERE c.name IS NULL OR c.position > 1;
+INSERT INTO stream_binding_tag (stream_binding_infrastructure_name, stream_binding_infrastructure_zone, stream_binding_stream_domain, stream_binding_stream_name, stream_binding_stream_version, name, value)
+SELECT DISTINCT ON (jt.stream_binding_infrastructure_name, jt.stream_binding_infrastructure_zone, jt.stream_binding_stream_domain, jt.stream_binding_stream_name, jt.stream_binding_stream_version, t.name) jt.stream_binding_infrastructure_name, jt.stream_binding_infrastructure_zone, jt.stream_binding_stream_domain, jt.stream_binding_stream_name, jt.stream_binding_stream_version, t.name, t.value
+FROM stream_binding_tags jt JOIN tag t ON t.id = jt.tags_id
+WHERE t.name IS NOT NULL
+ORDER BY jt.stream_binding_infrastructure_name, jt.stream_binding_infrastructure_zone, jt.stream_binding_stream_domain, jt.stream_binding_stream_name, jt.stream_binding_stream_version, t.name, t.id DESC;
+DROP TABLE stream_binding_tags;
+
+CREATE TABLE zone_tag (
+	zone_name varchar(100) NOT NULL,
+	name varchar(255) NOT NULL,
+	value varchar(255) NULL,
+	CONSTRAINT zone_tag_pkey PRIMARY KEY (zone_name, name),
+	CONSTRAINT zone_tag_owner_fkey FOREIGN KEY (zone_name) REFERENCES "zone"(name) ON DELETE CASCADE
+);
+CREATE INDEX zone_tag_name_value_idx ON zone_tag (name, value);
+INSERT INTO tag_migration_conflict (owner_table, entity_key, tag_id, name, value, reason)
+SELECT 'zone', c.entity_key, c.id, c.name, c.value, CASE WHEN c.name IS NULL THEN 'NULL_NAME' ELSE 'DUPLICATE_NAME' END
+FROM (
+	SELECT to_jsonb(jt) - 'tags_id' AS entity_key, t.id, t.name, t.value,
+		row_number() OVER (PARTITION BY to_jsonb(jt) - 'tags_id', t.name ORDER BY t.id DESC) AS position
+	FROM zone_tags jt JOIN tag t ON t.id = jt.tags_id
+) c
+WHERE c.name IS NULL OR c.position > 1;
+INSERT INTO zone_tag (zone_name, name, value)
+SELECT DISTINCT ON (jt.zone_name, t.name) jt.zone_name, t.name, t.value
+FROM zone_tags jt JOIN tag t ON t.id = jt.tags_id
+WHERE t.name IS NOT NULL
+ORDER BY jt.zone_name, t.name, t.id DESC;
+DROP TABLE zone_tags;
+
+DROP TABLE tag;
@@ -0,0 +1,3 @@
+-- hibernate_sequence allocated the ids of the shared tag table, replaced by the per entity tag tables keyed by
+-- (entity key, tag name) in V6. No entity draws from it any more.
+DROP SEQUENCE hibernate_sequence;
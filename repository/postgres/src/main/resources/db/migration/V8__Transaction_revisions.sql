@@ -0,0 +1,4 @@
+-- Revisions were counted on the single entity_revision row, whose lock serialised every write transaction. They are
+-- now the id of the writing transaction plus a fixed offset that keeps them above every revision counted before.
+ALTER TABLE entity_revision RENAME COLUMN revision TO xid_offset;
+UPDATE entity_revision SET xid_offset = GREATEST(xid_offset + 1 - txid_current(), 0) WHERE id = 1;
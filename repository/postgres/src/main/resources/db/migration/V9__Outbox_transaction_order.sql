@@ -0,0 +1,5 @@
+-- Outbox ids are taken from a sequence when the event is inserted, so transactions can commit in a different order
+-- than their ids and the relay could see id N+1 before id N. Events now carry the id of the writing transaction,
+-- and the relay only reads events of transactions older than every transaction still in flight.
+ALTER TABLE notification_outbox ADD COLUMN txid int8 NOT NULL DEFAULT txid_current();
+CREATE INDEX notification_outbox_txid_idx ON notification_outbox (txid, id);
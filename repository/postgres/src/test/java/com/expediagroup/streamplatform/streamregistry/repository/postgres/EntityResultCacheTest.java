@@ -0,0 +1,139 @@
+/**
+ * Copyright (C) 2018-2020 Expedia, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.expediagroup.streamplatform.streamregistry.repository.postgres;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.empty;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.junit.Test;
+import org.springframework.data.domain.Example;
+
+import com.expediagroup.streamplatform.streamregistry.repository.postgres.data.StatusData;
+import com.expediagroup.streamplatform.streamregistry.repository.postgres.data.StreamData;
+import com.expediagroup.streamplatform.streamregistry.repository.postgres.data.keys.StreamDataKey;
+
+public class EntityResultCacheTest {
+  private final EntityResultCache cache =
+      new EntityResultCache(row -> ((StreamData) row).getKey(), null, new SimpleMeterRegistry());
+  private final List<StreamData> table = new ArrayList<>();
+  private final AtomicInteger loads = new AtomicInteger();
+
+  @Test
+  public void findAllIsLoadedOnceAndFollowsWrites() {
+    table.add(stream("a", "one", "green", 1L));
+
+    assertThat(cache.findAll(StreamData.class, loader()), contains(stream("a", "one", "green", 1L)));
+    cache.putOnCommit(stream("a", "two", "green", 2L));
+    cache.putOnCommit(stream("a", "one", "red", 3L));
+
+    assertThat(cache.findAll(StreamData.class, loader()),
+        contains(stream("a", "one", "red", 3L), stream("a", "two", "green", 2L)));
+    assertEquals(1, loads.get());
+  }
+
+  @Test
+  public void exampleResultsFollowWrites() {
+    table.add(stream("a", "one", "green", 1L));
+    table.add(stream("b", "one", "green", 2L));
+    var probe = new StreamData();
+    probe.setKey(new StreamDataKey("a", null, null));
+    probe.setStatus(new StatusData("green"));
+    var example = Example.of(probe);
+
+    assertThat(cache.findAll(example, () -> load(example)), contains(stream("a", "one", "green", 1L)));
+    cache.putOnCommit(stream("a", "two", "green", 3L));
+    cache.putOnCommit(stream("b", "two", "green", 4L));
+    cache.putOnCommit(stream("a", "one", "red", 5L));
+
+    assertThat(cache.findAll(example, () -> load(example)), containsInAnyOrder(stream("a", "two", "green", 3L)));
+    assertEquals(1, loads.get());
+  }
+
+  @Test
+  public void olderVersionsAreIgnored() {
+    cache.findAll(StreamData.class, loader());
+    cache.putOnCommit(stream("a", "one", "red", 2L));
+    cache.putOnCommit(stream("a", "one", "green", 1L));
+
+    assertThat(cache.findAll(StreamData.class, loader()), contains(stream("a", "one", "red", 2L)));
+  }
+
+  @Test
+  public void resultLoadedDuringAWriteIsNotCached() {
+    cache.findAll(StreamData.class, loader());
+    cache.clear();
+    Supplier<List<StreamData>> racing = () -> {
+      var loaded = load(null);
+      cache.putOnCommit(stream("a", "one", "green", 1L));
+      return loaded;
+    };
+
+    assertThat(cache.findAll(StreamData.class, racing), empty());
+    cache.findAll(StreamData.class, loader());
+    assertEquals(3, loads.get());
+  }
+
+  @Test
+  public void rowsAreCopied() {
+    var row = stream("a", "one", "green", 1L);
+    table.add(row);
+
+    cache.findAll(StreamData.class, loader()).get(0).getStatus().setStatusJson("red");
+    row.getKey().setName("two");
+
+    assertThat(cache.findAll(StreamData.class, loader()), contains(stream("a", "one", "green", 1L)));
+  }
+
+  @Test
+  public void matchesComparesNonNullPropertiesOfEmbeddables() {
+    var probe = new StreamData();
+    probe.setKey(new StreamDataKey("a", null, 1));
+
+    assertTrue(EntityResultCache.matches(probe, stream("a", "one", "green", 1L)));
+    assertFalse(EntityResultCache.matches(probe, stream("b", "one", "green", 1L)));
+  }
+
+  private Supplier<List<StreamData>> loader() {
+    return () -> load(null);
+  }
+
+  private List<StreamData> load(Example<StreamData> example) {
+    loads.incrementAndGet();
+    var rows = new ArrayList<StreamData>();
+    for (StreamData row : table) {
+      if (example == null || EntityResultCache.matches(example.getProbe(), row)) {
+        rows.add(row);
+      }
+    }
+    return rows;
+  }
+
+  private static StreamData stream(String domain, String name, String status, Long version) {
+    return new StreamData(new StreamDataKey(domain, name, 1), null, null, new StatusData(status), 1L, version);
+  }
+}
@@ -0,0 +1,64 @@
+/**
+ * Copyright (C) 2018-2020 Expedia, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.expediagroup.streamplatform.streamregistry.repository.postgres.coherence;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.stream.Collectors.toList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.junit.Test;
+
+import com.expediagroup.streamplatform.streamregistry.repository.postgres.data.StreamData;
+import com.expediagroup.streamplatform.streamregistry.repository.postgres.data.keys.StreamDataKey;
+
+public class CacheInvalidationCodecTest {
+  private final CacheInvalidationCodec codec = new CacheInvalidationCodec();
+
+  @Test
+  public void roundTrip() {
+    var key = new StreamDataKey("domain", "name", 1);
+
+    var payloads = codec.encode("origin", StreamData.class, List.of(key), 123L);
+
+    assertEquals(1, payloads.size());
+    var invalidation = codec.decode(payloads.get(0));
+    assertEquals("origin", invalidation.getOrigin());
+    assertEquals(StreamData.class.getName(), invalidation.getEntityType());
+    assertEquals(123L, invalidation.getPublishedAt());
+    assertEquals(key, codec.key(invalidation.getKeys().get(0), StreamDataKey.class));
+  }
+
+  @Test
+  public void largeWritesAreSplitBelowThePayloadLimit() {
+    var keys = IntStream.range(0, 1000)
+        .mapToObj(i -> new StreamDataKey("domain", "stream-" + i, i))
+        .collect(toList());
+
+    var payloads = codec.encode("origin", StreamData.class, keys, 123L);
+
+    assertTrue(payloads.size() > 1);
+    payloads.forEach(payload -> assertTrue(payload.getBytes(UTF_8).length <= CacheInvalidationCodec.MAX_PAYLOAD_LENGTH));
+    var decoded = payloads.stream()
+        .flatMap(payload -> codec.decode(payload).getKeys().stream())
+        .map(node -> codec.key(node, StreamDataKey.class))
+        .collect(toList());
+    assertEquals(keys, decoded);
+  }
+}
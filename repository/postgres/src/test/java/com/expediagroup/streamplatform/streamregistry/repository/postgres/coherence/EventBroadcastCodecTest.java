@@ -0,0 +1,75 @@
+/**
+ * Copyright (C) 2018-2020 Expedia, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.expediagroup.streamplatform.streamregistry.repository.postgres.coherence;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.time.Instant;
+import java.util.Optional;
+
+import org.junit.Test;
+
+import com.expediagroup.streamplatform.streamregistry.repository.outbox.OutboxEvent;
+
+public class EventBroadcastCodecTest {
+  private final EventBroadcastCodec codec = new EventBroadcastCodec();
+
+  @Test
+  public void roundTrip() {
+    var event = event("{\"key\":{\"domain\":\"domain\"}}");
+
+    var payloads = codec.encode(event);
+
+    assertEquals(1, payloads.size());
+    assertEquals(Optional.of(event), codec.decoder().accept(payloads.get(0)));
+  }
+
+  @Test
+  public void largeEventsAreSplitBelowThePayloadLimit() {
+    var event = event("{\"description\":\"" + "déjà vu 😀 ".repeat(2000) + "\"}");
+
+    var payloads = codec.encode(event);
+
+    assertTrue(payloads.size() > 1);
+    payloads.forEach(payload -> assertTrue(payload.getBytes(UTF_8).length <= EventBroadcastCodec.MAX_PAYLOAD_LENGTH));
+    var decoder = codec.decoder();
+    for (int i = 0; i < payloads.size() - 1; i++) {
+      assertFalse(decoder.accept(payloads.get(i)).isPresent());
+    }
+    assertEquals(Optional.of(event), decoder.accept(payloads.get(payloads.size() - 1)));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void partsOutOfSequenceAreRejected() {
+    var payloads = codec.encode(event("{\"description\":\"" + "x".repeat(20000) + "\"}"));
+    var decoder = codec.decoder();
+    decoder.accept(payloads.get(0));
+
+    decoder.accept(payloads.get(2));
+  }
+
+  private static OutboxEvent event(String payload) {
+    return OutboxEvent.builder()
+        .entityType("Stream")
+        .eventType("UPDATE")
+        .payload(payload)
+        .createdAt(Instant.ofEpochMilli(123L))
+        .build();
+  }
+}
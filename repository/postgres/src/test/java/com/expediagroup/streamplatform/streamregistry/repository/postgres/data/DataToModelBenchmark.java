@@ -0,0 +1,145 @@
+/**
+ * Copyright (C) 2018-2020 Expedia, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.expediagroup.streamplatform.streamregistry.repository.postgres.data;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+import com.hotels.beans.BeanUtils;
+import com.hotels.beans.model.FieldMapping;
+import com.hotels.beans.model.FieldTransformer;
+import com.hotels.beans.transformer.Transformer;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.expediagroup.streamplatform.streamregistry.model.Stream;
+import com.expediagroup.streamplatform.streamregistry.repository.postgres.data.keys.SchemaDataKey;
+import com.expediagroup.streamplatform.streamregistry.repository.postgres.data.keys.StreamDataKey;
+
+/**
+ * Compares the reflective bean transformer that {@link DataToModel} and {@link ModelToData} used to
+ * delegate to with the hand-written mappers that replaced it, converting a batch of stream rows.
+ *
+ * <p>Not run as part of the build; launch {@link #main(String[])} from the test classpath.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DataToModelBenchmark {
+
+  private static final Transformer toModelTransformer = new BeanUtils()
+      .getTransformer()
+      .setFlatFieldNameTransformation(true)
+      .withFieldMapping(new FieldMapping("configJson", "configuration"))
+      .withFieldTransformer(new FieldTransformer<>("configuration", ObjectNodeMapper::deserialise))
+      .withFieldMapping(new FieldMapping("statusJson", "objectNode"))
+      .withFieldTransformer(new FieldTransformer<>("objectNode", ObjectNodeMapper::deserialise));
+
+  private static final Transformer toDataTransformer = new BeanUtils()
+      .getTransformer()
+      .setFlatFieldNameTransformation(true)
+      .withFieldMapping(new FieldMapping("configuration", "configJson"))
+      .withFieldTransformer(new FieldTransformer<>("configJson", ObjectNodeMapper::serialise))
+      .withFieldMapping(new FieldMapping("objectNode", "statusJson"))
+      .withFieldTransformer(new FieldTransformer<>("statusJson", ObjectNodeMapper::serialise));
+
+  @Param("10000")
+  private int rows;
+
+  private final DataToModel dataToModel = new DataToModel();
+  private final ModelToData modelToData = new ModelToData();
+
+  private List<StreamData> data;
+  private List<Stream> models;
+
+  @Setup
+  public void setup() {
+    data = new ArrayList<>(rows);
+    models = new ArrayList<>(rows);
+    for (int i = 0; i < rows; i++) {
+      var tags = new TreeMap<String, String>();
+      tags.put("owner", "team-" + (i % 50));
+      tags.put("tier", String.valueOf(i % 3));
+      var row = new StreamData(
+          new StreamDataKey("domain-" + (i % 20), "stream-" + i, 1),
+          new SchemaDataKey("domain-" + (i % 20), "schema-" + i),
+          new SpecificationData("description " + i, tags, "kafka", "{\"partitions\":" + (i % 12 + 1) + "}"),
+          new StatusData("{\"agentStatus\":{\"state\":\"OK\"}}"),
+          (long) i,
+          0L);
+      data.add(row);
+      models.add(dataToModel.convertToModel(row));
+    }
+  }
+
+  @Benchmark
+  public List<Stream> toModelTransformer() {
+    var out = new ArrayList<Stream>(rows);
+    for (StreamData row : data) {
+      out.add(toModelTransformer.transform(row, Stream.class));
+    }
+    return out;
+  }
+
+  @Benchmark
+  public List<Stream> toModelMapper() {
+    var out = new ArrayList<Stream>(rows);
+    for (StreamData row : data) {
+      out.add(dataToModel.convertToModel(row));
+    }
+    return out;
+  }
+
+  @Benchmark
+  public List<StreamData> toDataTransformer() {
+    var out = new ArrayList<StreamData>(rows);
+    for (Stream model : models) {
+      out.add(toDataTransformer.transform(model, StreamData.class));
+    }
+    return out;
+  }
+
+  @Benchmark
+  public List<StreamData> toDataMapper() {
+    var out = new ArrayList<StreamData>(rows);
+    for (Stream model : models) {
+      out.add(modelToData.convertToData(model));
+    }
+    return out;
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    new Runner(new OptionsBuilder().include(DataToModelBenchmark.class.getSimpleName()).build()).run();
+  }
+}
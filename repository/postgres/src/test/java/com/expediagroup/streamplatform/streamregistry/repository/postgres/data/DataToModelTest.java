@@ -49,7 +49,8 @@ public class DataToModelTest {
     var in = new com.expediagroup.streamplatform.streamregistry.model.Consumer(
         new ConsumerKey(random(), random(), 1, random(), random()),
         specification(),
-        status()
+        status(),
+        (long) randomInteger()
     );
     var out = new DataToModel().convertToModel(new ModelToData().convertToData(in));
     Assert.assertEquals(in, out);
@@ -60,7 +61,8 @@ public class DataToModelTest {
     var in = new com.expediagroup.streamplatform.streamregistry.model.Producer(
         new ProducerKey(random(), random(), randomInteger(), random(), random()),
         specification(),
-        status()
+        status(),
+        (long) randomInteger()
     );
     var out = new DataToModel().convertToModel(new ModelToData().convertToData(in));
     Assert.assertEquals(in, out);
@@ -71,7 +73,8 @@ public class DataToModelTest {
     var in = new com.expediagroup.streamplatform.streamregistry.model.ProducerBinding(
         new ProducerBindingKey(random(), random(), randomInteger(), random(), random(), random()),
         specification(),
-        status()
+        status(),
+        (long) randomInteger()
     );
     var out = new DataToModel().convertToModel(new ModelToData().convertToData(in));
     Assert.assertEquals(in, out);
@@ -82,7 +85,8 @@ public class DataToModelTest {
     var in = new com.expediagroup.streamplatform.streamregistry.model.ConsumerBinding(
         new ConsumerBindingKey(random(), random(), randomInteger(), random(), random(), random()),
         specification(),
-        status()
+        status(),
+        (long) randomInteger()
     );
     var out = new DataToModel().convertToModel(new ModelToData().convertToData(in));
     Assert.assertEquals(in, out);
@@ -93,7 +97,8 @@ public class DataToModelTest {
     var in = new com.expediagroup.streamplatform.streamregistry.model.Domain(
         new DomainKey(random()),
         specification(),
-        status()
+        status(),
+        (long) randomInteger()
     );
     var out = new DataToModel().convertToModel(new ModelToData().convertToData(in));
     Assert.assertEquals(in, out);
@@ -104,7 +109,8 @@ public class DataToModelTest {
     var in = new com.expediagroup.streamplatform.streamregistry.model.Infrastructure(
         new InfrastructureKey(random(), random()),
         specification(),
-        status()
+        status(),
+        (long) randomInteger()
     );
     var out = new DataToModel().convertToModel(new ModelToData().convertToData(in));
     Assert.assertEquals(in, out);
@@ -115,7 +121,8 @@ public class DataToModelTest {
     var in = new com.expediagroup.streamplatform.streamregistry.model.Schema(
         new SchemaKey(random(), random()),
         specification(),
-        status()
+        status(),
+        (long) randomInteger()
     );
     var out = new DataToModel().convertToModel(new ModelToData().convertToData(in));
     Assert.assertEquals(in, out);
@@ -127,7 +134,8 @@ public class DataToModelTest {
         new StreamKey(random(), random(), randomInteger()),
         new SchemaKey(random(), random()),
         specification(),
-        status()
+        status(),
+        (long) randomInteger()
     );
     var out = new DataToModel().convertToModel(new ModelToData().convertToData(in));
     Assert.assertEquals(in, out);
@@ -138,7 +146,8 @@ public class DataToModelTest {
     var in = new com.expediagroup.streamplatform.streamregistry.model.StreamBinding(
         new StreamBindingKey(random(), random(), randomInteger(), random(), random()),
         specification(),
-        status()
+        status(),
+        (long) randomInteger()
     );
     var out = new DataToModel().convertToModel(new ModelToData().convertToData(in));
     Assert.assertEquals(in, out);
@@ -149,7 +158,8 @@ public class DataToModelTest {
     var in = new com.expediagroup.streamplatform.streamregistry.model.Zone(
         new ZoneKey(random()),
         specification(),
-        status()
+        status(),
+        (long) randomInteger()
     );
     var out = new DataToModel().convertToModel(new ModelToData().convertToData(in));
     Assert.assertEquals(in, out);
@@ -0,0 +1,210 @@
+/**
+ * Copyright (C) 2018-2020 Expedia, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.expediagroup.streamplatform.streamregistry.repository.postgres.query;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.junit.Test;
+
+import com.expediagroup.streamplatform.streamregistry.model.Stream;
+import com.expediagroup.streamplatform.streamregistry.repository.query.QuerySpec;
+import com.expediagroup.streamplatform.streamregistry.repository.query.Regexes;
+
+public class QuerySpecTranslatorTest {
+
+  private static final Map<String, String> COLUMNS = Map.of(
+      "key.domain", "domain",
+      "key.name", "name",
+      "key.version", "version",
+      "specification.description", "description",
+      "specification.configuration", "config_json",
+      "revision", "revision"
+  );
+
+  private final QuerySpecTranslator underTest = new QuerySpecTranslator(new EntityTable(
+      "stream",
+      List.of("domain", "name", "version"),
+      data -> List.of(),
+      id -> List.of(),
+      property -> Optional.ofNullable(COLUMNS.get(property)),
+      "stream_tag",
+      List.of("stream_domain", "stream_name", "stream_version"),
+      "name",
+      "value"
+  ));
+
+  @Test
+  public void noCriteria() {
+    var translation = underTest.translate(QuerySpec.<Stream>builder().build());
+
+    assertEquals("SELECT e.* FROM \"stream\" e", translation.getSql());
+    assertTrue(translation.getParameters().isEmpty());
+    assertTrue(translation.isComplete());
+  }
+
+  @Test
+  public void keyCriteria() {
+    var translation = underTest.translate(QuerySpec.<Stream>builder()
+        .matches("key.domain", "dom.*")
+        .matches("key.name", null)
+        .equalTo("key.version", 2)
+        .build());
+
+    assertEquals("SELECT e.* FROM \"stream\" e WHERE e.\"domain\" ~ ?1 AND e.\"version\" = ?2", translation.getSql());
+    assertEquals(List.of("^(?:dom.*)$", 2), translation.getParameters());
+    assertTrue(translation.isComplete());
+  }
+
+  @Test
+  public void changedSince() {
+    var translation = underTest.translate(QuerySpec.<Stream>builder()
+        .equalTo("key.version", 2)
+        .changedSince(41L)
+        .build());
+
+    assertEquals("SELECT e.* FROM \"stream\" e WHERE e.\"version\" = ?1 AND e.\"revision\" > ?2", translation.getSql());
+    assertEquals(List.of(2, 41L), translation.getParameters());
+    assertTrue(translation.isComplete());
+  }
+
+  @Test
+  public void configurationContains() {
+    var configuration = new ObjectMapper().createObjectNode();
+    configuration.putObject("kafka").put("partitions", 3);
+    var translation = underTest.translate(QuerySpec.<Stream>builder()
+        .contains("specification.configuration", configuration)
+        .build());
+
+    assertEquals("SELECT e.* FROM \"stream\" e WHERE e.\"config_json\" @> CAST(?1 AS jsonb)", translation.getSql());
+    assertEquals(List.of("{\"kafka\":{\"partitions\":3}}"), translation.getParameters());
+    assertTrue(translation.isComplete());
+  }
+
+  @Test
+  public void tagCriteria() {
+    var translation = underTest.translate(QuerySpec.<Stream>builder()
+        .matchesTag("owner", null)
+        .matchesTag("team", "pay.*")
+        .build());
+
+    assertEquals("SELECT e.* FROM \"stream\" e"
+        + " WHERE EXISTS (SELECT 1 FROM \"stream_tag\" t WHERE t.\"stream_domain\" = e.\"domain\""
+        + " AND t.\"stream_name\" = e.\"name\" AND t.\"stream_version\" = e.\"version\" AND t.\"name\" = ?1)"
+        + " AND EXISTS (SELECT 1 FROM \"stream_tag\" t WHERE t.\"stream_domain\" = e.\"domain\""
+        + " AND t.\"stream_name\" = e.\"name\" AND t.\"stream_version\" = e.\"version\""
+        + " AND t.\"name\" = ?2 AND t.\"value\" ~ ?3)", translation.getSql());
+    assertEquals(List.of("owner", "team", "^(?:pay.*)$"), translation.getParameters());
+    assertTrue(translation.isComplete());
+  }
+
+  @Test
+  public void unknownPropertyIsIncomplete() {
+    var translation = underTest.translate(QuerySpec.<Stream>builder()
+        .matches("key.domain", "a")
+        .matches("schemaKey.unknown", "b")
+        .build());
+
+    assertEquals("SELECT e.* FROM \"stream\" e WHERE e.\"domain\" = ?1", translation.getSql());
+    assertFalse(translation.isComplete());
+  }
+
+  @Test
+  public void nonPortableRegexIsIncomplete() {
+    var translation = underTest.translate(QuerySpec.<Stream>builder()
+        .matches("key.name", "(?<!x)abc")
+        .build());
+
+    assertEquals("SELECT e.* FROM \"stream\" e", translation.getSql());
+    assertFalse(translation.isComplete());
+  }
+
+  @Test
+  public void portability() {
+    assertTrue(PostgresRegex.isPortable("a.*b|c[0-9]+(?:d)?"));
+    assertFalse(PostgresRegex.isPortable("(?i)abc"));
+    assertFalse(PostgresRegex.isPortable("a++"));
+    assertFalse(PostgresRegex.isPortable("\\p{Alpha}"));
+    assertFalse(PostgresRegex.isPortable("[a-z&&[^b]]"));
+    assertFalse(PostgresRegex.isPortable("(unclosed"));
+  }
+
+  @Test
+  public void literals() {
+    assertTrue(Regexes.isLiteral("payments-team_1"));
+    assertTrue(Regexes.isLiteral(""));
+    assertFalse(Regexes.isLiteral("payments.*"));
+    assertFalse(Regexes.isLiteral("a|b"));
+  }
+
+  @Test
+  public void firstPage() {
+    var translation = underTest.translatePage(QuerySpec.<Stream>builder().matches("key.domain", "a").build(), null, 11);
+
+    assertEquals("SELECT e.* FROM \"stream\" e WHERE e.\"domain\" = ?1"
+        + " ORDER BY e.\"domain\", e.\"name\", e.\"version\" LIMIT ?2", translation.getSql());
+    assertEquals(List.of("a", 11), translation.getParameters());
+  }
+
+  @Test
+  public void nextPage() {
+    var translation = underTest.translatePage(QuerySpec.<Stream>builder().build(), List.of("d", "n", 1), 11);
+
+    assertEquals("SELECT e.* FROM \"stream\" e WHERE (e.\"domain\", e.\"name\", e.\"version\") > (?1, ?2, ?3)"
+        + " ORDER BY e.\"domain\", e.\"name\", e.\"version\" LIMIT ?4", translation.getSql());
+    assertEquals(List.of("d", "n", 1, 11), translation.getParameters());
+  }
+
+  @Test
+  public void count() {
+    var translation = underTest.translateCount(QuerySpec.<Stream>builder().equalTo("key.version", 1).build());
+
+    assertEquals("SELECT count(*) FROM \"stream\" e WHERE e.\"version\" = ?1", translation.getSql());
+  }
+
+  @Test
+  public void existingIds() {
+    var translation = underTest.translateExistingIds(List.of(List.of("d", "a", 1), List.of("d", "b", 2)));
+
+    assertEquals("SELECT e.\"domain\", e.\"name\", e.\"version\" FROM \"stream\" e"
+        + " WHERE (e.\"domain\", e.\"name\", e.\"version\") IN ((?1, ?2, ?3), (?4, ?5, ?6))", translation.getSql());
+    assertEquals(List.of("d", "a", 1, "d", "b", 2), translation.getParameters());
+  }
+
+  @Test
+  public void cursorRoundTrip() {
+    var cursor = KeysetCursor.encode(List.of("d", "n", 1));
+
+    assertEquals(List.of("d", "n", 1), KeysetCursor.decode(cursor, 3));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void cursorOfWrongShape() {
+    KeysetCursor.decode(KeysetCursor.encode(List.of("d")), 3);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void malformedCursor() {
+    KeysetCursor.decode("not a cursor", 3);
+  }
+}
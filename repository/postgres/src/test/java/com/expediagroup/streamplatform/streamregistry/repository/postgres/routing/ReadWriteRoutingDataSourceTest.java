@@ -0,0 +1,73 @@
+/**
+ * Copyright (C) 2018-2020 Expedia, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.expediagroup.streamplatform.streamregistry.repository.postgres.routing;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.junit.After;
+import org.junit.Test;
+import org.springframework.jdbc.datasource.SimpleDriverDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+public class ReadWriteRoutingDataSourceTest {
+  private final AtomicLong now = new AtomicLong(1000);
+  private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+  private final ReadWriteRoutingDataSource dataSource = ReadWriteRoutingDataSource.builder()
+      .primary(new SimpleDriverDataSource())
+      .replica(new SimpleDriverDataSource())
+      .readYourWritesMillis(100)
+      .clock(now::get)
+      .registry(registry)
+      .build();
+
+  @After
+  public void after() {
+    TransactionSynchronizationManager.setActualTransactionActive(false);
+    TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+  }
+
+  @Test
+  public void readOnlyTransactionsUseTheReplica() {
+    assertEquals(ReadWriteRoutingDataSource.REPLICA, route(true));
+    assertEquals(ReadWriteRoutingDataSource.PRIMARY, route(false));
+    assertEquals(1.0, registry.counter("registry_datasource_routes", "pool", "replica").count(), 0);
+  }
+
+  @Test
+  public void readsFollowingAWriteUseThePrimaryUntilTheWindowEnds() {
+    route(false);
+    now.addAndGet(99);
+    assertEquals(ReadWriteRoutingDataSource.PRIMARY, route(true));
+    now.addAndGet(1);
+    assertEquals(ReadWriteRoutingDataSource.REPLICA, route(true));
+  }
+
+  @Test
+  public void connectionsOutsideTransactionsUseThePrimaryWithoutStickiness() {
+    assertEquals(ReadWriteRoutingDataSource.PRIMARY, dataSource.determineCurrentLookupKey());
+    assertEquals(ReadWriteRoutingDataSource.REPLICA, route(true));
+  }
+
+  private Object route(boolean readOnly) {
+    TransactionSynchronizationManager.setActualTransactionActive(true);
+    TransactionSynchronizationManager.setCurrentTransactionReadOnly(readOnly);
+    return dataSource.determineCurrentLookupKey();
+  }
+}